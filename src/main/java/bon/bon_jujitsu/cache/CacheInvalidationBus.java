@@ -0,0 +1,146 @@
+package bon.bon_jujitsu.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+
+/**
+ * Redis pub/sub 기반 노드 간 L1 캐시 무효화
+ * - 발행: evict/clear 가 일어난 노드가 채널에 메시지 발행 (L2 는 발행 노드가 이미 처리)
+ * - 수신: 다른 노드의 메시지를 자기 L1 에 적용 (리스너 컨테이너는 순서 보장을 위해 동기 실행)
+ * - 유실 대비: 아래 경우에는 해당 노드의 L1 전체를 비운다.
+ *   1) 발행 노드별 sequence 가 건너뛴 경우 (발행 실패 포함)
+ *   2) 자기 heartbeat 를 포함해 maxSilence 동안 아무 메시지도 받지 못한 경우 (구독 끊김) 및 그 이후 재수신 시
+ *   3) 자기 노드가 발행한 메시지가 maxLag 보다 늦게 돌아온 경우
+ *      (노드 간 시계 차이에 영향받지 않도록 발행/수신 시각을 같은 노드 시계로 비교, 채널은 순서대로 전달되므로
+ *      그 사이 도착한 다른 노드의 메시지도 그만큼 밀려 있다)
+ */
+@Slf4j(topic = "CacheInvalidationBus")
+public class CacheInvalidationBus implements CacheInvalidationPublisher, MessageListener, AutoCloseable {
+
+  private final String nodeId = UUID.randomUUID().toString();
+  private final RedisTemplate<String, String> redisTemplate;
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final CacheProperties.Sync sync;
+  private final ScheduledExecutorService scheduler;
+
+  // 발행 노드별 마지막 수신 sequence
+  private final Map<String, Long> lastSequenceByNode = new ConcurrentHashMap<>();
+  private long sequence;
+  private volatile long lastReceivedAt = System.currentTimeMillis();
+  private volatile boolean disconnected;
+  private volatile TwoTierCacheManager cacheManager;
+
+  public CacheInvalidationBus(RedisTemplate<String, String> redisTemplate, CacheProperties.Sync sync) {
+    this.redisTemplate = redisTemplate;
+    this.sync = sync;
+    this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "cache-invalidation-heartbeat");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  /**
+   * 수신 메시지를 적용할 CacheManager 연결 후 heartbeat 시작
+   */
+  public void bind(TwoTierCacheManager cacheManager) {
+    this.cacheManager = cacheManager;
+    long interval = sync.getHeartbeatInterval().toMillis();
+    scheduler.scheduleWithFixedDelay(this::heartbeat, interval, interval, TimeUnit.MILLISECONDS);
+  }
+
+  public String getChannel() {
+    return sync.getChannel();
+  }
+
+  @Override
+  public void publish(String cacheName, CacheInvalidationMessage.Type type, List<String> values) {
+    send(cacheName, type, values);
+  }
+
+  /**
+   * sequence 발급과 발행을 묶어 순서를 보장 (동시 발행으로 인한 거짓 유실 감지 방지)
+   * - 발행이 실패해도 sequence 는 소비되므로 다른 노드는 다음 메시지에서 유실을 감지한다.
+   */
+  private synchronized void send(String cacheName, CacheInvalidationMessage.Type type, List<String> values) {
+    CacheInvalidationMessage message = new CacheInvalidationMessage(
+        nodeId, ++sequence, type, cacheName, values, System.currentTimeMillis());
+    try {
+      redisTemplate.convertAndSend(sync.getChannel(), objectMapper.writeValueAsString(message));
+    } catch (JsonProcessingException | RuntimeException e) {
+      log.warn("캐시 무효화 메시지 발행 실패: cache={}, type={}, error={}", cacheName, type, e.getMessage());
+    }
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    CacheInvalidationMessage invalidation;
+    try {
+      invalidation = objectMapper.readValue(message.getBody(), CacheInvalidationMessage.class);
+    } catch (Exception e) {
+      log.warn("캐시 무효화 메시지 파싱 실패: {}", e.getMessage());
+      return;
+    }
+
+    long now = System.currentTimeMillis();
+    lastReceivedAt = now;
+    if (disconnected) {
+      disconnected = false;
+      clearLocalCaches("구독 재개");
+    }
+
+    if (nodeId.equals(invalidation.nodeId())) {
+      long lag = now - invalidation.publishedAt();
+      if (lag > sync.getMaxLag().toMillis()) {
+        clearLocalCaches("메시지 지연 " + lag + "ms");
+      }
+      return;
+    }
+
+    // 수신은 단일 스레드에서 순서대로 처리되므로 get/put 사이 경쟁 없음
+    Long previous = lastSequenceByNode.put(invalidation.nodeId(), invalidation.sequence());
+    if (previous != null && invalidation.sequence() > previous + 1) {
+      clearLocalCaches("메시지 유실 감지 (node=" + invalidation.nodeId() + ")");
+      return;
+    }
+
+    TwoTierCacheManager manager = cacheManager;
+    if (manager != null) {
+      manager.applyRemoteInvalidation(invalidation);
+    }
+  }
+
+  private void heartbeat() {
+    send(null, CacheInvalidationMessage.Type.HEARTBEAT, List.of());
+
+    long silence = System.currentTimeMillis() - lastReceivedAt;
+    if (!disconnected && silence > sync.getMaxSilence().toMillis()) {
+      disconnected = true;
+      clearLocalCaches("무효화 채널 응답 없음 " + silence + "ms");
+    }
+  }
+
+  private void clearLocalCaches(String reason) {
+    TwoTierCacheManager manager = cacheManager;
+    if (manager != null) {
+      log.warn("L1 캐시 전체 비움: {}", reason);
+      manager.clearLocalCaches();
+    }
+  }
+
+  @Override
+  public void close() {
+    scheduler.shutdownNow();
+  }
+}
@@ -0,0 +1,22 @@
+package bon.bon_jujitsu.cache;
+
+import java.util.List;
+
+/**
+ * 노드 간 L1 무효화 메시지 (Redis pub/sub)
+ * - sequence: 발행 노드별 연속 번호 (중간 번호가 비면 유실로 보고 L1 전체를 비운다)
+ * - values: KEY 는 L1 키, TAGS 는 태그 목록
+ */
+public record CacheInvalidationMessage(
+    String nodeId,
+    long sequence,
+    Type type,
+    String cacheName,
+    List<String> values,
+    long publishedAt
+) {
+
+  public enum Type {
+    KEY, TAGS, CLEAR, HEARTBEAT
+  }
+}
@@ -0,0 +1,16 @@
+package bon.bon_jujitsu.cache;
+
+import java.util.List;
+
+/**
+ * 로컬에서 발생한 무효화를 다른 노드에 전파
+ */
+@FunctionalInterface
+public interface CacheInvalidationPublisher {
+
+  // 단일 노드(동기화 비활성화)용
+  CacheInvalidationPublisher NONE = (cacheName, type, values) -> {
+  };
+
+  void publish(String cacheName, CacheInvalidationMessage.Type type, List<String> values);
+}
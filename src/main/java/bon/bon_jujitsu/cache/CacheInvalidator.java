@@ -0,0 +1,39 @@
+package bon.bon_jujitsu.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * 태그 단위 캐시 무효화
+ * - 어노테이션으로 표현하기 어려운 경우(수정 대상 엔티티를 조회해야 태그를 알 수 있는 경우) 서비스에서 직접 호출
+ * - 트랜잭션 안에서 호출하면 커밋 이후에 반영된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheInvalidator {
+
+  private final CacheManager cacheManager;
+
+  public void evict(String cacheName, Object key) {
+    Cache cache = cacheManager.getCache(cacheName);
+    if (cache != null) {
+      cache.evict(key);
+    }
+  }
+
+  public void evictTags(String cacheName, String... tags) {
+    Cache cache = cacheManager.getCache(cacheName);
+    if (cache != null && tags.length > 0) {
+      cache.evict(TagEviction.of(tags));
+    }
+  }
+
+  public void clear(String cacheName) {
+    Cache cache = cacheManager.getCache(cacheName);
+    if (cache != null) {
+      cache.clear();
+    }
+  }
+}
@@ -0,0 +1,51 @@
+package bon.bon_jujitsu.cache;
+
+import bon.bon_jujitsu.domain.OrderStatus;
+import java.util.List;
+
+/**
+ * 태그 기반 무효화를 사용하는 캐시의 키 생성
+ * - @Cacheable(key = "T(bon.bon_jujitsu.cache.CacheKeys).boards(...)") 형태로 사용
+ */
+public final class CacheKeys {
+
+  private CacheKeys() {
+  }
+
+  public static TaggedKey boards(int page, int size, String name, Long branchId, boolean count) {
+    return TaggedKey.of(page + "_" + size + "_" + name + "_" + branchId + (count ? "" : "_slice"),
+        CacheTags.branch(branchId));
+  }
+
+  public static TaggedKey boardCount(String name, Long branchId) {
+    String title = name != null ? name.trim() : "";
+    return TaggedKey.of(title + "_" + branchId, CacheTags.branch(branchId));
+  }
+
+  public static TaggedKey items(int page, int size, String name) {
+    boolean isSearch = name != null && !name.isBlank();
+    String key = "list_" + page + "_" + size + "_" + name;
+    return isSearch
+        ? TaggedKey.of(key, CacheTags.ITEM_LIST, CacheTags.ITEM_SEARCH)
+        : TaggedKey.of(key, CacheTags.ITEM_LIST);
+  }
+
+  public static TaggedKey mainItems(int page, int size) {
+    return TaggedKey.of("main_" + page + "_" + size, CacheTags.ITEM_LIST);
+  }
+
+  public static TaggedKey item(Long itemId) {
+    return TaggedKey.of("item_" + itemId, CacheTags.item(itemId));
+  }
+
+  public static TaggedKey ordersByStatus(Long userId, OrderStatus status, int page, int size) {
+    OrderStatus orderStatus = status != null ? status : OrderStatus.WAITING;
+    return TaggedKey.of(userId + "_" + orderStatus + "_" + page + "_" + size,
+        CacheTags.orderStatus(orderStatus));
+  }
+
+  public static TaggedKey myOrders(Long userId, List<OrderStatus> status, int page, int size) {
+    return TaggedKey.of(userId + "_" + status + "_" + page + "_" + size,
+        CacheTags.user(userId));
+  }
+}
@@ -0,0 +1,112 @@
+package bon.bon_jujitsu.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * app.cache.* 설정 (캐시 이름별 L1/L2 크기 및 TTL)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.cache")
+public class CacheProperties {
+
+  // Redis 키 접두사 (cache:{cacheName}::{key})
+  private String keyPrefix = "cache:";
+
+  // 캐시 이름별 설정이 없을 때 사용하는 기본값
+  private Spec defaults = new Spec();
+
+  // 캐시 이름별 설정 (boards, branches, myOrders ...)
+  private Map<String, Spec> caches = new LinkedHashMap<>();
+
+  // 노드 간 L1 무효화 전파
+  private Sync sync = new Sync();
+
+  public Spec specFor(String cacheName) {
+    Spec spec = caches.get(cacheName);
+    if (spec == null) {
+      return defaults;
+    }
+    return spec.mergeWith(defaults);
+  }
+
+  @Getter
+  @Setter
+  public static class Sync {
+    private boolean enabled = true;
+    private String channel = "cache:invalidation";
+    // heartbeat 발행 주기
+    private Duration heartbeatInterval = Duration.ofSeconds(5);
+    // 이 시간 동안 아무 메시지도 받지 못하면 구독이 끊긴 것으로 보고 L1 전체를 비움
+    private Duration maxSilence = Duration.ofSeconds(15);
+    // 자기 노드가 발행한 메시지(heartbeat 포함)가 이 시간보다 늦게 돌아오면 채널이 밀린 것으로 보고 L1 전체를 비움
+    private Duration maxLag = Duration.ofSeconds(5);
+  }
+
+  @Getter
+  @Setter
+  public static class Spec {
+    // L1 최대 엔트리 수
+    private Long maximumSize;
+    // L1 TTL
+    private Duration ttl;
+    // L2(Redis) 사용 여부
+    private Boolean l2Enabled;
+    // L2 TTL
+    private Duration l2Ttl;
+    // 작성 후 이 시간이 지난 엔트리는 조회 시 백그라운드에서 미리 재적재 (sync = true 캐시만, 비우면 사용 안 함)
+    private Duration refreshAhead;
+
+    public Spec() {
+    }
+
+    Spec(Long maximumSize, Duration ttl, Boolean l2Enabled, Duration l2Ttl, Duration refreshAhead) {
+      this.maximumSize = maximumSize;
+      this.ttl = ttl;
+      this.l2Enabled = l2Enabled;
+      this.l2Ttl = l2Ttl;
+      this.refreshAhead = refreshAhead;
+    }
+
+    Spec mergeWith(Spec fallback) {
+      return new Spec(
+          maximumSize != null ? maximumSize : fallback.getMaximumSize(),
+          ttl != null ? ttl : fallback.getTtl(),
+          l2Enabled != null ? l2Enabled : fallback.getL2Enabled(),
+          l2Ttl != null ? l2Ttl : fallback.getL2Ttl(),
+          refreshAhead != null ? refreshAhead : fallback.getRefreshAhead()
+      );
+    }
+
+    public long maximumSizeOrDefault() {
+      return maximumSize != null ? maximumSize : 1_000L;
+    }
+
+    public Duration ttlOrDefault() {
+      return ttl != null ? ttl : Duration.ofMinutes(5);
+    }
+
+    public boolean l2EnabledOrDefault() {
+      return l2Enabled == null || l2Enabled;
+    }
+
+    public Duration l2TtlOrDefault() {
+      return l2Ttl != null ? l2Ttl : ttlOrDefault().multipliedBy(3);
+    }
+
+    /**
+     * TTL 보다 짧을 때만 의미가 있으므로 그 외에는 null (사용 안 함)
+     */
+    public Duration refreshAheadOrNull() {
+      if (refreshAhead == null || refreshAhead.compareTo(ttlOrDefault()) >= 0) {
+        return null;
+      }
+      return refreshAhead;
+    }
+  }
+}
@@ -0,0 +1,70 @@
+package bon.bon_jujitsu.cache;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * refresh-ahead 용 백그라운드 재적재 실행기
+ * - 큐가 가득 차면 작업을 버린다. (엔트리는 TTL 만료 후 일반 적재로 대체됨)
+ * - 로더는 읽기 전용 트랜잭션 안에서 실행한다.
+ */
+@Slf4j(topic = "CacheRefresher")
+public class CacheRefresher implements AutoCloseable {
+
+  private static final int QUEUE_CAPACITY = 100;
+
+  private final ThreadPoolExecutor executor;
+  private final TransactionTemplate transactionTemplate;
+
+  public CacheRefresher(TransactionTemplate transactionTemplate, int threads) {
+    this.transactionTemplate = transactionTemplate;
+    this.transactionTemplate.setReadOnly(true);
+
+    AtomicInteger sequence = new AtomicInteger();
+    this.executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+        new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+        runnable -> {
+          Thread thread = new Thread(runnable, "cache-refresh-" + sequence.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        },
+        new ThreadPoolExecutor.AbortPolicy());
+    this.executor.allowCoreThreadTimeOut(true);
+  }
+
+  /**
+   * @return 큐에 등록되지 못하면 false
+   */
+  public boolean submit(Runnable task) {
+    try {
+      executor.execute(task);
+      return true;
+    } catch (RejectedExecutionException e) {
+      log.debug("refresh-ahead 작업 거부 (큐 포화)");
+      return false;
+    }
+  }
+
+  public Object load(Callable<?> valueLoader) {
+    return transactionTemplate.execute(status -> {
+      try {
+        return valueLoader.call();
+      } catch (RuntimeException e) {
+        throw e;
+      } catch (Exception e) {
+        throw new IllegalStateException(e);
+      }
+    });
+  }
+
+  @Override
+  public void close() {
+    executor.shutdownNow();
+  }
+}
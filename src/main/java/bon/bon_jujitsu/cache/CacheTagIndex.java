@@ -0,0 +1,48 @@
+package bon.bon_jujitsu.cache;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * L1 캐시의 태그 → 키 역인덱스
+ */
+public class CacheTagIndex {
+
+  private final Map<String, Set<Object>> keysByTag = new ConcurrentHashMap<>();
+  private final Map<Object, Set<String>> tagsByKey = new ConcurrentHashMap<>();
+
+  public void register(Object key, Collection<String> tags) {
+    if (tags.isEmpty()) {
+      return;
+    }
+    tagsByKey.put(key, Set.copyOf(tags));
+    for (String tag : tags) {
+      keysByTag.computeIfAbsent(tag, t -> ConcurrentHashMap.newKeySet()).add(key);
+    }
+  }
+
+  public void unregister(Object key) {
+    Set<String> tags = tagsByKey.remove(key);
+    if (tags == null) {
+      return;
+    }
+    for (String tag : tags) {
+      keysByTag.computeIfPresent(tag, (t, keys) -> {
+        keys.remove(key);
+        return keys.isEmpty() ? null : keys;
+      });
+    }
+  }
+
+  public Set<Object> keysOf(String tag) {
+    Set<Object> keys = keysByTag.get(tag);
+    return keys != null ? Set.copyOf(keys) : Set.of();
+  }
+
+  public void clear() {
+    keysByTag.clear();
+    tagsByKey.clear();
+  }
+}
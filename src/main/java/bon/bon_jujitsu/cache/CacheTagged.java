@@ -0,0 +1,12 @@
+package bon.bon_jujitsu.cache;
+
+import java.util.Collection;
+
+/**
+ * 캐시 값(DTO)이 포함하고 있는 엔티티 태그를 제공한다.
+ * 목록 캐시에 담긴 DTO 의 태그는 해당 페이지 엔트리의 태그로 함께 등록된다.
+ */
+public interface CacheTagged {
+
+  Collection<String> cacheTags();
+}
@@ -0,0 +1,63 @@
+package bon.bon_jujitsu.cache;
+
+import bon.bon_jujitsu.domain.OrderStatus;
+import bon.bon_jujitsu.dto.common.PageResponse;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 캐시 태그 이름 규칙
+ */
+public final class CacheTags {
+
+  // 상품 목록 전체 (상품 추가/삭제 시 페이지 구성이 바뀜)
+  public static final String ITEM_LIST = "items:list";
+  // 상품명 검색 결과 (상품명 변경 시 검색 결과가 바뀜)
+  public static final String ITEM_SEARCH = "items:search";
+
+  private CacheTags() {
+  }
+
+  public static String branch(Long branchId) {
+    return "branch:" + (branchId != null ? branchId : "all");
+  }
+
+  public static String user(Long userId) {
+    return "user:" + userId;
+  }
+
+  public static String item(Long itemId) {
+    return "item:" + itemId;
+  }
+
+  public static String orderStatus(OrderStatus status) {
+    return "status:" + status;
+  }
+
+  /**
+   * 캐시 값에 포함된 DTO 의 태그 수집 (PageResponse, Collection, 단건 DTO)
+   */
+  public static Set<String> extract(Object value) {
+    Set<String> tags = new LinkedHashSet<>();
+    if (value instanceof PageResponse<?> page) {
+      collect(page.getList(), tags);
+    } else if (value instanceof Collection<?> collection) {
+      collect(collection, tags);
+    } else if (value instanceof CacheTagged tagged) {
+      tags.addAll(tagged.cacheTags());
+    }
+    return tags;
+  }
+
+  private static void collect(Collection<?> values, Set<String> tags) {
+    if (values == null) {
+      return;
+    }
+    for (Object element : values) {
+      if (element instanceof CacheTagged tagged) {
+        tags.addAll(tagged.cacheTags());
+      }
+    }
+  }
+}
@@ -0,0 +1,44 @@
+package bon.bon_jujitsu.cache;
+
+import java.util.function.LongSupplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+/**
+ * 목록 전체 개수(COUNT) 캐시
+ * - 목록은 Slice(size + 1 조회)로 가져오고, 다음 페이지가 없으면 COUNT 없이 정확한 개수를 계산한다.
+ * - 다음 페이지가 있으면 필터 조건(키)별로 캐시된 COUNT 를 사용한다. 쓰기 시 캐시 이름/태그 단위로 무효화한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PageCountCache {
+
+  private final CacheManager cacheManager;
+
+  public <T> Page<T> toPage(Slice<T> slice, String cacheName, Object key, LongSupplier counter) {
+    Pageable pageable = slice.getPageable();
+    long reached = pageable.getOffset() + slice.getNumberOfElements();
+    if (!slice.hasNext()) {
+      return new PageImpl<>(slice.getContent(), pageable, reached);
+    }
+
+    // 캐시된 값이 오래되어 현재 위치보다 작더라도 다음 페이지는 있어야 한다.
+    long total = Math.max(count(cacheName, key, counter), reached + 1);
+    return new PageImpl<>(slice.getContent(), pageable, total);
+  }
+
+  public long count(String cacheName, Object key, LongSupplier counter) {
+    Cache cache = cacheManager.getCache(cacheName);
+    if (cache == null) {
+      return counter.getAsLong();
+    }
+    Number total = cache.get(key, () -> counter.getAsLong());
+    return total != null ? total.longValue() : counter.getAsLong();
+  }
+}
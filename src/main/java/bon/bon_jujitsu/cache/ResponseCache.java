@@ -0,0 +1,140 @@
+package bon.bon_jujitsu.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+
+/**
+ * 직렬화된 응답(JSON 바이트) 캐시
+ * - 그룹별로 데이터 버전을 두고, 그룹이 의존하는 캐시(app.cache)가 무효화되면 버전을 올리고 비운다.
+ *   (다른 노드에서 전파된 무효화도 포함)
+ * - 응답 생성 도중 버전이 바뀌었다면 저장하지 않는다.
+ * - ETag 는 응답 바이트의 SHA-256 이므로 노드가 달라도 같은 내용이면 같은 값이다.
+ */
+@Component
+public class ResponseCache {
+
+  private final boolean enabled;
+  private final List<Group> groups;
+  private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+  public ResponseCache(ResponseCacheProperties properties, TwoTierCacheManager cacheManager) {
+    this.enabled = properties.isEnabled();
+    this.groups = properties.getGroups().entrySet().stream()
+        .map(entry -> new Group(entry.getKey(), entry.getValue()))
+        .toList();
+    cacheManager.addInvalidationListener(this::onCacheInvalidated);
+  }
+
+  public Group match(String requestUri) {
+    if (!enabled) {
+      return null;
+    }
+    for (Group group : groups) {
+      for (String path : group.paths) {
+        if (pathMatcher.match(path, requestUri)) {
+          return group;
+        }
+      }
+    }
+    return null;
+  }
+
+  private void onCacheInvalidated(String cacheName) {
+    for (Group group : groups) {
+      if (group.cacheNames.contains(cacheName)) {
+        group.invalidate();
+      }
+    }
+  }
+
+  public static String etagOf(byte[] body) {
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+      return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  public record Entry(long version, byte[] body, String contentType, String etag) {
+  }
+
+  public static class Group {
+
+    private final String name;
+    private final List<String> paths;
+    private final Set<String> cacheNames;
+    private final Cache<String, Entry> entries;
+    private final AtomicLong version = new AtomicLong();
+
+    private Group(String name, ResponseCacheProperties.Group properties) {
+      this.name = name;
+      this.paths = List.copyOf(properties.getPaths());
+      this.cacheNames = Set.copyOf(properties.getCaches());
+      this.entries = Caffeine.newBuilder()
+          .maximumSize(properties.getMaximumSize())
+          .expireAfterWrite(properties.getTtl())
+          .build();
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public long version() {
+      return version.get();
+    }
+
+    /**
+     * 현재 버전의 엔트리만 반환
+     */
+    public Entry get(String key) {
+      Entry entry = entries.getIfPresent(key);
+      if (entry == null || entry.version() != version.get()) {
+        return null;
+      }
+      return entry;
+    }
+
+    /**
+     * 응답 생성 전에 읽은 버전과 현재 버전이 같을 때만 저장
+     */
+    public Entry put(String key, long versionAtStart, byte[] body, String contentType) {
+      Entry entry = new Entry(versionAtStart, body, contentType, etagOf(body));
+      if (version.get() == versionAtStart) {
+        entries.put(key, entry);
+      }
+      return entry;
+    }
+
+    private void invalidate() {
+      version.incrementAndGet();
+      entries.invalidateAll();
+    }
+  }
+
+  /**
+   * 경로 + 정렬된 쿼리 파라미터
+   */
+  public static String keyOf(String requestUri, Map<String, String[]> parameters) {
+    StringBuilder key = new StringBuilder(requestUri);
+    char separator = '?';
+    for (String name : new TreeSet<>(parameters.keySet())) {
+      for (String value : parameters.get(name)) {
+        key.append(separator).append(name).append('=').append(value);
+        separator = '&';
+      }
+    }
+    return key.toString();
+  }
+}
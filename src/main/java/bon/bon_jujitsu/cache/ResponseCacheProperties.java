@@ -0,0 +1,35 @@
+package bon.bon_jujitsu.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * app.response-cache.* 설정 (직렬화된 응답 캐시 그룹)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.response-cache")
+public class ResponseCacheProperties {
+
+  private boolean enabled = true;
+
+  // 그룹 이름별 설정 (branches, popups, skills ...)
+  private Map<String, Group> groups = new LinkedHashMap<>();
+
+  @Getter
+  @Setter
+  public static class Group {
+    // 캐시할 GET 경로 (Ant 패턴)
+    private List<String> paths = new ArrayList<>();
+    // 이 캐시들 중 하나라도 무효화되면 그룹 전체를 무효화
+    private List<String> caches = new ArrayList<>();
+    private Duration ttl = Duration.ofMinutes(5);
+    private long maximumSize = 200;
+  }
+}
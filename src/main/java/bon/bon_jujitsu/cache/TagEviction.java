@@ -0,0 +1,16 @@
+package bon.bon_jujitsu.cache;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Cache.evict(key) 에 전달하면 해당 태그가 붙은 엔트리를 모두 삭제한다.
+ */
+public record TagEviction(Set<String> tags) {
+
+  public static TagEviction of(String... tags) {
+    return new TagEviction(Collections.unmodifiableSet(new LinkedHashSet<>(List.of(tags))));
+  }
+}
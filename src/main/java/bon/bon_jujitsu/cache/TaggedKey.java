@@ -0,0 +1,51 @@
+package bon.bon_jujitsu.cache;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 태그가 붙은 캐시 키
+ * - equals/hashCode/toString 은 key 문자열만 사용하므로 조회 시에는 일반 키와 동일하게 동작한다.
+ * - tags 는 저장 시점에 태그 인덱스에 등록되어 태그 단위 삭제에 사용된다.
+ */
+public final class TaggedKey {
+
+  private final String key;
+  private final Set<String> tags;
+
+  private TaggedKey(String key, Set<String> tags) {
+    this.key = key;
+    this.tags = tags;
+  }
+
+  public static TaggedKey of(String key, String... tags) {
+    return new TaggedKey(key, Collections.unmodifiableSet(new LinkedHashSet<>(List.of(tags))));
+  }
+
+  public Set<String> getTags() {
+    return tags;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof TaggedKey other)) {
+      return false;
+    }
+    return key.equals(other.key);
+  }
+
+  @Override
+  public int hashCode() {
+    return key.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return key;
+  }
+}
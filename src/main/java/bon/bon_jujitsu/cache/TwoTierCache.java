@@ -0,0 +1,447 @@
+package bon.bon_jujitsu.cache;
+
+import bon.bon_jujitsu.dto.response.CacheStatsResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+
+/**
+ * L1(Caffeine, 프로세스 내) + L2(Redis) 2단 캐시
+ * - 조회: L1 → L2 → (miss) 서비스 메서드 실행
+ * - 저장/삭제: L1, L2 모두 반영
+ * - Redis 장애 시에는 L1만으로 동작한다.
+ * - 태그: {@link TaggedKey} 의 태그와 값에 포함된 {@link CacheTagged} DTO 의 태그를 인덱싱하고,
+ *   evict({@link TagEviction}) 시 해당 태그가 붙은 엔트리만 삭제한다. (L2 는 태그별 Redis Set)
+ * - get(key, loader) (@Cacheable(sync = true)): 같은 키의 동시 miss 는 하나의 로더 결과를 함께 기다린다.
+ * - refreshAhead 가 설정되면 오래된 엔트리는 기존 값을 반환하면서 백그라운드에서 미리 재적재한다.
+ * - evict/clear 는 다른 노드의 L1 에도 전파된다. ({@link CacheInvalidationPublisher})
+ */
+@Slf4j(topic = "TwoTierCache")
+public class TwoTierCache extends AbstractValueAdaptingCache {
+
+  private static final int SCAN_BATCH_SIZE = 500;
+  private static final String TAG_KEY_INFIX = "#tag:";
+
+  private final String name;
+  private final Cache<Object, Object> localCache;
+  private final CacheTagIndex tagIndex;
+  private final RedisTemplate<String, Object> redisTemplate;
+  private final String redisKeyPrefix;
+  private final boolean l2Enabled;
+  private final Duration l2Ttl;
+  private final Duration refreshAhead;
+  private final CacheRefresher refresher;
+  private final CacheInvalidationPublisher publisher;
+  private final Consumer<String> invalidationListener;
+
+  // 키별 진행 중인 적재 (single-flight)
+  private final ConcurrentMap<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+  // 백그라운드 재적재 중인 키
+  private final Set<Object> refreshing = ConcurrentHashMap.newKeySet();
+  // evict/clear 마다 증가 - 재적재 도중 무효화된 값을 다시 쓰지 않기 위함
+  private final AtomicLong invalidations = new AtomicLong();
+
+  private final LongAdder l2Hits = new LongAdder();
+  private final LongAdder l2Misses = new LongAdder();
+  private final LongAdder l2Errors = new LongAdder();
+  private final LongAdder coalescedLoads = new LongAdder();
+  private final LongAdder refreshes = new LongAdder();
+
+  public TwoTierCache(String name, Cache<Object, Object> localCache, CacheTagIndex tagIndex,
+      RedisTemplate<String, Object> redisTemplate, String keyPrefix,
+      boolean l2Enabled, Duration l2Ttl, Duration refreshAhead, CacheRefresher refresher,
+      CacheInvalidationPublisher publisher, Consumer<String> invalidationListener) {
+    super(true);
+    this.name = name;
+    this.localCache = localCache;
+    this.tagIndex = tagIndex;
+    this.redisTemplate = redisTemplate;
+    this.redisKeyPrefix = keyPrefix + name + "::";
+    this.l2Enabled = l2Enabled && redisTemplate != null;
+    this.l2Ttl = l2Ttl;
+    this.refreshAhead = refreshAhead;
+    this.refresher = refresher;
+    this.publisher = publisher;
+    this.invalidationListener = invalidationListener;
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public Object getNativeCache() {
+    return localCache;
+  }
+
+  @Override
+  protected Object lookup(Object key) {
+    Object value = localCache.getIfPresent(localKey(key));
+    if (value != null) {
+      return value;
+    }
+
+    Object remote = readL2(key);
+    if (remote != null) {
+      store(key, remote, false);
+    }
+    return remote;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> T get(Object key, Callable<T> valueLoader) {
+    Object cached = localCache.getIfPresent(localKey(key));
+    if (cached != null) {
+      refreshIfStale(key, valueLoader);
+      return (T) fromStoreValue(cached);
+    }
+    return (T) fromStoreValue(loadSingleFlight(key, valueLoader));
+  }
+
+  @Override
+  public void put(Object key, Object value) {
+    store(key, toStoreValue(value), true);
+  }
+
+  @Override
+  public void evict(Object key) {
+    if (key instanceof TagEviction eviction) {
+      evictTagsLocal(eviction.tags());
+      deleteL2Tags(eviction.tags());
+      publisher.publish(name, CacheInvalidationMessage.Type.TAGS, List.copyOf(eviction.tags()));
+      return;
+    }
+    String localKey = localKey(key);
+    evictLocal(List.of(localKey));
+    deleteL2(key);
+    publisher.publish(name, CacheInvalidationMessage.Type.KEY, List.of(localKey));
+  }
+
+  @Override
+  public void clear() {
+    clearLocal();
+    clearL2();
+    publisher.publish(name, CacheInvalidationMessage.Type.CLEAR, List.of());
+  }
+
+  // === L1 전용 무효화 (다른 노드에서 전달된 무효화 메시지 적용) ===
+
+  public void evictLocal(Collection<String> localKeys) {
+    invalidations.incrementAndGet();
+    invalidationListener.accept(name);
+    for (String localKey : localKeys) {
+      localCache.invalidate(localKey);
+      tagIndex.unregister(localKey);
+    }
+  }
+
+  public void evictTagsLocal(Collection<String> tags) {
+    invalidations.incrementAndGet();
+    invalidationListener.accept(name);
+    for (String tag : tags) {
+      for (Object localKey : tagIndex.keysOf(tag)) {
+        localCache.invalidate(localKey);
+        tagIndex.unregister(localKey);
+      }
+    }
+  }
+
+  public void clearLocal() {
+    invalidations.incrementAndGet();
+    invalidationListener.accept(name);
+    localCache.invalidateAll();
+    tagIndex.clear();
+  }
+
+  // === 적재 (single-flight / refresh-ahead) ===
+
+  /**
+   * 같은 키에 대해 먼저 들어온 요청만 L2 조회/로더를 실행하고 나머지는 그 결과를 기다린다.
+   */
+  private Object loadSingleFlight(Object key, Callable<?> valueLoader) {
+    CompletableFuture<Object> flight = new CompletableFuture<>();
+    String localKey = localKey(key);
+    CompletableFuture<Object> running = inFlight.putIfAbsent(localKey, flight);
+    if (running != null) {
+      coalescedLoads.increment();
+      return await(running);
+    }
+
+    try {
+      // 앞선 적재가 끝난 직후에 들어온 경우 (통계에 잡히지 않도록 asMap 으로 확인)
+      Object value = localCache.asMap().get(localKey);
+      if (value == null) {
+        long invalidationsAtStart = invalidations.get();
+        value = readL2(key);
+        boolean fromL2 = value != null;
+        if (!fromL2) {
+          value = toStoreValue(load(valueLoader, key));
+        }
+        // 적재 중 무효화가 있었다면 읽은 값은 이번 요청들에만 쓰고 저장하지 않음 (다음 요청이 새로 적재)
+        if (invalidations.get() == invalidationsAtStart) {
+          store(key, value, !fromL2);
+        }
+      }
+      flight.complete(value);
+      return value;
+    } catch (RuntimeException e) {
+      flight.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(localKey, flight);
+    }
+  }
+
+  private static Object await(CompletableFuture<Object> flight) {
+    try {
+      return flight.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * 작성 후 refreshAhead 가 지난 엔트리를 백그라운드에서 재적재 (키당 하나만)
+   */
+  private void refreshIfStale(Object key, Callable<?> valueLoader) {
+    if (refreshAhead == null || refresher == null) {
+      return;
+    }
+    String localKey = localKey(key);
+    boolean stale = localCache.policy().expireAfterWrite()
+        .flatMap(policy -> policy.ageOf(localKey))
+        .map(age -> age.compareTo(refreshAhead) >= 0)
+        .orElse(false);
+    if (!stale || !refreshing.add(localKey)) {
+      return;
+    }
+
+    long invalidationsAtStart = invalidations.get();
+    boolean submitted = refresher.submit(() -> {
+      try {
+        Object loaded = toStoreValue(refresher.load(valueLoader));
+        // 재적재 중 무효화가 있었다면 결과를 버림 (다음 요청이 새로 적재)
+        if (invalidations.get() == invalidationsAtStart) {
+          store(key, loaded, true);
+          refreshes.increment();
+        }
+      } catch (RuntimeException e) {
+        log.warn("refresh-ahead 실패: cache={}, key={}, error={}", name, key, e.getMessage());
+      } finally {
+        refreshing.remove(localKey);
+      }
+    });
+    if (!submitted) {
+      refreshing.remove(localKey);
+    }
+  }
+
+  private void store(Object key, Object storeValue, boolean writeThrough) {
+    Set<String> tags = tagsOf(key, storeValue);
+    String localKey = localKey(key);
+    localCache.put(localKey, storeValue);
+    tagIndex.register(localKey, tags);
+    if (writeThrough) {
+      writeL2(key, storeValue, tags);
+    }
+  }
+
+  /**
+   * L1 키는 L2 키와 같은 문자열 형태로 통일 (다른 노드에서 전달된 키로도 삭제할 수 있도록)
+   */
+  private static String localKey(Object key) {
+    return String.valueOf(key);
+  }
+
+  private Set<String> tagsOf(Object key, Object storeValue) {
+    Set<String> tags = new LinkedHashSet<>();
+    if (key instanceof TaggedKey taggedKey) {
+      tags.addAll(taggedKey.getTags());
+    }
+    if (storeValue != null && storeValue != NullValue.INSTANCE) {
+      tags.addAll(CacheTags.extract(storeValue));
+    }
+    return tags;
+  }
+
+  /**
+   * 통계 스냅샷
+   */
+  public CacheStatsResponse stats() {
+    CacheStats local = localCache.stats();
+    return new CacheStatsResponse(
+        name,
+        localCache.estimatedSize(),
+        local.hitCount(),
+        local.missCount(),
+        local.evictionCount(),
+        l2Enabled,
+        l2Hits.sum(),
+        l2Misses.sum(),
+        l2Errors.sum(),
+        coalescedLoads.sum(),
+        refreshes.sum()
+    );
+  }
+
+  // === L2(Redis) ===
+
+  private String redisKey(Object key) {
+    return redisKeyPrefix + key;
+  }
+
+  private byte[] redisTagKey(String tag) {
+    return (redisKeyPrefix + TAG_KEY_INFIX + tag).getBytes(StandardCharsets.UTF_8);
+  }
+
+  private Object readL2(Object key) {
+    if (!l2Enabled) {
+      return null;
+    }
+    try {
+      Object value = redisTemplate.opsForValue().get(redisKey(key));
+      if (value == null) {
+        l2Misses.increment();
+        return null;
+      }
+      l2Hits.increment();
+      return value;
+    } catch (RuntimeException e) {
+      // 역직렬화 실패 또는 Redis 장애 - miss 로 처리하고 깨진 엔트리는 제거
+      l2Errors.increment();
+      log.warn("L2 캐시 조회 실패: cache={}, key={}, error={}", name, key, e.getMessage());
+      deleteL2(key);
+      return null;
+    }
+  }
+
+  private void writeL2(Object key, Object storeValue, Set<String> tags) {
+    if (!l2Enabled || storeValue == null || storeValue == NullValue.INSTANCE) {
+      return;
+    }
+    try {
+      String redisKey = redisKey(key);
+      redisTemplate.opsForValue().set(redisKey, storeValue, l2Ttl);
+      if (!tags.isEmpty()) {
+        addL2Tags(redisKey, tags);
+      }
+    } catch (RuntimeException e) {
+      l2Errors.increment();
+      log.warn("L2 캐시 저장 실패: cache={}, key={}, error={}", name, key, e.getMessage());
+    }
+  }
+
+  private void deleteL2(Object key) {
+    if (!l2Enabled) {
+      return;
+    }
+    try {
+      redisTemplate.delete(redisKey(key));
+    } catch (RuntimeException e) {
+      l2Errors.increment();
+      log.warn("L2 캐시 삭제 실패: cache={}, key={}, error={}", name, key, e.getMessage());
+    }
+  }
+
+  /**
+   * 태그 Set 에 L2 키 등록 (Set 의 TTL 은 마지막 등록 시점부터 l2Ttl 로 갱신)
+   */
+  private void addL2Tags(String redisKey, Set<String> tags) {
+    byte[] member = redisKey.getBytes(StandardCharsets.UTF_8);
+    redisTemplate.execute((RedisCallback<Void>) connection -> {
+      for (String tag : tags) {
+        byte[] tagKey = redisTagKey(tag);
+        connection.setCommands().sAdd(tagKey, member);
+        connection.keyCommands().expire(tagKey, l2Ttl.toSeconds());
+      }
+      return null;
+    });
+  }
+
+  private void deleteL2Tags(Set<String> tags) {
+    if (!l2Enabled) {
+      return;
+    }
+    try {
+      redisTemplate.execute((RedisCallback<Void>) connection -> {
+        for (String tag : tags) {
+          byte[] tagKey = redisTagKey(tag);
+          Set<byte[]> members = connection.setCommands().sMembers(tagKey);
+          if (members != null && !members.isEmpty()) {
+            connection.keyCommands().del(members.toArray(new byte[0][]));
+          }
+          connection.keyCommands().del(tagKey);
+        }
+        return null;
+      });
+    } catch (RuntimeException e) {
+      l2Errors.increment();
+      log.warn("L2 캐시 태그 삭제 실패: cache={}, tags={}, error={}", name, tags, e.getMessage());
+    }
+  }
+
+  private void clearL2() {
+    if (!l2Enabled) {
+      return;
+    }
+    try {
+      List<String> keys = scanKeys(redisKeyPrefix + "*");
+      if (!keys.isEmpty()) {
+        redisTemplate.delete(keys);
+      }
+    } catch (RuntimeException e) {
+      l2Errors.increment();
+      log.warn("L2 캐시 전체 삭제 실패: cache={}, error={}", name, e.getMessage());
+    }
+  }
+
+  private List<String> scanKeys(String pattern) {
+    ScanOptions options = ScanOptions.scanOptions().match(pattern).count(SCAN_BATCH_SIZE).build();
+    return redisTemplate.execute((RedisCallback<List<String>>) connection -> collectKeys(connection, options));
+  }
+
+  private List<String> collectKeys(RedisConnection connection, ScanOptions options) {
+    List<String> keys = new ArrayList<>();
+    try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+      while (cursor.hasNext()) {
+        keys.add(new String(cursor.next(), StandardCharsets.UTF_8));
+      }
+    }
+    return keys;
+  }
+
+  private static <T> T load(Callable<T> valueLoader, Object key) {
+    try {
+      return valueLoader.call();
+    } catch (Exception e) {
+      throw new ValueRetrievalException(key, valueLoader, e);
+    }
+  }
+}
@@ -0,0 +1,113 @@
+package bon.bon_jujitsu.cache;
+
+import bon.bon_jujitsu.dto.response.CacheStatsResponse;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+import org.springframework.data.redis.core.RedisTemplate;
+
+/**
+ * 캐시 이름별로 {@link TwoTierCache} 를 생성하는 CacheManager
+ * - app.cache.caches 에 정의된 캐시는 기동 시 생성, 나머지는 기본 설정으로 최초 사용 시 생성
+ * - 트랜잭션 안에서의 put/evict 는 커밋 이후에 반영된다.
+ * - evict/clear 는 {@link CacheInvalidationPublisher} 로 다른 노드에 전파된다.
+ */
+public class TwoTierCacheManager extends AbstractTransactionSupportingCacheManager {
+
+  private final CacheProperties properties;
+  private final RedisTemplate<String, Object> redisTemplate;
+  private final CacheRefresher refresher;
+  private final CacheInvalidationPublisher publisher;
+  private final Map<String, TwoTierCache> twoTierCaches = new ConcurrentHashMap<>();
+  // L1 무효화(로컬/원격 모두) 시 캐시 이름으로 호출
+  private final List<Consumer<String>> invalidationListeners = new CopyOnWriteArrayList<>();
+
+  public TwoTierCacheManager(CacheProperties properties, RedisTemplate<String, Object> redisTemplate,
+      CacheRefresher refresher, CacheInvalidationPublisher publisher) {
+    this.properties = properties;
+    this.redisTemplate = redisTemplate;
+    this.refresher = refresher;
+    this.publisher = publisher;
+    setTransactionAware(true);
+  }
+
+  @Override
+  protected Collection<? extends Cache> loadCaches() {
+    return properties.getCaches().keySet().stream()
+        .map(this::createCache)
+        .toList();
+  }
+
+  @Override
+  protected Cache getMissingCache(String name) {
+    return createCache(name);
+  }
+
+  /**
+   * 다른 노드에서 전달된 무효화를 L1 에만 적용 (L2 는 발행 노드가 이미 처리)
+   */
+  public void applyRemoteInvalidation(CacheInvalidationMessage message) {
+    if (message.cacheName() == null) {
+      return;
+    }
+    TwoTierCache cache = twoTierCaches.get(message.cacheName());
+    if (cache == null) {
+      return;
+    }
+    switch (message.type()) {
+      case KEY -> cache.evictLocal(message.values());
+      case TAGS -> cache.evictTagsLocal(message.values());
+      case CLEAR -> cache.clearLocal();
+      default -> {
+      }
+    }
+  }
+
+  /**
+   * 무효화 메시지 유실이 의심될 때 모든 L1 비움
+   */
+  public void clearLocalCaches() {
+    twoTierCaches.values().forEach(TwoTierCache::clearLocal);
+  }
+
+  public void addInvalidationListener(Consumer<String> listener) {
+    invalidationListeners.add(listener);
+  }
+
+  private void notifyInvalidation(String cacheName) {
+    invalidationListeners.forEach(listener -> listener.accept(cacheName));
+  }
+
+  public List<CacheStatsResponse> getStatistics() {
+    return twoTierCaches.values().stream()
+        .map(TwoTierCache::stats)
+        .sorted(Comparator.comparing(CacheStatsResponse::name))
+        .toList();
+  }
+
+  private TwoTierCache createCache(String name) {
+    return twoTierCaches.computeIfAbsent(name, cacheName -> {
+      CacheProperties.Spec spec = properties.specFor(cacheName);
+      CacheTagIndex tagIndex = new CacheTagIndex();
+
+      // 크기/TTL 로 밀려난 엔트리는 태그 인덱스에서도 제거 (eviction 과 같은 시점에 동기 실행)
+      com.github.benmanes.caffeine.cache.Cache<Object, Object> localCache = Caffeine.newBuilder()
+          .maximumSize(spec.maximumSizeOrDefault())
+          .expireAfterWrite(spec.ttlOrDefault())
+          .evictionListener((key, value, cause) -> tagIndex.unregister(key))
+          .recordStats()
+          .build();
+
+      return new TwoTierCache(cacheName, localCache, tagIndex, redisTemplate, properties.getKeyPrefix(),
+          spec.l2EnabledOrDefault(), spec.l2TtlOrDefault(), spec.refreshAheadOrNull(), refresher, publisher,
+          this::notifyInvalidation);
+    });
+  }
+}
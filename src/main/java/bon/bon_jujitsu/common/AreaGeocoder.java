@@ -0,0 +1,79 @@
+package bon.bon_jujitsu.common;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 로컬 시/도 좌표표 (classpath:geo/area-coordinates.csv) 로 주소/지역명의 대략적인 좌표를 찾는다.
+ * - 공백을 뺀 문자열이 가장 길게 일치하는 시/도 이름(별칭)으로 시작하면 그 시/도청 좌표를 반환한다.
+ * - 외부 지오코딩 API 를 호출하지 않으므로 정확한 위치는 관리자가 직접 입력해야 한다.
+ */
+public final class AreaGeocoder {
+
+  private static final String TABLE = "/geo/area-coordinates.csv";
+  // 별칭 길이 내림차순 (경기도광주시 → 경기도, 광주광역시 → 광주광역시)
+  private static final List<Entry> ENTRIES = load();
+
+  public record Coordinate(double latitude, double longitude) {
+  }
+
+  private record Entry(String alias, Coordinate coordinate) {
+  }
+
+  private AreaGeocoder() {
+  }
+
+  /**
+   * 주소 → 지역명 순으로 좌표 조회 (좌표표에 없으면 empty)
+   */
+  public static Optional<Coordinate> locate(String address, String area) {
+    return locate(address).or(() -> locate(area));
+  }
+
+  public static Optional<Coordinate> locate(String text) {
+    if (text == null || text.isBlank()) {
+      return Optional.empty();
+    }
+    String normalized = text.replaceAll("\\s", "");
+    return ENTRIES.stream()
+        .filter(entry -> normalized.startsWith(entry.alias()))
+        .map(Entry::coordinate)
+        .findFirst();
+  }
+
+  // === Private Helper Methods ===
+
+  private static List<Entry> load() {
+    try (InputStream input = AreaGeocoder.class.getResourceAsStream(TABLE)) {
+      if (input == null) {
+        throw new IllegalStateException("시/도 좌표표를 찾을 수 없습니다: " + TABLE);
+      }
+      BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+      List<Entry> entries = new ArrayList<>();
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (line.isBlank() || line.startsWith("#")) {
+          continue;
+        }
+        String[] columns = line.split(",");
+        Coordinate coordinate = new Coordinate(Double.parseDouble(columns[1].trim()),
+            Double.parseDouble(columns[2].trim()));
+        for (String alias : columns[0].split("\\|")) {
+          entries.add(new Entry(alias.trim(), coordinate));
+        }
+      }
+      entries.sort(Comparator.comparingInt((Entry entry) -> entry.alias().length()).reversed());
+      return List.copyOf(entries);
+    } catch (IOException e) {
+      throw new UncheckedIOException("시/도 좌표표를 읽을 수 없습니다.", e);
+    }
+  }
+}
@@ -0,0 +1,313 @@
+package bon.bon_jujitsu.common;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * 제목/본문 역색인 (한글은 형태소 분석 없이 2-gram 으로 색인)
+ * - 글자/숫자가 이어진 구간을 문자 종류(한글/그 외)별로 나눠 2글자씩 겹쳐 자른다. (한 글자 구간은 그대로)
+ *   예) "가드패스 연습" → 가드, 드패, 패스, 연습 / "BJJ" → bj, jj
+ * - 검색어의 모든 토큰을 포함한 글만 찾고 BM25 로 점수를 매긴다. (제목 가중치 TITLE_WEIGHT)
+ * - 원문은 보관하지 않고 토큰별 글 ID 와 출현 횟수만 보관한다.
+ */
+public class BigramIndex {
+
+  private static final double K1 = 1.2;
+  private static final double B = 0.75;
+  private static final double TITLE_WEIGHT = 3.0;
+
+  private static final Pattern TAG = Pattern.compile("<[^>]*(>|$)");
+  private static final Pattern ENTITY = Pattern.compile("&(nbsp|amp|lt|gt|quot|#39);");
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  // 토큰 → (글 ID → 출현 횟수)
+  private final Map<String, Map<Long, Frequency>> postings = new HashMap<>();
+  private final Map<Long, Document> documents = new HashMap<>();
+  private long totalTitleLength;
+  private long totalContentLength;
+  // 재구축 중 변경된 글 ID (재구축이 DB 에서 읽은 이전 내용으로 덮어쓰지 않도록)
+  private Set<Long> changedDuringRebuild;
+
+  /**
+   * 검색 결과 (글 ID, 점수)
+   */
+  public record Hit(long id, double score) {
+  }
+
+  private record Frequency(int title, int content) {
+  }
+
+  private record Document(Set<String> terms, int titleLength, int contentLength) {
+  }
+
+  // 토큰별 제목/본문 출현 횟수 (잠금 밖에서 계산)
+  private record Analyzed(Map<String, Frequency> frequencies, int titleLength, int contentLength) {
+  }
+
+  /**
+   * 글 색인 (이미 있으면 교체)
+   */
+  public void put(long id, String title, String content) {
+    Analyzed analyzed = analyze(title, content);
+    lock.writeLock().lock();
+    try {
+      markChanged(id);
+      doPut(id, analyzed);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public void remove(long id) {
+    lock.writeLock().lock();
+    try {
+      markChanged(id);
+      doRemove(id);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return documents.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 검색어의 모든 토큰을 포함한 글을 점수 높은 순으로 최대 limit 개
+   */
+  public List<Hit> search(String query, int limit) {
+    Set<String> terms = new LinkedHashSet<>(tokenize(query));
+    if (terms.isEmpty()) {
+      return List.of();
+    }
+
+    lock.readLock().lock();
+    try {
+      List<Map<Long, Frequency>> termPostings = new ArrayList<>(terms.size());
+      for (String term : terms) {
+        Map<Long, Frequency> posting = postings.get(term);
+        if (posting == null) {
+          return List.of();
+        }
+        termPostings.add(posting);
+      }
+
+      // 가장 짧은 목록을 기준으로 교집합
+      Map<Long, Frequency> smallest = termPostings.stream()
+          .min(Comparator.comparingInt(Map::size))
+          .orElseThrow();
+      int documentCount = documents.size();
+      double avgTitleLength = Math.max(1.0, (double) totalTitleLength / documentCount);
+      double avgContentLength = Math.max(1.0, (double) totalContentLength / documentCount);
+
+      List<Hit> hits = new ArrayList<>();
+      for (Long id : smallest.keySet()) {
+        double score = 0;
+        for (Map<Long, Frequency> posting : termPostings) {
+          Frequency frequency = posting.get(id);
+          if (frequency == null) {
+            score = -1;
+            break;
+          }
+          score += score(frequency, documents.get(id), posting.size(), documentCount,
+              avgTitleLength, avgContentLength);
+        }
+        if (score >= 0) {
+          hits.add(new Hit(id, score));
+        }
+      }
+
+      hits.sort(Comparator.comparingDouble(Hit::score).reversed()
+          .thenComparing(Comparator.comparingLong(Hit::id).reversed()));
+      return hits.size() > limit ? new ArrayList<>(hits.subList(0, limit)) : hits;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * DB 전체 재구축 시작 - 이후 변경된 글은 재구축 결과보다 우선한다.
+   * - 기존 색인을 유지한 채 글 단위로 교체하므로 재구축 중에도 검색할 수 있다.
+   */
+  public Rebuild startRebuild() {
+    lock.writeLock().lock();
+    try {
+      changedDuringRebuild = new HashSet<>();
+      return new Rebuild();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 재구축 진행 상태 (DB 에서 읽은 글을 put 하고 마지막에 finish)
+   */
+  public class Rebuild {
+
+    private final Set<Long> loadedIds = new HashSet<>();
+
+    private Rebuild() {
+    }
+
+    public void put(long id, String title, String content) {
+      Analyzed analyzed = analyze(title, content);
+      lock.writeLock().lock();
+      try {
+        loadedIds.add(id);
+        if (!changedDuringRebuild.contains(id)) {
+          doPut(id, analyzed);
+        }
+      } finally {
+        lock.writeLock().unlock();
+      }
+    }
+
+    /**
+     * DB 에 없는 글(삭제된 글) 제거 후 재구축 종료
+     */
+    public void finish() {
+      lock.writeLock().lock();
+      try {
+        List<Long> staleIds = documents.keySet().stream()
+            .filter(id -> !loadedIds.contains(id) && !changedDuringRebuild.contains(id))
+            .toList();
+        staleIds.forEach(BigramIndex.this::doRemove);
+        changedDuringRebuild = null;
+      } finally {
+        lock.writeLock().unlock();
+      }
+    }
+  }
+
+  /**
+   * 색인/검색 공통 토큰화 (HTML 태그 제거, 소문자 변환 후 2-gram)
+   */
+  public static List<String> tokenize(String text) {
+    List<String> tokens = new ArrayList<>();
+    if (text == null || text.isBlank()) {
+      return tokens;
+    }
+    String normalized = normalize(text).toLowerCase(Locale.ROOT);
+
+    int start = -1;
+    for (int i = 0; i <= normalized.length(); i++) {
+      boolean boundary = i == normalized.length() || !Character.isLetterOrDigit(normalized.charAt(i))
+          || (start >= 0 && isHangul(normalized.charAt(i)) != isHangul(normalized.charAt(start)));
+      if (boundary && start >= 0) {
+        addRunTokens(normalized, start, i, tokens);
+        start = -1;
+      }
+      if (i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i)) && start < 0) {
+        start = i;
+      }
+    }
+    return tokens;
+  }
+
+  /**
+   * 검색 결과 표시용 평문 (HTML 태그/엔티티 제거, 공백 정리)
+   */
+  public static String normalize(String text) {
+    if (text == null) {
+      return "";
+    }
+    String plain = TAG.matcher(text).replaceAll(" ");
+    plain = ENTITY.matcher(plain).replaceAll(match -> switch (match.group(1)) {
+      case "amp" -> "&";
+      case "lt" -> "<";
+      case "gt" -> ">";
+      case "quot" -> "\"";
+      case "#39" -> "'";
+      default -> " ";
+    });
+    return plain.replaceAll("\\s+", " ").strip();
+  }
+
+  // === Private Helper Methods ===
+
+  private void markChanged(long id) {
+    if (changedDuringRebuild != null) {
+      changedDuringRebuild.add(id);
+    }
+  }
+
+  private void doPut(long id, Analyzed analyzed) {
+    doRemove(id);
+
+    analyzed.frequencies().forEach((token, frequency) ->
+        postings.computeIfAbsent(token, key -> new HashMap<>()).put(id, frequency));
+    documents.put(id, new Document(analyzed.frequencies().keySet(), analyzed.titleLength(), analyzed.contentLength()));
+    totalTitleLength += analyzed.titleLength();
+    totalContentLength += analyzed.contentLength();
+  }
+
+  private void doRemove(long id) {
+    Document document = documents.remove(id);
+    if (document == null) {
+      return;
+    }
+    for (String term : document.terms()) {
+      Map<Long, Frequency> posting = postings.get(term);
+      if (posting != null) {
+        posting.remove(id);
+        if (posting.isEmpty()) {
+          postings.remove(term);
+        }
+      }
+    }
+    totalTitleLength -= document.titleLength();
+    totalContentLength -= document.contentLength();
+  }
+
+  /**
+   * BM25 (제목/본문 출현 횟수를 길이로 정규화한 뒤 제목 가중치를 곱해 합산)
+   */
+  private double score(Frequency frequency, Document document, int documentFrequency, int documentCount,
+      double avgTitleLength, double avgContentLength) {
+    double idf = Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+    double tf = TITLE_WEIGHT * frequency.title() / (1 - B + B * document.titleLength() / avgTitleLength)
+        + frequency.content() / (1 - B + B * document.contentLength() / avgContentLength);
+    return idf * tf * (K1 + 1) / (tf + K1);
+  }
+
+  private static Analyzed analyze(String title, String content) {
+    List<String> titleTokens = tokenize(title);
+    List<String> contentTokens = tokenize(content);
+    Map<String, int[]> counts = new HashMap<>();
+    titleTokens.forEach(token -> counts.computeIfAbsent(token, key -> new int[2])[0]++);
+    contentTokens.forEach(token -> counts.computeIfAbsent(token, key -> new int[2])[1]++);
+
+    Map<String, Frequency> frequencies = new HashMap<>(counts.size() * 2);
+    counts.forEach((token, count) -> frequencies.put(token, new Frequency(count[0], count[1])));
+    return new Analyzed(frequencies, titleTokens.size(), contentTokens.size());
+  }
+
+  private static void addRunTokens(String text, int start, int end, List<String> tokens) {
+    if (end - start == 1) {
+      tokens.add(text.substring(start, end));
+      return;
+    }
+    for (int i = start; i + 2 <= end; i++) {
+      tokens.add(text.substring(i, i + 2));
+    }
+  }
+
+  private static boolean isHangul(char c) {
+    return Character.UnicodeScript.of(c) == Character.UnicodeScript.HANGUL;
+  }
+}
@@ -0,0 +1,90 @@
+package bon.bon_jujitsu.common;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 스레드 안전한 Bloom 필터 (잠금 없이 비트 설정)
+ * - mightContain 이 false 면 확실히 없음, true 면 있을 수도 있음
+ * - 해시는 호출하는 쪽에서 128비트(두 개의 long)로 만들어 전달한다. (double hashing)
+ */
+public class BloomFilter {
+
+  private final AtomicLongArray words;
+  private final long bitCount;
+  private final int hashCount;
+
+  private BloomFilter(long bitCount, int hashCount) {
+    this.bitCount = bitCount;
+    this.hashCount = hashCount;
+    this.words = new AtomicLongArray((int) ((bitCount + 63) / 64));
+  }
+
+  /**
+   * 예상 원소 수와 허용 오탐률로 크기 결정
+   */
+  public static BloomFilter create(long expectedInsertions, double falsePositiveRate) {
+    if (expectedInsertions <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+      throw new IllegalArgumentException("Bloom 필터 설정이 올바르지 않습니다.");
+    }
+    long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+    int hashes = Math.max(1, (int) Math.round((double) bits / expectedInsertions * Math.log(2)));
+    return new BloomFilter(Math.max(64, bits), hashes);
+  }
+
+  public boolean put(byte[] hash) {
+    ByteBuffer buffer = ByteBuffer.wrap(hash);
+    return put(buffer.getLong(0), buffer.getLong(8));
+  }
+
+  public boolean mightContain(byte[] hash) {
+    ByteBuffer buffer = ByteBuffer.wrap(hash);
+    return mightContain(buffer.getLong(0), buffer.getLong(8));
+  }
+
+  /**
+   * @return 새로 설정된 비트가 있으면 true (false 면 이미 있었을 수도 있는 원소)
+   */
+  public boolean put(long hash1, long hash2) {
+    boolean changed = false;
+    for (int i = 0; i < hashCount; i++) {
+      long index = bitIndex(hash1, hash2, i);
+      int word = (int) (index >>> 6);
+      long mask = 1L << index;
+      long current;
+      do {
+        current = words.get(word);
+        if ((current & mask) != 0) {
+          break;
+        }
+      } while (!words.compareAndSet(word, current, current | mask));
+      changed |= (current & mask) == 0;
+    }
+    return changed;
+  }
+
+  public boolean mightContain(long hash1, long hash2) {
+    for (int i = 0; i < hashCount; i++) {
+      long index = bitIndex(hash1, hash2, i);
+      if ((words.get((int) (index >>> 6)) & (1L << index)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * 원소가 차지하는 비트 위치 (같은 크기의 비트맵을 외부 저장소에 둘 때 사용)
+   */
+  public long[] bitIndexes(long hash1, long hash2) {
+    long[] indexes = new long[hashCount];
+    for (int i = 0; i < hashCount; i++) {
+      indexes[i] = bitIndex(hash1, hash2, i);
+    }
+    return indexes;
+  }
+
+  private long bitIndex(long hash1, long hash2, int i) {
+    return ((hash1 + i * hash2) & Long.MAX_VALUE) % bitCount;
+  }
+}
@@ -0,0 +1,269 @@
+package bon.bon_jujitsu.common;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 위경도 격자 색인 - 가까운 순 k 개 / 반경 N km 이내 조회
+ * - 위도/경도를 cellDegrees 간격의 격자로 나누고, 조회 지점 칸에서 바깥 고리 방향으로 넓혀 가며 찾는다.
+ * - 거리는 하버사인(구면) 거리, 날짜변경선/극지방 보정은 하지 않는다. (국내 지부 전용)
+ */
+public class GeoGridIndex {
+
+  private static final double EARTH_RADIUS_KM = 6371.0088;
+  private static final double KM_PER_DEGREE = Math.PI * EARTH_RADIUS_KM / 180;
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private final double cellDegrees;
+  private final long columns;
+  private final Map<Long, Point> points = new HashMap<>();
+  private final Map<Long, List<Point>> cells = new HashMap<>();
+
+  public record Point(long id, double latitude, double longitude) {
+  }
+
+  /**
+   * 조회 결과 (거리 km)
+   */
+  public record Hit(long id, double distanceKm) {
+  }
+
+  /**
+   * @param cellDegrees 격자 한 칸 크기 (도, 0.05 ≒ 남북 5.6km)
+   */
+  public GeoGridIndex(double cellDegrees) {
+    if (!(cellDegrees > 0 && cellDegrees <= 10)) {
+      throw new IllegalArgumentException("격자 크기는 0 초과 10도 이하여야 합니다.");
+    }
+    this.cellDegrees = cellDegrees;
+    this.columns = (long) Math.ceil(360 / cellDegrees) + 1;
+  }
+
+  /**
+   * 지점 색인 (이미 있으면 교체)
+   */
+  public void put(long id, double latitude, double longitude) {
+    validateCoordinate(latitude, longitude);
+    lock.writeLock().lock();
+    try {
+      doRemove(id);
+      Point point = new Point(id, latitude, longitude);
+      points.put(id, point);
+      cells.computeIfAbsent(cellKey(row(latitude), column(longitude)), key -> new ArrayList<>()).add(point);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public void remove(long id) {
+    lock.writeLock().lock();
+    try {
+      doRemove(id);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 전체 교체 (재구축)
+   */
+  public void replaceAll(List<Point> all) {
+    lock.writeLock().lock();
+    try {
+      points.clear();
+      cells.clear();
+      for (Point point : all) {
+        validateCoordinate(point.latitude(), point.longitude());
+        points.put(point.id(), point);
+        cells.computeIfAbsent(cellKey(row(point.latitude()), column(point.longitude())), key -> new ArrayList<>())
+            .add(point);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return points.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 가까운 순 최대 limit 개
+   */
+  public List<Hit> nearest(double latitude, double longitude, int limit) {
+    validateCoordinate(latitude, longitude);
+    lock.readLock().lock();
+    try {
+      if (limit <= 0 || points.isEmpty()) {
+        return List.of();
+      }
+      int targetCount = Math.min(limit, points.size());
+      long centerRow = row(latitude);
+      long centerColumn = column(longitude);
+      List<Hit> hits = new ArrayList<>();
+      int visited = 0;
+      for (int ring = 0; visited < points.size(); ring++) {
+        if ((long) ring * 8 > cells.size()) {
+          // 고리가 채워진 칸 수보다 넓어지면 남은 지점은 전체 스캔이 더 싸다.
+          return scanAll(latitude, longitude, targetCount);
+        }
+        for (Point point : ringPoints(centerRow, centerColumn, ring)) {
+          hits.add(new Hit(point.id(), distanceKm(latitude, longitude, point.latitude(), point.longitude())));
+          visited++;
+        }
+        if (hits.size() >= targetCount) {
+          hits.sort(Comparator.comparingDouble(Hit::distanceKm));
+          if (hits.get(targetCount - 1).distanceKm() <= ringDistanceKm(latitude, ring)) {
+            break;
+          }
+        }
+      }
+      hits.sort(Comparator.comparingDouble(Hit::distanceKm));
+      return List.copyOf(hits.subList(0, targetCount));
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 반경 radiusKm 이내 (가까운 순)
+   */
+  public List<Hit> within(double latitude, double longitude, double radiusKm) {
+    validateCoordinate(latitude, longitude);
+    if (!(radiusKm >= 0)) {
+      throw new IllegalArgumentException("반경은 0 이상이어야 합니다.");
+    }
+    lock.readLock().lock();
+    try {
+      double latitudeDelta = radiusKm / KM_PER_DEGREE;
+      double cos = Math.cos(Math.toRadians(Math.min(90, Math.abs(latitude) + latitudeDelta)));
+      double longitudeDelta = cos <= 1e-9 ? 180 : Math.min(180, radiusKm / (KM_PER_DEGREE * cos));
+
+      long minRow = row(Math.max(-90, latitude - latitudeDelta));
+      long maxRow = row(Math.min(90, latitude + latitudeDelta));
+      long minColumn = column(Math.max(-180, longitude - longitudeDelta));
+      long maxColumn = column(Math.min(180, longitude + longitudeDelta));
+
+      List<Hit> hits = new ArrayList<>();
+      if ((maxRow - minRow + 1) * (maxColumn - minColumn + 1) > cells.size()) {
+        // 범위 칸 수가 채워진 칸보다 많으면 채워진 칸만 확인
+        cells.values().forEach(cellPoints -> collectWithin(cellPoints, latitude, longitude, radiusKm, hits));
+      } else {
+        for (long row = minRow; row <= maxRow; row++) {
+          for (long column = minColumn; column <= maxColumn; column++) {
+            List<Point> cellPoints = cells.get(cellKey(row, column));
+            if (cellPoints != null) {
+              collectWithin(cellPoints, latitude, longitude, radiusKm, hits);
+            }
+          }
+        }
+      }
+      hits.sort(Comparator.comparingDouble(Hit::distanceKm));
+      return hits;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 두 지점 사이 하버사인 거리 (km)
+   */
+  public static double distanceKm(double latitude1, double longitude1, double latitude2, double longitude2) {
+    double dLatitude = Math.toRadians(latitude2 - latitude1);
+    double dLongitude = Math.toRadians(longitude2 - longitude1);
+    double a = Math.sin(dLatitude / 2) * Math.sin(dLatitude / 2)
+        + Math.cos(Math.toRadians(latitude1)) * Math.cos(Math.toRadians(latitude2))
+        * Math.sin(dLongitude / 2) * Math.sin(dLongitude / 2);
+    return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+  }
+
+  public static void validateCoordinate(double latitude, double longitude) {
+    if (!(latitude >= -90 && latitude <= 90)) {
+      throw new IllegalArgumentException("위도는 -90 ~ 90 사이여야 합니다.");
+    }
+    if (!(longitude >= -180 && longitude <= 180)) {
+      throw new IllegalArgumentException("경도는 -180 ~ 180 사이여야 합니다.");
+    }
+  }
+
+  // === Private Helper Methods ===
+
+  private void doRemove(long id) {
+    Point point = points.remove(id);
+    if (point == null) {
+      return;
+    }
+    long key = cellKey(row(point.latitude()), column(point.longitude()));
+    List<Point> cellPoints = cells.get(key);
+    cellPoints.removeIf(p -> p.id() == id);
+    if (cellPoints.isEmpty()) {
+      cells.remove(key);
+    }
+  }
+
+  /**
+   * 중심 칸에서 ring 칸 떨어진 고리(정사각형 테두리)의 지점
+   */
+  private List<Point> ringPoints(long centerRow, long centerColumn, int ring) {
+    List<Point> result = new ArrayList<>();
+    for (long row = centerRow - ring; row <= centerRow + ring; row++) {
+      boolean edgeRow = row == centerRow - ring || row == centerRow + ring;
+      long step = edgeRow || ring == 0 ? 1 : 2L * ring;
+      for (long column = centerColumn - ring; column <= centerColumn + ring; column += step) {
+        List<Point> cellPoints = cells.get(cellKey(row, column));
+        if (cellPoints != null) {
+          result.addAll(cellPoints);
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * 고리 ring 밖의 지점까지 최소 거리 - ring 칸 (경도 방향 칸은 고위도일수록 좁아 짧은 쪽 기준)
+   */
+  private double ringDistanceKm(double latitude, int ring) {
+    double farthestLatitude = Math.min(90, Math.abs(latitude) + (ring + 1) * cellDegrees);
+    return ring * cellDegrees * KM_PER_DEGREE * Math.cos(Math.toRadians(farthestLatitude));
+  }
+
+  private List<Hit> scanAll(double latitude, double longitude, int limit) {
+    return points.values().stream()
+        .map(point -> new Hit(point.id(), distanceKm(latitude, longitude, point.latitude(), point.longitude())))
+        .sorted(Comparator.comparingDouble(Hit::distanceKm))
+        .limit(limit)
+        .toList();
+  }
+
+  private void collectWithin(List<Point> cellPoints, double latitude, double longitude, double radiusKm,
+      List<Hit> hits) {
+    for (Point point : cellPoints) {
+      double distance = distanceKm(latitude, longitude, point.latitude(), point.longitude());
+      if (distance <= radiusKm) {
+        hits.add(new Hit(point.id(), distance));
+      }
+    }
+  }
+
+  private long row(double latitude) {
+    return (long) Math.floor((latitude + 90) / cellDegrees);
+  }
+
+  private long column(double longitude) {
+    return (long) Math.floor((longitude + 180) / cellDegrees);
+  }
+
+  private long cellKey(long row, long column) {
+    return row * columns + column;
+  }
+}
@@ -20,6 +20,13 @@ public class GlobalExceptionHandler {
       return ApiResponse.error(ex.getMessage(), null);
   }
 
+  @ExceptionHandler(ServiceBusyException.class)
+  @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+  public ApiResponse<String> handleServiceBusyException(ServiceBusyException ex) {
+      log.warn("GlobalExceptionHandler  ServiceBusyException: {}", ex.getMessage());
+      return ApiResponse.error(ex.getMessage(), null);
+  }
+
   @ExceptionHandler(RuntimeException.class)
   @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
   public ApiResponse<String> handleRuntimeException(RuntimeException ex) {
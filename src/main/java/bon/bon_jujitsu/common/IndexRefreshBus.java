@@ -0,0 +1,146 @@
+package bon.bon_jujitsu.common;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 노드별 메모리 색인(회원 검색, 상품 카탈로그 등) 갱신을 모든 노드에 전파 (Redis pub/sub)
+ * - 색인 서비스가 이름별로 갱신/재구축 함수를 등록하고, 변경한 ID 를 커밋 후 발행하면
+ *   자기 노드를 포함한 모든 노드가 DB 에서 해당 ID 만 다시 읽어 반영한다.
+ * - 노드마다 한 스레드에서 받은 순서대로 실행한다. (같은 ID 를 엇갈려 읽어 오래된 값이 남지 않도록)
+ * - pub/sub 은 전달을 보장하지 않으므로 (구독 끊김, Redis 장애) 유실분은 재구축(기동 시 또는 관리자 요청)으로 보정한다.
+ */
+@Slf4j(topic = "IndexRefreshBus")
+@Component
+public class IndexRefreshBus implements MessageListener, AutoCloseable {
+
+  private final String nodeId = UUID.randomUUID().toString();
+  private final RedisTemplate<String, String> redisTemplate;
+  private final String channel;
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final Map<String, Handler> handlers = new ConcurrentHashMap<>();
+  private final ExecutorService executor;
+
+  /**
+   * 전파 메시지 - ids 가 null 이면 색인 전체 재구축
+   */
+  record RefreshMessage(String nodeId, String index, List<Long> ids) {
+  }
+
+  private record Handler(Consumer<List<Long>> refresher, Runnable rebuilder) {
+  }
+
+  public IndexRefreshBus(RedisTemplate<String, String> redisTemplate,
+      @Value("${app.index-sync.channel:index:refresh:events}") String channel) {
+    this.redisTemplate = redisTemplate;
+    this.channel = channel;
+    this.executor = Executors.newSingleThreadExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "index-refresh");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  public String getChannel() {
+    return channel;
+  }
+
+  /**
+   * 색인 등록 (색인 서비스 생성 시 한 번)
+   * @param refresher 바뀐 ID 를 DB 에서 다시 읽어 반영 (없어진 ID 는 제거)
+   * @param rebuilder 색인 전체 재구축
+   */
+  public void register(String index, Consumer<List<Long>> refresher, Runnable rebuilder) {
+    if (handlers.putIfAbsent(index, new Handler(refresher, rebuilder)) != null) {
+      throw new IllegalStateException("이미 등록된 색인입니다: " + index);
+    }
+  }
+
+  /**
+   * 바뀐 ID 반영 요청 (트랜잭션 안이면 커밋 후 자기 노드에 반영하고 다른 노드로 전파)
+   */
+  public void refresh(String index, Collection<Long> ids) {
+    if (ids.isEmpty()) {
+      return;
+    }
+    List<Long> copied = List.copyOf(ids);
+    AfterCommit.run(() -> {
+      apply(index, copied);
+      send(new RefreshMessage(nodeId, index, copied));
+    });
+  }
+
+  /**
+   * 모든 노드에서 색인 전체 재구축 (메시지 유실 보정용) - 이 노드는 호출한 스레드에서 끝낸 뒤 전파한다.
+   */
+  public void rebuild(String index) {
+    Handler handler = handlers.get(index);
+    if (handler == null) {
+      throw new IllegalArgumentException("등록되지 않은 색인입니다: " + index);
+    }
+    handler.rebuilder().run();
+    send(new RefreshMessage(nodeId, index, null));
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    RefreshMessage refresh;
+    try {
+      refresh = objectMapper.readValue(message.getBody(), RefreshMessage.class);
+    } catch (Exception e) {
+      log.warn("색인 갱신 메시지 파싱 실패: {}", e.getMessage());
+      return;
+    }
+    if (!nodeId.equals(refresh.nodeId())) {
+      apply(refresh.index(), refresh.ids());
+    }
+  }
+
+  @Override
+  public void close() {
+    executor.shutdownNow();
+  }
+
+  // === Private Helper Methods ===
+
+  private void apply(String index, List<Long> ids) {
+    Handler handler = handlers.get(index);
+    if (handler == null) {
+      return;
+    }
+    executor.execute(() -> {
+      try {
+        if (ids == null) {
+          handler.rebuilder().run();
+        } else {
+          handler.refresher().accept(ids);
+        }
+      } catch (RuntimeException e) {
+        log.warn("색인 갱신 실패: index={}, ids={}, error={}", index, ids, e.getMessage());
+      }
+    });
+  }
+
+  private void send(RefreshMessage refresh) {
+    try {
+      redisTemplate.convertAndSend(channel, objectMapper.writeValueAsString(refresh));
+    } catch (JsonProcessingException | RuntimeException e) {
+      // 다른 노드에는 다음 재구축 때 반영된다.
+      log.warn("색인 갱신 전파 실패: index={}, error={}", refresh.index(), e.getMessage());
+    }
+  }
+}
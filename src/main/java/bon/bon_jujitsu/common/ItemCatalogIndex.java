@@ -0,0 +1,538 @@
+package bon.bon_jujitsu.common;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 상품 카탈로그 패싯 색인 (사이즈 / 색상 / 가격대 / 할인 / 재고)
+ * - 옵션 한 개를 한 행으로 보고 패싯 값마다 행 BitSet 을 만들어 두고, 조건은 BitSet AND/OR 로 계산한다.
+ *   (사이즈·색상·재고 조건은 같은 옵션에서 함께 만족해야 한다.)
+ * - 패싯별 개수는 그 패싯 자신의 조건만 뺀 나머지 조건으로 센 상품 수 (다른 값을 골랐을 때의 결과 수)
+ * - 상품이 바뀌면 스냅샷을 통째로 다시 만들지 않고 그 상품의 행만 반영한 새 스냅샷으로 바꾼다.
+ *   재고만 바뀌면 재고 BitSet 만 복사해 고치고, 이름/가격/옵션 구성이 바뀌면 기존 행을 지우고 끝에 새 행을 붙인다.
+ *   지운 행이 살아 있는 행보다 많아지면 그때 전체를 다시 만든다.
+ */
+public class ItemCatalogIndex {
+
+  // 지운 행이 이보다 적으면 살아 있는 행보다 많아도 전체를 다시 만들지 않는다.
+  private static final int MIN_DEAD_ROWS_TO_COMPACT = 64;
+  private static final Comparator<CatalogItem> LATEST = Comparator
+      .comparing(CatalogItem::createdAt, Comparator.nullsLast(Comparator.reverseOrder()))
+      .thenComparing(Comparator.comparingLong(CatalogItem::id).reversed());
+
+  private final Map<Long, CatalogItem> items = new ConcurrentHashMap<>();
+  private final int[] priceBoundaries;
+  // null 이면 다음 조회 때 전체를 다시 만든다.
+  private volatile Snapshot snapshot;
+  // 현재 스냅샷의 상품 ID → 슬롯 (쓰기 쪽에서만 락 안에서 사용)
+  private final Map<Long, Integer> slotById = new HashMap<>();
+  // 재구축 중 변경된 상품 ID (재구축이 DB 에서 읽은 이전 정보로 덮어쓰지 않도록)
+  private Set<Long> changedDuringRebuild;
+
+  /**
+   * 색인 대상 상품 (sale 은 할인가, 0 이면 할인 없음)
+   */
+  public record CatalogItem(long id, String name, int price, int sale, LocalDateTime createdAt,
+      List<Option> options, List<String> images) {
+
+    public int effectivePrice() {
+      return sale > 0 ? sale : price;
+    }
+
+    public boolean onSale() {
+      return sale > 0 && sale < price;
+    }
+  }
+
+  public record Option(Long id, String size, String color, int amount) {
+  }
+
+  public enum SortOrder {
+    LATEST, PRICE_ASC, PRICE_DESC, NAME
+  }
+
+  /**
+   * 검색 조건 (빈 목록/null 은 조건 없음)
+   */
+  public record Query(String name, Set<String> sizes, Set<String> colors, Integer minPrice, Integer maxPrice,
+      boolean onSale, boolean inStock, SortOrder sort) {
+  }
+
+  public record FacetCount(String value, long count) {
+  }
+
+  /**
+   * 가격대 [min, max) - max 가 null 이면 상한 없음
+   */
+  public record PriceRange(int min, Integer max, long count) {
+  }
+
+  /**
+   * 검색 결과 (정렬된 전체 상품 + 패싯별 상품 수)
+   */
+  public record Result(List<CatalogItem> items, List<FacetCount> sizes, List<FacetCount> colors,
+      List<PriceRange> priceRanges, long onSaleCount, long inStockCount) {
+  }
+
+  /**
+   * @param priceBoundaries 가격대 경계 (오름차순, 예: 30000, 50000 → ~3만, 3만~5만, 5만~)
+   */
+  public ItemCatalogIndex(int[] priceBoundaries) {
+    for (int i = 1; i < priceBoundaries.length; i++) {
+      if (priceBoundaries[i - 1] >= priceBoundaries[i]) {
+        throw new IllegalArgumentException("가격대 경계는 오름차순이어야 합니다.");
+      }
+    }
+    this.priceBoundaries = priceBoundaries.clone();
+  }
+
+  /**
+   * 상품 색인 (이미 있으면 교체)
+   */
+  public synchronized void put(CatalogItem item) {
+    markChanged(item.id());
+    items.put(item.id(), item);
+    if (snapshot != null) {
+      snapshot = patch(snapshot, item.id(), item);
+    }
+  }
+
+  public synchronized void remove(long id) {
+    markChanged(id);
+    if (items.remove(id) != null && snapshot != null) {
+      snapshot = patch(snapshot, id, null);
+    }
+  }
+
+  public int size() {
+    return items.size();
+  }
+
+  public Result search(Query query) {
+    Snapshot current = snapshot();
+    int rowCount = current.rowItem.length;
+
+    BitSet nameRows = current.nameRows(query.name());
+    BitSet sizeRows = current.valueRows(current.sizeRows, query.sizes(), rowCount);
+    BitSet colorRows = current.valueRows(current.colorRows, query.colors(), rowCount);
+    BitSet priceRows = current.priceRows(query.minPrice(), query.maxPrice());
+    BitSet onSaleRows = query.onSale() ? current.onSaleRows : null;
+    BitSet inStockRows = query.inStock() ? current.inStockRows : null;
+
+    BitSet matched = current.and(nameRows, sizeRows, colorRows, priceRows, onSaleRows, inStockRows);
+
+    // 패싯마다 자기 조건만 뺀 결과에서 값별 상품 수
+    BitSet withoutSize = current.and(nameRows, colorRows, priceRows, onSaleRows, inStockRows);
+    BitSet withoutColor = current.and(nameRows, sizeRows, priceRows, onSaleRows, inStockRows);
+    BitSet withoutPrice = current.and(nameRows, sizeRows, colorRows, onSaleRows, inStockRows);
+    BitSet withoutOnSale = current.and(nameRows, sizeRows, colorRows, priceRows, inStockRows);
+    BitSet withoutInStock = current.and(nameRows, sizeRows, colorRows, priceRows, onSaleRows);
+
+    List<PriceRange> priceRanges = new ArrayList<>(current.priceRangeRows.size());
+    for (int i = 0; i < current.priceRangeRows.size(); i++) {
+      int min = i == 0 ? 0 : priceBoundaries[i - 1];
+      Integer max = i < priceBoundaries.length ? priceBoundaries[i] : null;
+      priceRanges.add(new PriceRange(min, max, current.countItems(withoutPrice, current.priceRangeRows.get(i))));
+    }
+
+    List<CatalogItem> result = current.distinctItems(matched);
+    result.sort(comparator(query.sort()));
+
+    return new Result(result,
+        current.facetCounts(current.sizeRows, withoutSize),
+        current.facetCounts(current.colorRows, withoutColor),
+        priceRanges,
+        current.countItems(withoutOnSale, current.onSaleRows),
+        current.countItems(withoutInStock, current.inStockRows));
+  }
+
+  /**
+   * DB 전체 재구축 시작 - 이후 변경된 상품은 재구축 결과보다 우선한다.
+   */
+  public synchronized Rebuild startRebuild() {
+    changedDuringRebuild = new HashSet<>();
+    return new Rebuild();
+  }
+
+  /**
+   * 재구축 진행 상태 (DB 에서 읽은 상품을 put 하고 마지막에 finish)
+   */
+  public class Rebuild {
+
+    private final Set<Long> loadedIds = new HashSet<>();
+
+    private Rebuild() {
+    }
+
+    public void put(CatalogItem item) {
+      synchronized (ItemCatalogIndex.this) {
+        loadedIds.add(item.id());
+        if (!changedDuringRebuild.contains(item.id())) {
+          items.put(item.id(), item);
+          snapshot = null;
+        }
+      }
+    }
+
+    /**
+     * DB 에 없는 상품(삭제된 상품) 제거 후 재구축 종료
+     */
+    public void finish() {
+      synchronized (ItemCatalogIndex.this) {
+        items.keySet().removeIf(id -> !loadedIds.contains(id) && !changedDuringRebuild.contains(id));
+        snapshot = null;
+        changedDuringRebuild = null;
+      }
+    }
+  }
+
+  // === Private Helper Methods ===
+
+  private void markChanged(long id) {
+    if (changedDuringRebuild != null) {
+      changedDuringRebuild.add(id);
+    }
+  }
+
+  private Snapshot snapshot() {
+    Snapshot current = snapshot;
+    if (current != null) {
+      return current;
+    }
+    synchronized (this) {
+      if (snapshot == null) {
+        snapshot = build();
+      }
+      return snapshot;
+    }
+  }
+
+  /**
+   * 전체 스냅샷 생성 (락 안에서)
+   */
+  private Snapshot build() {
+    Snapshot built = new Snapshot(List.copyOf(items.values()), priceBoundaries);
+    slotById.clear();
+    for (int slot = 0; slot < built.itemsBySlot.length; slot++) {
+      slotById.put(built.itemsBySlot[slot].id(), slot);
+    }
+    return built;
+  }
+
+  /**
+   * 상품 하나가 바뀐 새 스냅샷 (락 안에서, item 이 null 이면 제거)
+   */
+  private Snapshot patch(Snapshot current, long id, CatalogItem item) {
+    Integer slot = slotById.get(id);
+    if (slot != null && item != null && current.sameRows(slot, item)) {
+      return current.withStock(slot, item);
+    }
+
+    Snapshot next = current;
+    if (slot != null) {
+      next = next.without(slot);
+      slotById.remove(id);
+    }
+    if (item != null) {
+      next = next.with(item);
+      slotById.put(id, next.itemsBySlot.length - 1);
+    }
+    if (next.deadRows >= MIN_DEAD_ROWS_TO_COMPACT && next.deadRows > next.liveRows.cardinality()) {
+      return build();
+    }
+    return next;
+  }
+
+  private Comparator<CatalogItem> comparator(SortOrder sort) {
+    return switch (sort == null ? SortOrder.LATEST : sort) {
+      case PRICE_ASC -> Comparator.comparingInt(CatalogItem::effectivePrice).thenComparing(LATEST);
+      case PRICE_DESC -> Comparator.comparingInt(CatalogItem::effectivePrice).reversed().thenComparing(LATEST);
+      case NAME -> Comparator.comparing(CatalogItem::name, String.CASE_INSENSITIVE_ORDER).thenComparing(LATEST);
+      case LATEST -> LATEST;
+    };
+  }
+
+  /**
+   * 조회용 스냅샷 (옵션 행 단위 BitSet) - 공개한 뒤에는 바꾸지 않고, 변경은 필요한 부분만 복사한 새 스냅샷으로 만든다.
+   */
+  private static final class Snapshot {
+
+    private final int[] priceBoundaries;
+    private CatalogItem[] itemsBySlot;
+    private String[] lowerNames;
+    // 슬롯 → 첫 행 (마지막 원소는 전체 행 수), 행 → 상품 슬롯, 행 → 판매가
+    private int[] slotStart;
+    private int[] rowItem;
+    private int[] rowPrice;
+    private Map<String, BitSet> sizeRows;
+    private Map<String, BitSet> colorRows;
+    private BitSet onSaleRows;
+    private BitSet inStockRows;
+    private List<BitSet> priceRangeRows;
+    // 지우지 않은 상품의 행
+    private BitSet liveRows;
+    private int deadRows;
+
+    private Snapshot(List<CatalogItem> catalog, int[] priceBoundaries) {
+      this.priceBoundaries = priceBoundaries;
+      this.itemsBySlot = new CatalogItem[0];
+      this.lowerNames = new String[0];
+      this.slotStart = new int[] {0};
+      this.rowItem = new int[0];
+      this.rowPrice = new int[0];
+      this.sizeRows = new TreeMap<>();
+      this.colorRows = new TreeMap<>();
+      this.onSaleRows = new BitSet();
+      this.inStockRows = new BitSet();
+      this.priceRangeRows = new ArrayList<>();
+      for (int i = 0; i <= priceBoundaries.length; i++) {
+        priceRangeRows.add(new BitSet());
+      }
+      this.liveRows = new BitSet();
+      append(catalog);
+    }
+
+    /**
+     * 같은 구조를 공유하는 사본 (바꿀 필드만 복사해서 교체)
+     */
+    private Snapshot(Snapshot base) {
+      this.priceBoundaries = base.priceBoundaries;
+      this.itemsBySlot = base.itemsBySlot;
+      this.lowerNames = base.lowerNames;
+      this.slotStart = base.slotStart;
+      this.rowItem = base.rowItem;
+      this.rowPrice = base.rowPrice;
+      this.sizeRows = base.sizeRows;
+      this.colorRows = base.colorRows;
+      this.onSaleRows = base.onSaleRows;
+      this.inStockRows = base.inStockRows;
+      this.priceRangeRows = base.priceRangeRows;
+      this.liveRows = base.liveRows;
+      this.deadRows = base.deadRows;
+    }
+
+    /**
+     * 이름/가격/할인/옵션 사이즈·색상이 같아 재고 외 행 정보가 그대로인지
+     */
+    private boolean sameRows(int slot, CatalogItem item) {
+      CatalogItem previous = itemsBySlot[slot];
+      if (!Objects.equals(previous.name(), item.name()) || previous.price() != item.price()
+          || previous.sale() != item.sale() || previous.options().size() != item.options().size()) {
+        return false;
+      }
+      for (int i = 0; i < item.options().size(); i++) {
+        Option before = previous.options().get(i);
+        Option after = item.options().get(i);
+        if (!Objects.equals(before.size(), after.size())
+            || !Objects.equals(before.color(), after.color())) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    /**
+     * 재고만 바뀐 상품 반영 (상품 배열과 재고 BitSet 만 복사)
+     */
+    private Snapshot withStock(int slot, CatalogItem item) {
+      Snapshot next = new Snapshot(this);
+      next.itemsBySlot = itemsBySlot.clone();
+      next.itemsBySlot[slot] = item;
+      next.inStockRows = (BitSet) inStockRows.clone();
+      List<Option> options = rows(item);
+      for (int i = 0; i < options.size(); i++) {
+        next.inStockRows.set(slotStart[slot] + i, options.get(i).amount() > 0);
+      }
+      return next;
+    }
+
+    /**
+     * 상품 행 지우기 (행은 남겨 두고 살아 있는 행에서만 뺀다)
+     */
+    private Snapshot without(int slot) {
+      Snapshot next = new Snapshot(this);
+      next.liveRows = (BitSet) liveRows.clone();
+      next.liveRows.clear(slotStart[slot], slotStart[slot + 1]);
+      next.deadRows = deadRows + slotStart[slot + 1] - slotStart[slot];
+      return next;
+    }
+
+    /**
+     * 상품을 새 슬롯으로 끝에 붙이기
+     */
+    private Snapshot with(CatalogItem item) {
+      Snapshot next = new Snapshot(this);
+      next.sizeRows = copy(sizeRows);
+      next.colorRows = copy(colorRows);
+      next.onSaleRows = (BitSet) onSaleRows.clone();
+      next.inStockRows = (BitSet) inStockRows.clone();
+      next.priceRangeRows = priceRangeRows.stream().map(bits -> (BitSet) bits.clone()).toList();
+      next.liveRows = (BitSet) liveRows.clone();
+      next.append(List.of(item));
+      return next;
+    }
+
+    /**
+     * 상품을 끝에 붙이기 (배열은 늘린 사본으로 바꾸고, BitSet 은 호출한 쪽이 이 스냅샷 전용인 것만 넘긴다)
+     */
+    private void append(List<CatalogItem> added) {
+      int firstSlot = itemsBySlot.length;
+      int firstRow = rowItem.length;
+      int rowCount = firstRow + added.stream().mapToInt(item -> rows(item).size()).sum();
+
+      itemsBySlot = Arrays.copyOf(itemsBySlot, firstSlot + added.size());
+      lowerNames = Arrays.copyOf(lowerNames, itemsBySlot.length);
+      slotStart = Arrays.copyOf(slotStart, itemsBySlot.length + 1);
+      rowItem = Arrays.copyOf(rowItem, rowCount);
+      rowPrice = Arrays.copyOf(rowPrice, rowCount);
+
+      int row = firstRow;
+      for (int slot = firstSlot; slot < itemsBySlot.length; slot++) {
+        CatalogItem item = added.get(slot - firstSlot);
+        itemsBySlot[slot] = item;
+        lowerNames[slot] = item.name() == null ? "" : item.name().toLowerCase(Locale.ROOT);
+        slotStart[slot] = row;
+        int priceRange = priceRange(item.effectivePrice(), priceBoundaries);
+
+        for (Option option : rows(item)) {
+          rowItem[row] = slot;
+          rowPrice[row] = item.effectivePrice();
+          if (option.size() != null) {
+            sizeRows.computeIfAbsent(option.size(), key -> new BitSet(rowCount)).set(row);
+          }
+          if (option.color() != null) {
+            colorRows.computeIfAbsent(option.color(), key -> new BitSet(rowCount)).set(row);
+          }
+          if (item.onSale()) {
+            onSaleRows.set(row);
+          }
+          if (option.amount() > 0) {
+            inStockRows.set(row);
+          }
+          priceRangeRows.get(priceRange).set(row);
+          row++;
+        }
+      }
+      slotStart[itemsBySlot.length] = row;
+      liveRows.set(firstRow, rowCount);
+    }
+
+    /**
+     * 상품의 행 (옵션이 없는 상품도 이름/가격 조건으로 찾을 수 있도록 빈 행 하나)
+     */
+    private static List<Option> rows(CatalogItem item) {
+      return item.options().isEmpty() ? List.of(new Option(null, null, null, 0)) : item.options();
+    }
+
+    private static Map<String, BitSet> copy(Map<String, BitSet> facet) {
+      Map<String, BitSet> copied = new TreeMap<>();
+      facet.forEach((value, rows) -> copied.put(value, (BitSet) rows.clone()));
+      return copied;
+    }
+
+    private static int priceRange(int price, int[] boundaries) {
+      int range = 0;
+      while (range < boundaries.length && price >= boundaries[range]) {
+        range++;
+      }
+      return range;
+    }
+
+    private BitSet nameRows(String name) {
+      if (name == null || name.isBlank()) {
+        return null;
+      }
+      String keyword = name.trim().toLowerCase(Locale.ROOT);
+      BitSet rows = new BitSet(rowItem.length);
+      for (int row = 0; row < rowItem.length; row++) {
+        if (lowerNames[rowItem[row]].contains(keyword)) {
+          rows.set(row);
+        }
+      }
+      return rows;
+    }
+
+    /**
+     * 선택한 값 중 하나라도 가진 행 (값이 없으면 조건 없음)
+     */
+    private BitSet valueRows(Map<String, BitSet> facet, Set<String> values, int rowCount) {
+      if (values == null || values.isEmpty()) {
+        return null;
+      }
+      BitSet rows = new BitSet(rowCount);
+      values.stream()
+          .map(facet::get)
+          .filter(bits -> bits != null)
+          .forEach(rows::or);
+      return rows;
+    }
+
+    private BitSet priceRows(Integer minPrice, Integer maxPrice) {
+      if (minPrice == null && maxPrice == null) {
+        return null;
+      }
+      BitSet rows = new BitSet(rowItem.length);
+      for (int row = 0; row < rowPrice.length; row++) {
+        if ((minPrice == null || rowPrice[row] >= minPrice) && (maxPrice == null || rowPrice[row] <= maxPrice)) {
+          rows.set(row);
+        }
+      }
+      return rows;
+    }
+
+    /**
+     * null 이 아닌 조건 모두 AND (조건이 없으면 살아 있는 전체 행)
+     */
+    private BitSet and(BitSet... conditions) {
+      BitSet rows = (BitSet) liveRows.clone();
+      for (BitSet condition : conditions) {
+        if (condition != null) {
+          rows.and(condition);
+        }
+      }
+      return rows;
+    }
+
+    private List<FacetCount> facetCounts(Map<String, BitSet> facet, BitSet rows) {
+      List<FacetCount> counts = new ArrayList<>(facet.size());
+      facet.forEach((value, valueRows) -> {
+        // 지운 상품에만 있던 값은 빼서 전체를 다시 만든 결과와 같게
+        if (valueRows.intersects(liveRows)) {
+          counts.add(new FacetCount(value, countItems(rows, valueRows)));
+        }
+      });
+      return counts;
+    }
+
+    /**
+     * 두 행 집합에 모두 있는 행의 상품 수 (옵션이 여러 개여도 상품 하나로 센다)
+     */
+    private long countItems(BitSet rows, BitSet valueRows) {
+      BitSet slots = new BitSet(itemsBySlot.length);
+      BitSet intersection = (BitSet) rows.clone();
+      intersection.and(valueRows);
+      intersection.stream().forEach(row -> slots.set(rowItem[row]));
+      return slots.cardinality();
+    }
+
+    private List<CatalogItem> distinctItems(BitSet rows) {
+      BitSet slots = new BitSet(itemsBySlot.length);
+      rows.stream().forEach(row -> slots.set(rowItem[row]));
+      List<CatalogItem> result = new ArrayList<>(slots.cardinality());
+      slots.stream().forEach(slot -> result.add(itemsBySlot[slot]));
+      return result;
+    }
+  }
+}
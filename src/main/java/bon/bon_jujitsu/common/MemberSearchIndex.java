@@ -0,0 +1,341 @@
+package bon.bon_jujitsu.common;
+
+import bon.bon_jujitsu.domain.Stripe;
+import bon.bon_jujitsu.domain.UserRole;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 회원 검색 색인 (이름 / 초성 / 아이디 / 전화번호 끝자리) - 지부별로 나눠 보관
+ * - 이름과 초성은 모든 접미사를 정렬된 키로 넣어 접두사 조회로 부분 일치를 찾는다. (예: 김민수 → 김민수, 민수, 수)
+ * - "ㄱㅁㅅ" 처럼 초성만 입력하거나 "김ㅁ" 처럼 섞어 입력해도 찾는다.
+ * - 아이디는 접두사, 전화번호는 끝자리 일치 (뒤집은 숫자를 키로 사용)
+ * - 지부장 조회는 본인 지부 색인만 본다. 지부가 없는 회원은 관리자 전체 조회에서만 보인다.
+ */
+public class MemberSearchIndex {
+
+  private static final char[] CHOSUNG = {
+      'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ', 'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+  };
+  private static final char HANGUL_BEGIN = '가';
+  private static final char HANGUL_END = '힣';
+  private static final int SYLLABLES_PER_CHOSUNG = 588;
+  // 지부가 없는 회원 (관리자 등)
+  private static final long NO_BRANCH = -1L;
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private final Map<Long, Member> members = new HashMap<>();
+  private final Map<Long, Partition> partitions = new HashMap<>();
+  // 재구축 중 변경된 회원 ID (재구축이 DB 에서 읽은 이전 정보로 덮어쓰지 않도록)
+  private Set<Long> changedDuringRebuild;
+
+  /**
+   * 색인 대상 회원 (지부별 역할 포함)
+   */
+  public record Member(long id, String name, String memberId, String phoneNum, Stripe stripe,
+      Map<Long, UserRole> branchRoles) {
+  }
+
+  /**
+   * 회원 색인 (이미 있으면 교체)
+   */
+  public void put(Member member) {
+    lock.writeLock().lock();
+    try {
+      markChanged(member.id());
+      doPut(member);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public void remove(long id) {
+    lock.writeLock().lock();
+    try {
+      markChanged(id);
+      doRemove(id);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return members.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 검색어와 일치하는 회원 ID (최근 가입 순)
+   * @param branchIds 조회할 지부 (null 이면 지부 없는 회원까지 전체)
+   * @param role 지정한 지부 중 한 곳에서 이 역할인 회원만 (null 이면 무시)
+   * @param stripe 벨트 (null 이면 무시)
+   */
+  public List<Long> search(String query, Collection<Long> branchIds, UserRole role, Stripe stripe) {
+    String normalized = normalize(query);
+    if (normalized.isEmpty()) {
+      return List.of();
+    }
+    String queryChosung = containsChosung(normalized) && isHangulOrChosung(normalized) ? chosung(normalized) : null;
+    String reversedDigits = normalized.chars().allMatch(Character::isDigit)
+        ? new StringBuilder(normalized).reverse().toString() : null;
+
+    lock.readLock().lock();
+    try {
+      Collection<Long> targetBranches = branchIds != null ? branchIds : partitions.keySet();
+      boolean includeNoBranch = branchIds == null && role == null;
+
+      Set<Long> matched = new HashSet<>();
+      for (Long branchId : targetBranches) {
+        if (branchId == NO_BRANCH && !includeNoBranch) {
+          continue;
+        }
+        Partition partition = partitions.get(branchId);
+        if (partition == null) {
+          continue;
+        }
+        Set<Long> candidates = new HashSet<>();
+        collectPrefix(partition.names, normalized, candidates);
+        collectPrefix(partition.memberIds, normalized, candidates);
+        if (reversedDigits != null) {
+          collectPrefix(partition.phoneDigits, reversedDigits, candidates);
+        }
+        if (queryChosung != null) {
+          // 초성으로 후보를 찾은 뒤 완성된 글자가 섞여 있으면 원래 이름으로 확인
+          Set<Long> chosungCandidates = new HashSet<>();
+          collectPrefix(partition.chosungs, queryChosung, chosungCandidates);
+          boolean onlyChosung = queryChosung.equals(normalized);
+          chosungCandidates.stream()
+              .filter(id -> onlyChosung || matchesMixed(members.get(id).name(), normalized))
+              .forEach(candidates::add);
+        }
+
+        for (Long id : candidates) {
+          Member member = members.get(id);
+          if ((role == null || member.branchRoles().get(branchId) == role)
+              && (stripe == null || member.stripe() == stripe)) {
+            matched.add(id);
+          }
+        }
+      }
+
+      List<Long> result = new ArrayList<>(matched);
+      result.sort(Comparator.reverseOrder());
+      return result;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * DB 전체 재구축 시작 - 이후 변경된 회원은 재구축 결과보다 우선한다.
+   */
+  public Rebuild startRebuild() {
+    lock.writeLock().lock();
+    try {
+      changedDuringRebuild = new HashSet<>();
+      return new Rebuild();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 재구축 진행 상태 (DB 에서 읽은 회원을 put 하고 마지막에 finish)
+   */
+  public class Rebuild {
+
+    private final Set<Long> loadedIds = new HashSet<>();
+
+    private Rebuild() {
+    }
+
+    public void put(Member member) {
+      lock.writeLock().lock();
+      try {
+        loadedIds.add(member.id());
+        if (!changedDuringRebuild.contains(member.id())) {
+          doPut(member);
+        }
+      } finally {
+        lock.writeLock().unlock();
+      }
+    }
+
+    /**
+     * DB 에 없는 회원(탈퇴 회원) 제거 후 재구축 종료
+     */
+    public void finish() {
+      lock.writeLock().lock();
+      try {
+        List<Long> staleIds = members.keySet().stream()
+            .filter(id -> !loadedIds.contains(id) && !changedDuringRebuild.contains(id))
+            .toList();
+        staleIds.forEach(MemberSearchIndex.this::doRemove);
+        changedDuringRebuild = null;
+      } finally {
+        lock.writeLock().unlock();
+      }
+    }
+  }
+
+  /**
+   * 한글 음절을 초성으로 변환 (초성/그 외 문자는 그대로)
+   */
+  public static String chosung(String text) {
+    StringBuilder result = new StringBuilder(text.length());
+    for (char c : text.toCharArray()) {
+      result.append(isSyllable(c) ? CHOSUNG[(c - HANGUL_BEGIN) / SYLLABLES_PER_CHOSUNG] : c);
+    }
+    return result.toString();
+  }
+
+  // === Private Helper Methods ===
+
+  /**
+   * 지부별 정렬된 검색 키 (키 → 회원 ID)
+   */
+  private static final class Partition {
+
+    private final NavigableMap<String, Set<Long>> names = new TreeMap<>();
+    private final NavigableMap<String, Set<Long>> chosungs = new TreeMap<>();
+    private final NavigableMap<String, Set<Long>> memberIds = new TreeMap<>();
+    private final NavigableMap<String, Set<Long>> phoneDigits = new TreeMap<>();
+
+    private boolean isEmpty() {
+      return names.isEmpty() && chosungs.isEmpty() && memberIds.isEmpty() && phoneDigits.isEmpty();
+    }
+  }
+
+  private void markChanged(long id) {
+    if (changedDuringRebuild != null) {
+      changedDuringRebuild.add(id);
+    }
+  }
+
+  private void doPut(Member member) {
+    doRemove(member.id());
+    members.put(member.id(), member);
+    for (Long branchId : branchKeys(member)) {
+      Partition partition = partitions.computeIfAbsent(branchId, key -> new Partition());
+      forEachKey(member, (keys, key) -> keys.computeIfAbsent(key, k -> new HashSet<>()).add(member.id()),
+          partition);
+    }
+  }
+
+  private void doRemove(long id) {
+    Member member = members.remove(id);
+    if (member == null) {
+      return;
+    }
+    for (Long branchId : branchKeys(member)) {
+      Partition partition = partitions.get(branchId);
+      if (partition == null) {
+        continue;
+      }
+      forEachKey(member, (keys, key) -> {
+        Set<Long> ids = keys.get(key);
+        if (ids != null) {
+          ids.remove(id);
+          if (ids.isEmpty()) {
+            keys.remove(key);
+          }
+        }
+      }, partition);
+      if (partition.isEmpty()) {
+        partitions.remove(branchId);
+      }
+    }
+  }
+
+  private Collection<Long> branchKeys(Member member) {
+    return member.branchRoles().isEmpty() ? List.of(NO_BRANCH) : member.branchRoles().keySet();
+  }
+
+  private void forEachKey(Member member, KeyAction action, Partition partition) {
+    String name = normalize(member.name());
+    String nameChosung = chosung(name);
+    for (int i = 0; i < name.length(); i++) {
+      action.apply(partition.names, name.substring(i));
+      action.apply(partition.chosungs, nameChosung.substring(i));
+    }
+    String memberId = normalize(member.memberId());
+    if (!memberId.isEmpty()) {
+      action.apply(partition.memberIds, memberId);
+    }
+    String digits = member.phoneNum() == null ? "" : member.phoneNum().replaceAll("\\D", "");
+    if (!digits.isEmpty()) {
+      action.apply(partition.phoneDigits, new StringBuilder(digits).reverse().toString());
+    }
+  }
+
+  @FunctionalInterface
+  private interface KeyAction {
+    void apply(NavigableMap<String, Set<Long>> keys, String key);
+  }
+
+  private static void collectPrefix(NavigableMap<String, Set<Long>> keys, String prefix, Set<Long> result) {
+    keys.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values().forEach(result::addAll);
+  }
+
+  /**
+   * 이름의 연속된 부분이 검색어와 일치하는지 (검색어의 초성은 해당 글자의 초성과 비교)
+   */
+  private static boolean matchesMixed(String name, String query) {
+    String normalizedName = normalize(name);
+    for (int start = 0; start + query.length() <= normalizedName.length(); start++) {
+      boolean matched = true;
+      for (int i = 0; i < query.length() && matched; i++) {
+        char q = query.charAt(i);
+        char c = normalizedName.charAt(start + i);
+        matched = isChosung(q) ? chosung(String.valueOf(c)).charAt(0) == q : c == q;
+      }
+      if (matched) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static String normalize(String text) {
+    if (text == null) {
+      return "";
+    }
+    return text.replaceAll("[\\s-]", "").toLowerCase(Locale.ROOT);
+  }
+
+  private static boolean containsChosung(String text) {
+    return text.chars().anyMatch(c -> isChosung((char) c));
+  }
+
+  private static boolean isHangulOrChosung(String text) {
+    return text.chars().allMatch(c -> isSyllable((char) c) || isChosung((char) c));
+  }
+
+  private static boolean isSyllable(char c) {
+    return c >= HANGUL_BEGIN && c <= HANGUL_END;
+  }
+
+  private static boolean isChosung(char c) {
+    for (char chosung : CHOSUNG) {
+      if (chosung == c) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
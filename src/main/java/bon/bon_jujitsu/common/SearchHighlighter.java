@@ -0,0 +1,87 @@
+package bon.bon_jujitsu.common;
+
+import java.util.Collection;
+import java.util.Locale;
+
+/**
+ * 검색 결과 강조 - 원문(HTML 제거)에서 검색 토큰이 나온 구간을 <em> 으로 감싼다.
+ * - 이어진 토큰(가드, 드패, 패스)은 한 구간(가드패스)으로 합쳐진다.
+ * - 강조 태그 외의 문자는 HTML 이스케이프한다.
+ */
+public final class SearchHighlighter {
+
+  private static final String ELLIPSIS = "…";
+
+  private SearchHighlighter() {
+  }
+
+  /**
+   * 전체 문자열 강조 (제목용)
+   */
+  public static String highlight(String text, Collection<String> terms) {
+    return highlight(text, terms, Integer.MAX_VALUE);
+  }
+
+  /**
+   * 첫 번째 강조 구간 주변 maxLength 글자만 잘라 강조 (본문 미리보기용)
+   */
+  public static String highlight(String text, Collection<String> terms, int maxLength) {
+    String plain = BigramIndex.normalize(text);
+    String lower = plain.toLowerCase(Locale.ROOT);
+    boolean[] marked = new boolean[plain.length()];
+
+    // 소문자 변환으로 길이가 달라지는 특수 문자가 있으면 강조 생략
+    if (lower.length() == plain.length()) {
+      for (String term : terms) {
+        for (int from = lower.indexOf(term); from >= 0; from = lower.indexOf(term, from + 1)) {
+          for (int i = from; i < from + term.length(); i++) {
+            marked[i] = true;
+          }
+        }
+      }
+    }
+
+    int start = 0;
+    int end = plain.length();
+    if (plain.length() > maxLength) {
+      int first = 0;
+      while (first < marked.length && !marked[first]) {
+        first++;
+      }
+      // 강조 구간 앞쪽 문맥을 1/4 정도 남긴다.
+      start = first == marked.length ? 0 : Math.max(0, Math.min(first - maxLength / 4, plain.length() - maxLength));
+      end = start + maxLength;
+    }
+
+    StringBuilder result = new StringBuilder(end - start + 32);
+    if (start > 0) {
+      result.append(ELLIPSIS);
+    }
+    for (int i = start; i < end; i++) {
+      if (marked[i] && (i == start || !marked[i - 1])) {
+        result.append("<em>");
+      }
+      appendEscaped(result, plain.charAt(i));
+      if (marked[i] && (i == end - 1 || !marked[i + 1])) {
+        result.append("</em>");
+      }
+    }
+    if (end < plain.length()) {
+      result.append(ELLIPSIS);
+    }
+    return result.toString();
+  }
+
+  // === Private Helper Methods ===
+
+  private static void appendEscaped(StringBuilder result, char c) {
+    switch (c) {
+      case '<' -> result.append("&lt;");
+      case '>' -> result.append("&gt;");
+      case '&' -> result.append("&amp;");
+      case '"' -> result.append("&quot;");
+      case '\'' -> result.append("&#39;");
+      default -> result.append(c);
+    }
+  }
+}
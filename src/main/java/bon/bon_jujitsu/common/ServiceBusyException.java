@@ -0,0 +1,11 @@
+package bon.bon_jujitsu.common;
+
+/**
+ * 서버 자원이 부족해 요청을 처리할 수 없을 때 (503 으로 응답)
+ */
+public class ServiceBusyException extends RuntimeException {
+
+  public ServiceBusyException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,194 @@
+package bon.bon_jujitsu.common;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 최근 window 동안의 조회/댓글 수로 점수를 매기는 순위표 (ORDER BY 없이 상위 K 개 조회)
+ * - window 를 bucket-count 개 시간 구간으로 나눠 ID 별로 구간마다 조회/댓글 수를 센다.
+ * - 이벤트가 들어올 때마다 해당 ID 의 점수만 다시 계산해 정렬된 집합에서 위치를 옮긴다. (O(log n))
+ * - 구간이 바뀌면 한 번 전체 점수를 다시 계산하고, 점수가 0 이 된 ID 는 제거한다.
+ */
+public class SlidingWindowRanking {
+
+  private static final Comparator<Ranked> ORDER = Comparator.comparingLong(Ranked::score).reversed()
+      .thenComparing(Comparator.comparingLong(Ranked::id).reversed());
+
+  private final int bucketCount;
+  private final long bucketMillis;
+  private final long viewWeight;
+  private final long commentWeight;
+  private final Map<Long, Counter> counters = new ConcurrentHashMap<>();
+  private final ConcurrentSkipListSet<Ranked> ranking = new ConcurrentSkipListSet<>(ORDER);
+  private volatile long currentBucket;
+
+  /**
+   * 순위 항목 (window 안의 조회 수, 댓글 수, 가중치를 적용한 점수)
+   */
+  public record Ranked(long id, long views, long comments, long score) {
+  }
+
+  public SlidingWindowRanking(long windowMillis, int bucketCount, long viewWeight, long commentWeight) {
+    if (bucketCount < 1 || windowMillis < bucketCount) {
+      throw new IllegalArgumentException("순위 집계 설정이 올바르지 않습니다.");
+    }
+    this.bucketCount = bucketCount;
+    this.bucketMillis = windowMillis / bucketCount;
+    this.viewWeight = viewWeight;
+    this.commentWeight = commentWeight;
+    this.currentBucket = System.currentTimeMillis() / bucketMillis;
+  }
+
+  public void recordViews(long id, long timeMillis, long count) {
+    record(id, timeMillis, count, 0);
+  }
+
+  public void recordComments(long id, long timeMillis, long count) {
+    record(id, timeMillis, 0, count);
+  }
+
+  public void remove(long id) {
+    Counter counter = counters.remove(id);
+    if (counter != null) {
+      synchronized (counter) {
+        counter.removed = true;
+        if (counter.ranked != null) {
+          ranking.remove(counter.ranked);
+        }
+      }
+    }
+  }
+
+  public void clear() {
+    counters.keySet().forEach(this::remove);
+  }
+
+  /**
+   * 점수 높은 순 상위 limit 개 (ID 중복 없음)
+   * - 순회 중에 점수가 바뀐 ID 는 이전 위치에서 빠지고 새 위치에 다시 들어가므로 두 번 보일 수 있다.
+   *   먼저 본 항목만 남기고, 중복이 자리를 차지하지 않도록 서로 다른 ID 가 limit 개 모일 때까지 읽는다.
+   */
+  public List<Ranked> top(int limit) {
+    advance();
+    List<Ranked> result = new ArrayList<>(limit);
+    Set<Long> seen = new HashSet<>();
+    for (Ranked ranked : ranking) {
+      if (result.size() >= limit) {
+        break;
+      }
+      if (seen.add(ranked.id())) {
+        result.add(ranked);
+      }
+    }
+    return result;
+  }
+
+  // === Private Helper Methods ===
+
+  private void record(long id, long timeMillis, long views, long comments) {
+    long now = advance();
+    long bucket = Math.min(timeMillis / bucketMillis, now);
+    if (bucket <= now - bucketCount) {
+      return;
+    }
+
+    while (true) {
+      Counter counter = counters.computeIfAbsent(id, key -> new Counter(key, bucketCount));
+      synchronized (counter) {
+        // 구간 교체 중 제거된 카운터면 새로 만들어 다시 시도
+        if (counter.removed) {
+          continue;
+        }
+        int slot = (int) Math.floorMod(bucket, (long) bucketCount);
+        if (counter.bucketIds[slot] > bucket) {
+          // 같은 자리에 더 최근 구간이 있으면 이미 window 밖의 값
+          return;
+        }
+        if (counter.bucketIds[slot] < bucket) {
+          counter.bucketIds[slot] = bucket;
+          counter.views[slot] = 0;
+          counter.comments[slot] = 0;
+        }
+        counter.views[slot] += views;
+        counter.comments[slot] += comments;
+        rescore(counter, now);
+        return;
+      }
+    }
+  }
+
+  /**
+   * 현재 구간 번호 (구간이 바뀌었으면 전체 점수를 다시 계산)
+   */
+  private long advance() {
+    long now = System.currentTimeMillis() / bucketMillis;
+    if (now != currentBucket) {
+      synchronized (this) {
+        if (now != currentBucket) {
+          currentBucket = now;
+          for (Counter counter : counters.values()) {
+            synchronized (counter) {
+              if (counter.removed) {
+                continue;
+              }
+              rescore(counter, now);
+              if (counter.ranked.score() == 0) {
+                counter.removed = true;
+                ranking.remove(counter.ranked);
+                counters.remove(counter.id, counter);
+              }
+            }
+          }
+        }
+      }
+    }
+    return now;
+  }
+
+  private void rescore(Counter counter, long now) {
+    long views = 0;
+    long comments = 0;
+    for (int i = 0; i < bucketCount; i++) {
+      if (counter.bucketIds[i] > now - bucketCount) {
+        views += counter.views[i];
+        comments += counter.comments[i];
+      }
+    }
+    Ranked next = new Ranked(counter.id, views, comments, views * viewWeight + comments * commentWeight);
+    if (counter.ranked != null) {
+      ranking.remove(counter.ranked);
+    }
+    counter.ranked = next;
+    if (next.score() > 0) {
+      ranking.add(next);
+    }
+  }
+
+  /**
+   * ID 별 구간 카운터 (counter 자체로 동기화)
+   */
+  private static final class Counter {
+
+    private final long id;
+    private final long[] bucketIds;
+    private final long[] views;
+    private final long[] comments;
+    private Ranked ranked;
+    private boolean removed;
+
+    private Counter(long id, int bucketCount) {
+      this.id = id;
+      this.bucketIds = new long[bucketCount];
+      this.views = new long[bucketCount];
+      this.comments = new long[bucketCount];
+      Arrays.fill(bucketIds, Long.MIN_VALUE);
+    }
+  }
+}
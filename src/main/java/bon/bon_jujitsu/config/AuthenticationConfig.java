@@ -0,0 +1,33 @@
+package bon.bon_jujitsu.config;
+
+import bon.bon_jujitsu.filter.PublicRouteMatcher;
+import bon.bon_jujitsu.filter.PublicRouteProperties;
+import bon.bon_jujitsu.filter.RateLimitProperties;
+import bon.bon_jujitsu.jwt.JwtKeyRing;
+import bon.bon_jujitsu.jwt.JwtKeyRingProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+@Configuration
+@EnableConfigurationProperties({PublicRouteProperties.class, JwtKeyRingProperties.class,
+    RateLimitProperties.class, PasswordHashingProperties.class})
+public class AuthenticationConfig {
+
+  /**
+   * 공개 경로 규칙을 활성 프로필 기준으로 한 번만 컴파일
+   */
+  @Bean
+  public PublicRouteMatcher publicRouteMatcher(PublicRouteProperties properties, Environment environment) {
+    return PublicRouteMatcher.compile(properties.getRules(), environment::matchesProfiles);
+  }
+
+  /**
+   * JWT 서명 키 묶음 (종료 시 close() 로 교체 스케줄 정리)
+   */
+  @Bean
+  public JwtKeyRing jwtKeyRing(JwtKeyRingProperties properties) {
+    return JwtKeyRing.load(properties);
+  }
+}
@@ -0,0 +1,124 @@
+package bon.bon_jujitsu.config;
+
+import bon.bon_jujitsu.cache.CacheInvalidationBus;
+import bon.bon_jujitsu.cache.CacheInvalidationPublisher;
+import bon.bon_jujitsu.cache.CacheProperties;
+import bon.bon_jujitsu.cache.CacheRefresher;
+import bon.bon_jujitsu.cache.ResponseCacheProperties;
+import bon.bon_jujitsu.cache.TwoTierCacheManager;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.JacksonObjectReader;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Configuration
+@EnableCaching
+@EnableConfigurationProperties({CacheProperties.class, ResponseCacheProperties.class})
+public class CacheConfig {
+
+  @Bean
+  public TwoTierCacheManager cacheManager(RedisConnectionFactory connectionFactory, CacheProperties cacheProperties,
+      CacheRefresher cacheRefresher, CacheInvalidationBus cacheInvalidationBus) {
+    boolean syncEnabled = cacheProperties.getSync().isEnabled();
+    CacheInvalidationPublisher publisher = syncEnabled ? cacheInvalidationBus : CacheInvalidationPublisher.NONE;
+
+    TwoTierCacheManager cacheManager = new TwoTierCacheManager(cacheProperties,
+        createCacheRedisTemplate(connectionFactory), cacheRefresher, publisher);
+    if (syncEnabled) {
+      cacheInvalidationBus.bind(cacheManager);
+    }
+    return cacheManager;
+  }
+
+  @Bean
+  public CacheInvalidationBus cacheInvalidationBus(RedisTemplate<String, String> redisTemplate,
+      CacheProperties cacheProperties) {
+    return new CacheInvalidationBus(redisTemplate, cacheProperties.getSync());
+  }
+
+  /**
+   * 무효화 채널 구독 - 발행 순서대로 적용되도록 구독 스레드에서 바로 처리
+   */
+  @Bean
+  @ConditionalOnProperty(prefix = "app.cache.sync", name = "enabled", havingValue = "true", matchIfMissing = true)
+  public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+      CacheInvalidationBus cacheInvalidationBus) {
+    RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+    container.setConnectionFactory(connectionFactory);
+    container.setTaskExecutor(new SyncTaskExecutor());
+    container.addMessageListener(cacheInvalidationBus, new ChannelTopic(cacheInvalidationBus.getChannel()));
+    return container;
+  }
+
+  /**
+   * refresh-ahead 재적재 실행기 (종료 시 close() 로 스레드 정리)
+   */
+  @Bean
+  public CacheRefresher cacheRefresher(PlatformTransactionManager transactionManager) {
+    return new CacheRefresher(new TransactionTemplate(transactionManager), 2);
+  }
+
+  /**
+   * L2 캐시 전용 RedisTemplate (값은 타입 정보를 포함한 JSON 으로 저장)
+   * - 빈으로 등록하지 않아 기존 RedisTemplate<String, String> 주입에 영향을 주지 않는다.
+   */
+  private RedisTemplate<String, Object> createCacheRedisTemplate(RedisConnectionFactory connectionFactory) {
+    RedisTemplate<String, Object> template = new RedisTemplate<>();
+    template.setConnectionFactory(connectionFactory);
+    template.setKeySerializer(new StringRedisSerializer());
+    template.setValueSerializer(cacheValueSerializer());
+    template.afterPropertiesSet();
+    return template;
+  }
+
+  /**
+   * L2 캐시 값 직렬화기
+   * - NON_FINAL 타입 정보는 선언 타입이 final 이 아닐 때만 붙으므로, 최상위 값은 Object 로 선언해 써야
+   *   record/List.of 처럼 final 인 값에도 클래스 정보가 남는다.
+   */
+  static GenericJackson2JsonRedisSerializer cacheValueSerializer() {
+    return new GenericJackson2JsonRedisSerializer(cacheObjectMapper(), JacksonObjectReader.create(),
+        (mapper, source) -> mapper.writerFor(Object.class).writeValueAsBytes(source));
+  }
+
+  private static ObjectMapper cacheObjectMapper() {
+    PolymorphicTypeValidator typeValidator = BasicPolymorphicTypeValidator.builder()
+        .allowIfSubType("bon.bon_jujitsu.")
+        .allowIfSubType("java.util.")
+        .allowIfSubType("java.time.")
+        .allowIfSubType("java.lang.")
+        .allowIfSubType("org.springframework.cache.support.")
+        .build();
+
+    ObjectMapper objectMapper = new ObjectMapper();
+    objectMapper.registerModule(new JavaTimeModule());
+    objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    objectMapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    // DTO(record)와 엔티티 모두 getter/setter 없이 필드 기준으로 직렬화
+    objectMapper.setVisibility(PropertyAccessor.GETTER, JsonAutoDetect.Visibility.NONE);
+    objectMapper.setVisibility(PropertyAccessor.IS_GETTER, JsonAutoDetect.Visibility.NONE);
+    objectMapper.setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY);
+    objectMapper.activateDefaultTyping(typeValidator, ObjectMapper.DefaultTyping.NON_FINAL, JsonTypeInfo.As.PROPERTY);
+    return objectMapper;
+  }
+}
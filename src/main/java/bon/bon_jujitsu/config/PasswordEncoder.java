@@ -1,17 +1,156 @@
 package bon.bon_jujitsu.config;
 
 import at.favre.lib.crypto.bcrypt.BCrypt;
+import bon.bon_jujitsu.common.ServiceBusyException;
+import bon.bon_jujitsu.dto.response.PasswordHashingStatsResponse;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+/**
+ * bcrypt 해시/검증
+ * - 요청 스레드(Tomcat) 대신 크기가 정해진 전용 풀에서 실행해, 로그인이 몰려도 워커 스레드가 모두 묶이지 않게 한다.
+ * - 대기열이 가득 차거나 제한 시간을 넘기면 {@link ServiceBusyException} (503)
+ */
+@Slf4j
 @Component
-public class PasswordEncoder {
+public class PasswordEncoder implements AutoCloseable {
+
+  private final int cost;
+  private final long timeoutNanos;
+  private final int queueCapacity;
+  private final ThreadPoolExecutor executor;
+
+  private final LongAdder rejected = new LongAdder();
+  private final LongAdder timeouts = new LongAdder();
+  private final LongAdder rehashed = new LongAdder();
+  private final LongAdder waitNanos = new LongAdder();
+  private final LongAdder runNanos = new LongAdder();
+  private final LongAdder finished = new LongAdder();
+
+  public PasswordEncoder(PasswordHashingProperties properties) {
+    if (properties.getCost() < BCrypt.MIN_COST || properties.getCost() > BCrypt.MAX_COST) {
+      throw new IllegalArgumentException("bcrypt cost 는 " + BCrypt.MIN_COST + "~" + BCrypt.MAX_COST + " 사이여야 합니다.");
+    }
+    this.cost = properties.getCost();
+    this.timeoutNanos = properties.getTimeout().toNanos();
+    this.queueCapacity = properties.getQueueCapacity();
+
+    AtomicInteger threadNumber = new AtomicInteger();
+    int threads = Math.max(1, properties.getThreads());
+    this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+        runnable -> {
+          Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        },
+        new ThreadPoolExecutor.AbortPolicy());
+  }
 
   public String encode(String password) {
-    return BCrypt.withDefaults().hashToString(BCrypt.MIN_COST, password.toCharArray());
+    return execute(() -> BCrypt.withDefaults().hashToString(cost, password.toCharArray()));
   }
 
   public boolean matches(String rawPassword, String encodedPassword) {
-    BCrypt.Result result = BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword);
-    return result.verified;
+    return execute(() -> BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword).verified);
+  }
+
+  /**
+   * 저장된 해시의 cost 가 설정값보다 낮은지 (검증에 성공한 뒤 재해시 여부 판단용)
+   */
+  public boolean needsRehash(String encodedPassword) {
+    // $2a$10$... 형식의 4~5번째 문자가 cost
+    if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$') {
+      return false;
+    }
+    try {
+      int storedCost = Integer.parseInt(encodedPassword.substring(4, 6));
+      return storedCost < cost;
+    } catch (NumberFormatException e) {
+      return false;
+    }
+  }
+
+  /**
+   * 로그인 성공 후 낮은 cost 의 해시를 현재 설정으로 다시 만든다.
+   */
+  public String rehash(String rawPassword) {
+    String encoded = encode(rawPassword);
+    rehashed.increment();
+    return encoded;
+  }
+
+  public PasswordHashingStatsResponse stats() {
+    long count = finished.sum();
+    return new PasswordHashingStatsResponse(
+        cost,
+        executor.getPoolSize(),
+        executor.getActiveCount(),
+        executor.getQueue().size(),
+        queueCapacity,
+        executor.getCompletedTaskCount(),
+        rejected.sum(),
+        timeouts.sum(),
+        rehashed.sum(),
+        count == 0 ? 0 : waitNanos.sum() / 1_000_000.0 / count,
+        count == 0 ? 0 : runNanos.sum() / 1_000_000.0 / count
+    );
+  }
+
+  @Override
+  public void close() {
+    executor.shutdownNow();
+  }
+
+  // === Private Helper Methods ===
+
+  private <T> T execute(Callable<T> task) {
+    long submittedAt = System.nanoTime();
+    Future<T> future;
+    try {
+      future = executor.submit(() -> {
+        long startedAt = System.nanoTime();
+        try {
+          return task.call();
+        } finally {
+          long endedAt = System.nanoTime();
+          waitNanos.add(startedAt - submittedAt);
+          runNanos.add(endedAt - startedAt);
+          finished.increment();
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      rejected.increment();
+      log.warn("비밀번호 처리 대기열 초과 (queued={})", executor.getQueue().size());
+      throw new ServiceBusyException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    try {
+      return future.get(timeoutNanos, TimeUnit.NANOSECONDS);
+    } catch (TimeoutException e) {
+      future.cancel(true);
+      timeouts.increment();
+      log.warn("비밀번호 처리 시간 초과");
+      throw new ServiceBusyException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+    } catch (InterruptedException e) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new ServiceBusyException("요청 처리가 중단되었습니다.");
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException(e.getCause());
+    }
   }
-}
\ No newline at end of file
+}
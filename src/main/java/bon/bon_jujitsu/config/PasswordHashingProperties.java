@@ -0,0 +1,24 @@
+package bon.bon_jujitsu.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * app.password.* 설정 (bcrypt 비용 및 전용 스레드 풀)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.password")
+public class PasswordHashingProperties {
+
+  // bcrypt cost (저장된 해시의 cost 가 이보다 낮으면 로그인 시 재해시)
+  private int cost = 10;
+  // 해시/검증 전용 스레드 수 (기본: CPU 코어 수)
+  private int threads = Runtime.getRuntime().availableProcessors();
+  // 대기열 최대 길이 (초과 요청은 바로 거절)
+  private int queueCapacity = 64;
+  // 대기 + 실행 최대 시간
+  private Duration timeout = Duration.ofSeconds(5);
+}
@@ -1,9 +1,13 @@
 package bon.bon_jujitsu.config;
 
+import bon.bon_jujitsu.common.IndexRefreshBus;
+import bon.bon_jujitsu.jwt.BlacklistBloomFilter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
@@ -16,4 +20,28 @@ public class RedisConfig {
     template.setValueSerializer(new StringRedisSerializer());
     return template;
   }
+
+  /**
+   * 다른 노드에서 추가된 블랙리스트 토큰 해시 구독
+   */
+  @Bean
+  public RedisMessageListenerContainer blacklistListenerContainer(RedisConnectionFactory connectionFactory,
+      BlacklistBloomFilter blacklistBloomFilter) {
+    RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+    container.setConnectionFactory(connectionFactory);
+    container.addMessageListener(blacklistBloomFilter, new ChannelTopic(blacklistBloomFilter.getChannel()));
+    return container;
+  }
+
+  /**
+   * 다른 노드에서 바뀐 메모리 색인 항목 구독
+   */
+  @Bean
+  public RedisMessageListenerContainer indexRefreshListenerContainer(RedisConnectionFactory connectionFactory,
+      IndexRefreshBus indexRefreshBus) {
+    RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+    container.setConnectionFactory(connectionFactory);
+    container.addMessageListener(indexRefreshBus, new ChannelTopic(indexRefreshBus.getChannel()));
+    return container;
+  }
 }
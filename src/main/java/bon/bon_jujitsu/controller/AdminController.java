@@ -6,6 +6,7 @@ import bon.bon_jujitsu.dto.request.UserRoleRequest;
 import bon.bon_jujitsu.dto.common.ApiResponse;
 import bon.bon_jujitsu.dto.common.PageResponse;
 import bon.bon_jujitsu.dto.request.GetAllUserRequest;
+import bon.bon_jujitsu.dto.response.PasswordHashingStatsResponse;
 import bon.bon_jujitsu.dto.response.UserResponse;
 import bon.bon_jujitsu.dto.update.UserBranchUpdate;
 import bon.bon_jujitsu.dto.update.UserInfoUpdate;
@@ -41,10 +42,11 @@ public class AdminController {
       @RequestParam(required = false) String name,
       @RequestParam(required = false) UserRole role,
       @RequestParam(required = false) List<Long> branchIds,
-      @RequestParam(required = false) Stripe stripe
+      @RequestParam(required = false) Stripe stripe,
+      @RequestParam(defaultValue = "true", name = "count") boolean count
   ) {
     GetAllUserRequest request = new GetAllUserRequest(name, role, branchIds, stripe);
-    PageResponse<UserResponse> response = userService.getUsers(page, size, userId, request);
+    PageResponse<UserResponse> response = userService.getUsers(page, size, userId, request, count);
     return ApiResponse.success("회원 조회 성공", response);
   }
 
@@ -75,4 +77,19 @@ public class AdminController {
     userService.updateUserInfo(userId, update);
     return ApiResponse.success("회원 정보 업데이트 완료", null);
   }
+
+  @GetMapping("/password-hashing/stats")
+  public ApiResponse<PasswordHashingStatsResponse> getPasswordHashingStats(
+      @AuthenticationUserId Long userId
+  ) {
+    return ApiResponse.success("비밀번호 처리 통계 조회 성공", userService.getPasswordHashingStats(userId));
+  }
+
+  @PostMapping("/member-search/rebuild")
+  public ApiResponse<Void> rebuildMemberSearch(
+      @AuthenticationUserId Long userId
+  ) {
+    userService.rebuildMemberSearch(userId);
+    return ApiResponse.success("회원 검색 색인 재구축 요청 완료", null);
+  }
 }
@@ -1,12 +1,16 @@
 package bon.bon_jujitsu.controller;
 
+import bon.bon_jujitsu.domain.PostType;
 import bon.bon_jujitsu.dto.common.ApiResponse;
+import bon.bon_jujitsu.dto.common.CursorResponse;
 import bon.bon_jujitsu.dto.common.PageResponse;
 import bon.bon_jujitsu.dto.request.BoardRequest;
 import bon.bon_jujitsu.dto.response.BoardResponse;
+import bon.bon_jujitsu.dto.response.TrendingPostResponse;
 import bon.bon_jujitsu.dto.update.BoardUpdate;
 import bon.bon_jujitsu.resolver.AuthenticationUserId;
 import bon.bon_jujitsu.service.BoardService;
+import bon.bon_jujitsu.service.TrendingService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import java.util.List;
@@ -28,6 +32,7 @@ import org.springframework.web.multipart.MultipartFile;
 public class BoardController {
 
   private final BoardService boardService;
+  private final TrendingService trendingService;
 
   @PostMapping("/board/{branchId}")
   public ApiResponse<Void> createBoard(
@@ -45,12 +50,30 @@ public class BoardController {
       @RequestParam(defaultValue = "0", name = "page") int page,
       @RequestParam(defaultValue = "10", name = "size") int size,
       @RequestParam(required = false) String name,
-      @RequestParam(required = false) Long branchId
+      @RequestParam(required = false) Long branchId,
+      @RequestParam(defaultValue = "true", name = "count") boolean count
   ) {
-    PageResponse<BoardResponse> boardList = boardService.getBoards(page, size, name, branchId);
+    PageResponse<BoardResponse> boardList = boardService.getBoards(page, size, name, branchId, count);
     return ApiResponse.success("게시판 목록 조회 성공", boardList);
   }
 
+  @GetMapping("/board/cursor")
+  public ApiResponse<CursorResponse<BoardResponse>> getBoardsByCursor(
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "10", name = "size") int size,
+      @RequestParam(required = false) String name,
+      @RequestParam(required = false) Long branchId
+  ) {
+    return ApiResponse.success("게시판 목록 조회 성공", boardService.getBoardsByCursor(cursor, size, name, branchId));
+  }
+
+  @GetMapping("/board/trending")
+  public ApiResponse<List<TrendingPostResponse>> getTrendingBoard(
+      @RequestParam(defaultValue = "10", name = "size") int size
+  ) {
+    return ApiResponse.success("인기 게시판 조회 성공", trendingService.getTrending(PostType.BOARD, size));
+  }
+
   @GetMapping("/board/{boardId}")
   public ApiResponse<BoardResponse> getBoard(
       @PathVariable("boardId") Long boardId,
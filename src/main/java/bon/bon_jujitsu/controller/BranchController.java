@@ -5,8 +5,10 @@ import bon.bon_jujitsu.dto.common.PageResponse;
 import bon.bon_jujitsu.dto.request.BranchRequest;
 import bon.bon_jujitsu.dto.response.BranchCheckResponse;
 import bon.bon_jujitsu.dto.response.BranchResponse;
+import bon.bon_jujitsu.dto.response.NearbyBranchResponse;
 import bon.bon_jujitsu.dto.update.BranchUpdate;
 import bon.bon_jujitsu.resolver.AuthenticationUserId;
+import bon.bon_jujitsu.service.BranchLocationService;
 import bon.bon_jujitsu.service.BranchService;
 import jakarta.validation.Valid;
 import java.util.List;
@@ -28,6 +30,7 @@ import org.springframework.web.multipart.MultipartFile;
 public class BranchController {
 
   private final BranchService branchService;
+  private final BranchLocationService branchLocationService;
 
   @PostMapping("/branch")
   public ApiResponse<Void> createBranch(
@@ -51,6 +54,17 @@ public class BranchController {
     return ApiResponse.success("세부 지역 목록 조회 성공", regions);
   }
 
+  @GetMapping("/branch/nearby")
+  public ApiResponse<List<NearbyBranchResponse>> getNearbyBranches(
+      @RequestParam double latitude,
+      @RequestParam double longitude,
+      @RequestParam(defaultValue = "5") int limit,
+      @RequestParam(required = false) Double radiusKm
+  ) {
+    List<NearbyBranchResponse> branches = branchLocationService.findNearby(latitude, longitude, limit, radiusKm);
+    return ApiResponse.success("가까운 지부 조회 성공", branches);
+  }
+
   @GetMapping("/branch/{branchId}")
   public ApiResponse<BranchResponse> getBranch(
       @PathVariable("branchId") Long branchId
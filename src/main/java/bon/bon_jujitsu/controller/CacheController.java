@@ -0,0 +1,26 @@
+package bon.bon_jujitsu.controller;
+
+import bon.bon_jujitsu.dto.common.ApiResponse;
+import bon.bon_jujitsu.dto.response.CacheStatsResponse;
+import bon.bon_jujitsu.resolver.AuthenticationUserId;
+import bon.bon_jujitsu.service.CacheStatsService;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/cache")
+@RequiredArgsConstructor
+public class CacheController {
+
+  private final CacheStatsService cacheStatsService;
+
+  @GetMapping("/stats")
+  public ApiResponse<List<CacheStatsResponse>> getCacheStats(
+      @AuthenticationUserId Long userId
+  ) {
+    return ApiResponse.success("캐시 통계 조회 성공", cacheStatsService.getCacheStats(userId));
+  }
+}
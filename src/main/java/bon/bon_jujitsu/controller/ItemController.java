@@ -1,10 +1,13 @@
 package bon.bon_jujitsu.controller;
 
+import bon.bon_jujitsu.common.ItemCatalogIndex;
 import bon.bon_jujitsu.dto.common.ApiResponse;
 import bon.bon_jujitsu.dto.common.PageResponse;
 import bon.bon_jujitsu.dto.request.ItemRequest;
+import bon.bon_jujitsu.dto.request.ItemSearchRequest;
 import bon.bon_jujitsu.dto.response.ItemCheckResponse;
 import bon.bon_jujitsu.dto.response.ItemResponse;
+import bon.bon_jujitsu.dto.response.ItemSearchResponse;
 import bon.bon_jujitsu.dto.update.ItemUpdate;
 import bon.bon_jujitsu.resolver.AuthenticationUserId;
 import bon.bon_jujitsu.service.ItemService;
@@ -50,6 +53,32 @@ public class ItemController {
     return ApiResponse.success("상품 목록 조회 성공", itemList);
   }
 
+  @GetMapping("/items/search")
+  public ApiResponse<ItemSearchResponse> searchItems(
+      @AuthenticationUserId Long userId,
+      @RequestParam(defaultValue = "1", name = "page") int page,
+      @RequestParam(defaultValue = "10", name = "size") int size,
+      @RequestParam(required = false) String name,
+      @RequestParam(required = false) List<String> sizes,
+      @RequestParam(required = false) List<String> colors,
+      @RequestParam(required = false) Integer minPrice,
+      @RequestParam(required = false) Integer maxPrice,
+      @RequestParam(defaultValue = "false") boolean onSale,
+      @RequestParam(defaultValue = "false") boolean inStock,
+      @RequestParam(defaultValue = "LATEST") ItemCatalogIndex.SortOrder sort
+  ) {
+    ItemSearchRequest request = new ItemSearchRequest(name, sizes, colors, minPrice, maxPrice, onSale, inStock, sort);
+    return ApiResponse.success("상품 검색 성공", itemService.searchItems(page, size, userId, request));
+  }
+
+  @PostMapping("/items/search/rebuild")
+  public ApiResponse<Void> rebuildCatalog(
+      @AuthenticationUserId Long userId
+  ) {
+    itemService.rebuildCatalog(userId);
+    return ApiResponse.success("상품 검색 색인 재구축 요청 완료", null);
+  }
+
   @GetMapping("/items/{itemId}")
   public ApiResponse<ItemResponse> getItem (
       @PathVariable("itemId") Long itemId,
@@ -1,12 +1,16 @@
 package bon.bon_jujitsu.controller;
 
+import bon.bon_jujitsu.domain.PostType;
 import bon.bon_jujitsu.dto.common.ApiResponse;
+import bon.bon_jujitsu.dto.common.CursorResponse;
 import bon.bon_jujitsu.dto.common.PageResponse;
 import bon.bon_jujitsu.dto.request.NewsRequest;
 import bon.bon_jujitsu.dto.response.NewsResponse;
+import bon.bon_jujitsu.dto.response.TrendingPostResponse;
 import bon.bon_jujitsu.dto.update.NewsUpdate;
 import bon.bon_jujitsu.resolver.AuthenticationUserId;
 import bon.bon_jujitsu.service.NewsService;
+import bon.bon_jujitsu.service.TrendingService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import java.util.List;
@@ -30,6 +34,7 @@ import org.springframework.web.multipart.MultipartFile;
 public class NewsController {
 
   private final NewsService newsService;
+  private final TrendingService trendingService;
 
   @PostMapping("/news")
   public ApiResponse<Void> createNews(
@@ -51,6 +56,22 @@ public class NewsController {
     return ApiResponse.success("뉴스 목록 조회 성공", newsList);
   }
 
+  @GetMapping("/news/cursor")
+  public ApiResponse<CursorResponse<NewsResponse>> getNewsByCursor(
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "10", name = "size") int size,
+      @RequestParam(required = false) String name
+  ) {
+    return ApiResponse.success("뉴스 목록 조회 성공", newsService.getNewsByCursor(cursor, size, name));
+  }
+
+  @GetMapping("/news/trending")
+  public ApiResponse<List<TrendingPostResponse>> getTrendingNews(
+      @RequestParam(defaultValue = "10", name = "size") int size
+  ) {
+    return ApiResponse.success("인기 뉴스 조회 성공", trendingService.getTrending(PostType.NEWS, size));
+  }
+
   @GetMapping("/news/{newsId}")
   public ApiResponse<NewsResponse> getNews(
       @PathVariable("newsId") Long newsId,
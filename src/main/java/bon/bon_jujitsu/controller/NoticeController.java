@@ -1,6 +1,7 @@
 package bon.bon_jujitsu.controller;
 
 import bon.bon_jujitsu.dto.common.ApiResponse;
+import bon.bon_jujitsu.dto.common.CursorResponse;
 import bon.bon_jujitsu.dto.common.PageResponse;
 import bon.bon_jujitsu.dto.request.NoticeRequest;
 import bon.bon_jujitsu.dto.response.NoticeResponse;
@@ -50,6 +51,16 @@ public class NoticeController {
     return ApiResponse.success("공지사항 리스트 조회 완료", noticeService.getNotices(page, size, name, branchId));
   }
 
+  @GetMapping("/notice/cursor")
+  public ApiResponse<CursorResponse<NoticeResponse>> getNoticesByCursor(
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "10", name = "size") int size,
+      @RequestParam(required = false) String name,
+      @RequestParam(required = false) Long branchId
+  ) {
+    return ApiResponse.success("공지사항 리스트 조회 완료", noticeService.getNoticesByCursor(cursor, size, name, branchId));
+  }
+
   @GetMapping("/notice/{noticeId}")
   public ApiResponse<NoticeResponse> getNotice(
       @PathVariable("noticeId") Long noticeId,
@@ -2,6 +2,7 @@ package bon.bon_jujitsu.controller;
 
 import bon.bon_jujitsu.domain.OrderStatus;
 import bon.bon_jujitsu.dto.common.ApiResponse;
+import bon.bon_jujitsu.dto.common.CursorResponse;
 import bon.bon_jujitsu.dto.common.PageResponse;
 import bon.bon_jujitsu.dto.request.DirectOrderRequest;
 import bon.bon_jujitsu.dto.request.OrderCancelRequest;
@@ -70,6 +71,26 @@ public class OrderController {
     return ApiResponse.success("내 주문 조회 완료", orderService.getMyOrders(page, size, userId, status));
   }
 
+  @GetMapping("/orders/admin/cursor")
+  public ApiResponse<CursorResponse<OrderResponse>> getOrdersByStatusCursor (
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "10", name = "size") int size,
+      @RequestParam(name = "status", required = false) OrderStatus status,
+      @AuthenticationUserId Long userId
+  ) {
+    return ApiResponse.success("주문 조회 완료", orderService.getOrdersByStatusCursor(cursor, size, userId, status));
+  }
+
+  @GetMapping("/orders/myself/cursor")
+  public ApiResponse<CursorResponse<OrderResponse>> getMyOrdersCursor (
+      @AuthenticationUserId Long userId,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "10", name = "size") int size,
+      @RequestParam(required = false) List<OrderStatus> status
+  ) {
+    return ApiResponse.success("내 주문 조회 완료", orderService.getMyOrdersCursor(cursor, size, userId, status));
+  }
+
   @PatchMapping("/orders/admin")
   public ApiResponse<Void> updateOrderByAdmin (
       @Valid @RequestBody OrderUpdate update,
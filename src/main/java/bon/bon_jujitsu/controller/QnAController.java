@@ -1,5 +1,6 @@
 package bon.bon_jujitsu.controller;
 
+import bon.bon_jujitsu.domain.PostType;
 import bon.bon_jujitsu.dto.common.ApiResponse;
 import bon.bon_jujitsu.dto.common.PageResponse;
 import bon.bon_jujitsu.dto.request.PasswordRequest;
@@ -8,6 +9,7 @@ import bon.bon_jujitsu.dto.response.QnAResponse;
 import bon.bon_jujitsu.dto.update.QnAUpdate;
 import bon.bon_jujitsu.resolver.AuthenticationUserId;
 import bon.bon_jujitsu.service.QnaService;
+import bon.bon_jujitsu.service.ViewCountService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import java.util.Map;
@@ -23,6 +25,7 @@ import java.util.List;
 public class QnAController {
 
     private final QnaService qnaService;
+    private final ViewCountService viewCountService;
 
     @PostMapping("/qna")
     public ApiResponse<Void> createQnA(
@@ -61,7 +64,11 @@ public class QnAController {
         @PathVariable("qnaId") Long qnaId,
         HttpServletRequest request
     ) {
-        return ApiResponse.success("QNA 조회 성공", qnaService.getQnA(qnaId, request));
+        QnAResponse response = qnaService.getQnA(qnaId);
+
+        // 상세 조회는 캐시되므로 조회수는 캐시 밖에서 기록 (세션 없이 중복 제거)
+        viewCountService.recordView(PostType.QNA, qnaId, request);
+        return ApiResponse.success("QNA 조회 성공", response);
     }
 
     @PatchMapping("/qna/{qnaId}")
@@ -1,6 +1,7 @@
 package bon.bon_jujitsu.controller;
 
 import bon.bon_jujitsu.dto.common.ApiResponse;
+import bon.bon_jujitsu.dto.common.CursorResponse;
 import bon.bon_jujitsu.dto.common.PageResponse;
 import bon.bon_jujitsu.dto.request.ReviewRequest;
 import bon.bon_jujitsu.dto.response.ReviewResponse;
@@ -52,6 +53,15 @@ public class ReviewController {
             reviewService.getReviews(itemId, PageRequest.of(Math.max(0, page - 1), size, Sort.by(Sort.Direction.DESC, "createdAt"))));
   }
 
+  @GetMapping("/reviews/{itemId}/cursor")
+  public ApiResponse<CursorResponse<ReviewResponse>> getReviewsByCursor(
+      @PathVariable("itemId") Long itemId,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "10", name = "size") int size
+  ) {
+    return ApiResponse.success("리뷰 리스트 조회 완료", reviewService.getReviewsByCursor(itemId, cursor, size));
+  }
+
   @GetMapping("/reviews")
   public ApiResponse<PageResponse<ReviewResponse>> getMyReviews(
       @AuthenticationUserId Long userId,
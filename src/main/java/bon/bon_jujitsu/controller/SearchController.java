@@ -0,0 +1,41 @@
+package bon.bon_jujitsu.controller;
+
+import bon.bon_jujitsu.domain.PostType;
+import bon.bon_jujitsu.dto.common.ApiResponse;
+import bon.bon_jujitsu.dto.common.PageResponse;
+import bon.bon_jujitsu.dto.response.SearchResultResponse;
+import bon.bon_jujitsu.resolver.AuthenticationUserId;
+import bon.bon_jujitsu.service.PostSearchService;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+public class SearchController {
+
+  private final PostSearchService postSearchService;
+
+  @GetMapping
+  public ApiResponse<PageResponse<SearchResultResponse>> search(
+      @RequestParam("q") String query,
+      @RequestParam(required = false, name = "type") List<PostType> postTypes,
+      @RequestParam(defaultValue = "1", name = "page") int page,
+      @RequestParam(defaultValue = "10", name = "size") int size
+  ) {
+    return ApiResponse.success("게시글 검색 성공", postSearchService.search(query, postTypes, page, size));
+  }
+
+  @PostMapping("/rebuild")
+  public ApiResponse<Map<PostType, Integer>> rebuild(
+      @AuthenticationUserId Long userId
+  ) {
+    return ApiResponse.success("검색 색인 재구축 완료", postSearchService.rebuild(userId));
+  }
+}
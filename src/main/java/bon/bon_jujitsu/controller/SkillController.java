@@ -1,14 +1,18 @@
 package bon.bon_jujitsu.controller;
 
+import bon.bon_jujitsu.domain.PostType;
 import bon.bon_jujitsu.domain.SkillPosition;
 import bon.bon_jujitsu.domain.SkillType;
 import bon.bon_jujitsu.dto.common.ApiResponse;
+import bon.bon_jujitsu.dto.common.CursorResponse;
 import bon.bon_jujitsu.dto.common.PageResponse;
 import bon.bon_jujitsu.dto.request.SkillRequest;
 import bon.bon_jujitsu.dto.response.SkillResponse;
+import bon.bon_jujitsu.dto.response.TrendingPostResponse;
 import bon.bon_jujitsu.dto.update.SkillUpdate;
 import bon.bon_jujitsu.resolver.AuthenticationUserId;
 import bon.bon_jujitsu.service.SkillService;
+import bon.bon_jujitsu.service.TrendingService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import java.util.List;
@@ -30,6 +34,7 @@ import org.springframework.web.multipart.MultipartFile;
 public class SkillController {
 
   private final SkillService skillService;
+  private final TrendingService trendingService;
 
   @PostMapping("/skill")
   public ApiResponse<Void> createSkill(
@@ -51,6 +56,24 @@ public class SkillController {
     return ApiResponse.success("기술 게시물 목록 조회 성공", skillService.getSkills(page, size, position, skillType));
   }
 
+  @GetMapping("/skill/cursor")
+  public ApiResponse<CursorResponse<SkillResponse>> getSkillsByCursor(
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "10", name = "size") int size,
+      @RequestParam(required = false) SkillPosition position,
+      @RequestParam(required = false) SkillType skillType
+  ) {
+    return ApiResponse.success("기술 게시물 목록 조회 성공",
+        skillService.getSkillsByCursor(cursor, size, position, skillType));
+  }
+
+  @GetMapping("/skill/trending")
+  public ApiResponse<List<TrendingPostResponse>> getTrendingSkill(
+      @RequestParam(defaultValue = "10", name = "size") int size
+  ) {
+    return ApiResponse.success("인기 기술 조회 성공", trendingService.getTrending(PostType.SKILL, size));
+  }
+
   @GetMapping("/skill/{skillId}")
   public ApiResponse<SkillResponse> getSkill(
       @PathVariable("skillId") Long skillId,
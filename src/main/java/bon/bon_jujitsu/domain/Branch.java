@@ -37,6 +37,18 @@ public class Branch extends Timestamped {
   @Column(nullable = false)
   private String content;
 
+  // 지부 찾기용 좌표 (관리자 입력, 없으면 시/도 좌표표로 채움)
+  @Column
+  private Double latitude;
+
+  @Column
+  private Double longitude;
+
+  // 시/도 좌표표로 채운 대략 좌표 (관리자가 입력한 좌표면 false)
+  @Builder.Default
+  @Column(nullable = false)
+  private boolean locationApproximate = false;
+
   @Builder.Default
   @Column(nullable = false)
   private boolean isDeleted = false;
@@ -68,6 +80,20 @@ public class Branch extends Timestamped {
     });
   }
 
+  public void updateLocation(Double latitude, Double longitude, boolean approximate) {
+    this.latitude = latitude;
+    this.longitude = longitude;
+    this.locationApproximate = approximate;
+  }
+
+  public void clearLocation() {
+    updateLocation(null, null, false);
+  }
+
+  public boolean hasLocation() {
+    return latitude != null && longitude != null;
+  }
+
   public void softDelete() {
     this.isDeleted = true;
   }
@@ -13,9 +13,12 @@ import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Entity
 @Getter
+// 주문 재고는 조건부 UPDATE 로 바뀌므로 옵션 수정 시 읽어 둔 재고로 덮어쓰지 않도록 바뀐 컬럼만 UPDATE
+@DynamicUpdate
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Table(name = "item_options")
@@ -37,13 +40,6 @@ public class ItemOption {
   @JoinColumn(name = "item_id", nullable = false)
   private Item item;
 
-  public void decreaseAmount(int quantity) {
-    if (this.amount < quantity) {
-      throw new IllegalArgumentException("재고 부족");
-    }
-    this.amount -= quantity;
-  }
-
   public void updateSize(String size) {
     this.size = size;
   }
@@ -55,8 +51,4 @@ public class ItemOption {
   public void updateItemAmount(Integer amount) {
     this.amount = amount;
   }
-
-  public void increaseAmount(int quantity) {
-    this.amount += quantity;
-  }
 }
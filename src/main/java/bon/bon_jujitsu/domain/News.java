@@ -12,7 +12,7 @@ import org.hibernate.annotations.Where;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Where(clause = "is_deleted = false")
-@Table(name = "news")
+@Table(name = "news", indexes = @Index(name = "idx_news_created_at_id", columnList = "created_at, id")) // 커서 페이징
 public class News extends Timestamped {
   @Id
   @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -49,8 +49,4 @@ public class News extends Timestamped {
   public void softDelete() {
     this.isDeleted = true;
   }
-
-  public void increaseViewCount() {
-    this.viewCount += 1;
-  }
 }
@@ -8,6 +8,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -24,7 +25,7 @@ import org.hibernate.annotations.Where;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Where(clause = "is_deleted = false")
-@Table(name = "notice")
+@Table(name = "notice", indexes = @Index(name = "idx_notice_created_at_id", columnList = "created_at, id")) // 커서 페이징
 public class Notice extends Timestamped {
   @Id
   @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -65,8 +66,4 @@ public class Notice extends Timestamped {
   public void softDelete() {
     this.isDeleted = true;
   }
-
-  public void increaseViewCount() {
-    this.viewCount += 1;
-  }
 }
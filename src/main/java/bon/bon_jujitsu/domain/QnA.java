@@ -50,10 +50,6 @@ public class QnA extends Timestamped {
         this.isDeleted = true;
     }
 
-    public void increaseViewCount() {
-        this.viewCount += 1;
-    }
-
     public void update(String title, String content) {
         if (title != null && !title.trim().isEmpty()) {
             this.title = title;
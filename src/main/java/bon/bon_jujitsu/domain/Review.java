@@ -8,6 +8,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -27,7 +28,7 @@ import org.hibernate.annotations.Where;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Where(clause = "is_deleted = false")
-@Table(name = "review")
+@Table(name = "review", indexes = @Index(name = "idx_review_created_at_id", columnList = "created_at, id")) // 커서 페이징
 public class Review extends Timestamped {
   @Id
   @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -10,6 +10,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -26,7 +27,7 @@ import org.hibernate.annotations.Where;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Where(clause = "is_deleted = false")
-@Table(name = "skill")
+@Table(name = "skill", indexes = @Index(name = "idx_skill_created_at_id", columnList = "created_at, id")) // 커서 페이징
 public class Skill extends Timestamped {
   @Id
   @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -79,8 +80,4 @@ public class Skill extends Timestamped {
   public void softDelete() {
     this.isDeleted = true;
   }
-
-  public void increaseViewCount() {
-    this.viewCount += 1;
-  }
 }
@@ -66,8 +66,4 @@ public class Sponsor extends Timestamped {
   public void softDelete() {
     this.isDeleted = true;
   }
-
-  public void increaseViewCount() {
-    this.viewCount += 1;
-  }
 }
@@ -0,0 +1,15 @@
+package bon.bon_jujitsu.dto;
+
+/**
+ * 지부 찾기 색인용 지부 위치 (좌표가 있는 지부만)
+ */
+public record BranchLocation(
+    Long id,
+    String region,
+    String area,
+    String address,
+    Double latitude,
+    Double longitude,
+    boolean approximate
+) {
+}
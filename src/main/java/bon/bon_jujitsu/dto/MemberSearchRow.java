@@ -0,0 +1,18 @@
+package bon.bon_jujitsu.dto;
+
+import bon.bon_jujitsu.domain.Stripe;
+import bon.bon_jujitsu.domain.UserRole;
+
+/**
+ * 회원 검색 색인용 행 (회원 + 소속 지부 하나, 지부가 없으면 branchId/role 은 null)
+ */
+public record MemberSearchRow(
+    Long userId,
+    String name,
+    String memberId,
+    String phoneNum,
+    Stripe stripe,
+    Long branchId,
+    UserRole role
+) {
+}
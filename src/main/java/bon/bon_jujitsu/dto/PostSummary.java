@@ -0,0 +1,47 @@
+package bon.bon_jujitsu.dto;
+
+import java.time.LocalDateTime;
+import java.util.regex.Pattern;
+
+/**
+ * 게시글 목록 행 (게시판/공지사항/뉴스)
+ * - 목록 쿼리에서 생성자 표현식으로 목록에 필요한 컬럼과 본문 앞부분(contentHead)만 조회한다.
+ * - region 은 지부가 없는 게시글(뉴스)이면 null
+ */
+public record PostSummary(
+    Long id,
+    String title,
+    String contentHead,
+    String region,
+    Long authorId,
+    String authorName,
+    Long viewCount,
+    LocalDateTime createdAt,
+    LocalDateTime modifiedAt
+) {
+
+  // 목록 쿼리에서 읽는 본문 앞부분 길이 (HTML 태그 포함)
+  public static final int CONTENT_HEAD_LENGTH = 1000;
+  // 태그를 제거한 미리보기 길이
+  public static final int PREVIEW_LENGTH = 100;
+
+  // 잘린 본문 끝의 닫히지 않은 태그까지 제거
+  private static final Pattern TAG = Pattern.compile("<[^>]*(>|$)");
+  private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+  public String preview() {
+    return preview(contentHead);
+  }
+
+  /**
+   * 본문 앞부분에서 태그를 제거한 목록 미리보기
+   */
+  public static String preview(String contentHead) {
+    if (contentHead == null) {
+      return null;
+    }
+    String text = TAG.matcher(contentHead).replaceAll(" ").replace("&nbsp;", " ");
+    text = WHITESPACE.matcher(text).replaceAll(" ").strip();
+    return text.length() > PREVIEW_LENGTH ? text.substring(0, PREVIEW_LENGTH) : text;
+  }
+}
@@ -0,0 +1,9 @@
+package bon.bon_jujitsu.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검색 색인 재구축/결과 강조용 행 (게시글 ID, 제목, 본문, 작성 시각)
+ */
+public record SearchDocument(Long id, String title, String content, LocalDateTime createdAt) {
+}
@@ -0,0 +1,26 @@
+package bon.bon_jujitsu.dto;
+
+import bon.bon_jujitsu.domain.SkillPosition;
+import bon.bon_jujitsu.domain.SkillType;
+import java.time.LocalDateTime;
+
+/**
+ * 기술 게시물 목록 행 (본문은 앞부분만 조회, {@link PostSummary} 참고)
+ */
+public record SkillSummary(
+    Long id,
+    String title,
+    String contentHead,
+    SkillPosition position,
+    SkillType skillType,
+    Long authorId,
+    String authorName,
+    Long viewCount,
+    LocalDateTime createdAt,
+    LocalDateTime modifiedAt
+) {
+
+  public String preview() {
+    return PostSummary.preview(contentHead);
+  }
+}
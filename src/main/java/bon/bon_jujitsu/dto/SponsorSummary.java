@@ -0,0 +1,23 @@
+package bon.bon_jujitsu.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스폰서 게시물 목록 행 (본문은 앞부분만 조회, {@link PostSummary} 참고)
+ */
+public record SponsorSummary(
+    Long id,
+    String title,
+    String contentHead,
+    String url,
+    Long authorId,
+    String authorName,
+    Long viewCount,
+    LocalDateTime createdAt,
+    LocalDateTime modifiedAt
+) {
+
+  public String preview() {
+    return PostSummary.preview(contentHead);
+  }
+}
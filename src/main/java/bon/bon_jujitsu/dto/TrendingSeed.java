@@ -0,0 +1,9 @@
+package bon.bon_jujitsu.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인기 게시글 순위 재구축용 집계 행 (게시글 ID, 발생 시각, 건수)
+ */
+public record TrendingSeed(Long postId, LocalDateTime occurredAt, Long count) {
+}
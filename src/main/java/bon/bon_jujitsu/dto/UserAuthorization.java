@@ -0,0 +1,71 @@
+package bon.bon_jujitsu.dto;
+
+import bon.bon_jujitsu.domain.BranchUser;
+import bon.bon_jujitsu.domain.User;
+import bon.bon_jujitsu.domain.UserRole;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 권한 검증용 사용자 스냅샷 (관리자 여부 + 지부별 역할)
+ * - 엔티티 대신 캐시에 저장되며, 역할/지부 변경 시 UserAuthorizationService 에서 무효화된다.
+ */
+public record UserAuthorization(
+    Long userId,
+    boolean isAdmin,
+    Map<Long, UserRole> branchRoles
+) {
+
+  public UserAuthorization {
+    branchRoles = Map.copyOf(branchRoles);
+  }
+
+  public static UserAuthorization fromEntity(User user) {
+    Map<Long, UserRole> branchRoles = user.getBranchUsers().stream()
+        .collect(Collectors.toMap(bu -> bu.getBranch().getId(), BranchUser::getUserRole));
+    return new UserAuthorization(user.getId(), user.isAdmin(), branchRoles);
+  }
+
+  // 해당 지부의 역할 (소속되지 않았으면 null)
+  public UserRole roleIn(Long branchId) {
+    return branchRoles.get(branchId);
+  }
+
+  public boolean hasRoleIn(Long branchId, UserRole... roles) {
+    UserRole role = roleIn(branchId);
+    return role != null && Arrays.asList(roles).contains(role);
+  }
+
+  // 어느 지부에서든 해당 역할이 있는지
+  public boolean hasAnyRole(UserRole role) {
+    return branchRoles.containsValue(role);
+  }
+
+  public boolean isOwnerOrAdmin() {
+    return isAdmin || hasAnyRole(UserRole.OWNER);
+  }
+
+  // 승인된(PENDING 이 아닌) 지부가 하나라도 있는지
+  public boolean hasApprovedBranch() {
+    return branchRoles.values().stream().anyMatch(role -> role != UserRole.PENDING);
+  }
+
+  // 관리자이거나 승인된 지부가 있는지
+  public boolean isApproved() {
+    return isAdmin || hasApprovedBranch();
+  }
+
+  public boolean isSelf(Long otherUserId) {
+    return userId.equals(otherUserId);
+  }
+
+  public List<Long> branchIdsWithRole(UserRole role) {
+    return branchRoles.entrySet().stream()
+        .filter(entry -> entry.getValue() == role)
+        .map(Map.Entry::getKey)
+        .sorted()
+        .toList();
+  }
+}
@@ -0,0 +1,51 @@
+package bon.bon_jujitsu.dto.common;
+
+import java.util.List;
+import java.util.function.Function;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * 커서 페이징 responseDto (무한 스크롤용)
+ * - 다음 요청에 nextCursor 를 그대로 cursor 로 보내면 이어서 조회된다. (hasNext 가 false 면 null)
+ * - 전체 개수/페이지 수를 세지 않으므로 COUNT 쿼리가 없다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED) // L2 캐시 역직렬화용
+@SuperBuilder(builderMethodName = "createResponseBuilder")
+public class CursorResponse<T> {
+
+  public static final int MAX_SIZE = 100;
+
+  private List<T> list;
+  private int size;
+  private boolean hasNext;
+  private String nextCursor;
+
+  /**
+   * size + 1 개까지 조회한 행으로 응답 생성
+   * @param rows size + 1 개를 넘지 않는 조회 결과 (createdAt DESC, id DESC)
+   * @param cursorOf 행의 커서 위치
+   * @param converter 응답 변환 (이미지 일괄 조회 등 목록 단위 처리)
+   */
+  public static <E, T> CursorResponse<T> of(List<E> rows, int size, Function<E, CursorToken> cursorOf,
+      Function<List<E>, List<T>> converter) {
+    boolean hasNext = rows.size() > size;
+    List<E> content = hasNext ? rows.subList(0, size) : rows;
+
+    return CursorResponse.<T>createResponseBuilder()
+        .list(converter.apply(content))
+        .size(size)
+        .hasNext(hasNext)
+        .nextCursor(hasNext ? cursorOf.apply(content.get(content.size() - 1)).encode() : null)
+        .build();
+  }
+
+  public static void validateSize(int size) {
+    if (size < 1 || size > MAX_SIZE) {
+      throw new IllegalArgumentException("조회 개수는 1~" + MAX_SIZE + " 사이여야 합니다.");
+    }
+  }
+}
@@ -0,0 +1,38 @@
+package bon.bon_jujitsu.dto.common;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 커서 페이징 위치 (createdAt DESC, id DESC 정렬에서 마지막으로 받은 행)
+ * - 클라이언트에는 내용을 알 수 없는 문자열(Base64 URL)로 전달한다.
+ */
+public record CursorToken(LocalDateTime createdAt, Long id) {
+
+  // 첫 페이지 - 모든 행보다 뒤에 있는 위치 (MySQL DATETIME 최대값)
+  private static final CursorToken FIRST = new CursorToken(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+  /**
+   * 요청의 cursor 값 해석 (없으면 첫 페이지)
+   */
+  public static CursorToken decode(String token) {
+    if (token == null || token.isBlank()) {
+      return FIRST;
+    }
+    try {
+      String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+      int separator = value.lastIndexOf('|');
+      return new CursorToken(LocalDateTime.parse(value.substring(0, separator)),
+          Long.parseLong(value.substring(separator + 1)));
+    } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+      throw new IllegalArgumentException("잘못된 커서입니다.");
+    }
+  }
+
+  public String encode() {
+    String value = createdAt + "|" + id;
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -1,22 +1,29 @@
 package bon.bon_jujitsu.dto.common;
 
 import java.util.List;
+import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 /**
  * 페이징 객체를 반환할때 사용하는 responseDto
  */
 @Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED) // L2 캐시 역직렬화용
 @SuperBuilder(builderMethodName = "createResponseBuilder")
 public class PageResponse<T> {
 
   private List<T> list;
   private int page;
   private int size;
+  // COUNT 를 생략한 응답(fromSlice)은 -1
   private int totalPage;
+  private boolean hasNext;
+
   public static <T> PageResponse<T> fromPage(Page<T> data) {
     Pageable pageable = data.getPageable();
     return PageResponse.<T>createResponseBuilder()
@@ -24,6 +31,21 @@ public class PageResponse<T> {
         .page(createPage(pageable))
         .size(createPageSize(pageable))
         .totalPage(data.getTotalPages())
+        .hasNext(data.hasNext())
+        .build();
+  }
+
+  /**
+   * 전체 개수 없이 다음 페이지 여부만 반환 (size + 1 조회, COUNT 쿼리 없음)
+   */
+  public static <T> PageResponse<T> fromSlice(Slice<T> data) {
+    Pageable pageable = data.getPageable();
+    return PageResponse.<T>createResponseBuilder()
+        .list(data.hasContent() ? data.getContent() : null)
+        .page(createPage(pageable))
+        .size(createPageSize(pageable))
+        .totalPage(-1)
+        .hasNext(data.hasNext())
         .build();
   }
 
@@ -10,6 +10,8 @@ public record BranchRequest (
     @NotBlank(message = "도, 시, 군 단위를 입력해주세요")
     String area,
     @NotBlank(message = "지부에 관한 설명을 입력해주세요")
-    String content
+    String content,
+    Double latitude,
+    Double longitude
 ) {
 }
@@ -0,0 +1,16 @@
+package bon.bon_jujitsu.dto.request;
+
+import bon.bon_jujitsu.common.ItemCatalogIndex;
+import java.util.List;
+
+public record ItemSearchRequest(
+    String name,
+    List<String> sizes,
+    List<String> colors,
+    Integer minPrice,
+    Integer maxPrice,
+    boolean onSale,
+    boolean inStock,
+    ItemCatalogIndex.SortOrder sort
+) {
+}
@@ -2,6 +2,7 @@ package bon.bon_jujitsu.dto.response;
 
 import bon.bon_jujitsu.domain.Board;
 import bon.bon_jujitsu.domain.PostMedia;
+import bon.bon_jujitsu.dto.PostSummary;
 import java.util.stream.Collectors;
 import lombok.Builder;
 
@@ -23,13 +24,7 @@ public record BoardResponse(
 ) {
 
   public static BoardResponse fromEntity(Board board, List<PostMedia> postMedia) {
-    // PostMedia 엔티티를 직접 사용하여 MediaResponse 리스트 생성
-    List<MediaResponse> mediaRespons = postMedia.stream()
-        .map(postImage -> MediaResponse.builder()
-            .id(postImage.getId())
-            .url(postImage.getFilePath())
-            .build())
-        .collect(Collectors.toList());
+    List<MediaResponse> mediaRespons = toMediaResponses(postMedia);
 
     String authorName;
     try {
@@ -71,4 +66,32 @@ public record BoardResponse(
         .modifiedAt(board.getModifiedAt())
         .build();
   }
-}
\ No newline at end of file
+
+  /**
+   * 목록용 응답 - 본문 전체 대신 태그를 제거한 미리보기만 담는다.
+   */
+  public static BoardResponse fromSummary(PostSummary summary, List<PostMedia> postMedia) {
+    return BoardResponse.builder()
+        .id(summary.id())
+        .title(summary.title())
+        .content(summary.preview())
+        .region(summary.region() != null ? summary.region() : "지부 정보 없음")
+        .author(summary.authorName() != null ? summary.authorName() : "탈퇴한 회원")
+        .authorId(summary.authorId())
+        .images(toMediaResponses(postMedia))
+        .viewCount(summary.viewCount())
+        .createdAt(summary.createdAt())
+        .modifiedAt(summary.modifiedAt())
+        .build();
+  }
+
+  private static List<MediaResponse> toMediaResponses(List<PostMedia> postMedia) {
+    // PostMedia 엔티티를 직접 사용하여 MediaResponse 리스트 생성
+    return postMedia.stream()
+        .map(postImage -> MediaResponse.builder()
+            .id(postImage.getId())
+            .url(postImage.getFilePath())
+            .build())
+        .collect(Collectors.toList());
+  }
+}
@@ -18,6 +18,9 @@ public record BranchResponse (
     String address,
     String area,
     String content,
+    Double latitude,
+    Double longitude,
+    boolean locationApproximate,
     List<ImageResponse> images,
     LocalDateTime createdAt,
     LocalDateTime modifiedAt,
@@ -56,6 +59,9 @@ public record BranchResponse (
         branch.getAddress(),
         branch.getArea(),
         branch.getContent(),
+        branch.getLatitude(),
+        branch.getLongitude(),
+        branch.isLocationApproximate(),
         createImageResponses(branchImages),
         branch.getCreatedAt(),
         branch.getModifiedAt(),
@@ -83,6 +89,9 @@ public record BranchResponse (
         branch.getAddress(),
         branch.getArea(),
         branch.getContent(),
+        branch.getLatitude(),
+        branch.getLongitude(),
+        branch.isLocationApproximate(),
         mediaRespons,
         branch.getCreatedAt(),
         branch.getModifiedAt(),
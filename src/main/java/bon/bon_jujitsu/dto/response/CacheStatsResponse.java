@@ -0,0 +1,16 @@
+package bon.bon_jujitsu.dto.response;
+
+public record CacheStatsResponse(
+    String name,
+    long l1Size,
+    long l1Hits,
+    long l1Misses,
+    long l1Evictions,
+    boolean l2Enabled,
+    long l2Hits,
+    long l2Misses,
+    long l2Errors,
+    long coalescedLoads,
+    long refreshes
+) {
+}
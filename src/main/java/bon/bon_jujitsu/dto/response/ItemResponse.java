@@ -1,8 +1,11 @@
 package bon.bon_jujitsu.dto.response;
 
+import bon.bon_jujitsu.cache.CacheTagged;
+import bon.bon_jujitsu.cache.CacheTags;
 import bon.bon_jujitsu.domain.Item;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -21,7 +24,7 @@ public record ItemResponse(
     List<ImageResponse> images,
     LocalDateTime createdAt,
     LocalDateTime modifiedAt
-) {
+) implements CacheTagged {
   public static ItemResponse fromEntity(Item item) {
     List<ItemOptionResponse> optionResponses = item.getItemOptions().stream()
         .map(ItemOptionResponse::fromEntity)
@@ -46,5 +49,10 @@ public record ItemResponse(
         .modifiedAt(item.getModifiedAt())
         .build();
   }
+
+  @Override
+  public Collection<String> cacheTags() {
+    return List.of(CacheTags.item(id));
+  }
 }
 
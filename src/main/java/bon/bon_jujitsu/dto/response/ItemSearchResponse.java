@@ -0,0 +1,22 @@
+package bon.bon_jujitsu.dto.response;
+
+import bon.bon_jujitsu.common.ItemCatalogIndex;
+import bon.bon_jujitsu.dto.common.PageResponse;
+import java.util.List;
+
+/**
+ * 상품 검색 결과 + 패싯별 상품 수 (해당 패싯 조건만 뺀 나머지 조건 기준)
+ */
+public record ItemSearchResponse(
+    PageResponse<LatestItemResponse> items,
+    List<ItemCatalogIndex.FacetCount> sizes,
+    List<ItemCatalogIndex.FacetCount> colors,
+    List<ItemCatalogIndex.PriceRange> priceRanges,
+    long onSaleCount,
+    long inStockCount
+) {
+  public static ItemSearchResponse of(PageResponse<LatestItemResponse> items, ItemCatalogIndex.Result result) {
+    return new ItemSearchResponse(items, result.sizes(), result.colors(), result.priceRanges(),
+        result.onSaleCount(), result.inStockCount());
+  }
+}
@@ -1,7 +1,10 @@
 package bon.bon_jujitsu.dto.response;
 
+import bon.bon_jujitsu.cache.CacheTagged;
+import bon.bon_jujitsu.cache.CacheTags;
 import bon.bon_jujitsu.domain.Item;
 import bon.bon_jujitsu.domain.ItemImage;
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.Builder;
@@ -14,7 +17,7 @@ public record LatestItemResponse(
     int price,
     int sale,
     List<String> images
-) {
+) implements CacheTagged {
     public static LatestItemResponse from(Item item) {
         List<ItemOptionResponse> options = item.getItemOptions().stream()
             .map(detail -> new ItemOptionResponse(detail.getId(), detail.getSize(), detail.getColor(), detail.getAmount()))
@@ -29,4 +32,9 @@ public record LatestItemResponse(
             .images(item.getImages().stream().map(ItemImage::getImagePath).toList())
             .build();
     }
+
+    @Override
+    public Collection<String> cacheTags() {
+        return List.of(CacheTags.item(id));
+    }
 }
@@ -0,0 +1,30 @@
+package bon.bon_jujitsu.dto.response;
+
+import bon.bon_jujitsu.dto.BranchLocation;
+
+/**
+ * 가까운 지부 - approximate 가 true 면 좌표가 시/도청 위치라 distanceKm 도 대략값
+ */
+public record NearbyBranchResponse(
+    Long id,
+    String region,
+    String area,
+    String address,
+    Double latitude,
+    Double longitude,
+    double distanceKm,
+    boolean approximate
+) {
+  public static NearbyBranchResponse of(BranchLocation location, double distanceKm) {
+    return new NearbyBranchResponse(
+        location.id(),
+        location.region(),
+        location.area(),
+        location.address(),
+        location.latitude(),
+        location.longitude(),
+        Math.round(distanceKm * 100) / 100.0,
+        location.approximate()
+    );
+  }
+}
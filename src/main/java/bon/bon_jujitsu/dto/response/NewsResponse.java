@@ -2,6 +2,7 @@ package bon.bon_jujitsu.dto.response;
 
 import bon.bon_jujitsu.domain.News;
 import bon.bon_jujitsu.domain.PostMedia;
+import bon.bon_jujitsu.dto.PostSummary;
 import java.util.stream.Collectors;
 import lombok.Builder;
 
@@ -22,15 +23,7 @@ public record NewsResponse(
 ) {
 
   public static NewsResponse fromEntity(News news, List<PostMedia> postMedia) {
-    // PostMedia 엔티티를 MediaResponse로 변환
-    List<MediaResponse> mediaResponses = postMedia.stream()
-        .map(media -> MediaResponse.builder()
-            .id(media.getId())
-            .url(media.getFilePath())
-            .originalFileName(media.getOriginalFileName())
-            .mediaType(media.getMediaType().name()) // IMAGE 또는 VIDEO
-            .build())
-        .collect(Collectors.toList());
+    List<MediaResponse> mediaResponses = toMediaResponses(postMedia);
 
     String authorName;
     try {
@@ -64,4 +57,33 @@ public record NewsResponse(
         .modifiedAT(news.getModifiedAt())
         .build();
   }
-}
\ No newline at end of file
+
+  /**
+   * 목록용 응답 - 본문 전체 대신 태그를 제거한 미리보기만 담는다.
+   */
+  public static NewsResponse fromSummary(PostSummary summary, List<PostMedia> postMedia) {
+    return NewsResponse.builder()
+        .id(summary.id())
+        .title(summary.title())
+        .content(summary.preview())
+        .author(summary.authorName() != null ? summary.authorName() : "탈퇴한 회원")
+        .authorId(summary.authorId())
+        .media(toMediaResponses(postMedia))
+        .viewCount(summary.viewCount())
+        .createdAt(summary.createdAt())
+        .modifiedAT(summary.modifiedAt())
+        .build();
+  }
+
+  private static List<MediaResponse> toMediaResponses(List<PostMedia> postMedia) {
+    // PostMedia 엔티티를 MediaResponse로 변환
+    return postMedia.stream()
+        .map(media -> MediaResponse.builder()
+            .id(media.getId())
+            .url(media.getFilePath())
+            .originalFileName(media.getOriginalFileName())
+            .mediaType(media.getMediaType().name()) // IMAGE 또는 VIDEO
+            .build())
+        .collect(Collectors.toList());
+  }
+}
@@ -2,6 +2,7 @@ package bon.bon_jujitsu.dto.response;
 
 import bon.bon_jujitsu.domain.Notice;
 import bon.bon_jujitsu.domain.PostMedia;
+import bon.bon_jujitsu.dto.PostSummary;
 import java.util.stream.Collectors;
 import lombok.Builder;
 
@@ -23,15 +24,7 @@ public record NoticeResponse(
 ) {
 
   public static NoticeResponse fromEntity(Notice notice, List<PostMedia> postMedia) {
-    // PostMedia 엔티티를 직접 사용하여 MediaResponse 리스트 생성
-    List<MediaResponse> mediaResponse = postMedia.stream()
-        .map(postImage -> MediaResponse.builder()
-            .id(postImage.getId()) // 실제 이미지 ID 사용
-            .url(postImage.getFilePath()) // ✅ getImagePath() 사용 (PostMedia에 정의된 메소드)
-            .originalFileName(postImage.getOriginalFileName())
-            .mediaType(postImage.getMediaType().name())
-            .build())
-        .collect(Collectors.toList());
+    List<MediaResponse> mediaResponse = toMediaResponses(postMedia);
 
     String authorName;
     try {
@@ -73,4 +66,34 @@ public record NoticeResponse(
         .modifiedAt(notice.getModifiedAt())
         .build();
   }
-}
\ No newline at end of file
+
+  /**
+   * 목록용 응답 - 본문 전체 대신 태그를 제거한 미리보기만 담는다.
+   */
+  public static NoticeResponse fromSummary(PostSummary summary, List<PostMedia> postMedia) {
+    return NoticeResponse.builder()
+        .id(summary.id())
+        .title(summary.title())
+        .content(summary.preview())
+        .region(summary.region() != null ? summary.region() : "지부 정보 없음")
+        .author(summary.authorName() != null ? summary.authorName() : "탈퇴한 회원")
+        .authorId(summary.authorId())
+        .media(toMediaResponses(postMedia))
+        .viewCount(summary.viewCount())
+        .createdAt(summary.createdAt())
+        .modifiedAt(summary.modifiedAt())
+        .build();
+  }
+
+  private static List<MediaResponse> toMediaResponses(List<PostMedia> postMedia) {
+    // PostMedia 엔티티를 직접 사용하여 MediaResponse 리스트 생성
+    return postMedia.stream()
+        .map(postImage -> MediaResponse.builder()
+            .id(postImage.getId()) // 실제 이미지 ID 사용
+            .url(postImage.getFilePath()) // ✅ getImagePath() 사용 (PostMedia에 정의된 메소드)
+            .originalFileName(postImage.getOriginalFileName())
+            .mediaType(postImage.getMediaType().name())
+            .build())
+        .collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,16 @@
+package bon.bon_jujitsu.dto.response;
+
+public record PasswordHashingStatsResponse(
+    int cost,
+    int poolSize,
+    int activeThreads,
+    int queued,
+    int queueCapacity,
+    long completed,
+    long rejected,
+    long timeouts,
+    long rehashed,
+    double averageWaitMillis,
+    double averageRunMillis
+) {
+}
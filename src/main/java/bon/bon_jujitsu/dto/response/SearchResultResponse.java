@@ -0,0 +1,23 @@
+package bon.bon_jujitsu.dto.response;
+
+import bon.bon_jujitsu.domain.PostType;
+import bon.bon_jujitsu.dto.SearchDocument;
+import java.time.LocalDateTime;
+
+/**
+ * 통합 검색 결과 - title/snippet 은 HTML 이스케이프 후 검색어 구간을 <em> 으로 감싼 문자열
+ */
+public record SearchResultResponse(
+    PostType postType,
+    Long id,
+    String title,
+    String snippet,
+    double score,
+    LocalDateTime createdAt
+) {
+
+  public static SearchResultResponse of(PostType postType, String title, String snippet, double score,
+      SearchDocument document) {
+    return new SearchResultResponse(postType, document.id(), title, snippet, score, document.createdAt());
+  }
+}
@@ -4,6 +4,7 @@ import bon.bon_jujitsu.domain.PostMedia;
 import bon.bon_jujitsu.domain.Skill;
 import bon.bon_jujitsu.domain.SkillPosition;
 import bon.bon_jujitsu.domain.SkillType;
+import bon.bon_jujitsu.dto.SkillSummary;
 import java.util.stream.Collectors;
 import lombok.Builder;
 
@@ -26,15 +27,7 @@ public record SkillResponse(
 ) {
 
   public static SkillResponse fromEntity(Skill skill, List<PostMedia> postMedia) {
-    // PostMedia 엔티티를 직접 사용하여 MediaResponse 리스트 생성
-    List<MediaResponse> mediaRespons = postMedia.stream()
-        .map(postImage -> MediaResponse.builder()
-            .id(postImage.getId())
-            .url(postImage.getFilePath())
-            .originalFileName(postImage.getOriginalFileName())
-            .mediaType(postImage.getMediaType().name())
-            .build())
-        .collect(Collectors.toList());
+    List<MediaResponse> mediaRespons = toMediaResponses(postMedia);
 
     String authorName;
     try {
@@ -71,4 +64,35 @@ public record SkillResponse(
         .modifiedAT(skill.getModifiedAt())
         .build();
   }
+
+  /**
+   * 목록용 응답 - 본문 전체 대신 태그를 제거한 미리보기만 담는다.
+   */
+  public static SkillResponse fromSummary(SkillSummary summary, List<PostMedia> postMedia) {
+    return SkillResponse.builder()
+        .id(summary.id())
+        .title(summary.title())
+        .content(summary.preview())
+        .position(summary.position())
+        .skillType(summary.skillType())
+        .author(summary.authorName() != null ? summary.authorName() : "탈퇴한 회원")
+        .authorId(summary.authorId())
+        .media(toMediaResponses(postMedia))
+        .viewCount(summary.viewCount())
+        .createdAt(summary.createdAt())
+        .modifiedAT(summary.modifiedAt())
+        .build();
+  }
+
+  private static List<MediaResponse> toMediaResponses(List<PostMedia> postMedia) {
+    // PostMedia 엔티티를 직접 사용하여 MediaResponse 리스트 생성
+    return postMedia.stream()
+        .map(postImage -> MediaResponse.builder()
+            .id(postImage.getId())
+            .url(postImage.getFilePath())
+            .originalFileName(postImage.getOriginalFileName())
+            .mediaType(postImage.getMediaType().name())
+            .build())
+        .collect(Collectors.toList());
+  }
 }
@@ -2,6 +2,7 @@ package bon.bon_jujitsu.dto.response;
 
 import bon.bon_jujitsu.domain.PostMedia;
 import bon.bon_jujitsu.domain.Sponsor;
+import bon.bon_jujitsu.dto.SponsorSummary;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -22,15 +23,7 @@ public record SponsorResponse(
     LocalDateTime modifiedAT
 ) {
   public static SponsorResponse fromEntity(Sponsor sponsor, List<PostMedia> postMedia) {
-    // PostMedia 엔티티를 직접 사용하여 MediaResponse 리스트 생성
-    List<MediaResponse> mediaRespons = postMedia.stream()
-        .map(postImage -> MediaResponse.builder()
-            .id(postImage.getId())
-            .url(postImage.getFilePath())
-            .originalFileName(postImage.getOriginalFileName())
-            .mediaType(postImage.getMediaType().name())
-            .build())
-        .collect(Collectors.toList());
+    List<MediaResponse> mediaRespons = toMediaResponses(postMedia);
 
     String authorName;
     try {
@@ -65,4 +58,34 @@ public record SponsorResponse(
         .modifiedAT(sponsor.getModifiedAt())
         .build();
   }
+
+  /**
+   * 목록용 응답 - 본문 전체 대신 태그를 제거한 미리보기만 담는다.
+   */
+  public static SponsorResponse fromSummary(SponsorSummary summary, List<PostMedia> postMedia) {
+    return SponsorResponse.builder()
+        .id(summary.id())
+        .title(summary.title())
+        .content(summary.preview())
+        .url(summary.url())
+        .author(summary.authorName() != null ? summary.authorName() : "탈퇴한 회원")
+        .authorId(summary.authorId())
+        .media(toMediaResponses(postMedia))
+        .viewCount(summary.viewCount())
+        .createdAt(summary.createdAt())
+        .modifiedAT(summary.modifiedAt())
+        .build();
+  }
+
+  private static List<MediaResponse> toMediaResponses(List<PostMedia> postMedia) {
+    // PostMedia 엔티티를 직접 사용하여 MediaResponse 리스트 생성
+    return postMedia.stream()
+        .map(postImage -> MediaResponse.builder()
+            .id(postImage.getId())
+            .url(postImage.getFilePath())
+            .originalFileName(postImage.getOriginalFileName())
+            .mediaType(postImage.getMediaType().name())
+            .build())
+        .collect(Collectors.toList());
+  }
 }
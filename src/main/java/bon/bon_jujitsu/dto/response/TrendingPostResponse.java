@@ -0,0 +1,16 @@
+package bon.bon_jujitsu.dto.response;
+
+import bon.bon_jujitsu.common.SlidingWindowRanking;
+
+public record TrendingPostResponse(
+    Long id,
+    String title,
+    long viewCount,
+    long commentCount,
+    long score
+) {
+
+  public static TrendingPostResponse of(SlidingWindowRanking.Ranked ranked, String title) {
+    return new TrendingPostResponse(ranked.id(), title, ranked.views(), ranked.comments(), ranked.score());
+  }
+}
@@ -6,6 +6,10 @@ public record BranchUpdate(
     Optional<String> region,
     Optional<String> address,
     Optional<String> area,
-    Optional<String> content
+    Optional<String> content,
+    Optional<Double> latitude,
+    Optional<Double> longitude,
+    // true 면 좌표를 지우고 주소/지역의 시/도 좌표로 다시 채움
+    Optional<Boolean> clearLocation
 ) {
 }
@@ -1,6 +1,8 @@
 package bon.bon_jujitsu.filter;
 
+import bon.bon_jujitsu.jwt.AuthenticationContext;
 import bon.bon_jujitsu.jwt.JwtUtil;
+import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.Filter;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -12,19 +14,19 @@ import java.io.IOException;
 import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
+@Order(2)
 @RequiredArgsConstructor
 public class AuthenticationFilter implements Filter {
 
   private final JwtUtil jwtUtil;
-  @Value("${spring.profiles.active:dev}")
-  private String activeProfile;
+  private final PublicRouteMatcher publicRouteMatcher;
 
   @Override
   public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
@@ -36,87 +38,9 @@ public class AuthenticationFilter implements Filter {
     final String requestUri = req.getRequestURI();
     final String httpMethod = req.getMethod();
 
-    System.out.println("Request URI: " + requestUri + ", Method: " + httpMethod);
-    boolean isDevelopment = "dev".equalsIgnoreCase(activeProfile);
-
-    // ✅ 인증이 필요 없는 경로 설정 (App.js 라우트 기준으로 정리)
-    if (
-      // 정적 리소스 및 매니페스트 파일들
-        requestUri.startsWith("/static") ||
-            requestUri.startsWith("/images") ||
-            requestUri.startsWith("/data/uploads/") ||
-            requestUri.equals("/asset-manifest.json") ||
-            requestUri.equals("/favicon.ico") ||
-            requestUri.equals("/manifest.json") ||
-            requestUri.equals("/logo192.png") ||
-            requestUri.equals("/logo512.png") ||
-            requestUri.equals("/robots.txt") ||
-
-            // 메인 페이지 및 소개 페이지들
-            requestUri.equals("/") ||
-            requestUri.startsWith("/academy") ||
-            requestUri.startsWith("/introGreeting") ||
-            requestUri.startsWith("/introJiujitsu") ||
-            requestUri.startsWith("/introLevel") ||
-
-            // 지부 관련 페이지들
-            requestUri.startsWith("/branches") ||
-
-            // 상품 관련 페이지들
-            requestUri.startsWith("/store") ||
-            requestUri.startsWith("/storeDetail") ||
-            requestUri.startsWith("/cart") ||
-            requestUri.startsWith("/order") ||
-
-            // 게시물 관련 페이지들
-            requestUri.startsWith("/skill") ||
-            requestUri.startsWith("/news") ||
-            requestUri.startsWith("/faq") ||
-            requestUri.startsWith("/sponsor") ||
-            requestUri.startsWith("/write") ||
-            requestUri.startsWith("/edit") ||
-
-            // 기타 페이지들
-            requestUri.startsWith("/join") ||
-
-            // 사용자 페이지들 (클라이언트에서 권한 체크)
-            requestUri.startsWith("/mypage") ||
-
-            // 관리자 페이지들 (클라이언트에서 권한 체크)
-            requestUri.startsWith("/admin") ||
-
-            // 인증 관련 API (항상 허용)
-            requestUri.contains("/api/users/signup") ||
-            requestUri.contains("/api/users/login") ||
-            requestUri.contains("/api/users/refresh") ||
-            requestUri.contains("/api/users/check-member-id") ||
-
-            // 공개 API들
-            requestUri.startsWith("/api/comment") ||
-            requestUri.startsWith("/api/qna") ||
-
-            // 개발 도구 API
-            requestUri.contains("/v3/api-docs") ||
-            requestUri.contains("/swagger-ui") ||
-            requestUri.contains("/swagger-resources") ||
-
-            // 특정 패턴 (admin/{id} 형태)
-            requestUri.matches("/api/admin/\\d+") ||
-
-            // OPTIONS 메서드 (CORS preflight - 개발 환경에서만)
-            (isDevelopment && "OPTIONS".equalsIgnoreCase(httpMethod)) ||
-
-            // 개발 환경에서 GET 요청 허용 API들
-            (isDevelopment && "GET".equalsIgnoreCase(httpMethod) && (
-                requestUri.startsWith("/api/board") ||
-                    requestUri.startsWith("/api/branch") ||
-                    requestUri.startsWith("/api/notice") ||
-                    requestUri.startsWith("/api/news") ||
-                    requestUri.startsWith("/api/skill") ||
-                    requestUri.startsWith("/api/sponsor")
-            ))
-    ) {
-      System.out.println("Skipping authentication for: " + requestUri + ", Method: " + httpMethod);
+    // ✅ 인증이 필요 없는 경로 (app.public-routes 규칙을 기동 시 컴파일한 매처)
+    if (publicRouteMatcher.matches(httpMethod, requestUri)) {
+      log.debug("인증 생략: {} {}", httpMethod, requestUri);
       chain.doFilter(request, response);
       return;
     }
@@ -138,7 +62,6 @@ public class AuthenticationFilter implements Filter {
     }
 
     String token = authorizationHeader.substring(7);
-    System.out.println("추출된 토큰: " + token);
 
     // 3. 토큰 내용 검증
     if (token.equals("null") || token.equals("undefined") || token.trim().isEmpty()) {
@@ -147,13 +70,14 @@ public class AuthenticationFilter implements Filter {
       return;
     }
 
-    // 4. 토큰 만료 체크
+    // 4. 토큰 검증 (서명/만료/블랙리스트) - 결과는 요청 속성에 저장해 리졸버에서 재사용
     try {
-      if (jwtUtil.isTokenExpired(token)) {
-        log.error("토큰 만료: {} {}", httpMethod, requestUri);
-        sendUnauthorizedResponse(res, "로그인 시간이 만료되었습니다.");
-        return;
-      }
+      AuthenticationContext context = jwtUtil.authenticate(token);
+      req.setAttribute(AuthenticationContext.ATTRIBUTE, context);
+    } catch (ExpiredJwtException e) {
+      log.error("토큰 만료: {} {}", httpMethod, requestUri);
+      sendUnauthorizedResponse(res, "로그인 시간이 만료되었습니다.");
+      return;
     } catch (Exception e) {
       log.error("토큰 검증 실패: {} {} - {}", httpMethod, requestUri, e.getMessage());
       sendUnauthorizedResponse(res, "유효하지 않은 토큰입니다.");
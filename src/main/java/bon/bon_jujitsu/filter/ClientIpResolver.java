@@ -0,0 +1,26 @@
+package bon.bon_jujitsu.filter;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 요청한 클라이언트 IP 확인
+ */
+public final class ClientIpResolver {
+
+  private ClientIpResolver() {
+  }
+
+  /**
+   * 신뢰하는 프록시 수만큼 X-Forwarded-For 의 오른쪽에서 클라이언트 IP 를 찾는다.
+   * (맨 왼쪽 값은 클라이언트가 임의로 넣을 수 있으므로 사용하지 않는다)
+   */
+  public static String resolve(HttpServletRequest request, int forwardedHops) {
+    String forwardedFor = request.getHeader("X-Forwarded-For");
+    if (forwardedHops <= 0 || forwardedFor == null || forwardedFor.isBlank()) {
+      return request.getRemoteAddr();
+    }
+    String[] addresses = forwardedFor.split(",");
+    int index = Math.max(0, addresses.length - forwardedHops);
+    return addresses[index].trim();
+  }
+}
@@ -0,0 +1,205 @@
+package bon.bon_jujitsu.filter;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Predicate;
+
+/**
+ * 인증 없이 통과시킬 경로 매처 (기동 시 한 번 컴파일, 이후 읽기 전용)
+ * - exact/prefix 규칙은 문자 단위 트라이 하나로 합쳐 URI 를 한 번만 훑는다.
+ * - contains 규칙은 별도 트라이를 URI 의 각 '/' 위치에서 시작해 확인한다.
+ * - {id} 는 이어지는 숫자열 전체와 일치한다.
+ * - 메서드 조건은 규칙별 비트마스크로 저장하고, 프로필 조건은 컴파일 시점에 걸러낸다.
+ */
+public class PublicRouteMatcher {
+
+  private static final String NUMBER_VARIABLE = "{id}";
+  private static final int ANY_METHOD = ~0;
+  // 목록에 없는 메서드 (경로/메서드 무관 규칙에만 일치)
+  private static final int OTHER_METHOD = 1 << 8;
+
+  private final Node anchored = new Node();
+  private final Node contained = new Node();
+  private boolean hasContainsRules;
+  // 경로 조건 없이 메서드만으로 통과시키는 규칙 (예: 개발 환경 OPTIONS)
+  private int anyPathMethods;
+
+  private PublicRouteMatcher() {
+  }
+
+  /**
+   * @param isProfileActive 규칙의 profiles 중 활성 프로필이 있는지 판단
+   */
+  public static PublicRouteMatcher compile(List<PublicRouteProperties.Rule> rules,
+      Predicate<String> isProfileActive) {
+    PublicRouteMatcher matcher = new PublicRouteMatcher();
+    for (PublicRouteProperties.Rule rule : rules) {
+      if (!rule.getProfiles().isEmpty() && rule.getProfiles().stream().noneMatch(isProfileActive)) {
+        continue;
+      }
+      matcher.add(rule);
+    }
+    return matcher;
+  }
+
+  public boolean matches(String method, String uri) {
+    int methodBit = methodBit(method);
+    if ((anyPathMethods & methodBit) != 0 || walk(anchored, uri, 0, methodBit)) {
+      return true;
+    }
+    if (hasContainsRules) {
+      for (int i = uri.indexOf('/'); i >= 0; i = uri.indexOf('/', i + 1)) {
+        if (walk(contained, uri, i, methodBit)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  // === Private Helper Methods ===
+
+  private void add(PublicRouteProperties.Rule rule) {
+    int methods = methodMask(rule.getMethods());
+    int conditions = (rule.getExact() != null ? 1 : 0) + (rule.getPrefix() != null ? 1 : 0)
+        + (rule.getContains() != null ? 1 : 0);
+    if (conditions > 1) {
+      throw new IllegalArgumentException("공개 경로 규칙에는 exact, prefix, contains 중 하나만 지정할 수 있습니다.");
+    }
+
+    if (rule.getExact() != null) {
+      insert(anchored, rule.getExact()).exactMethods |= methods;
+    } else if (rule.getPrefix() != null) {
+      insert(anchored, rule.getPrefix()).prefixMethods |= methods;
+    } else if (rule.getContains() != null) {
+      if (!rule.getContains().startsWith("/")) {
+        throw new IllegalArgumentException("contains 규칙은 '/' 로 시작해야 합니다: " + rule.getContains());
+      }
+      insert(contained, rule.getContains()).prefixMethods |= methods;
+      hasContainsRules = true;
+    } else {
+      anyPathMethods |= methods;
+    }
+  }
+
+  private static Node insert(Node root, String path) {
+    Node node = root;
+    int i = 0;
+    while (i < path.length()) {
+      if (path.startsWith(NUMBER_VARIABLE, i)) {
+        if (node.number == null) {
+          node.number = new Node();
+        }
+        node = node.number;
+        i += NUMBER_VARIABLE.length();
+      } else {
+        node = node.childOrCreate(path.charAt(i));
+        i++;
+      }
+    }
+    return node;
+  }
+
+  private static boolean walk(Node node, String uri, int index, int methodBit) {
+    while (true) {
+      if ((node.prefixMethods & methodBit) != 0) {
+        return true;
+      }
+      if (index == uri.length()) {
+        return (node.exactMethods & methodBit) != 0;
+      }
+
+      char c = uri.charAt(index);
+      if (node.number != null && isDigit(c)) {
+        int end = index + 1;
+        while (end < uri.length() && isDigit(uri.charAt(end))) {
+          end++;
+        }
+        if (walk(node.number, uri, end, methodBit)) {
+          return true;
+        }
+      }
+
+      node = node.child(c);
+      if (node == null) {
+        return false;
+      }
+      index++;
+    }
+  }
+
+  private static boolean isDigit(char c) {
+    return c >= '0' && c <= '9';
+  }
+
+  private static int methodMask(List<String> methods) {
+    if (methods.isEmpty()) {
+      return ANY_METHOD;
+    }
+    int mask = 0;
+    for (String method : methods) {
+      int bit = methodBit(method);
+      if (bit == OTHER_METHOD) {
+        throw new IllegalArgumentException("지원하지 않는 HTTP 메서드입니다: " + method);
+      }
+      mask |= bit;
+    }
+    return mask;
+  }
+
+  private static int methodBit(String method) {
+    return switch (method) {
+      case "GET" -> 1;
+      case "HEAD" -> 1 << 1;
+      case "POST" -> 1 << 2;
+      case "PUT" -> 1 << 3;
+      case "PATCH" -> 1 << 4;
+      case "DELETE" -> 1 << 5;
+      case "OPTIONS" -> 1 << 6;
+      case "TRACE" -> 1 << 7;
+      default -> {
+        String upperCase = method.toUpperCase(Locale.ROOT);
+        yield upperCase.equals(method) ? OTHER_METHOD : methodBit(upperCase);
+      }
+    };
+  }
+
+  /**
+   * 트라이 노드 - 자식은 정렬된 배열로 보관 (이진 탐색)
+   */
+  private static final class Node {
+    private char[] keys = new char[0];
+    private Node[] children = new Node[0];
+    // {id} 숫자 경로 변수 다음 노드
+    private Node number;
+    // 여기까지 일치하면 통과 (나머지 경로 무관)
+    private int prefixMethods;
+    // 여기서 URI 가 끝나면 통과
+    private int exactMethods;
+
+    private Node child(char c) {
+      int index = Arrays.binarySearch(keys, c);
+      return index >= 0 ? children[index] : null;
+    }
+
+    private Node childOrCreate(char c) {
+      int index = Arrays.binarySearch(keys, c);
+      if (index >= 0) {
+        return children[index];
+      }
+      int insertAt = -index - 1;
+      char[] newKeys = new char[keys.length + 1];
+      Node[] newChildren = new Node[children.length + 1];
+      System.arraycopy(keys, 0, newKeys, 0, insertAt);
+      System.arraycopy(children, 0, newChildren, 0, insertAt);
+      newKeys[insertAt] = c;
+      newChildren[insertAt] = new Node();
+      System.arraycopy(keys, insertAt, newKeys, insertAt + 1, keys.length - insertAt);
+      System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+      keys = newKeys;
+      children = newChildren;
+      return newChildren[insertAt];
+    }
+  }
+}
@@ -0,0 +1,37 @@
+package bon.bon_jujitsu.filter;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * app.public-routes.* 설정 (인증 없이 통과시킬 경로 규칙)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.public-routes")
+public class PublicRouteProperties {
+
+  private List<Rule> rules = new ArrayList<>();
+
+  /**
+   * 경로 조건은 exact / prefix / contains 중 하나만 지정 (모두 생략하면 모든 경로)
+   * - 경로의 {id} 는 1자리 이상의 숫자와 일치한다.
+   */
+  @Getter
+  @Setter
+  public static class Rule {
+    // URI 전체 일치
+    private String exact;
+    // URI 시작 일치
+    private String prefix;
+    // URI 어디든 포함 ('/' 로 시작해야 함)
+    private String contains;
+    // 비어 있으면 모든 메서드
+    private List<String> methods = new ArrayList<>();
+    // 비어 있으면 모든 프로필
+    private List<String> profiles = new ArrayList<>();
+  }
+}
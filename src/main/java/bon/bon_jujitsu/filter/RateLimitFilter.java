@@ -0,0 +1,127 @@
+package bon.bon_jujitsu.filter;
+
+import bon.bon_jujitsu.jwt.AuthenticationContext;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+
+/**
+ * 로그인/회원가입/비회원 QnA 비밀번호 확인 등 비용이 큰 요청의 클라이언트별 요청 제한
+ * - 인증 필터 이후에 실행되므로 토큰이 있으면 사용자 ID, 없으면 IP 기준으로 제한한다.
+ * - 제한 초과 시 bcrypt/DB 작업 전에 429 와 Retry-After 로 응답한다.
+ */
+@Slf4j
+@Component
+@Order(3)
+public class RateLimitFilter implements Filter {
+
+  private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+  private final boolean enabled;
+  private final int forwardedHops;
+  private final List<Group> groups;
+
+  public RateLimitFilter(RateLimitProperties properties) {
+    this.enabled = properties.isEnabled();
+    this.forwardedHops = properties.getForwardedHops();
+    this.groups = properties.getGroups().entrySet().stream()
+        .map(Group::of)
+        .toList();
+  }
+
+  @Override
+  public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+      throws IOException, ServletException {
+    HttpServletRequest req = (HttpServletRequest) request;
+
+    if (enabled) {
+      String requestUri = req.getRequestURI();
+      String httpMethod = req.getMethod();
+
+      for (Group group : groups) {
+        if (!group.matches(httpMethod, requestUri)) {
+          continue;
+        }
+        String key = resolveKey(req, group.keyBy());
+        long waitNanos = group.limiter().tryAcquire(key);
+        if (waitNanos > 0) {
+          log.warn("요청 제한 초과: [{}] {} {} - {}", group.name(), httpMethod, requestUri, key);
+          sendTooManyRequestsResponse((HttpServletResponse) response, waitNanos);
+          return;
+        }
+      }
+    }
+
+    chain.doFilter(request, response);
+  }
+
+  // === Private Helper Methods ===
+
+  private String resolveKey(HttpServletRequest request, RateLimitProperties.KeyBy keyBy) {
+    if (keyBy == RateLimitProperties.KeyBy.USER
+        && request.getAttribute(AuthenticationContext.ATTRIBUTE) instanceof AuthenticationContext context) {
+      return "user:" + context.userId();
+    }
+    return "ip:" + ClientIpResolver.resolve(request, forwardedHops);
+  }
+
+  /**
+   * 429 Too Many Requests 응답 전송
+   */
+  private void sendTooManyRequestsResponse(HttpServletResponse response, long waitNanos) {
+    try {
+      long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+      response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+      response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+      response.setContentType("application/json;charset=UTF-8");
+      response.getWriter().write(
+          "{\"success\": false, \"message\": \"요청이 너무 많습니다. 잠시 후 다시 시도해주세요.\", \"status\": 429}"
+      );
+    } catch (IOException e) {
+      log.error("응답 전송 실패: {}", e.getMessage());
+    }
+  }
+
+  private record Group(String name, List<String> paths, Set<String> methods, RateLimitProperties.KeyBy keyBy,
+                       TokenBucketLimiter limiter) {
+
+    static Group of(Map.Entry<String, RateLimitProperties.Group> entry) {
+      RateLimitProperties.Group spec = entry.getValue();
+      Set<String> methods = spec.getMethods().stream()
+          .map(method -> method.toUpperCase(Locale.ROOT))
+          .collect(Collectors.toUnmodifiableSet());
+      TokenBucketLimiter limiter = new TokenBucketLimiter(spec.getCapacity(), spec.getRefillPeriod(),
+          spec.getMaximumClients());
+      return new Group(entry.getKey(), List.copyOf(spec.getPaths()), methods, spec.getKeyBy(), limiter);
+    }
+
+    boolean matches(String httpMethod, String requestUri) {
+      if (!methods.isEmpty() && !methods.contains(httpMethod.toUpperCase(Locale.ROOT))) {
+        return false;
+      }
+      for (String path : paths) {
+        if (PATH_MATCHER.match(path, requestUri)) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+}
@@ -0,0 +1,48 @@
+package bon.bon_jujitsu.filter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * app.rate-limit.* 설정 (경로 그룹별 토큰 버킷)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+
+  private boolean enabled = true;
+  // 로드밸런서 등 신뢰하는 프록시 수 (0 이면 X-Forwarded-For 를 보지 않고 접속 IP 사용)
+  private int forwardedHops = 0;
+  // 그룹 이름별 설정 (login, signup, qna-guest ...)
+  private Map<String, Group> groups = new LinkedHashMap<>();
+
+  public enum KeyBy {
+    // 클라이언트 IP
+    IP,
+    // 로그인 사용자 ID (비로그인 요청은 IP)
+    USER
+  }
+
+  @Getter
+  @Setter
+  public static class Group {
+    // 대상 경로 (Ant 패턴)
+    private List<String> paths = new ArrayList<>();
+    // 비어 있으면 모든 메서드
+    private List<String> methods = new ArrayList<>();
+    private KeyBy keyBy = KeyBy.IP;
+    // 한 번에 허용하는 최대 요청 수
+    private int capacity = 10;
+    // capacity 만큼 다시 채워지는 데 걸리는 시간
+    private Duration refillPeriod = Duration.ofMinutes(1);
+    // 추적할 최대 클라이언트 수 (초과 시 오래된 항목부터 제거)
+    private long maximumClients = 100_000;
+  }
+}
@@ -0,0 +1,101 @@
+package bon.bon_jujitsu.filter;
+
+import bon.bon_jujitsu.cache.ResponseCache;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+/**
+ * 공개 목록 API 응답 캐시
+ * - 인증 필터 이후에 실행되므로 토큰 검증은 그대로 거친다.
+ * - 캐시 hit: 서비스 호출 없이 저장된 JSON 바이트 반환, If-None-Match 가 일치하면 304
+ * - 캐시 miss: 응답을 버퍼링해 200 JSON 응답만 저장
+ */
+@Component
+@Order(4)
+@RequiredArgsConstructor
+public class ResponseCacheFilter implements Filter {
+
+  private final ResponseCache responseCache;
+
+  @Override
+  public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+      throws IOException, ServletException {
+    HttpServletRequest req = (HttpServletRequest) request;
+    HttpServletResponse res = (HttpServletResponse) response;
+
+    ResponseCache.Group group = "GET".equalsIgnoreCase(req.getMethod())
+        ? responseCache.match(req.getRequestURI())
+        : null;
+    if (group == null) {
+      chain.doFilter(request, response);
+      return;
+    }
+
+    String key = ResponseCache.keyOf(req.getRequestURI(), req.getParameterMap());
+    String ifNoneMatch = req.getHeader(HttpHeaders.IF_NONE_MATCH);
+
+    ResponseCache.Entry cached = group.get(key);
+    if (cached != null) {
+      write(res, cached, ifNoneMatch);
+      return;
+    }
+
+    long version = group.version();
+    ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(res);
+    chain.doFilter(request, wrapper);
+
+    String contentType = wrapper.getContentType();
+    if (wrapper.getStatus() != HttpStatus.OK.value() || contentType == null || !contentType.contains("json")) {
+      wrapper.copyBodyToResponse();
+      return;
+    }
+
+    ResponseCache.Entry entry = group.put(key, version, wrapper.getContentAsByteArray(), contentType);
+    wrapper.resetBuffer();
+    write(res, entry, ifNoneMatch);
+  }
+
+  private void write(HttpServletResponse res, ResponseCache.Entry entry, String ifNoneMatch) throws IOException {
+    res.setHeader(HttpHeaders.ETAG, entry.etag());
+    res.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+    if (matchesEtag(ifNoneMatch, entry.etag())) {
+      res.setStatus(HttpStatus.NOT_MODIFIED.value());
+      return;
+    }
+    res.setStatus(HttpStatus.OK.value());
+    res.setContentType(entry.contentType());
+    res.setContentLength(entry.body().length);
+    res.getOutputStream().write(entry.body());
+  }
+
+  /**
+   * If-None-Match 는 여러 값이나 약한 비교(W/) 형태로 올 수 있음
+   */
+  private boolean matchesEtag(String ifNoneMatch, String etag) {
+    if (ifNoneMatch == null) {
+      return false;
+    }
+    for (String candidate : ifNoneMatch.split(",")) {
+      String value = candidate.trim();
+      if (value.startsWith("W/")) {
+        value = value.substring(2);
+      }
+      if (value.equals("*") || value.equals(etag)) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,53 @@
+package bon.bon_jujitsu.filter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 클라이언트별 토큰 버킷
+ * - 버킷 상태는 "다음 토큰이 생기는 이론상 시각" 하나(GCRA)로 표현해 AtomicLong CAS 로만 갱신한다. (잠금 없음)
+ * - 클라이언트 수는 Caffeine 으로 제한하고, 가득 찬 뒤 refillPeriod 동안 요청이 없던 버킷은 초기 상태와 같으므로 제거한다.
+ */
+public class TokenBucketLimiter {
+
+  // 토큰 하나가 채워지는 간격
+  private final long emissionIntervalNanos;
+  // 버킷이 비어 있을 때부터 가득 찰 때까지의 시간 (= 허용 버스트)
+  private final long burstNanos;
+  private final Cache<String, AtomicLong> buckets;
+
+  public TokenBucketLimiter(int capacity, Duration refillPeriod, long maximumClients) {
+    if (capacity <= 0 || refillPeriod.isNegative() || refillPeriod.isZero()) {
+      throw new IllegalArgumentException("요청 제한 설정이 올바르지 않습니다.");
+    }
+    this.burstNanos = refillPeriod.toNanos();
+    this.emissionIntervalNanos = burstNanos / capacity;
+    this.buckets = Caffeine.newBuilder()
+        .maximumSize(maximumClients)
+        .expireAfterAccess(refillPeriod)
+        .build();
+  }
+
+  /**
+   * 토큰 하나 사용
+   * @return 0 이면 허용, 양수면 다음 요청이 가능할 때까지 남은 시간(나노초)
+   */
+  public long tryAcquire(String key) {
+    long now = System.nanoTime();
+    AtomicLong theoreticalArrival = buckets.get(key, k -> new AtomicLong(now - burstNanos));
+
+    while (true) {
+      long current = theoreticalArrival.get();
+      long next = Math.max(current, now - burstNanos) + emissionIntervalNanos;
+      long overdraft = next - now;
+      if (overdraft > 0) {
+        return overdraft;
+      }
+      if (theoreticalArrival.compareAndSet(current, next)) {
+        return 0;
+      }
+    }
+  }
+}
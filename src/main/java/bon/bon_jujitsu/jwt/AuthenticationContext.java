@@ -0,0 +1,13 @@
+package bon.bon_jujitsu.jwt;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * 요청 단위 인증 결과
+ * - AuthenticationFilter 에서 한 번 검증한 결과를 요청 속성에 저장하고
+ *   CurrentUserArgumentResolver 가 토큰을 다시 파싱하지 않고 사용한다.
+ */
+public record AuthenticationContext(Long userId, Claims claims) {
+
+  public static final String ATTRIBUTE = AuthenticationContext.class.getName();
+}
@@ -0,0 +1,175 @@
+package bon.bon_jujitsu.jwt;
+
+import bon.bon_jujitsu.common.BloomFilter;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.stereotype.Component;
+
+/**
+ * 액세스 토큰 블랙리스트 앞단의 로컬 Bloom 필터
+ * - mightContain 이 false 면 블랙리스트가 아니므로 Redis 조회를 생략한다. (true 면 Redis 로 확인)
+ * - 토큰 원문 대신 SHA-256 해시를 저장/전파한다.
+ * - 블랙리스트 추가 시 로컬 필터에 바로 반영하고, 다른 노드에는 pub/sub 으로 전파한다.
+ * - 만료된 항목을 비우고 유실된 메시지를 보정하기 위해 resync 주기마다 Redis 색인으로 새 필터를 만들어 교체한다.
+ * - 기동 후 첫 재구축이 끝나기 전까지는 항상 Redis 로 확인한다.
+ */
+@Slf4j(topic = "BlacklistBloomFilter")
+@Component
+public class BlacklistBloomFilter implements MessageListener, AutoCloseable {
+
+  // 토큰 해시 색인 (score: 만료 시각) - 재구축 시 블랙리스트 전체를 SCAN 하지 않기 위해 사용
+  static final String INDEX_KEY = "blacklist:index:access";
+  private static final String BLACKLIST_KEY_PATTERN = "blacklist:access:*";
+  private static final int BLACKLIST_PREFIX_LENGTH = "blacklist:access:".length();
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final String channel;
+  private final long expectedInsertions;
+  private final double falsePositiveRate;
+  private final ScheduledExecutorService scheduler;
+
+  private volatile BloomFilter current;
+  // 재구축 중에 추가된 해시는 새 필터에도 기록 (교체 시 누락 방지)
+  private volatile BloomFilter rebuilding;
+  private volatile boolean ready;
+
+  public BlacklistBloomFilter(RedisTemplate<String, String> redisTemplate,
+      @Value("${app.jwt.blacklist.channel:blacklist:access:events}") String channel,
+      @Value("${app.jwt.blacklist.expected-insertions:100000}") long expectedInsertions,
+      @Value("${app.jwt.blacklist.false-positive-rate:0.001}") double falsePositiveRate,
+      @Value("${app.jwt.blacklist.resync-interval:30s}") Duration resyncInterval) {
+    this.redisTemplate = redisTemplate;
+    this.channel = channel;
+    this.expectedInsertions = expectedInsertions;
+    this.falsePositiveRate = falsePositiveRate;
+    this.current = BloomFilter.create(expectedInsertions, falsePositiveRate);
+    this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "blacklist-bloom-resync");
+      thread.setDaemon(true);
+      return thread;
+    });
+
+    // 준비 전(기동 직후 또는 첫 재구축 실패)에는 색인 없이 저장된 이전 항목까지 SCAN 으로 포함
+    scheduler.scheduleWithFixedDelay(() -> rebuild(!ready), 0, resyncInterval.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  public String getChannel() {
+    return channel;
+  }
+
+  /**
+   * 블랙리스트에 있을 수도 있는지 확인 (false 면 확실히 없음)
+   */
+  public boolean mightContain(String accessToken) {
+    if (!ready) {
+      return true;
+    }
+    return current.mightContain(hash(accessToken));
+  }
+
+  /**
+   * 블랙리스트 추가 후 호출 - 색인 등록, 로컬 반영, 다른 노드로 전파
+   * - 색인에 먼저 넣어야 그 사이 시작된 재구축이 색인에서 읽거나 rebuilding 필터로 받아 교체 후에도 남는다.
+   */
+  public void register(String accessToken, long expiresAt) {
+    byte[] hash = hash(accessToken);
+    String hex = HexFormat.of().formatHex(hash);
+    try {
+      redisTemplate.opsForZSet().add(INDEX_KEY, hex, expiresAt);
+    } catch (RuntimeException e) {
+      // 이번 필터에는 반영되지만, 색인에 없으므로 다음 재구축부터는 빠질 수 있다.
+      log.warn("블랙리스트 색인 등록 실패: {}", e.getMessage());
+    }
+    put(hash);
+
+    try {
+      redisTemplate.convertAndSend(channel, hex);
+    } catch (RuntimeException e) {
+      // 다른 노드에는 다음 resync 때 반영된다.
+      log.warn("블랙리스트 Bloom 필터 전파 실패: {}", e.getMessage());
+    }
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    try {
+      put(HexFormat.of().parseHex(new String(message.getBody(), StandardCharsets.UTF_8)));
+    } catch (IllegalArgumentException e) {
+      log.warn("블랙리스트 메시지 형식 오류: {}", e.getMessage());
+    }
+  }
+
+  @Override
+  public void close() {
+    scheduler.shutdownNow();
+  }
+
+  // === Private Helper Methods ===
+
+  /**
+   * rebuilding 을 current 보다 먼저 읽는다. (읽는 사이 재구축이 끝났으면 current 가 이미 새 필터)
+   */
+  private void put(byte[] hash) {
+    BloomFilter next = rebuilding;
+    if (next != null) {
+      next.put(hash);
+    }
+    current.put(hash);
+  }
+
+  /**
+   * Redis 색인으로 새 필터를 만들어 교체 (만료된 해시는 색인에서 정리)
+   * - 실패하면 기존 필터를 유지하고, 아직 준비 전이면 계속 Redis 로 확인한다.
+   */
+  private void rebuild(boolean scanLegacyKeys) {
+    BloomFilter next = BloomFilter.create(expectedInsertions, falsePositiveRate);
+    rebuilding = next;
+    try {
+      long now = System.currentTimeMillis();
+      redisTemplate.opsForZSet().removeRangeByScore(INDEX_KEY, Double.NEGATIVE_INFINITY, now);
+      Set<String> hashes = redisTemplate.opsForZSet().rangeByScore(INDEX_KEY, now, Double.POSITIVE_INFINITY);
+      if (hashes != null) {
+        hashes.forEach(hex -> next.put(HexFormat.of().parseHex(hex)));
+      }
+
+      if (scanLegacyKeys) {
+        ScanOptions options = ScanOptions.scanOptions().match(BLACKLIST_KEY_PATTERN).count(1000).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+          cursor.forEachRemaining(key -> next.put(hash(key.substring(BLACKLIST_PREFIX_LENGTH))));
+        }
+      }
+
+      current = next;
+      if (!ready) {
+        ready = true;
+        log.info("블랙리스트 Bloom 필터 준비 완료: {}건", hashes != null ? hashes.size() : 0);
+      }
+    } catch (RuntimeException e) {
+      log.warn("블랙리스트 Bloom 필터 재구축 실패: {}", e.getMessage());
+    } finally {
+      rebuilding = null;
+    }
+  }
+
+  private static byte[] hash(String accessToken) {
+    try {
+      return MessageDigest.getInstance("SHA-256").digest(accessToken.getBytes(StandardCharsets.UTF_8));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,287 @@
+package bon.bon_jujitsu.jwt;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.Key;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.crypto.SecretKey;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 파일에 보관하는 HS256 서명 키 묶음
+ * - 토큰 헤더의 kid 로 검증 키를 찾으므로 같은 파일을 읽는 모든 노드가 서로의 토큰을 검증할 수 있다.
+ * - rotationEnabled 노드(한 노드만)가 주기마다 새 키를 추가하고, 다른 노드는 파일 변경을 감지해 다시 읽는다.
+ * - 최초 키 파일은 어느 노드든 만들 수 있지만 파일이 없을 때만 생성되므로 (원자적 생성) 먼저 만든 노드의 키를 모두 사용한다.
+ * - 새 키는 activationDelay 이후부터 서명에 사용하고, 이전 키는 gracePeriod 동안 검증에만 사용한 뒤 정리한다.
+ * - 모르는 kid 를 받으면 파일을 즉시 다시 읽어 본다. (다른 노드가 방금 교체한 경우)
+ */
+@Slf4j(topic = "JwtKeyRing")
+public class JwtKeyRing extends SigningKeyResolverAdapter implements AutoCloseable {
+
+  private static final SignatureAlgorithm ALGORITHM = SignatureAlgorithm.HS256;
+
+  private final JwtKeyRingProperties properties;
+  private final Path path;
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final ScheduledExecutorService scheduler;
+
+  // 최신 키가 앞에 오도록 정렬된 불변 목록
+  private volatile List<RingKey> keys;
+  private volatile Map<String, RingKey> keysById;
+  private volatile FileTime loadedModifiedTime;
+
+  /**
+   * 서명 키 하나
+   * @param activatesAt 이 시각부터 서명에 사용 (epoch millis)
+   */
+  public record RingKey(String id, SecretKey secretKey, long createdAt, long activatesAt) {
+  }
+
+  // 키 파일 형식
+  record KeyFile(List<KeyEntry> keys) {
+  }
+
+  record KeyEntry(String id, String secret, long createdAt, long activatesAt) {
+  }
+
+  private JwtKeyRing(JwtKeyRingProperties properties, List<RingKey> keys) {
+    this.properties = properties;
+    this.path = properties != null ? Path.of(properties.getPath()) : null;
+    this.scheduler = properties != null ? Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "jwt-key-ring");
+      thread.setDaemon(true);
+      return thread;
+    }) : null;
+    replaceKeys(keys);
+  }
+
+  /**
+   * 키 파일을 읽어(없으면 생성) 키 묶음을 만들고 교체 스케줄 시작
+   */
+  public static JwtKeyRing load(JwtKeyRingProperties properties) {
+    JwtKeyRing keyRing = new JwtKeyRing(properties, List.of());
+    keyRing.initialize();
+    return keyRing;
+  }
+
+  /**
+   * 고정 키 하나 (테스트/벤치마크용, 교체 없음)
+   */
+  public static JwtKeyRing single(SecretKey secretKey) {
+    return new JwtKeyRing(null, List.of(new RingKey("static", secretKey, 0, 0)));
+  }
+
+  /**
+   * 현재 서명에 사용할 키 (활성화된 키 중 가장 최신)
+   */
+  public RingKey signingKey() {
+    long now = System.currentTimeMillis();
+    List<RingKey> current = keys;
+    return current.stream()
+        .filter(key -> key.activatesAt() <= now)
+        .findFirst()
+        .orElse(current.get(current.size() - 1));
+  }
+
+  @Override
+  public Key resolveSigningKey(JwsHeader header, Claims claims) {
+    String keyId = header.getKeyId();
+    if (keyId == null) {
+      throw new SignatureException("서명 키 ID 가 없는 토큰입니다.");
+    }
+
+    RingKey key = keysById.get(keyId);
+    if (key == null && path != null) {
+      reloadIfChanged();
+      key = keysById.get(keyId);
+    }
+    if (key == null) {
+      throw new SignatureException("알 수 없는 서명 키입니다: " + keyId);
+    }
+    return key.secretKey();
+  }
+
+  @Override
+  public void close() {
+    if (scheduler != null) {
+      scheduler.shutdownNow();
+    }
+  }
+
+  // === Private Helper Methods ===
+
+  private void initialize() {
+    if (Files.exists(path)) {
+      reloadIfChanged();
+    }
+
+    if (keys.isEmpty()) {
+      createInitialKey();
+    }
+
+    long interval = properties.getReloadInterval().toMillis();
+    scheduler.scheduleWithFixedDelay(this::maintain, interval, interval, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * 파일 변경 반영 후, 교체 담당 노드라면 키 교체와 만료 키 정리
+   */
+  private void maintain() {
+    try {
+      reloadIfChanged();
+      if (properties.isRotationEnabled()) {
+        rotateAndPrune();
+      }
+    } catch (RuntimeException e) {
+      log.warn("JWT 서명 키 갱신 실패: {}", e.getMessage());
+    }
+  }
+
+  private synchronized void rotateAndPrune() {
+    long now = System.currentTimeMillis();
+    List<RingKey> next = new ArrayList<>(keys);
+
+    RingKey newest = next.get(0);
+    if (newest.createdAt() + properties.getRotationInterval().toMillis() <= now) {
+      RingKey created = newKey(now, now + properties.getActivationDelay().toMillis());
+      next.add(0, created);
+      log.info("JWT 서명 키 교체 예약: kid={}, activatesAt={}", created.id(), created.activatesAt());
+    }
+
+    // 다음 키가 활성화된 지 gracePeriod 가 지난 키는 제거 (서명 중인 키와 그 이후 키는 유지)
+    long graceMillis = properties.getGracePeriod().toMillis();
+    List<RingKey> retained = new ArrayList<>();
+    for (int i = 0; i < next.size(); i++) {
+      RingKey successor = i > 0 ? next.get(i - 1) : null;
+      if (successor == null || successor.activatesAt() > now || successor.activatesAt() + graceMillis > now) {
+        retained.add(next.get(i));
+      } else {
+        log.info("JWT 서명 키 만료 제거: kid={}", next.get(i).id());
+      }
+    }
+
+    if (!retained.equals(keys)) {
+      write(retained);
+    }
+  }
+
+  private synchronized void reloadIfChanged() {
+    try {
+      FileTime modifiedTime = Files.getLastModifiedTime(path);
+      if (modifiedTime.equals(loadedModifiedTime)) {
+        return;
+      }
+
+      KeyFile file = objectMapper.readValue(path.toFile(), KeyFile.class);
+      replaceKeys(file.keys().stream()
+          .map(entry -> new RingKey(entry.id(), Keys.hmacShaKeyFor(Base64.getDecoder().decode(entry.secret())),
+              entry.createdAt(), entry.activatesAt()))
+          .toList());
+      loadedModifiedTime = modifiedTime;
+      log.info("JWT 서명 키 {}개 로드: {}", keys.size(), path);
+    } catch (IOException e) {
+      throw new UncheckedIOException("JWT 키 파일을 읽을 수 없습니다: " + path, e);
+    }
+  }
+
+  /**
+   * 최초 키 파일 생성 - 파일이 없을 때만 만든다. (여러 노드가 동시에 기동해도 한 노드의 키만 남음)
+   * - 다른 노드가 먼저 만들었으면 그 파일을 읽는다.
+   */
+  private synchronized void createInitialKey() {
+    // 최초 키는 아직 발급된 토큰이 없으므로 바로 사용
+    long now = System.currentTimeMillis();
+    List<RingKey> initial = List.of(newKey(now, now));
+    try {
+      Path temp = writeTemp(initial);
+      try {
+        try {
+          // 하드 링크 생성은 대상이 있으면 실패하므로 원자적인 "없을 때만 생성"
+          Files.createLink(path, temp);
+        } catch (UnsupportedOperationException e) {
+          Files.move(temp, path);
+        }
+        replaceKeys(initial);
+        loadedModifiedTime = Files.getLastModifiedTime(path);
+        log.info("JWT 서명 키 파일 생성: {}", path);
+      } finally {
+        Files.deleteIfExists(temp);
+      }
+    } catch (FileAlreadyExistsException e) {
+      log.info("다른 노드가 생성한 JWT 서명 키 파일 사용: {}", path);
+      reloadIfChanged();
+    } catch (IOException e) {
+      throw new UncheckedIOException("JWT 키 파일을 저장할 수 없습니다: " + path, e);
+    }
+  }
+
+  /**
+   * 임시 파일에 쓴 뒤 교체해서 다른 노드가 쓰다 만 파일을 읽지 않도록 함 (교체 담당 노드만 호출)
+   */
+  private void write(List<RingKey> newKeys) {
+    try {
+      Path temp = writeTemp(newKeys);
+      try {
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+      }
+      replaceKeys(newKeys);
+      loadedModifiedTime = Files.getLastModifiedTime(path);
+    } catch (IOException e) {
+      throw new UncheckedIOException("JWT 키 파일을 저장할 수 없습니다: " + path, e);
+    }
+  }
+
+  private Path writeTemp(List<RingKey> newKeys) throws IOException {
+    List<KeyEntry> entries = newKeys.stream()
+        .map(key -> new KeyEntry(key.id(), Base64.getEncoder().encodeToString(key.secretKey().getEncoded()),
+            key.createdAt(), key.activatesAt()))
+        .toList();
+    Files.createDirectories(path.toAbsolutePath().getParent());
+    Path temp = Files.createTempFile(path.toAbsolutePath().getParent(), ".jwt-key-ring", ".tmp");
+    if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+      Files.setPosixFilePermissions(temp, PosixFilePermissions.fromString("rw-------"));
+    }
+    objectMapper.writeValue(temp.toFile(), new KeyFile(entries));
+    return temp;
+  }
+
+  private void replaceKeys(List<RingKey> newKeys) {
+    List<RingKey> sorted = newKeys.stream()
+        .sorted(Comparator.comparingLong(RingKey::activatesAt).thenComparingLong(RingKey::createdAt).reversed())
+        .toList();
+    this.keysById = sorted.stream().collect(Collectors.toUnmodifiableMap(RingKey::id, Function.identity()));
+    this.keys = sorted;
+  }
+
+  private static RingKey newKey(long createdAt, long activatesAt) {
+    String id = Long.toString(createdAt, 36) + "-" + UUID.randomUUID().toString().substring(0, 8);
+    return new RingKey(id, Keys.secretKeyFor(ALGORITHM), createdAt, activatesAt);
+  }
+}
@@ -0,0 +1,28 @@
+package bon.bon_jujitsu.jwt;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * app.jwt.key-ring.* 설정 (JWT 서명 키 파일과 교체 주기)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.jwt.key-ring")
+public class JwtKeyRingProperties {
+
+  // 키 파일 경로 (여러 노드가 같은 파일을 읽어야 함)
+  private String path = "/data/keys/jwt-key-ring.json";
+  // 키를 교체/정리하는 노드만 true (파일을 덮어쓰는 노드는 하나여야 하므로 기본값은 false, 지정 노드만 환경 변수로 켬)
+  private boolean rotationEnabled = false;
+  // 새 키로 교체하는 주기
+  private Duration rotationInterval = Duration.ofDays(7);
+  // 새 키 생성 후 서명에 쓰기 시작할 때까지 대기 (다른 노드가 파일을 다시 읽을 시간)
+  private Duration activationDelay = Duration.ofMinutes(5);
+  // 교체된 키로 서명된 토큰을 계속 받아 주는 기간 (리프레시 토큰 유효 시간 이상)
+  private Duration gracePeriod = Duration.ofHours(25);
+  // 파일 변경 확인 및 교체 검사 주기
+  private Duration reloadInterval = Duration.ofMinutes(1);
+}
@@ -2,15 +2,17 @@ package bon.bon_jujitsu.jwt;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
 import java.util.Date;
 import java.util.concurrent.TimeUnit;
 import javax.crypto.SecretKey;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 
@@ -18,8 +20,13 @@ import org.springframework.stereotype.Component;
 @Component
 public class JwtUtil {
 
-  private final SecretKey secretKey;
+  // 서명 키 묶음 - 서명은 현재 키, 검증은 토큰 헤더의 kid 로 찾은 키
+  private final JwtKeyRing keyRing;
+  // 불변/스레드 안전하므로 한 번만 생성해서 재사용
+  private final JwtParser jwtParser;
   private final RedisTemplate<String, String> redisTemplate;
+  // 블랙리스트 조회 앞단 필터 (null 이면 항상 Redis 조회)
+  private final BlacklistBloomFilter blacklistBloomFilter;
 
   // 액세스 토큰 유효 시간 (1시간)
   private static final long ACCESS_TOKEN_EXPIRE_TIME = 60 * 60 * 1000L ;
@@ -31,9 +38,20 @@ public class JwtUtil {
   // Redis에서 블랙리스트 저장 시 사용할 접두사
   private static final String BLACKLIST_PREFIX = "blacklist:access:";
 
-  public JwtUtil(RedisTemplate<String, String> redisTemplate) {
-    this.secretKey = Keys.secretKeyFor(SignatureAlgorithm.HS256);
+  @Autowired
+  public JwtUtil(RedisTemplate<String, String> redisTemplate, JwtKeyRing keyRing,
+      BlacklistBloomFilter blacklistBloomFilter) {
+    this.keyRing = keyRing;
+    this.jwtParser = Jwts.parserBuilder()
+        .setSigningKeyResolver(keyRing)
+        .build();
     this.redisTemplate = redisTemplate;
+    this.blacklistBloomFilter = blacklistBloomFilter;
+  }
+
+  JwtUtil(RedisTemplate<String, String> redisTemplate, SecretKey secretKey,
+      BlacklistBloomFilter blacklistBloomFilter) {
+    this(redisTemplate, JwtKeyRing.single(secretKey), blacklistBloomFilter);
   }
 
   // 토큰 생성 결과를 담는 내부 클래스
@@ -47,25 +65,28 @@ public class JwtUtil {
   // 액세스 토큰과 리프레시 토큰을 함께 생성
   public TokenInfo createTokens(Long userId) {
     final Date now = new Date();
+    final JwtKeyRing.RingKey signingKey = keyRing.signingKey();
 
     // 액세스 토큰 생성
     final Claims accessClaims = Jwts.claims().setSubject(String.valueOf(userId));
     accessClaims.put("type", "access");
     String accessToken = Jwts.builder()
+        .setHeaderParam(JwsHeader.KEY_ID, signingKey.id())
         .setClaims(accessClaims)
         .setIssuedAt(now)
         .setExpiration(new Date(now.getTime() + ACCESS_TOKEN_EXPIRE_TIME))
-        .signWith(SignatureAlgorithm.HS256, secretKey.getEncoded())
+        .signWith(signingKey.secretKey(), SignatureAlgorithm.HS256)
         .compact();
 
     // 리프레시 토큰 생성
     final Claims refreshClaims = Jwts.claims().setSubject(String.valueOf(userId));
     refreshClaims.put("type", "refresh");
     String refreshToken = Jwts.builder()
+        .setHeaderParam(JwsHeader.KEY_ID, signingKey.id())
         .setClaims(refreshClaims)
         .setIssuedAt(now)
         .setExpiration(new Date(now.getTime() + REFRESH_TOKEN_EXPIRE_TIME))
-        .signWith(SignatureAlgorithm.HS256, secretKey.getEncoded())
+        .signWith(signingKey.secretKey(), SignatureAlgorithm.HS256)
         .compact();
 
     // 리프레시 토큰을 Redis에 저장 (키: refreshToken:userId, 값: refreshToken)
@@ -78,13 +99,15 @@ public class JwtUtil {
   // 액세스 토큰만 생성 (기존 메서드와 호환성 유지)
   public String createToken(Long userId) {
     final Date now = new Date();
+    final JwtKeyRing.RingKey signingKey = keyRing.signingKey();
     final Claims claims = Jwts.claims().setSubject(String.valueOf(userId));
     claims.put("type", "access");
     return Jwts.builder()
+        .setHeaderParam(JwsHeader.KEY_ID, signingKey.id())
         .setClaims(claims)
         .setIssuedAt(now)
         .setExpiration(new Date(now.getTime() + ACCESS_TOKEN_EXPIRE_TIME))
-        .signWith(SignatureAlgorithm.HS256, secretKey.getEncoded())
+        .signWith(signingKey.secretKey(), SignatureAlgorithm.HS256)
         .compact();
   }
 
@@ -117,13 +140,19 @@ public class JwtUtil {
     }
   }
 
-  // 토큰에서 사용자 ID 추출
-  public Long getPayload(final String token) {
-    // 블랙리스트 확인 추가
+  // 요청당 한 번 호출 - 서명/만료 검증 후 블랙리스트 1회 확인 (잘못된 토큰은 Redis 조회 없이 실패)
+  public AuthenticationContext authenticate(final String token) {
+    Claims claims = jwtParser.parseClaimsJws(token).getBody();
+
     if (isTokenBlacklisted(token)) {
       throw new IllegalArgumentException("이미 로그아웃된 토큰입니다.");
     }
 
+    return new AuthenticationContext(Long.parseLong(claims.getSubject()), claims);
+  }
+
+  // 토큰에서 사용자 ID 추출 (블랙리스트 확인은 getClaims 에서 수행)
+  public Long getPayload(final String token) {
     String subject = getClaims(token)
         .getBody()
         .getSubject();
@@ -138,10 +167,7 @@ public class JwtUtil {
     }
 
     try {
-      return Jwts.parserBuilder()
-          .setSigningKey(secretKey.getEncoded())
-          .build()
-          .parseClaimsJws(token);
+      return jwtParser.parseClaimsJws(token);
     } catch (Exception e) {
       throw new IllegalArgumentException(e);
     }
@@ -149,10 +175,7 @@ public class JwtUtil {
 
   // 토큰 파싱하기
   public Claims parseToken(final String token) {
-    return Jwts.parser()
-        .setSigningKey(secretKey.getEncoded())
-        .parseClaimsJws(token)
-        .getBody();
+    return jwtParser.parseClaimsJws(token).getBody();
   }
 
   // 토큰 만료 여부 확인
@@ -183,6 +206,9 @@ public class JwtUtil {
       if (ttl > 0) {
         String blacklistKey = BLACKLIST_PREFIX + accessToken;
         redisTemplate.opsForValue().set(blacklistKey, userId, ttl, TimeUnit.MILLISECONDS);
+        if (blacklistBloomFilter != null) {
+          blacklistBloomFilter.register(accessToken, expiration.getTime());
+        }
         log.info("액세스 토큰이 블랙리스트에 추가되었습니다. 사용자 ID: {}", userId);
       }
     } catch (Exception e) {
@@ -192,6 +218,10 @@ public class JwtUtil {
 
   // 토큰이 블랙리스트에 있는지 검사하는 메서드
   public boolean isTokenBlacklisted(String accessToken) {
+    // Bloom 필터에 없으면 확실히 블랙리스트가 아니므로 Redis 조회 생략
+    if (blacklistBloomFilter != null && !blacklistBloomFilter.mightContain(accessToken)) {
+      return false;
+    }
     String blacklistKey = BLACKLIST_PREFIX + accessToken;
     Boolean exists = redisTemplate.hasKey(blacklistKey);
     return Boolean.TRUE.equals(exists);
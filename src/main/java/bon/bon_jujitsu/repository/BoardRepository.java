@@ -1,10 +1,15 @@
 package bon.bon_jujitsu.repository;
 
 import bon.bon_jujitsu.domain.Board;
+import bon.bon_jujitsu.dto.PostSummary;
+import bon.bon_jujitsu.dto.SearchDocument;
+import bon.bon_jujitsu.dto.TrendingSeed;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
@@ -13,15 +18,38 @@ import org.springframework.data.repository.query.Param;
 public interface BoardRepository extends JpaRepository<Board, Long>,
     JpaSpecificationExecutor<Board> {
 
-  // N+1 문제 해결을 위한 fetch join 사용 - 목록 조회
-  @Query("SELECT DISTINCT b FROM Board b " +
-      "LEFT JOIN FETCH b.user u " +
-      "LEFT JOIN FETCH b.branch br " +
+  // 목록 조회 - 목록 컬럼과 본문 앞부분만 (size + 1 조회, 전체 개수는 countBoards 를 캐시해서 사용)
+  @Query("SELECT new bon.bon_jujitsu.dto.PostSummary(b.id, b.title, SUBSTRING(b.content, 1, " + PostSummary.CONTENT_HEAD_LENGTH + "), br.region, " +
+      "u.id, u.name, b.viewCount, b.createdAt, b.modifiedAt) " +
+      "FROM Board b " +
+      "LEFT JOIN b.user u " +
+      "LEFT JOIN b.branch br " +
+      "WHERE (:title IS NULL OR :title = '' OR b.title LIKE %:title%) " +
+      "AND (:branchId IS NULL OR b.branch.id = :branchId) " +
+      "ORDER BY b.createdAt DESC, b.id DESC")
+  Slice<PostSummary> findBoardSummaries(@Param("title") String title,
+      @Param("branchId") Long branchId,
+      Pageable pageable);
+
+  @Query("SELECT COUNT(b) FROM Board b " +
+      "WHERE (:title IS NULL OR :title = '' OR b.title LIKE %:title%) " +
+      "AND (:branchId IS NULL OR b.branch.id = :branchId)")
+  long countBoards(@Param("title") String title, @Param("branchId") Long branchId);
+
+  // 커서 페이징 - (createdAt, id) 보다 앞선 게시글부터 pageable 크기만큼 (COUNT 쿼리 없음)
+  @Query("SELECT new bon.bon_jujitsu.dto.PostSummary(b.id, b.title, SUBSTRING(b.content, 1, " + PostSummary.CONTENT_HEAD_LENGTH + "), br.region, " +
+      "u.id, u.name, b.viewCount, b.createdAt, b.modifiedAt) " +
+      "FROM Board b " +
+      "LEFT JOIN b.user u " +
+      "LEFT JOIN b.branch br " +
       "WHERE (:title IS NULL OR :title = '' OR b.title LIKE %:title%) " +
       "AND (:branchId IS NULL OR b.branch.id = :branchId) " +
-      "ORDER BY b.createdAt DESC")
-  Page<Board> findBoardsWithFetchJoin(@Param("title") String title,
+      "AND (b.createdAt < :cursorCreatedAt OR (b.createdAt = :cursorCreatedAt AND b.id < :cursorId)) " +
+      "ORDER BY b.createdAt DESC, b.id DESC")
+  List<PostSummary> findBoardSummariesAfterCursor(@Param("title") String title,
       @Param("branchId") Long branchId,
+      @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+      @Param("cursorId") Long cursorId,
       Pageable pageable);
 
   // N+1 문제 해결을 위한 fetch join 사용 - 단건 조회
@@ -30,4 +58,19 @@ public interface BoardRepository extends JpaRepository<Board, Long>,
       "LEFT JOIN FETCH b.branch br " +
       "WHERE b.id = :id")
   Optional<Board> findByIdWithFetchJoin(@Param("id") Long id);
-}
\ No newline at end of file
+
+  // 인기 게시글 순위 재구축 - 기간 내 작성된 게시글의 누적 조회수
+  @Query("SELECT new bon.bon_jujitsu.dto.TrendingSeed(b.id, b.createdAt, b.viewCount) FROM Board b " +
+      "WHERE b.createdAt >= :since")
+  List<TrendingSeed> findViewSeedsCreatedSince(@Param("since") LocalDateTime since);
+
+  // 검색 색인 재구축 - ID 순으로 나눠 읽기
+  @Query("SELECT new bon.bon_jujitsu.dto.SearchDocument(b.id, b.title, b.content, b.createdAt) FROM Board b " +
+      "WHERE b.id > :lastId ORDER BY b.id")
+  List<SearchDocument> findSearchDocuments(@Param("lastId") Long lastId, Pageable pageable);
+
+  // 검색 결과 강조용 원문
+  @Query("SELECT new bon.bon_jujitsu.dto.SearchDocument(b.id, b.title, b.content, b.createdAt) FROM Board b " +
+      "WHERE b.id IN :ids")
+  List<SearchDocument> findSearchDocumentsByIdIn(@Param("ids") List<Long> ids);
+}
@@ -1,7 +1,9 @@
 package bon.bon_jujitsu.repository;
 
 import bon.bon_jujitsu.domain.Branch;
+import bon.bon_jujitsu.dto.BranchLocation;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
@@ -17,4 +19,20 @@ public interface BranchRepository extends JpaRepository<Branch, Long>,
 
   @Query("SELECT DISTINCT b.region FROM Branch b WHERE b.area = :area AND b.isDeleted = false ORDER BY b.region")
   List<String> findDistinctRegionsByArea(@Param("area") String area);
+
+  // 지부 찾기 색인용 (좌표가 있는 지부만)
+  @Query("SELECT new bon.bon_jujitsu.dto.BranchLocation(b.id, b.region, b.area, b.address, " +
+      "b.latitude, b.longitude, b.locationApproximate) " +
+      "FROM Branch b WHERE b.isDeleted = false AND b.latitude IS NOT NULL AND b.longitude IS NOT NULL")
+  List<BranchLocation> findLocations();
+
+  @Query("SELECT new bon.bon_jujitsu.dto.BranchLocation(b.id, b.region, b.area, b.address, " +
+      "b.latitude, b.longitude, b.locationApproximate) " +
+      "FROM Branch b WHERE b.id = :branchId AND b.isDeleted = false " +
+      "AND b.latitude IS NOT NULL AND b.longitude IS NOT NULL")
+  Optional<BranchLocation> findLocationById(@Param("branchId") Long branchId);
+
+  // 좌표 채우기 대상 (좌표 컬럼 추가 전에 등록된 지부 등)
+  @Query("SELECT b FROM Branch b WHERE b.isDeleted = false AND (b.latitude IS NULL OR b.longitude IS NULL)")
+  List<Branch> findWithoutLocation();
 }
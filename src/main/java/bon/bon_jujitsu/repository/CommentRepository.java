@@ -3,6 +3,8 @@ package bon.bon_jujitsu.repository;
 import bon.bon_jujitsu.domain.Comment;
 import bon.bon_jujitsu.domain.CommentType;
 import bon.bon_jujitsu.domain.PostType;
+import bon.bon_jujitsu.dto.TrendingSeed;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Set;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -27,4 +29,10 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
 
   @Query("SELECT DISTINCT c.targetId FROM Comment c WHERE c.commentType = 'QNA' AND c.targetId IN :qnaIds")
   List<Long> findQnaIdsWithAnswers(@Param("qnaIds") Set<Long> qnaIds);
+
+  // 인기 게시글 순위 재구축 - 기간 내 작성된 댓글 (댓글 하나당 1건)
+  @Query("SELECT new bon.bon_jujitsu.dto.TrendingSeed(c.targetId, c.createdAt, 1L) FROM Comment c " +
+      "WHERE c.commentType = :commentType AND c.createdAt >= :since")
+  List<TrendingSeed> findCommentSeedsCreatedSince(@Param("commentType") CommentType commentType,
+      @Param("since") LocalDateTime since);
 }
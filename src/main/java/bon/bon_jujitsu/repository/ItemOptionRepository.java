@@ -4,6 +4,6 @@ import bon.bon_jujitsu.domain.ItemOption;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface ItemOptionRepository extends JpaRepository<ItemOption, Long> {
+public interface ItemOptionRepository extends JpaRepository<ItemOption, Long>, ItemOptionStockRepository {
   List<ItemOption> findByItemId(Long itemId);
 }
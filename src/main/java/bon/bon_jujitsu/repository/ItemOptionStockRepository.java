@@ -0,0 +1,21 @@
+package bon.bon_jujitsu.repository;
+
+import java.util.Map;
+
+/**
+ * 옵션 재고 증감 - 엔티티를 읽고 고쳐 쓰지 않고 조건부 UPDATE 한 번으로 반영
+ * - 읽은 뒤 차감하면 동시에 들어온 주문이 같은 재고를 보고 모두 성공해 초과 판매가 생긴다.
+ */
+public interface ItemOptionStockRepository {
+
+  /**
+   * 옵션 ID → 수량 만큼 재고 차감 - 모든 옵션의 재고가 충분할 때만 성공
+   * - 하나라도 부족하면 IllegalArgumentException (호출한 트랜잭션이 롤백되어 이미 차감된 옵션도 되돌아간다)
+   */
+  void decreaseStock(Map<Long, Integer> quantities);
+
+  /**
+   * 옵션 ID → 수량 만큼 재고 복구 (주문 취소/반품)
+   */
+  void increaseStock(Map<Long, Integer> quantities);
+}
@@ -0,0 +1,95 @@
+package bon.bon_jujitsu.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class ItemOptionStockRepositoryImpl implements ItemOptionStockRepository {
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public ItemOptionStockRepositoryImpl(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  /**
+   * UPDATE item_options SET amount = amount - CASE id WHEN ? THEN ? ... END
+   * WHERE id IN (...) AND amount >= CASE id WHEN ? THEN ? ... END
+   * - 조건을 만족한 행 수가 옵션 수보다 적으면 재고 부족
+   * - ID 순으로 행 잠금을 잡으므로 여러 옵션을 주문해도 주문끼리 교착되지 않는다.
+   */
+  @Override
+  public void decreaseStock(Map<Long, Integer> quantities) {
+    Map<Long, Integer> sorted = validate(quantities);
+    if (sorted.isEmpty()) {
+      return;
+    }
+
+    List<Object> params = new ArrayList<>(sorted.size() * 5);
+    StringBuilder sql = new StringBuilder("UPDATE item_options SET amount = amount - ");
+    appendCase(sql, params, sorted);
+    sql.append(" WHERE id IN (");
+    appendIds(sql, params, sorted);
+    sql.append(") AND amount >= ");
+    appendCase(sql, params, sorted);
+
+    int updated = jdbcTemplate.update(sql.toString(), params.toArray());
+    if (updated < sorted.size()) {
+      throw new IllegalArgumentException("재고가 부족한 상품이 있습니다. 다시 확인해주세요.");
+    }
+  }
+
+  @Override
+  public void increaseStock(Map<Long, Integer> quantities) {
+    Map<Long, Integer> sorted = validate(quantities);
+    if (sorted.isEmpty()) {
+      return;
+    }
+
+    List<Object> params = new ArrayList<>(sorted.size() * 3);
+    StringBuilder sql = new StringBuilder("UPDATE item_options SET amount = amount + ");
+    appendCase(sql, params, sorted);
+    sql.append(" WHERE id IN (");
+    appendIds(sql, params, sorted);
+    sql.append(')');
+
+    jdbcTemplate.update(sql.toString(), params.toArray());
+  }
+
+  // === Private Helper Methods ===
+
+  private Map<Long, Integer> validate(Map<Long, Integer> quantities) {
+    Map<Long, Integer> sorted = new TreeMap<>();
+    quantities.forEach((optionId, quantity) -> {
+      if (optionId == null) {
+        throw new IllegalArgumentException("상품 옵션이 선택되지 않았습니다.");
+      }
+      if (quantity == null || quantity < 1) {
+        throw new IllegalArgumentException("수량은 1개 이상이어야 합니다.");
+      }
+      sorted.put(optionId, quantity);
+    });
+    return sorted;
+  }
+
+  private void appendCase(StringBuilder sql, List<Object> params, Map<Long, Integer> quantities) {
+    sql.append("CASE id");
+    quantities.forEach((optionId, quantity) -> {
+      sql.append(" WHEN ? THEN ?");
+      params.add(optionId);
+      params.add(quantity);
+    });
+    sql.append(" ELSE 0 END");
+  }
+
+  private void appendIds(StringBuilder sql, List<Object> params, Map<Long, Integer> quantities) {
+    boolean first = true;
+    for (Long optionId : quantities.keySet()) {
+      sql.append(first ? "?" : ", ?");
+      params.add(optionId);
+      first = false;
+    }
+  }
+}
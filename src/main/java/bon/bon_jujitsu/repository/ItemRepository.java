@@ -1,9 +1,11 @@
 package bon.bon_jujitsu.repository;
 
 import bon.bon_jujitsu.domain.Item;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -12,24 +14,46 @@ public interface ItemRepository extends JpaRepository<Item, Long> {
 
   boolean existsByName(String name);
 
-  @Query("SELECT DISTINCT i FROM Item i " +
-      "LEFT JOIN FETCH i.itemOptions " +
-      "WHERE LOWER(i.name) LIKE LOWER(CONCAT('%', :name, '%'))")
-  Page<Item> findByNameContainingIgnoreCaseWithFetch(@Param("name") String name, PageRequest pageRequest);
+  // 상품 ID 만 페이징한 뒤 해당 상품만 옵션과 함께 조회
+  default Page<Item> findByNameContainingIgnoreCaseWithFetch(String name, PageRequest pageRequest) {
+    return TwoPhasePaging.fetch(findIdsByNameContainingIgnoreCase(name, pageRequest),
+        this::findAllWithOptionsByIdIn, Item::getId);
+  }
 
-  @Query("SELECT DISTINCT i FROM Item i " +
-      "LEFT JOIN FETCH i.itemOptions")
-  Page<Item> findAllWithFetch(PageRequest pageRequest);
+  default Page<Item> findAllWithFetch(PageRequest pageRequest) {
+    return TwoPhasePaging.fetch(findAllIds(pageRequest), this::findAllWithOptionsByIdIn, Item::getId);
+  }
 
   @Query("SELECT DISTINCT i FROM Item i " +
       "LEFT JOIN FETCH i.itemOptions " +
       "WHERE i.id = :itemId")
   Optional<Item> findByIdWithFetch(@Param("itemId") Long itemId);
 
+  default Page<Item> findTop4ByOrderByCreatedAtDescWithFetch(PageRequest pageRequest) {
+    return TwoPhasePaging.fetch(findLatestIds(pageRequest), this::findAllWithOptionsByIdIn, Item::getId);
+  }
+
+  @Query(value = "SELECT i.id FROM Item i " +
+      "WHERE LOWER(i.name) LIKE LOWER(CONCAT('%', :name, '%'))",
+      countQuery = "SELECT COUNT(i) FROM Item i WHERE LOWER(i.name) LIKE LOWER(CONCAT('%', :name, '%'))")
+  Page<Long> findIdsByNameContainingIgnoreCase(@Param("name") String name, Pageable pageable);
+
+  @Query(value = "SELECT i.id FROM Item i",
+      countQuery = "SELECT COUNT(i) FROM Item i")
+  Page<Long> findAllIds(Pageable pageable);
+
+  @Query(value = "SELECT i.id FROM Item i ORDER BY i.createdAt DESC, i.id DESC",
+      countQuery = "SELECT COUNT(i) FROM Item i")
+  Page<Long> findLatestIds(Pageable pageable);
+
   @Query("SELECT DISTINCT i FROM Item i " +
       "LEFT JOIN FETCH i.itemOptions " +
-      "ORDER BY i.createdAt DESC")
-  Page<Item> findTop4ByOrderByCreatedAtDescWithFetch(PageRequest pageRequest);
+      "WHERE i.id IN :ids")
+  List<Item> findAllWithOptionsByIdIn(@Param("ids") List<Long> ids);
+
+  // 카탈로그 색인 재구축용 (ID 순 키셋)
+  @Query("SELECT i.id FROM Item i WHERE i.id > :lastId ORDER BY i.id")
+  List<Long> findIdsAfter(@Param("lastId") Long lastId, Pageable pageable);
 }
 
 
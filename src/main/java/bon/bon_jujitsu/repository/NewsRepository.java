@@ -1,28 +1,61 @@
 package bon.bon_jujitsu.repository;
 
 import bon.bon_jujitsu.domain.News;
+import bon.bon_jujitsu.dto.PostSummary;
+import bon.bon_jujitsu.dto.SearchDocument;
+import bon.bon_jujitsu.dto.TrendingSeed;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 public interface NewsRepository extends JpaRepository<News, Long> {
 
-  @Query("SELECT DISTINCT n FROM News n " +
-      "LEFT JOIN FETCH n.user " +
-      "WHERE LOWER(n.user.name) LIKE LOWER(CONCAT('%', :name, '%')) " +
-      "ORDER BY n.createdAt DESC")
-  Page<News> findByUserNameContainingIgnoreCaseWithFetch(@Param("name") String name, PageRequest pageRequest);
+  // 목록 조회 - 목록 컬럼과 본문 앞부분만 (작성자 이름 검색은 name 이 비어 있으면 생략)
+  @Query(value = "SELECT new bon.bon_jujitsu.dto.PostSummary(n.id, n.title, SUBSTRING(n.content, 1, " + PostSummary.CONTENT_HEAD_LENGTH + "), NULL, " +
+      "u.id, u.name, n.viewCount, n.createdAt, n.modifiedAt) " +
+      "FROM News n " +
+      "LEFT JOIN n.user u " +
+      "WHERE (:name IS NULL OR :name = '' OR LOWER(u.name) LIKE LOWER(CONCAT('%', :name, '%'))) " +
+      "ORDER BY n.createdAt DESC, n.id DESC",
+      countQuery = "SELECT COUNT(n) FROM News n LEFT JOIN n.user u " +
+          "WHERE (:name IS NULL OR :name = '' OR LOWER(u.name) LIKE LOWER(CONCAT('%', :name, '%')))")
+  Page<PostSummary> findNewsSummaries(@Param("name") String name, Pageable pageable);
 
-  @Query("SELECT DISTINCT n FROM News n " +
-      "LEFT JOIN FETCH n.user " +
-      "ORDER BY n.createdAt DESC")
-  Page<News> findAllWithFetch(PageRequest pageRequest);
+  // 커서 페이징 - (createdAt, id) 보다 앞선 뉴스부터 pageable 크기만큼 (COUNT 쿼리 없음)
+  @Query("SELECT new bon.bon_jujitsu.dto.PostSummary(n.id, n.title, SUBSTRING(n.content, 1, " + PostSummary.CONTENT_HEAD_LENGTH + "), NULL, " +
+      "u.id, u.name, n.viewCount, n.createdAt, n.modifiedAt) " +
+      "FROM News n " +
+      "LEFT JOIN n.user u " +
+      "WHERE (:name IS NULL OR :name = '' OR LOWER(u.name) LIKE LOWER(CONCAT('%', :name, '%'))) " +
+      "AND (n.createdAt < :cursorCreatedAt OR (n.createdAt = :cursorCreatedAt AND n.id < :cursorId)) " +
+      "ORDER BY n.createdAt DESC, n.id DESC")
+  List<PostSummary> findNewsSummariesAfterCursor(@Param("name") String name,
+      @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+      @Param("cursorId") Long cursorId,
+      Pageable pageable);
 
   @Query("SELECT DISTINCT n FROM News n " +
       "LEFT JOIN FETCH n.user " +
       "WHERE n.id = :newsId")
   Optional<News> findByIdWithFetch(@Param("newsId") Long newsId);
+
+  // 인기 게시글 순위 재구축 - 기간 내 작성된 게시글의 누적 조회수
+  @Query("SELECT new bon.bon_jujitsu.dto.TrendingSeed(n.id, n.createdAt, n.viewCount) FROM News n " +
+      "WHERE n.createdAt >= :since")
+  List<TrendingSeed> findViewSeedsCreatedSince(@Param("since") LocalDateTime since);
+
+  // 검색 색인 재구축 - ID 순으로 나눠 읽기
+  @Query("SELECT new bon.bon_jujitsu.dto.SearchDocument(n.id, n.title, n.content, n.createdAt) FROM News n " +
+      "WHERE n.id > :lastId ORDER BY n.id")
+  List<SearchDocument> findSearchDocuments(@Param("lastId") Long lastId, Pageable pageable);
+
+  // 검색 결과 강조용 원문
+  @Query("SELECT new bon.bon_jujitsu.dto.SearchDocument(n.id, n.title, n.content, n.createdAt) FROM News n " +
+      "WHERE n.id IN :ids")
+  List<SearchDocument> findSearchDocumentsByIdIn(@Param("ids") List<Long> ids);
 }
@@ -2,6 +2,10 @@ package bon.bon_jujitsu.repository;
 
 import bon.bon_jujitsu.domain.Branch;
 import bon.bon_jujitsu.domain.Notice;
+import bon.bon_jujitsu.dto.PostSummary;
+import bon.bon_jujitsu.dto.SearchDocument;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
@@ -12,17 +16,38 @@ import org.springframework.data.repository.query.Param;
 
 public interface NoticeRepository extends JpaRepository<Notice, Long> {
 
-  // N+1 문제 해결을 위한 fetch join 사용 - 목록 조회
-  @Query("SELECT DISTINCT n FROM Notice n " +
-      "LEFT JOIN FETCH n.user u " +
-      "LEFT JOIN FETCH n.branch br " +
+  // 목록 조회 - 목록 컬럼과 본문 앞부분만
+  @Query(value = "SELECT new bon.bon_jujitsu.dto.PostSummary(n.id, n.title, SUBSTRING(n.content, 1, " + PostSummary.CONTENT_HEAD_LENGTH + "), br.region, " +
+      "u.id, u.name, n.viewCount, n.createdAt, n.modifiedAt) " +
+      "FROM Notice n " +
+      "LEFT JOIN n.user u " +
+      "LEFT JOIN n.branch br " +
       "WHERE (:name IS NULL OR :name = '' OR u.name LIKE %:name%) " +
       "AND (:branchId IS NULL OR n.branch.id = :branchId) " +
-      "ORDER BY n.createdAt DESC")
-  Page<Notice> findNoticesWithFetchJoin(@Param("name") String name,
+      "ORDER BY n.createdAt DESC, n.id DESC",
+      countQuery = "SELECT COUNT(n) FROM Notice n LEFT JOIN n.user u " +
+          "WHERE (:name IS NULL OR :name = '' OR u.name LIKE %:name%) " +
+          "AND (:branchId IS NULL OR n.branch.id = :branchId)")
+  Page<PostSummary> findNoticeSummaries(@Param("name") String name,
       @Param("branchId") Long branchId,
       Pageable pageable);
 
+  // 커서 페이징 - (createdAt, id) 보다 앞선 공지사항부터 pageable 크기만큼 (COUNT 쿼리 없음)
+  @Query("SELECT new bon.bon_jujitsu.dto.PostSummary(n.id, n.title, SUBSTRING(n.content, 1, " + PostSummary.CONTENT_HEAD_LENGTH + "), br.region, " +
+      "u.id, u.name, n.viewCount, n.createdAt, n.modifiedAt) " +
+      "FROM Notice n " +
+      "LEFT JOIN n.user u " +
+      "LEFT JOIN n.branch br " +
+      "WHERE (:name IS NULL OR :name = '' OR u.name LIKE %:name%) " +
+      "AND (:branchId IS NULL OR n.branch.id = :branchId) " +
+      "AND (n.createdAt < :cursorCreatedAt OR (n.createdAt = :cursorCreatedAt AND n.id < :cursorId)) " +
+      "ORDER BY n.createdAt DESC, n.id DESC")
+  List<PostSummary> findNoticeSummariesAfterCursor(@Param("name") String name,
+      @Param("branchId") Long branchId,
+      @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+      @Param("cursorId") Long cursorId,
+      Pageable pageable);
+
   // N+1 문제 해결을 위한 fetch join 사용 - 단건 조회
   @Query("SELECT n FROM Notice n " +
       "LEFT JOIN FETCH n.user u " +
@@ -32,4 +57,14 @@ public interface NoticeRepository extends JpaRepository<Notice, Long> {
 
   // 메인 공지사항 조회 (가장 최근 것)
   Optional<Notice> findTopByBranchOrderByCreatedAtDesc(Branch branch);
+
+  // 검색 색인 재구축 - ID 순으로 나눠 읽기
+  @Query("SELECT new bon.bon_jujitsu.dto.SearchDocument(n.id, n.title, n.content, n.createdAt) FROM Notice n " +
+      "WHERE n.id > :lastId ORDER BY n.id")
+  List<SearchDocument> findSearchDocuments(@Param("lastId") Long lastId, Pageable pageable);
+
+  // 검색 결과 강조용 원문
+  @Query("SELECT new bon.bon_jujitsu.dto.SearchDocument(n.id, n.title, n.content, n.createdAt) FROM Notice n " +
+      "WHERE n.id IN :ids")
+  List<SearchDocument> findSearchDocumentsByIdIn(@Param("ids") List<Long> ids);
 }
\ No newline at end of file
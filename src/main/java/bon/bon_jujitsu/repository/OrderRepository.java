@@ -25,23 +25,73 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
       @Param("fromDate") LocalDateTime fromDate
   );
 
-  @Query("SELECT DISTINCT o FROM Order o " +
-      "JOIN FETCH o.user u " +
-      "LEFT JOIN FETCH o.orderItems oi " +
-      "LEFT JOIN FETCH oi.item i " +
+  // 상태별 주문 목록 - 주문 ID 만 페이징한 뒤 해당 주문만 fetch join
+  default Page<Order> findAllByOrderStatusWithUserAndItems(OrderStatus status, Pageable pageable) {
+    return TwoPhasePaging.fetch(findIdsByOrderStatus(status, pageable),
+        this::findAllWithUserAndItemsByIdIn, Order::getId);
+  }
+
+  // 내 주문 목록 - 주문 ID 만 페이징한 뒤 해당 주문만 fetch join
+  default Page<Order> findAllByUserAndOrderStatusInWithItems(User user, List<OrderStatus> statuses,
+      Pageable pageable) {
+    return TwoPhasePaging.fetch(findIdsByUserAndOrderStatusIn(user, statuses, pageable),
+        this::findAllWithUserAndItemsByIdIn, Order::getId);
+  }
+
+  // 상태별 주문 커서 페이징 - 주문 ID 만 seek 한 뒤 해당 주문만 fetch join
+  default List<Order> findByOrderStatusAfterCursor(OrderStatus status, LocalDateTime cursorCreatedAt,
+      Long cursorId, Pageable pageable) {
+    return TwoPhasePaging.fetch(findIdsByOrderStatusAfterCursor(status, cursorCreatedAt, cursorId, pageable),
+        this::findAllWithUserAndItemsByIdIn, Order::getId);
+  }
+
+  // 내 주문 커서 페이징 - 주문 ID 만 seek 한 뒤 해당 주문만 fetch join
+  default List<Order> findByUserAndOrderStatusInAfterCursor(User user, List<OrderStatus> statuses,
+      LocalDateTime cursorCreatedAt, Long cursorId, Pageable pageable) {
+    return TwoPhasePaging.fetch(
+        findIdsByUserAndOrderStatusInAfterCursor(user, statuses, cursorCreatedAt, cursorId, pageable),
+        this::findAllWithUserAndItemsByIdIn, Order::getId);
+  }
+
+  @Query(value = "SELECT o.id FROM Order o " +
       "WHERE o.orderStatus = :status " +
-      "ORDER BY o.createdAt DESC")
-  Page<Order> findAllByOrderStatusWithUserAndItems(@Param("status") OrderStatus status, Pageable pageable);
+      "ORDER BY o.createdAt DESC, o.id DESC",
+      countQuery = "SELECT COUNT(o) FROM Order o WHERE o.orderStatus = :status")
+  Page<Long> findIdsByOrderStatus(@Param("status") OrderStatus status, Pageable pageable);
+
+  @Query(value = "SELECT o.id FROM Order o " +
+      "WHERE o.user = :user AND o.orderStatus IN :statuses " +
+      "ORDER BY o.createdAt DESC, o.id DESC",
+      countQuery = "SELECT COUNT(o) FROM Order o WHERE o.user = :user AND o.orderStatus IN :statuses")
+  Page<Long> findIdsByUserAndOrderStatusIn(@Param("user") User user,
+      @Param("statuses") List<OrderStatus> statuses,
+      Pageable pageable);
+
+  @Query("SELECT o.id FROM Order o " +
+      "WHERE o.orderStatus = :status " +
+      "AND (o.createdAt < :cursorCreatedAt OR (o.createdAt = :cursorCreatedAt AND o.id < :cursorId)) " +
+      "ORDER BY o.createdAt DESC, o.id DESC")
+  List<Long> findIdsByOrderStatusAfterCursor(@Param("status") OrderStatus status,
+      @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+      @Param("cursorId") Long cursorId,
+      Pageable pageable);
+
+  @Query("SELECT o.id FROM Order o " +
+      "WHERE o.user = :user AND o.orderStatus IN :statuses " +
+      "AND (o.createdAt < :cursorCreatedAt OR (o.createdAt = :cursorCreatedAt AND o.id < :cursorId)) " +
+      "ORDER BY o.createdAt DESC, o.id DESC")
+  List<Long> findIdsByUserAndOrderStatusInAfterCursor(@Param("user") User user,
+      @Param("statuses") List<OrderStatus> statuses,
+      @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+      @Param("cursorId") Long cursorId,
+      Pageable pageable);
 
   @Query("SELECT DISTINCT o FROM Order o " +
       "JOIN FETCH o.user u " +
       "LEFT JOIN FETCH o.orderItems oi " +
       "LEFT JOIN FETCH oi.item i " +
-      "WHERE o.user = :user AND o.orderStatus IN :statuses " +
-      "ORDER BY o.createdAt DESC")
-  Page<Order> findAllByUserAndOrderStatusInWithItems(@Param("user") User user,
-      @Param("statuses") List<OrderStatus> statuses,
-      Pageable pageable);
+      "WHERE o.id IN :ids")
+  List<Order> findAllWithUserAndItemsByIdIn(@Param("ids") List<Long> ids);
 
   @Query("SELECT DISTINCT o FROM Order o " +
       "JOIN FETCH o.orderItems oi " +
@@ -1,12 +1,15 @@
 package bon.bon_jujitsu.repository;
 
 import bon.bon_jujitsu.domain.QnA;
+import bon.bon_jujitsu.dto.SearchDocument;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface QnARepository extends JpaRepository<QnA, Long> {
@@ -16,4 +19,14 @@ public interface QnARepository extends JpaRepository<QnA, Long> {
 
     @Query("SELECT q FROM QnA q LEFT JOIN FETCH q.user WHERE q.id = :id")
     Optional<QnA> findByIdWithUser(@Param("id") Long id);
+
+    // 검색 색인 재구축 - ID 순으로 나눠 읽기
+    @Query("SELECT new bon.bon_jujitsu.dto.SearchDocument(q.id, q.title, q.content, q.createdAt) FROM QnA q " +
+        "WHERE q.id > :lastId ORDER BY q.id")
+    List<SearchDocument> findSearchDocuments(@Param("lastId") Long lastId, Pageable pageable);
+
+    // 검색 결과 강조용 원문
+    @Query("SELECT new bon.bon_jujitsu.dto.SearchDocument(q.id, q.title, q.content, q.createdAt) FROM QnA q " +
+        "WHERE q.id IN :ids")
+    List<SearchDocument> findSearchDocumentsByIdIn(@Param("ids") List<Long> ids);
 }
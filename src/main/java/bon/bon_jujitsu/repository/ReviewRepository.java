@@ -1,6 +1,7 @@
 package bon.bon_jujitsu.repository;
 
 import bon.bon_jujitsu.domain.Review;
+import java.time.LocalDateTime;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -21,6 +22,17 @@ public interface ReviewRepository extends JpaRepository <Review, Long>{
       "WHERE r.item.id = :itemId AND r.isDeleted = false")
   Page<Review> findAllByItem_Id(@Param("itemId") Long itemId, Pageable pageable);
 
+  // 상품 리뷰 커서 페이징 - 부모 리뷰(depth 0)만, 답글은 별도 일괄 조회
+  @Query("SELECT r FROM Review r " +
+      "JOIN FETCH r.user " +
+      "WHERE r.item.id = :itemId AND r.depth = 0 AND r.isDeleted = false " +
+      "AND (r.createdAt < :cursorCreatedAt OR (r.createdAt = :cursorCreatedAt AND r.id < :cursorId)) " +
+      "ORDER BY r.createdAt DESC, r.id DESC")
+  List<Review> findParentReviewsAfterCursor(@Param("itemId") Long itemId,
+      @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+      @Param("cursorId") Long cursorId,
+      Pageable pageable);
+
   @Query("SELECT COUNT(r) > 0 FROM Review r " +
       "WHERE r.order.id = :orderId " +
       "AND r.item.id = :itemId " +
@@ -3,9 +3,14 @@ package bon.bon_jujitsu.repository;
 import bon.bon_jujitsu.domain.Skill;
 import bon.bon_jujitsu.domain.SkillPosition;
 import bon.bon_jujitsu.domain.SkillType;
+import bon.bon_jujitsu.dto.PostSummary;
+import bon.bon_jujitsu.dto.SearchDocument;
+import bon.bon_jujitsu.dto.SkillSummary;
+import bon.bon_jujitsu.dto.TrendingSeed;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -13,22 +18,52 @@ import org.springframework.data.repository.query.Param;
 
 public interface SkillRepository extends JpaRepository<Skill, Long> {
 
-  @Query("SELECT s FROM Skill s JOIN FETCH s.user WHERE s.isDeleted = false")
-  Page<Skill> findAllWithUser(Pageable pageable);
-
   @Query("SELECT s FROM Skill s JOIN FETCH s.user WHERE s.id = :skillId AND s.isDeleted = false")
   Optional<Skill> findByIdWithUser(@Param("skillId") Long skillId);
 
-  // 포지션별 조회
-  @Query("SELECT s FROM Skill s JOIN FETCH s.user WHERE s.position = :position AND s.isDeleted = false ORDER BY s.createdAt DESC")
-  Page<Skill> findByPositionWithUser(@Param("position") SkillPosition position, Pageable pageable);
+  // 목록 조회 - 목록 컬럼과 본문 앞부분만 (포지션/기술 타입은 null 이면 전체)
+  @Query(value = "SELECT new bon.bon_jujitsu.dto.SkillSummary(s.id, s.title, SUBSTRING(s.content, 1, " + PostSummary.CONTENT_HEAD_LENGTH + "), " +
+      "s.position, s.skillType, u.id, u.name, s.viewCount, s.createdAt, s.modifiedAt) " +
+      "FROM Skill s JOIN s.user u " +
+      "WHERE s.isDeleted = false " +
+      "AND (:position IS NULL OR s.position = :position) " +
+      "AND (:skillType IS NULL OR s.skillType = :skillType) " +
+      "ORDER BY s.createdAt DESC, s.id DESC",
+      countQuery = "SELECT COUNT(s) FROM Skill s " +
+          "WHERE s.isDeleted = false " +
+          "AND (:position IS NULL OR s.position = :position) " +
+          "AND (:skillType IS NULL OR s.skillType = :skillType)")
+  Page<SkillSummary> findSkillSummaries(@Param("position") SkillPosition position,
+      @Param("skillType") SkillType skillType,
+      Pageable pageable);
+
+  // 커서 페이징 - 포지션/기술 타입은 null 이면 전체 (COUNT 쿼리 없음)
+  @Query("SELECT new bon.bon_jujitsu.dto.SkillSummary(s.id, s.title, SUBSTRING(s.content, 1, " + PostSummary.CONTENT_HEAD_LENGTH + "), " +
+      "s.position, s.skillType, u.id, u.name, s.viewCount, s.createdAt, s.modifiedAt) " +
+      "FROM Skill s JOIN s.user u " +
+      "WHERE s.isDeleted = false " +
+      "AND (:position IS NULL OR s.position = :position) " +
+      "AND (:skillType IS NULL OR s.skillType = :skillType) " +
+      "AND (s.createdAt < :cursorCreatedAt OR (s.createdAt = :cursorCreatedAt AND s.id < :cursorId)) " +
+      "ORDER BY s.createdAt DESC, s.id DESC")
+  List<SkillSummary> findSkillSummariesAfterCursor(@Param("position") SkillPosition position,
+      @Param("skillType") SkillType skillType,
+      @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+      @Param("cursorId") Long cursorId,
+      Pageable pageable);
 
-  // 기술 타입별 조회
-  @Query("SELECT s FROM Skill s JOIN FETCH s.user WHERE s.skillType = :skillType AND s.isDeleted = false ORDER BY s.createdAt DESC")
-  Page<Skill> findBySkillTypeWithUser(@Param("skillType") SkillType skillType, Pageable pageable);
+  // 인기 게시글 순위 재구축 - 기간 내 작성된 게시글의 누적 조회수
+  @Query("SELECT new bon.bon_jujitsu.dto.TrendingSeed(s.id, s.createdAt, s.viewCount) FROM Skill s " +
+      "WHERE s.createdAt >= :since")
+  List<TrendingSeed> findViewSeedsCreatedSince(@Param("since") LocalDateTime since);
 
-  // 포지션 + 기술 타입 조회
-  @Query("SELECT s FROM Skill s JOIN FETCH s.user WHERE s.position = :position AND s.skillType = :skillType AND s.isDeleted = false ORDER BY s.createdAt DESC")
-  Page<Skill> findByPositionAndSkillTypeWithUser(@Param("position") SkillPosition position, @Param("skillType") SkillType skillType, Pageable pageable);
+  // 검색 색인 재구축 - ID 순으로 나눠 읽기
+  @Query("SELECT new bon.bon_jujitsu.dto.SearchDocument(s.id, s.title, s.content, s.createdAt) FROM Skill s " +
+      "WHERE s.id > :lastId ORDER BY s.id")
+  List<SearchDocument> findSearchDocuments(@Param("lastId") Long lastId, Pageable pageable);
 
+  // 검색 결과 강조용 원문
+  @Query("SELECT new bon.bon_jujitsu.dto.SearchDocument(s.id, s.title, s.content, s.createdAt) FROM Skill s " +
+      "WHERE s.id IN :ids")
+  List<SearchDocument> findSearchDocumentsByIdIn(@Param("ids") List<Long> ids);
 }
@@ -1,9 +1,10 @@
 package bon.bon_jujitsu.repository;
 
 import bon.bon_jujitsu.domain.Sponsor;
+import bon.bon_jujitsu.dto.PostSummary;
+import bon.bon_jujitsu.dto.SponsorSummary;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -11,11 +12,17 @@ import org.springframework.data.repository.query.Param;
 
 public interface SponsorRepository extends JpaRepository<Sponsor, Long> {
 
-  @Query("SELECT s FROM Sponsor s JOIN FETCH s.user WHERE s.isDeleted = false ORDER BY s.createdAt DESC")
-  Page<Sponsor> findAllWithUser(Pageable pageable);
-
-  @Query("SELECT s FROM Sponsor s JOIN FETCH s.user WHERE s.user.name LIKE %:name% AND s.isDeleted = false ORDER BY s.createdAt DESC")
-  Page<Sponsor> findByUser_NameContainingIgnoreCaseWithUser(@Param("name") String name, Pageable pageable);
+  // 목록 조회 - 목록 컬럼과 본문 앞부분만 (작성자 이름 검색은 name 이 비어 있으면 생략)
+  @Query(value = "SELECT new bon.bon_jujitsu.dto.SponsorSummary(s.id, s.title, SUBSTRING(s.content, 1, " + PostSummary.CONTENT_HEAD_LENGTH + "), " +
+      "s.url, u.id, u.name, s.viewCount, s.createdAt, s.modifiedAt) " +
+      "FROM Sponsor s JOIN s.user u " +
+      "WHERE s.isDeleted = false " +
+      "AND (:name IS NULL OR :name = '' OR u.name LIKE %:name%) " +
+      "ORDER BY s.createdAt DESC, s.id DESC",
+      countQuery = "SELECT COUNT(s) FROM Sponsor s JOIN s.user u " +
+          "WHERE s.isDeleted = false " +
+          "AND (:name IS NULL OR :name = '' OR u.name LIKE %:name%)")
+  Page<SponsorSummary> findSponsorSummaries(@Param("name") String name, Pageable pageable);
 
   @Query("SELECT s FROM Sponsor s JOIN FETCH s.user WHERE s.id = :sponsorId AND s.isDeleted = false")
   Optional<Sponsor> findByIdWithUser(@Param("sponsorId") Long sponsorId);
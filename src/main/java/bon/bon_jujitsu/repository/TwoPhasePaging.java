@@ -0,0 +1,55 @@
+package bon.bon_jujitsu.repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+/**
+ * 컬렉션 fetch join 목록의 2단계 페이징
+ * 1) 루트 엔티티 ID 만 SQL 로 페이징 (LIMIT/OFFSET + count, Slice 면 count 없이 size + 1)
+ * 2) 그 ID 들만 fetch join 으로 한 번에 조회한 뒤 1단계 순서대로 정렬
+ * - 커서 페이징도 1단계를 seek 쿼리로 바꿔 같은 방식으로 조회한다.
+ * - fetch join 쿼리에 Pageable 을 넘기면 Hibernate 가 조건에 맞는 전체 행을 메모리에 올린 뒤 잘라낸다.
+ */
+public final class TwoPhasePaging {
+
+  private TwoPhasePaging() {
+  }
+
+  public static <T> Page<T> fetch(Page<Long> idPage, Function<List<Long>, List<T>> fetcher,
+      Function<T, Long> idExtractor) {
+    if (idPage.isEmpty()) {
+      return new PageImpl<>(List.of(), idPage.getPageable(), idPage.getTotalElements());
+    }
+
+    return new PageImpl<>(fetch(idPage.getContent(), fetcher, idExtractor), idPage.getPageable(),
+        idPage.getTotalElements());
+  }
+
+  public static <T> Slice<T> fetch(Slice<Long> idSlice, Function<List<Long>, List<T>> fetcher,
+      Function<T, Long> idExtractor) {
+    return new SliceImpl<>(fetch(idSlice.getContent(), fetcher, idExtractor), idSlice.getPageable(),
+        idSlice.hasNext());
+  }
+
+  public static <T> List<T> fetch(List<Long> ids, Function<List<Long>, List<T>> fetcher,
+      Function<T, Long> idExtractor) {
+    if (ids.isEmpty()) {
+      return List.of();
+    }
+
+    Map<Long, T> byId = fetcher.apply(ids).stream()
+        .collect(Collectors.toMap(idExtractor, Function.identity(), (first, second) -> first));
+
+    return ids.stream()
+        .map(byId::get)
+        .filter(Objects::nonNull)
+        .toList();
+  }
+}
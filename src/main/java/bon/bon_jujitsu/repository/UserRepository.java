@@ -1,17 +1,20 @@
 package bon.bon_jujitsu.repository;
 
 import bon.bon_jujitsu.domain.User;
+import bon.bon_jujitsu.dto.MemberSearchRow;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificationExecutor<User> {
+public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificationExecutor<User>,
+    UserSearchRepository {
 
   Optional<User> findByIdAndIsDeletedFalse(Long id);
 
@@ -58,14 +61,49 @@ public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificat
   @Query("SELECT u FROM User u LEFT JOIN FETCH u.branchUsers bu LEFT JOIN FETCH bu.branch WHERE u.memberId = :memberId AND u.isDeleted = false")
   Optional<User> findByMemberIdWithBranchUsers(@Param("memberId") String memberId);
 
-  // 사용자 목록 조회 시 BranchUser 관계까지 함께 조회
-  @Query("SELECT DISTINCT u FROM User u LEFT JOIN FETCH u.branchUsers bu LEFT JOIN FETCH bu.branch WHERE u.isDeleted = false ORDER BY u.createdAt DESC")
-  Page<User> findAllByIsDeletedFalseWithBranchUsers(Pageable pageable);
+  // 사용자 목록 조회 시 BranchUser 관계까지 함께 조회 (사용자 ID 만 size + 1 조회한 뒤 해당 사용자만 fetch join)
+  default Slice<User> findAllByIsDeletedFalseWithBranchUsers(Pageable pageable) {
+    return TwoPhasePaging.fetch(findIdsByIsDeletedFalse(pageable), this::findAllWithBranchUsersByIdIn, User::getId);
+  }
 
-  // 특정 지점의 사용자 조회 시 BranchUser 관계까지 함께 조회
-  @Query("SELECT DISTINCT u FROM User u JOIN FETCH u.branchUsers bu JOIN FETCH bu.branch WHERE bu.branch.id IN :branchIds AND u.isDeleted = false ORDER BY u.createdAt DESC")
-  Page<User> findAllByBranchIdInAndIsDeletedFalseWithBranchUsers(@Param("branchIds") List<Long> branchIds, Pageable pageable);
+  // 특정 지점의 사용자 조회 시 해당 지점의 BranchUser 관계까지 함께 조회
+  default Slice<User> findAllByBranchIdInAndIsDeletedFalseWithBranchUsers(List<Long> branchIds, Pageable pageable) {
+    return TwoPhasePaging.fetch(findIdsByBranchIdInAndIsDeletedFalse(branchIds, pageable),
+        ids -> findAllWithBranchUsersByIdInAndBranchIdIn(ids, branchIds), User::getId);
+  }
+
+  @Query("SELECT u.id FROM User u WHERE u.isDeleted = false ORDER BY u.createdAt DESC, u.id DESC")
+  Slice<Long> findIdsByIsDeletedFalse(Pageable pageable);
+
+  @Query("SELECT u.id FROM User u WHERE u.isDeleted = false " +
+      "AND EXISTS (SELECT 1 FROM BranchUser bu WHERE bu.user = u AND bu.branch.id IN :branchIds) " +
+      "ORDER BY u.createdAt DESC, u.id DESC")
+  Slice<Long> findIdsByBranchIdInAndIsDeletedFalse(@Param("branchIds") List<Long> branchIds, Pageable pageable);
+
+  long countByIsDeletedFalse();
+
+  @Query("SELECT COUNT(u) FROM User u WHERE u.isDeleted = false " +
+      "AND EXISTS (SELECT 1 FROM BranchUser bu WHERE bu.user = u AND bu.branch.id IN :branchIds)")
+  long countByBranchIdInAndIsDeletedFalse(@Param("branchIds") List<Long> branchIds);
+
+  @Query("SELECT DISTINCT u FROM User u LEFT JOIN FETCH u.branchUsers bu LEFT JOIN FETCH bu.branch WHERE u.id IN :ids")
+  List<User> findAllWithBranchUsersByIdIn(@Param("ids") List<Long> ids);
+
+  @Query("SELECT DISTINCT u FROM User u JOIN FETCH u.branchUsers bu JOIN FETCH bu.branch " +
+      "WHERE u.id IN :ids AND bu.branch.id IN :branchIds")
+  List<User> findAllWithBranchUsersByIdInAndBranchIdIn(@Param("ids") List<Long> ids,
+      @Param("branchIds") List<Long> branchIds);
 
   @Query("SELECT u FROM User u LEFT JOIN FETCH u.branchUsers bu LEFT JOIN FETCH bu.branch WHERE u.id = :userId AND u.isDeleted = false")
   Optional<User> findByIdWithBranchUsersAndIsDeletedFalse(@Param("userId") Long userId);
+
+  // 회원 검색 색인 재구축 - ID 순으로 나눠 읽기
+  @Query("SELECT u.id FROM User u WHERE u.isDeleted = false AND u.id > :lastId ORDER BY u.id")
+  List<Long> findIdsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+  // 회원 검색 색인용 행 (소속 지부마다 한 행)
+  @Query("SELECT new bon.bon_jujitsu.dto.MemberSearchRow(u.id, u.name, u.memberId, u.phoneNum, u.stripe, b.id, bu.userRole) " +
+      "FROM User u LEFT JOIN u.branchUsers bu LEFT JOIN bu.branch b " +
+      "WHERE u.id IN :ids AND u.isDeleted = false")
+  List<MemberSearchRow> findMemberSearchRows(@Param("ids") List<Long> ids);
 }
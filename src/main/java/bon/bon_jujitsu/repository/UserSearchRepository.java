@@ -0,0 +1,15 @@
+package bon.bon_jujitsu.repository;
+
+import bon.bon_jujitsu.domain.User;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * 회원 검색 - COUNT 없이 size + 1 개만 조회
+ * - JpaSpecificationExecutor.findAll(spec, pageable) 은 매번 같은 조인/LIKE 조건으로 COUNT 를 실행한다.
+ */
+public interface UserSearchRepository {
+
+  Slice<User> findSlice(Specification<User> spec, Pageable pageable);
+}
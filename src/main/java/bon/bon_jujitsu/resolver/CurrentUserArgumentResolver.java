@@ -1,5 +1,6 @@
 package bon.bon_jujitsu.resolver;
 
+import bon.bon_jujitsu.jwt.AuthenticationContext;
 import bon.bon_jujitsu.jwt.JwtUtil;
 import jakarta.servlet.http.HttpServletRequest;
 import java.util.Objects;
@@ -32,6 +33,13 @@ public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolve
           NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
 
     final HttpServletRequest httpServletRequest = webRequest.getNativeRequest(HttpServletRequest.class);
+
+    // 인증 필터에서 검증한 결과가 있으면 재사용 (토큰 재파싱/Redis 조회 없음)
+    Object context = Objects.requireNonNull(httpServletRequest).getAttribute(AuthenticationContext.ATTRIBUTE);
+    if (context instanceof AuthenticationContext authenticationContext) {
+      return authenticationContext.userId();
+    }
+
     final String authHeader = Objects.requireNonNull(httpServletRequest).getHeader(HttpHeaders.AUTHORIZATION);
 
     // AuthenticationUserId 어노테이ション에서 required 값 가져오기
@@ -1,10 +1,17 @@
 package bon.bon_jujitsu.service;
 
+import bon.bon_jujitsu.cache.CacheInvalidator;
+import bon.bon_jujitsu.cache.CacheKeys;
+import bon.bon_jujitsu.cache.PageCountCache;
+import bon.bon_jujitsu.cache.CacheTags;
 import bon.bon_jujitsu.domain.Board;
 import bon.bon_jujitsu.domain.Branch;
 import bon.bon_jujitsu.domain.PostMedia;
 import bon.bon_jujitsu.domain.PostType;
-import bon.bon_jujitsu.domain.User;
+import bon.bon_jujitsu.dto.PostSummary;
+import bon.bon_jujitsu.dto.UserAuthorization;
+import bon.bon_jujitsu.dto.common.CursorResponse;
+import bon.bon_jujitsu.dto.common.CursorToken;
 import bon.bon_jujitsu.dto.common.PageResponse;
 import bon.bon_jujitsu.dto.request.BoardRequest;
 import bon.bon_jujitsu.dto.response.BoardResponse;
@@ -13,9 +20,7 @@ import bon.bon_jujitsu.repository.BoardRepository;
 import bon.bon_jujitsu.repository.BranchRepository;
 import bon.bon_jujitsu.repository.CommentRepository;
 import bon.bon_jujitsu.repository.PostMediaRepository;
-import bon.bon_jujitsu.repository.UserRepository;
 import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpSession;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -25,8 +30,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -40,20 +45,21 @@ public class BoardService {
 
   private final BoardRepository boardRepository;
   private final BranchRepository branchRepository;
-  private final UserRepository userRepository;
+  private final UserAuthorizationService userAuthorizationService;
   private final PostMediaService postMediaService;
   private final PostMediaRepository postMediaRepository;
+  private final ViewCountService viewCountService;
+  private final TrendingService trendingService;
+  private final PostSearchService postSearchService;
   private final CommentRepository commentRepository;
-
-  private static final String VIEWED_BOARD_PREFIX = "viewed_board_";
-  private static final int VIEW_SESSION_TIMEOUT = 60 * 60; // 1시간
+  private final CacheInvalidator cacheInvalidator;
+  private final PageCountCache pageCountCache;
 
   /**
    * 게시글 생성
    */
-  @CacheEvict(value = "boards", allEntries = true)
   public void createBoard(Long userId, BoardRequest request, List<MultipartFile> files, Long branchId) {
-    User user = findUserById(userId);
+    UserAuthorization user = userAuthorizationService.getAuthorization(userId);
     Branch branch = findBranchById(branchId);
 
     validateBranchMembership(user, branchId);
@@ -62,39 +68,75 @@ public class BoardService {
         .title(request.title())
         .content(request.content())
         .branch(branch)
-        .user(user)
+        .user(userAuthorizationService.getUserReference(user))
         .build();
 
     boardRepository.save(board);
+    postSearchService.refresh(PostType.BOARD, board.getId());
 
     if (files != null && !files.isEmpty()) {
       postMediaService.uploadMedia(board.getId(), PostType.BOARD, files);
     }
+
+    evictBoardPages(branchId);
   }
 
   /**
    * 게시글 목록 조회 (N+1 문제 해결)
    */
   @Transactional(readOnly = true)
-  @Cacheable(value = "boards", key = "#page + '_' + #size + '_' + #name + '_' + #branchId")
-  public PageResponse<BoardResponse> getBoards(int page, int size, String name, Long branchId) {
+  @Cacheable(value = "boards", key = "T(bon.bon_jujitsu.cache.CacheKeys).boards(#page, #size, #name, #branchId, #count)")
+  public PageResponse<BoardResponse> getBoards(int page, int size, String name, Long branchId, boolean count) {
     PageRequest pageRequest = PageRequest.of(page - 1, size, Sort.by(Sort.Direction.DESC, "createdAt"));
 
-    // N+1 문제 방지를 위한 fetch join 사용
-    Page<Board> boards = boardRepository.findBoardsWithFetchJoin(name, branchId, pageRequest);
+    // 목록 컬럼과 본문 앞부분만 조회 (size + 1 조회)
+    Slice<PostSummary> boards = boardRepository.findBoardSummaries(name, branchId, pageRequest);
 
     // 이미지만 별도로 배치 로딩 (OneToMany 관계는 별도 처리가 효율적)
     Set<Long> boardIds = boards.getContent().stream()
-        .map(Board::getId)
+        .map(PostSummary::id)
         .collect(Collectors.toSet());
 
     Map<Long, List<PostMedia>> filesMap = loadfilesInBatch(boardIds);
 
     // BoardResponse 생성
-    return PageResponse.fromPage(boards.map(board -> {
-      List<PostMedia> files = filesMap.getOrDefault(board.getId(), Collections.emptyList());
-      return BoardResponse.fromEntity(board, files);
-    }));
+    Slice<BoardResponse> responses = boards.map(board -> {
+      List<PostMedia> files = filesMap.getOrDefault(board.id(), Collections.emptyList());
+      return BoardResponse.fromSummary(board, files);
+    });
+
+    if (!count) {
+      return PageResponse.fromSlice(responses);
+    }
+
+    // 전체 개수는 검색 조건별로 캐시 (글 작성/수정/삭제 시 무효화)
+    return PageResponse.fromPage(pageCountCache.toPage(responses, "boardCounts",
+        CacheKeys.boardCount(name, branchId), () -> boardRepository.countBoards(name, branchId)));
+  }
+
+  /**
+   * 게시글 목록 커서 페이징 조회 (무한 스크롤, COUNT 쿼리 없음)
+   */
+  @Transactional(readOnly = true)
+  public CursorResponse<BoardResponse> getBoardsByCursor(String cursor, int size, String name, Long branchId) {
+    CursorResponse.validateSize(size);
+    CursorToken position = CursorToken.decode(cursor);
+
+    List<PostSummary> boards = boardRepository.findBoardSummariesAfterCursor(name, branchId,
+        position.createdAt(), position.id(), PageRequest.ofSize(size + 1));
+
+    return CursorResponse.of(boards, size,
+        board -> new CursorToken(board.createdAt(), board.id()),
+        content -> {
+          // 이미지만 별도로 배치 로딩
+          Map<Long, List<PostMedia>> fileMap = loadfilesInBatch(content.stream()
+              .map(PostSummary::id)
+              .collect(Collectors.toSet()));
+
+          return content.stream()
+              .map(board -> BoardResponse.fromSummary(board, fileMap.getOrDefault(board.id(), Collections.emptyList())))
+              .toList();
+        });
   }
 
   /**
@@ -105,8 +147,8 @@ public class BoardService {
     Board board = boardRepository.findByIdWithFetchJoin(boardId)
         .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
 
-    // 세션 기반 조회수 증가 처리
-    handleViewCountIncrease(board, boardId, request);
+    // 조회수 증가 처리 (세션 없이 중복 제거)
+    viewCountService.recordView(PostType.BOARD, boardId, request);
 
     // 이미지 조회
     List<PostMedia> postMedia = postMediaRepository.findByPostTypeAndPostId(PostType.BOARD, board.getId());
@@ -117,38 +159,48 @@ public class BoardService {
   /**
    * 게시글 수정
    */
-  @CacheEvict(value = {"boards", "board"}, allEntries = true)
+  @CacheEvict(value = "board", key = "#boardId")
   public void updateBoard(BoardUpdate request, Long userId, Long boardId,
       List<MultipartFile> files, List<Long> keepfileIds) {
-    User user = findUserById(userId);
+    UserAuthorization user = userAuthorizationService.getAuthorization(userId);
     Board board = findBoardById(boardId);
 
     validateUpdatePermission(user, board);
 
     board.updateBoard(request);
+    postSearchService.refresh(PostType.BOARD, board.getId());
     if (files != null || keepfileIds != null) {
       postMediaService.updateMedia(board.getId(), PostType.BOARD, files, keepfileIds);
     }
+
+    evictBoardPages(board.getBranch().getId());
   }
 
   /**
    * 게시글 삭제
    */
-  @CacheEvict(value = {"boards", "board"}, allEntries = true)
+  @CacheEvict(value = "board", key = "#boardId")
   public void deleteBoard(Long userId, Long boardId) {
-    User user = findUserById(userId);
+    UserAuthorization user = userAuthorizationService.getAuthorization(userId);
     Board board = findBoardById(boardId);
 
     validateDeletePermission(user, board);
 
     board.softDelete();
+    trendingService.remove(PostType.BOARD, boardId);
+    postSearchService.refresh(PostType.BOARD, boardId);
+
+    evictBoardPages(board.getBranch().getId());
   }
 
   // === Private Helper Methods ===
 
-  private User findUserById(Long userId) {
-    return userRepository.findById(userId)
-        .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+  /**
+   * 해당 체육관 목록과 전체 목록 캐시(개수 포함)만 무효화
+   */
+  private void evictBoardPages(Long branchId) {
+    cacheInvalidator.evictTags("boards", CacheTags.branch(branchId), CacheTags.branch(null));
+    cacheInvalidator.evictTags("boardCounts", CacheTags.branch(branchId), CacheTags.branch(null));
   }
 
   private Branch findBranchById(Long branchId) {
@@ -161,23 +213,22 @@ public class BoardService {
         .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
   }
 
-  private void validateBranchMembership(User user, Long branchId) {
-    boolean isMember = user.getBranchUsers().stream()
-        .anyMatch(bu -> bu.getBranch().getId().equals(branchId));
+  private void validateBranchMembership(UserAuthorization user, Long branchId) {
+    boolean isMember = user.roleIn(branchId) != null;
 
     if (!isMember) {
       throw new IllegalArgumentException("해당 체육관의 회원만 게시글을 작성할 수 있습니다.");
     }
   }
 
-  private void validateUpdatePermission(User user, Board board) {
-    if (!user.isAdmin() && !board.getUser().getId().equals(user.getId())) {
+  private void validateUpdatePermission(UserAuthorization user, Board board) {
+    if (!user.isAdmin() && !board.getUser().getId().equals(user.userId())) {
       throw new IllegalArgumentException("게시글 수정 권한이 없습니다.");
     }
   }
 
-  private void validateDeletePermission(User user, Board board) {
-    if (!user.isAdmin() && !board.getUser().getId().equals(user.getId())) {
+  private void validateDeletePermission(UserAuthorization user, Board board) {
+    if (!user.isAdmin() && !board.getUser().getId().equals(user.userId())) {
       throw new IllegalArgumentException("삭제 권한이 없습니다.");
     }
   }
@@ -187,15 +238,4 @@ public class BoardService {
     return allfiles.stream()
         .collect(Collectors.groupingBy(PostMedia::getPostId));
   }
-
-  private void handleViewCountIncrease(Board board, Long boardId, HttpServletRequest request) {
-    HttpSession session = request.getSession();
-    String sessionKey = VIEWED_BOARD_PREFIX + boardId;
-
-    if (session.getAttribute(sessionKey) == null) {
-      board.increaseViewCount();
-      session.setAttribute(sessionKey, true);
-      session.setMaxInactiveInterval(VIEW_SESSION_TIMEOUT);
-    }
-  }
 }
\ No newline at end of file
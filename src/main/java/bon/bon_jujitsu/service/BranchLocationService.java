@@ -0,0 +1,151 @@
+package bon.bon_jujitsu.service;
+
+import bon.bon_jujitsu.cache.CacheInvalidator;
+import bon.bon_jujitsu.common.AreaGeocoder;
+import bon.bon_jujitsu.common.GeoGridIndex;
+import bon.bon_jujitsu.common.IndexRefreshBus;
+import bon.bon_jujitsu.domain.Branch;
+import bon.bon_jujitsu.dto.BranchLocation;
+import bon.bon_jujitsu.dto.response.NearbyBranchResponse;
+import bon.bon_jujitsu.repository.BranchRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 지부 찾기 (가까운 지부 / 반경 N km 이내 지부) - DB 대신 메모리 격자 색인으로 조회
+ * - 기동 시 좌표가 있는 지부로 재구축하고, 지부 생성/수정/삭제는 커밋 후 모든 노드가 해당 지부만 DB 에서 다시 읽어 반영한다.
+ *   (IndexRefreshBus, 전파가 유실된 노드는 다음 기동 시 재구축으로 맞춰진다)
+ * - 좌표가 없는 지부(좌표 컬럼 추가 전 등록 등)는 재구축 전에 시/도 좌표표의 대략 좌표로 채운다.
+ */
+@Slf4j
+@Service
+public class BranchLocationService {
+
+  private static final int MAX_LIMIT = 50;
+  private static final double MAX_RADIUS_KM = 500;
+  private static final String INDEX_NAME = "branch-location";
+
+  private final BranchRepository branchRepository;
+  private final CacheInvalidator cacheInvalidator;
+  private final IndexRefreshBus indexRefreshBus;
+  private final GeoGridIndex index;
+  private final Map<Long, BranchLocation> locations = new ConcurrentHashMap<>();
+  private final TransactionTemplate backfillTransaction;
+
+  public BranchLocationService(BranchRepository branchRepository, CacheInvalidator cacheInvalidator,
+      IndexRefreshBus indexRefreshBus, PlatformTransactionManager transactionManager,
+      @Value("${app.branch-location.cell-degrees:0.05}") double cellDegrees) {
+    this.branchRepository = branchRepository;
+    this.cacheInvalidator = cacheInvalidator;
+    this.indexRefreshBus = indexRefreshBus;
+    this.index = new GeoGridIndex(cellDegrees);
+    this.backfillTransaction = new TransactionTemplate(transactionManager);
+    this.backfillTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    indexRefreshBus.register(INDEX_NAME, this::apply, this::rebuild);
+  }
+
+  /**
+   * 기동 시 DB 로 색인 재구축
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  @Transactional(readOnly = true)
+  public synchronized void rebuild() {
+    backfill();
+    List<BranchLocation> loaded = branchRepository.findLocations();
+    locations.keySet().retainAll(loaded.stream().map(BranchLocation::id).toList());
+    loaded.forEach(location -> locations.put(location.id(), location));
+    index.replaceAll(loaded.stream()
+        .map(location -> new GeoGridIndex.Point(location.id(), location.latitude(), location.longitude()))
+        .toList());
+    log.info("지부 위치 색인 재구축 완료 (branches={})", loaded.size());
+  }
+
+  /**
+   * 지부 생성/수정/삭제 반영 (트랜잭션 안이면 커밋 후 모든 노드가 DB 에서 다시 읽음, 좌표 없는 지부/삭제된 지부는 제거)
+   */
+  public void refresh(Long branchId) {
+    indexRefreshBus.refresh(INDEX_NAME, List.of(branchId));
+  }
+
+  /**
+   * 가까운 지부 (radiusKm 가 있으면 반경 이내만) - 가까운 순 최대 limit 개
+   */
+  public List<NearbyBranchResponse> findNearby(double latitude, double longitude, int limit, Double radiusKm) {
+    validateNearby(latitude, longitude, limit, radiusKm);
+
+    List<GeoGridIndex.Hit> hits = radiusKm == null
+        ? index.nearest(latitude, longitude, limit)
+        : index.within(latitude, longitude, radiusKm);
+
+    // 조회 중 삭제된 지부는 결과에서만 빠진다.
+    return hits.stream()
+        .map(hit -> {
+          BranchLocation location = locations.get(hit.id());
+          return location == null ? null : NearbyBranchResponse.of(location, hit.distanceKm());
+        })
+        .filter(Objects::nonNull)
+        .limit(limit)
+        .toList();
+  }
+
+  // === Private Helper Methods ===
+
+  /**
+   * 바뀐 지부만 DB 에서 다시 읽어 반영 (IndexRefreshBus 갱신 스레드에서 실행)
+   */
+  private void apply(List<Long> branchIds) {
+    branchIds.forEach(branchId -> branchRepository.findLocationById(branchId)
+        .ifPresentOrElse(location -> {
+          locations.put(branchId, location);
+          index.put(branchId, location.latitude(), location.longitude());
+        }, () -> {
+          index.remove(branchId);
+          locations.remove(branchId);
+        }));
+  }
+
+  /**
+   * 좌표 없는 지부를 시/도 좌표표로 채움 (대략 좌표로 표시, 좌표표에 없는 주소는 그대로 둠)
+   * - 색인 조회 트랜잭션보다 먼저 별도 트랜잭션으로 커밋한다.
+   */
+  private void backfill() {
+    int filled = backfillTransaction.execute(status -> {
+      int count = 0;
+      for (Branch branch : branchRepository.findWithoutLocation()) {
+        AreaGeocoder.Coordinate coordinate = AreaGeocoder.locate(branch.getAddress(), branch.getArea()).orElse(null);
+        if (coordinate != null) {
+          branch.updateLocation(coordinate.latitude(), coordinate.longitude(), true);
+          count++;
+        }
+      }
+      return count;
+    });
+    if (filled > 0) {
+      // 지부 응답에 좌표가 포함되므로 캐시된 응답도 비움
+      cacheInvalidator.clear("branch");
+      cacheInvalidator.clear("branches");
+      log.info("지부 대략 좌표 채움 (branches={})", filled);
+    }
+  }
+
+  private void validateNearby(double latitude, double longitude, int limit, Double radiusKm) {
+    GeoGridIndex.validateCoordinate(latitude, longitude);
+    if (limit < 1 || limit > MAX_LIMIT) {
+      throw new IllegalArgumentException("조회 개수는 1~" + MAX_LIMIT + " 사이여야 합니다.");
+    }
+    if (radiusKm != null && !(radiusKm > 0 && radiusKm <= MAX_RADIUS_KM)) {
+      throw new IllegalArgumentException("반경은 0 초과 " + (int) MAX_RADIUS_KM + "km 이하여야 합니다.");
+    }
+  }
+}
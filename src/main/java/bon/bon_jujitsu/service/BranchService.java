@@ -1,10 +1,13 @@
 package bon.bon_jujitsu.service;
 
+import bon.bon_jujitsu.common.AreaGeocoder;
+import bon.bon_jujitsu.common.GeoGridIndex;
 import bon.bon_jujitsu.domain.Branch;
 import bon.bon_jujitsu.domain.BranchImage;
 import bon.bon_jujitsu.domain.BranchUser;
 import bon.bon_jujitsu.domain.User;
 import bon.bon_jujitsu.domain.UserRole;
+import bon.bon_jujitsu.dto.UserAuthorization;
 import bon.bon_jujitsu.dto.common.PageResponse;
 import bon.bon_jujitsu.dto.request.BranchRequest;
 import bon.bon_jujitsu.dto.response.BranchResponse;
@@ -12,7 +15,6 @@ import bon.bon_jujitsu.dto.update.BranchUpdate;
 import bon.bon_jujitsu.repository.BranchRepository;
 import bon.bon_jujitsu.repository.BranchUserRepository;
 import bon.bon_jujitsu.repository.BranchImageRepository;
-import bon.bon_jujitsu.repository.UserRepository;
 import bon.bon_jujitsu.specification.BranchSpecification;
 
 import java.util.Collections;
@@ -39,17 +41,19 @@ import org.springframework.web.multipart.MultipartFile;
 public class BranchService {
 
   private final BranchRepository branchRepository;
-  private final UserRepository userRepository;
+  private final UserAuthorizationService userAuthorizationService;
   private final BranchImageService branchImageService;
   private final BranchUserRepository branchUserRepository;
   private final BranchImageRepository branchImageRepository;
+  private final MemberSearchService memberSearchService;
+  private final BranchLocationService branchLocationService;
 
   /**
    * 지부 생성
    */
   @CacheEvict(value = "branches", allEntries = true)
   public void createBranch(Long userId, BranchRequest request, List<MultipartFile> images) {
-    User user = findUserById(userId);
+    UserAuthorization user = userAuthorizationService.getAuthorization(userId);
     validateAdminPermission(user);
 
     Branch branch = Branch.builder()
@@ -58,8 +62,17 @@ public class BranchService {
         .area(request.area())
         .content(request.content())
         .build();
+    // 좌표를 입력하지 않으면 시/도 좌표표로 대략 위치를 채운다.
+    if (request.latitude() != null || request.longitude() != null) {
+      validateLocation(request.latitude(), request.longitude());
+      branch.updateLocation(request.latitude(), request.longitude(), false);
+    } else {
+      AreaGeocoder.locate(request.address(), request.area())
+          .ifPresent(coordinate -> branch.updateLocation(coordinate.latitude(), coordinate.longitude(), true));
+    }
 
     branchRepository.save(branch);
+    branchLocationService.refresh(branch.getId());
 
     // 이미지 업로드 (같은 트랜잭션에서 처리)
     if (images != null && !images.isEmpty()) {
@@ -89,7 +102,7 @@ public class BranchService {
    * 지부 상세 조회 - N+1 문제 해결
    */
   @Transactional(readOnly = true)
-  @Cacheable(value = "branch", key = "#branchId")
+  @Cacheable(value = "branch", key = "#branchId", sync = true)
   public BranchResponse getBranch(Long branchId) {
     Branch branch = findBranchById(branchId);
 
@@ -124,7 +137,7 @@ public class BranchService {
    * 지부 목록 조회 - 배치 로딩으로 N+1 문제 완전 해결
    */
   @Transactional(readOnly = true)
-  @Cacheable(value = "branches", key = "#page + '_' + #size + '_' + #region + '_' + #area + '_' + #branchIds?.hashCode()")
+  @Cacheable(value = "branches", key = "#page + '_' + #size + '_' + #region + '_' + #area + '_' + #branchIds?.hashCode()", sync = true)
   public PageResponse<BranchResponse> getAllBranch(int page, int size, String region, String area, List<Long> branchIds) {
     PageRequest pageRequest = PageRequest.of(page - 1, size, Sort.by(Sort.Direction.ASC, "region"));
 
@@ -168,7 +181,7 @@ public class BranchService {
   @CacheEvict(value = {"branches", "branch"}, allEntries = true)
   public void updateBranch(Long userId, Long branchId, BranchUpdate update,
       List<MultipartFile> images, List<Long> keepImageIds) {
-    User user = findUserById(userId);
+    UserAuthorization user = userAuthorizationService.getAuthorization(userId);
     Branch branch = findBranchForUpdate(user, branchId);
 
     // 지부 정보 업데이트
@@ -176,6 +189,10 @@ public class BranchService {
       branch.updateBranch(update);
     }
 
+    if (updateLocation(branch, update)) {
+      branchLocationService.refresh(branchId);
+    }
+
     // 이미지 처리 (변경사항이 있을 때만, 같은 트랜잭션에서)
     if (hasImageChanges(images, keepImageIds)) {
       branchImageService.updateImages(branch, images, keepImageIds);
@@ -187,16 +204,18 @@ public class BranchService {
    */
   @CacheEvict(value = {"branches", "branch"}, allEntries = true)
   public void deleteBranch(Long userId, Long branchId) {
-    User user = findUserById(userId);
+    UserAuthorization user = userAuthorizationService.getAuthorization(userId);
     validateAdminPermission(user);
 
     Branch branch = findBranchById(branchId);
 
-    // 연관 데이터 정리
+    // 연관 데이터 정리 (소속 회원들의 역할이 사라지므로 권한 스냅샷도 비움)
     cleanupBranchRelatedData(branch);
+    userAuthorizationService.evictAll();
 
     // 브랜치 soft delete
     branch.softDelete();
+    branchLocationService.refresh(branchId);
   }
 
   /**
@@ -209,33 +228,22 @@ public class BranchService {
 
   // === Private Helper Methods ===
 
-  private User findUserById(Long userId) {
-    return userRepository.findById(userId)
-        .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-  }
-
   private Branch findBranchById(Long branchId) {
     return branchRepository.findById(branchId)
         .orElseThrow(() -> new IllegalArgumentException("지부를 찾을 수 없습니다."));
   }
 
-  private void validateAdminPermission(User user) {
+  private void validateAdminPermission(UserAuthorization user) {
     if (!user.isAdmin()) {
       throw new IllegalArgumentException("관리자만 해당 작업이 가능합니다.");
     }
   }
 
-  private Branch findBranchForUpdate(User user, Long branchId) {
-    if (user.isAdminUser()) {
-      return findBranchById(branchId);
-    } else {
-      return user.getBranchUsers().stream()
-          .filter(bu -> bu.getUserRole() == UserRole.OWNER)
-          .filter(bu -> bu.getBranch().getId().equals(branchId))
-          .map(BranchUser::getBranch)
-          .findFirst()
-          .orElseThrow(() -> new IllegalArgumentException("해당 지부의 관장 권한이 없습니다."));
+  private Branch findBranchForUpdate(UserAuthorization user, Long branchId) {
+    if (!user.isAdmin() && !user.hasRoleIn(branchId, UserRole.OWNER)) {
+      throw new IllegalArgumentException("해당 지부의 관장 권한이 없습니다.");
     }
+    return findBranchById(branchId);
   }
 
   /**
@@ -270,6 +278,43 @@ public class BranchService {
     }
   }
 
+  /**
+   * 지부 위치 갱신 - 바뀌었으면 true
+   * - 좌표를 직접 입력하면 그 좌표 사용
+   * - 시/도 좌표표는 좌표가 없거나, 관리자가 좌표를 지웠거나, 기존 좌표도 대략 좌표일 때만 사용 (입력한 좌표는 덮어쓰지 않음)
+   */
+  private boolean updateLocation(Branch branch, BranchUpdate update) {
+    if (update.latitude().isPresent() || update.longitude().isPresent()) {
+      Double latitude = update.latitude().orElse(null);
+      Double longitude = update.longitude().orElse(null);
+      validateLocation(latitude, longitude);
+      branch.updateLocation(latitude, longitude, false);
+      return true;
+    }
+
+    boolean cleared = update.clearLocation().orElse(false);
+    boolean addressChanged = update.address().isPresent() || update.area().isPresent();
+    boolean precise = branch.hasLocation() && !branch.isLocationApproximate();
+    if (!cleared && (!addressChanged || precise)) {
+      return false;
+    }
+    AreaGeocoder.locate(branch.getAddress(), branch.getArea())
+        .ifPresentOrElse(
+            coordinate -> branch.updateLocation(coordinate.latitude(), coordinate.longitude(), true),
+            branch::clearLocation);
+    return true;
+  }
+
+  /**
+   * 위도/경도는 함께 입력
+   */
+  private void validateLocation(Double latitude, Double longitude) {
+    if (latitude == null || longitude == null) {
+      throw new IllegalArgumentException("위도와 경도를 함께 입력해주세요.");
+    }
+    GeoGridIndex.validateCoordinate(latitude, longitude);
+  }
+
   private boolean hasContentChanges(BranchUpdate update) {
     return update.region().isPresent() ||
         update.address().isPresent() ||
@@ -284,6 +329,7 @@ public class BranchService {
     try {
       List<BranchUser> branchUsers = branchUserRepository.findByBranch(branch);
       branchUserRepository.deleteAll(branchUsers);
+      memberSearchService.refresh(branchUsers.stream().map(branchUser -> branchUser.getUser().getId()).toList());
       log.info("지부 관련 데이터 정리 완료: branchId={}", branch.getId());
     } catch (Exception e) {
       log.warn("지부 관련 데이터 정리 실패: branchId={}, error={}", branch.getId(), e.getMessage());
@@ -0,0 +1,31 @@
+package bon.bon_jujitsu.service;
+
+import bon.bon_jujitsu.cache.TwoTierCacheManager;
+import bon.bon_jujitsu.dto.UserAuthorization;
+import bon.bon_jujitsu.dto.response.CacheStatsResponse;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CacheStatsService {
+
+  private final TwoTierCacheManager cacheManager;
+  private final UserAuthorizationService userAuthorizationService;
+
+  /**
+   * 캐시별 hit/miss/eviction 통계 조회 (관리자 전용)
+   */
+  public List<CacheStatsResponse> getCacheStats(Long userId) {
+    UserAuthorization user = userAuthorizationService.getAuthorization(userId);
+
+    if (!user.isAdmin()) {
+      throw new IllegalArgumentException("관리자만 해당 작업이 가능합니다.");
+    }
+
+    return cacheManager.getStatistics();
+  }
+}
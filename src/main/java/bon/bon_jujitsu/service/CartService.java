@@ -5,7 +5,7 @@ import bon.bon_jujitsu.domain.CartItem;
 import bon.bon_jujitsu.domain.Item;
 import bon.bon_jujitsu.domain.ItemOption;
 import bon.bon_jujitsu.domain.User;
-import bon.bon_jujitsu.domain.UserRole;
+import bon.bon_jujitsu.dto.UserAuthorization;
 import bon.bon_jujitsu.dto.request.CartItemRequest;
 import bon.bon_jujitsu.dto.request.CartRequest;
 import bon.bon_jujitsu.dto.response.CartResponse;
@@ -13,7 +13,6 @@ import bon.bon_jujitsu.repository.CartItemRepository;
 import bon.bon_jujitsu.repository.CartRepository;
 import bon.bon_jujitsu.repository.ItemOptionRepository;
 import bon.bon_jujitsu.repository.ItemRepository;
-import bon.bon_jujitsu.repository.UserRepository;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,7 +28,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class CartService {
 
   private final CartRepository cartRepository;
-  private final UserRepository userRepository;
+  private final UserAuthorizationService userAuthorizationService;
   private final ItemRepository itemRepository;
   private final CartItemRepository cartItemRepository;
   private final ItemOptionRepository itemOptionRepository;
@@ -152,22 +151,14 @@ public class CartService {
 
   // === Private Helper Methods ===
 
-  private User findUserById(Long userId) {
-    return userRepository.findById(userId)
-        .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-  }
-
   private User findAndValidateUser(Long userId) {
-    User user = findUserById(userId);
-    validateUserPermission(user);
-    return user;
+    UserAuthorization authorization = userAuthorizationService.getAuthorization(userId);
+    validateUserPermission(authorization);
+    return userAuthorizationService.getUserReference(authorization);
   }
 
-  private void validateUserPermission(User user) {
-    boolean isApprovedUser = user.getBranchUsers().stream()
-        .anyMatch(bu -> bu.getUserRole() != UserRole.PENDING);
-
-    if (!isApprovedUser) {
+  private void validateUserPermission(UserAuthorization user) {
+    if (!user.hasApprovedBranch()) {
       throw new IllegalArgumentException("승인 대기 중인 사용자는 장바구니를 이용할 수 없습니다.");
     }
   }
@@ -1,9 +1,9 @@
 package bon.bon_jujitsu.service;
 
+import bon.bon_jujitsu.cache.CacheInvalidator;
 import bon.bon_jujitsu.domain.Comment;
 import bon.bon_jujitsu.domain.CommentType;
-import bon.bon_jujitsu.domain.User;
-import bon.bon_jujitsu.domain.UserRole;
+import bon.bon_jujitsu.dto.UserAuthorization;
 import bon.bon_jujitsu.dto.request.CommentRequest;
 import bon.bon_jujitsu.dto.response.CommentResponse;
 import bon.bon_jujitsu.dto.update.CommentUpdate;
@@ -11,7 +11,6 @@ import bon.bon_jujitsu.repository.BoardRepository;
 import bon.bon_jujitsu.repository.CommentRepository;
 import bon.bon_jujitsu.repository.NoticeRepository;
 import bon.bon_jujitsu.repository.QnARepository;
-import bon.bon_jujitsu.repository.UserRepository;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -27,11 +26,13 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class CommentService {
 
-  private final UserRepository userRepository;
+  private final UserAuthorizationService userAuthorizationService;
   private final CommentRepository commentRepository;
   private final BoardRepository boardRepository;
   private final NoticeRepository noticeRepository;
   private final QnARepository qnARepository;
+  private final CacheInvalidator cacheInvalidator;
+  private final TrendingService trendingService;
 
   // 최대 댓글 깊이 상수화
   private static final int MAX_COMMENT_DEPTH = 3;
@@ -39,7 +40,7 @@ public class CommentService {
   @CacheEvict(value = "comments", key = "#request.targetId() + '_' + #request.commentType()")
   public void createComment(Long userId, CommentRequest request) {
     // 사용자 권한 검증을 별도 메서드로 분리
-    User user = validateUserPermission(userId);
+    UserAuthorization user = validateUserPermission(userId);
 
     // QnA 댓글 권한 검증
     validateQnaCommentPermission(request.commentType(), user);
@@ -51,12 +52,13 @@ public class CommentService {
         .content(request.content())
         .parentComment(parentComment)
         .depth(parentComment != null ? parentComment.getDepth() + 1 : 0)
-        .user(user)
+        .user(userAuthorizationService.getUserReference(user))
         .commentType(request.commentType())
         .targetId(request.targetId())
         .build();
 
     commentRepository.save(comment);
+    trendingService.recordComment(request.commentType(), request.targetId());
   }
 
   @Transactional(readOnly = true)
@@ -74,7 +76,6 @@ public class CommentService {
     return buildCommentTree(comments);
   }
 
-  @CacheEvict(value = "comments", key = "#comment.targetId + '_' + #comment.commentType")
   public void updateComment(Long userId, Long commentId, CommentUpdate request) {
     Comment comment = commentRepository.findById(commentId)
         .orElseThrow(() -> new IllegalArgumentException("댓글을 찾을 수 없습니다."));
@@ -86,12 +87,12 @@ public class CommentService {
     validateParentCommentUpdate(comment, request);
 
     comment.updateComment(request.content());
+
+    evictCommentTree(comment);
   }
 
-  @CacheEvict(value = "comments", key = "#comment.targetId + '_' + #comment.commentType")
   public void deleteComment(Long userId, Long commentId) {
-    User user = userRepository.findById(userId)
-        .orElseThrow(() -> new IllegalArgumentException("유저를 찾을 수 없습니다."));
+    UserAuthorization user = userAuthorizationService.getAuthorization(userId);
 
     Comment comment = commentRepository.findById(commentId)
         .orElseThrow(() -> new IllegalArgumentException("댓글을 찾을 수 없습니다."));
@@ -100,29 +101,30 @@ public class CommentService {
     validateDeletePermission(user, comment);
 
     comment.softDelete();
-  }
 
-  // === 검증 메서드들 ===
+    evictCommentTree(comment);
+  }
 
-  private User validateUserPermission(Long userId) {
-    User user = userRepository.findById(userId)
-        .orElseThrow(() -> new IllegalArgumentException("유저를 찾을 수 없습니다."));
+  /**
+   * 댓글이 달린 대상 게시글의 댓글 캐시만 무효화 (getComments 키와 동일)
+   */
+  private void evictCommentTree(Comment comment) {
+    cacheInvalidator.evict("comments", comment.getTargetId() + "_" + comment.getCommentType());
+  }
 
-    if (user.isAdmin()) {
-      return user;
-    }
+  // === 검증 메서드들 ===
 
-    boolean hasActiveRole = user.getBranchUsers().stream()
-        .anyMatch(bu -> bu.getUserRole() != UserRole.PENDING);
+  private UserAuthorization validateUserPermission(Long userId) {
+    UserAuthorization user = userAuthorizationService.getAuthorization(userId);
 
-    if (!hasActiveRole) {
+    if (!user.isApproved()) {
       throw new IllegalArgumentException("승인 대기 중인 사용자는 댓글을 이용할 수 없습니다.");
     }
 
     return user;
   }
 
-  private void validateQnaCommentPermission(CommentType commentType, User user) {
+  private void validateQnaCommentPermission(CommentType commentType, UserAuthorization user) {
     if (commentType == CommentType.QNA && !user.isAdmin()) {
       throw new IllegalArgumentException("QnA 댓글은 관리자만 작성할 수 있습니다.");
     }
@@ -167,8 +169,8 @@ public class CommentService {
     }
   }
 
-  private void validateDeletePermission(User user, Comment comment) {
-    if (!user.isAdmin() && !comment.getUser().getId().equals(user.getId())) {
+  private void validateDeletePermission(UserAuthorization user, Comment comment) {
+    if (!user.isAdmin() && !comment.getUser().getId().equals(user.userId())) {
       throw new IllegalArgumentException("삭제 권한이 없습니다.");
     }
   }
@@ -0,0 +1,214 @@
+package bon.bon_jujitsu.service;
+
+import bon.bon_jujitsu.common.IndexRefreshBus;
+import bon.bon_jujitsu.common.ItemCatalogIndex;
+import bon.bon_jujitsu.domain.Item;
+import bon.bon_jujitsu.domain.ItemImage;
+import bon.bon_jujitsu.domain.ItemOption;
+import bon.bon_jujitsu.dto.common.PageResponse;
+import bon.bon_jujitsu.dto.request.ItemSearchRequest;
+import bon.bon_jujitsu.dto.response.ItemOptionResponse;
+import bon.bon_jujitsu.dto.response.ItemSearchResponse;
+import bon.bon_jujitsu.dto.response.LatestItemResponse;
+import bon.bon_jujitsu.repository.ItemImageRepository;
+import bon.bon_jujitsu.repository.ItemRepository;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 상품 카탈로그 패싯 검색 (사이즈 / 색상 / 가격대 / 할인 / 재고) - 조회는 DB 없이 메모리 색인만 사용
+ * - 기동 시 DB 로 재구축하고, 상품 등록/수정/삭제와 주문에 따른 재고 변경은 커밋 후 해당 상품만 다시 읽어 반영한다.
+ * - 변경은 IndexRefreshBus 로 모든 노드에 전파되고, 전파가 유실된 경우는 관리자 재구축 요청으로 모든 노드를 다시 맞춘다.
+ */
+@Slf4j
+@Service
+public class ItemCatalogSearchService {
+
+  private static final int MAX_SIZE = 50;
+  private static final String INDEX_NAME = "item-catalog";
+
+  private final ItemRepository itemRepository;
+  private final ItemImageRepository itemImageRepository;
+  private final IndexRefreshBus indexRefreshBus;
+  private final int batchSize;
+  private final ItemCatalogIndex index;
+  private final TransactionTemplate refreshTransaction;
+
+  public ItemCatalogSearchService(ItemRepository itemRepository, ItemImageRepository itemImageRepository,
+      IndexRefreshBus indexRefreshBus, PlatformTransactionManager transactionManager,
+      @Value("${app.catalog.batch-size:500}") int batchSize,
+      @Value("${app.catalog.price-buckets:30000,50000,100000,200000}") int[] priceBuckets) {
+    this.itemRepository = itemRepository;
+    this.itemImageRepository = itemImageRepository;
+    this.indexRefreshBus = indexRefreshBus;
+    this.batchSize = batchSize;
+    this.index = new ItemCatalogIndex(priceBuckets);
+    // 커밋 후 갱신은 새 영속성 컨텍스트에서 읽는다. (재고는 조건부 UPDATE 로 바뀌어 기존 컨텍스트의 엔티티 값이 오래됨)
+    this.refreshTransaction = new TransactionTemplate(transactionManager);
+    this.refreshTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.refreshTransaction.setReadOnly(true);
+    indexRefreshBus.register(INDEX_NAME, this::apply,
+        () -> refreshTransaction.executeWithoutResult(status -> rebuild()));
+  }
+
+  /**
+   * 기동 시 DB 로 색인 재구축
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  @Transactional(readOnly = true)
+  public synchronized void rebuild() {
+    ItemCatalogIndex.Rebuild rebuild = index.startRebuild();
+    long lastId = 0L;
+    int count = 0;
+    while (true) {
+      List<Long> ids = itemRepository.findIdsAfter(lastId, PageRequest.ofSize(batchSize));
+      if (!ids.isEmpty()) {
+        loadCatalogItems(ids).forEach(rebuild::put);
+      }
+      count += ids.size();
+      if (ids.size() < batchSize) {
+        break;
+      }
+      lastId = ids.get(ids.size() - 1);
+    }
+    rebuild.finish();
+    log.info("상품 카탈로그 색인 재구축 완료 (items={})", count);
+  }
+
+  /**
+   * 모든 노드에서 색인 재구축 (관리자 요청, 변경 전파가 유실된 경우 보정용)
+   */
+  public void rebuildAllNodes() {
+    indexRefreshBus.rebuild(INDEX_NAME);
+  }
+
+  /**
+   * 상품/옵션/이미지/재고 변경 반영 (트랜잭션 안이면 커밋 후 모든 노드가 DB 에서 다시 읽음, 삭제된 상품은 제거)
+   */
+  public void refresh(Long itemId) {
+    refresh(List.of(itemId));
+  }
+
+  public void refresh(Collection<Long> itemIds) {
+    indexRefreshBus.refresh(INDEX_NAME, new HashSet<>(itemIds));
+  }
+
+  /**
+   * 조건에 맞는 상품 페이지 + 패싯별 상품 수
+   */
+  public ItemSearchResponse search(ItemSearchRequest request, int page, int size) {
+    validateSearch(request, page, size);
+
+    ItemCatalogIndex.Result result = index.search(new ItemCatalogIndex.Query(
+        request.name(),
+        toSet(request.sizes()),
+        toSet(request.colors()),
+        request.minPrice(),
+        request.maxPrice(),
+        request.onSale(),
+        request.inStock(),
+        request.sort()));
+
+    PageRequest pageRequest = PageRequest.of(page - 1, size);
+    List<ItemCatalogIndex.CatalogItem> matched = result.items();
+    int from = (int) Math.min(pageRequest.getOffset(), matched.size());
+    List<LatestItemResponse> pageItems = matched.subList(from, Math.min(from + size, matched.size())).stream()
+        .map(this::toResponse)
+        .toList();
+
+    return ItemSearchResponse.of(PageResponse.fromPage(new PageImpl<>(pageItems, pageRequest, matched.size())), result);
+  }
+
+  // === Private Helper Methods ===
+
+  /**
+   * 바뀐 상품만 DB 에서 다시 읽어 반영 (IndexRefreshBus 갱신 스레드에서 실행)
+   */
+  private void apply(List<Long> ids) {
+    Map<Long, ItemCatalogIndex.CatalogItem> items = refreshTransaction.execute(status -> loadCatalogItems(ids))
+        .stream()
+        .collect(Collectors.toMap(ItemCatalogIndex.CatalogItem::id, item -> item));
+    for (Long id : ids) {
+      ItemCatalogIndex.CatalogItem item = items.get(id);
+      if (item != null) {
+        index.put(item);
+      } else {
+        index.remove(id);
+      }
+    }
+  }
+
+  /**
+   * 상품 + 옵션은 fetch join, 이미지는 한 번에 따로 읽어 색인 항목으로 변환
+   */
+  private List<ItemCatalogIndex.CatalogItem> loadCatalogItems(List<Long> ids) {
+    List<Item> items = itemRepository.findAllWithOptionsByIdIn(ids);
+    if (items.isEmpty()) {
+      return List.of();
+    }
+    Map<Long, List<String>> imagesByItem = itemImageRepository
+        .findByItemIdInOrderByIdAsc(items.stream().map(Item::getId).toList()).stream()
+        .collect(Collectors.groupingBy(image -> image.getItem().getId(),
+            Collectors.mapping(ItemImage::getImagePath, Collectors.toList())));
+
+    return items.stream()
+        .map(item -> new ItemCatalogIndex.CatalogItem(
+            item.getId(),
+            item.getName(),
+            item.getPrice(),
+            item.getSale(),
+            item.getCreatedAt(),
+            item.getItemOptions().stream()
+                .sorted(Comparator.comparing(ItemOption::getId))
+                .map(option -> new ItemCatalogIndex.Option(option.getId(), option.getSize(), option.getColor(),
+                    option.getAmount()))
+                .toList(),
+            List.copyOf(imagesByItem.getOrDefault(item.getId(), List.of()))))
+        .toList();
+  }
+
+  private LatestItemResponse toResponse(ItemCatalogIndex.CatalogItem item) {
+    return LatestItemResponse.builder()
+        .id(item.id())
+        .name(item.name())
+        .options(item.options().stream()
+            .map(option -> new ItemOptionResponse(option.id(), option.size(), option.color(), option.amount()))
+            .toList())
+        .price(item.price())
+        .sale(item.sale())
+        .images(item.images())
+        .build();
+  }
+
+  private Set<String> toSet(List<String> values) {
+    return values == null ? Set.of() : Set.copyOf(values);
+  }
+
+  private void validateSearch(ItemSearchRequest request, int page, int size) {
+    if (page < 1) {
+      throw new IllegalArgumentException("페이지 번호는 1 이상이어야 합니다.");
+    }
+    if (size < 1 || size > MAX_SIZE) {
+      throw new IllegalArgumentException("조회 개수는 1~" + MAX_SIZE + " 사이여야 합니다.");
+    }
+    if (request.minPrice() != null && request.maxPrice() != null && request.minPrice() > request.maxPrice()) {
+      throw new IllegalArgumentException("최소 가격은 최대 가격보다 클 수 없습니다.");
+    }
+  }
+}
@@ -0,0 +1,54 @@
+package bon.bon_jujitsu.service;
+
+import bon.bon_jujitsu.domain.Item;
+import bon.bon_jujitsu.dto.common.PageResponse;
+import bon.bon_jujitsu.dto.response.ItemResponse;
+import bon.bon_jujitsu.dto.response.LatestItemResponse;
+import bon.bon_jujitsu.repository.ItemRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 상품 카탈로그 조회 (모든 사용자가 공유하는 캐시)
+ * - 사용자 권한 검증은 호출하는 ItemService 에서 캐시 밖에서 수행한다.
+ * - 캐시 키에 사용자 정보를 넣지 않으므로 캐시 크기는 카탈로그 크기에만 비례한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ItemCatalogService {
+
+  private final ItemRepository itemRepository;
+
+  @Cacheable(value = "items", key = "T(bon.bon_jujitsu.cache.CacheKeys).items(#page, #size, #name)", sync = true)
+  public PageResponse<ItemResponse> getItemPage(int page, int size, String name) {
+    PageRequest pageRequest = PageRequest.of(page - 1, size, Sort.by(Sort.Direction.DESC, "createdAt", "id"));
+
+    Page<Item> items = (name != null && !name.isBlank())
+        ? itemRepository.findByNameContainingIgnoreCaseWithFetch(name, pageRequest)
+        : itemRepository.findAllWithFetch(pageRequest);
+
+    return PageResponse.fromPage(items.map(ItemResponse::fromEntity));
+  }
+
+  @Cacheable(value = "items", key = "T(bon.bon_jujitsu.cache.CacheKeys).mainItems(#page, #size)", sync = true)
+  public PageResponse<LatestItemResponse> getLatestItemPage(int page, int size) {
+    PageRequest pageRequest = PageRequest.of(page - 1, size, Sort.by(Sort.Direction.DESC, "createdAt", "id"));
+    Page<Item> items = itemRepository.findTop4ByOrderByCreatedAtDescWithFetch(pageRequest);
+
+    return PageResponse.fromPage(items.map(LatestItemResponse::from));
+  }
+
+  @Cacheable(value = "items", key = "T(bon.bon_jujitsu.cache.CacheKeys).item(#itemId)", sync = true)
+  public ItemResponse getItemDetail(Long itemId) {
+    Item item = itemRepository.findByIdWithFetch(itemId)
+        .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다."));
+
+    return ItemResponse.fromEntity(item);
+  }
+}
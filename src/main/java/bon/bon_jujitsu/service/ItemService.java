@@ -1,18 +1,20 @@
 package bon.bon_jujitsu.service;
 
+import bon.bon_jujitsu.cache.CacheInvalidator;
+import bon.bon_jujitsu.cache.CacheTags;
 import bon.bon_jujitsu.domain.Item;
 import bon.bon_jujitsu.domain.ItemOption;
-import bon.bon_jujitsu.domain.User;
-import bon.bon_jujitsu.domain.UserRole;
+import bon.bon_jujitsu.dto.UserAuthorization;
 import bon.bon_jujitsu.dto.common.PageResponse;
 import bon.bon_jujitsu.dto.request.ItemRequest;
+import bon.bon_jujitsu.dto.request.ItemSearchRequest;
 import bon.bon_jujitsu.dto.response.ItemResponse;
+import bon.bon_jujitsu.dto.response.ItemSearchResponse;
 import bon.bon_jujitsu.dto.response.LatestItemResponse;
 import bon.bon_jujitsu.dto.update.ItemOptionUpdate;
 import bon.bon_jujitsu.dto.update.ItemUpdate;
 import bon.bon_jujitsu.repository.ItemOptionRepository;
 import bon.bon_jujitsu.repository.ItemRepository;
-import bon.bon_jujitsu.repository.UserRepository;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -20,11 +22,6 @@ import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -34,14 +31,16 @@ import org.springframework.web.multipart.MultipartFile;
 @Transactional
 public class ItemService {
 
-  private final UserRepository userRepository;
+  private final UserAuthorizationService userAuthorizationService;
   private final ItemRepository itemRepository;
   private final ItemImageService itemImageService;
   private final ItemOptionRepository itemOptionRepository;
+  private final CacheInvalidator cacheInvalidator;
+  private final ItemCatalogService itemCatalogService;
+  private final ItemCatalogSearchService itemCatalogSearchService;
 
-  @CacheEvict(value = "items", allEntries = true)
   public void createItem(Long userId, ItemRequest request, List<MultipartFile> images) {
-    User user = validateUser(userId);
+    UserAuthorization user = validateUser(userId);
     validateAdmin(user);
 
     Item item = Item.builder()
@@ -70,39 +69,31 @@ public class ItemService {
     if (images != null && !images.isEmpty()) {
       itemImageService.uploadImage(item, images);
     }
+
+    cacheInvalidator.evictTags("items", CacheTags.ITEM_LIST);
+    itemCatalogSearchService.refresh(item.getId());
   }
 
   @Transactional(readOnly = true)
-  @Cacheable("items")
   public PageResponse<ItemResponse> getItems(int page, int size, Long userId, String name) {
-    User user = validateUser(userId);
+    UserAuthorization user = validateUser(userId);
     validateUserAccess(user);
 
-    PageRequest pageRequest = PageRequest.of(page - 1, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-
-    Page<Item> items = (name != null && !name.isBlank())
-        ? itemRepository.findByNameContainingIgnoreCaseWithFetch(name, pageRequest)
-        : itemRepository.findAllWithFetch(pageRequest);
-
-    return PageResponse.fromPage(items.map(ItemResponse::fromEntity));
+    // 권한 검증 후 공유 카탈로그 캐시 조회
+    return itemCatalogService.getItemPage(page, size, name);
   }
 
   @Transactional(readOnly = true)
-  @Cacheable(value = "items", key = "#itemId")
   public ItemResponse getItem(Long itemId, Long userId) {
-    User user = validateUser(userId);
+    UserAuthorization user = validateUser(userId);
     validateUserAccess(user);
 
-    Item item = itemRepository.findByIdWithFetch(itemId)
-        .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다."));
-
-    return ItemResponse.fromEntity(item);
+    return itemCatalogService.getItemDetail(itemId);
   }
 
-  @CacheEvict(value = "items", allEntries = true)
   public void updateItem(Long userId, ItemUpdate update, Long itemId,
       List<MultipartFile> images, List<Long> keepImageIds) {
-    User user = validateUser(userId);
+    UserAuthorization user = validateUser(userId);
     validateAdmin(user);
 
     Item item = validateItem(itemId);
@@ -117,6 +108,10 @@ public class ItemService {
     if (images != null || keepImageIds != null) {
       itemImageService.updateImages(item, images, keepImageIds);
     }
+
+    // 해당 상품이 포함된 페이지와 상세, 상품명 검색 결과만 무효화
+    cacheInvalidator.evictTags("items", CacheTags.item(itemId), CacheTags.ITEM_SEARCH);
+    itemCatalogSearchService.refresh(itemId);
   }
 
   private void updateBasicItemInfo(Item item, ItemUpdate update) {
@@ -173,25 +168,44 @@ public class ItemService {
     );
   }
 
-  @CacheEvict(value = "items", allEntries = true)
   public void deleteItem(Long userId, Long itemId) {
-    User user = validateUser(userId);
+    UserAuthorization user = validateUser(userId);
     validateAdmin(user);
 
     Item item = validateItem(itemId);
     item.softDelete();
+
+    cacheInvalidator.evictTags("items", CacheTags.item(itemId), CacheTags.ITEM_LIST);
+    itemCatalogSearchService.refresh(itemId);
   }
 
+  /**
+   * 상품 카탈로그 색인을 모든 노드에서 재구축 (관리자 전용)
+   */
+  public void rebuildCatalog(Long userId) {
+    UserAuthorization user = validateUser(userId);
+    validateAdmin(user);
+
+    itemCatalogSearchService.rebuildAllNodes();
+  }
+
+  /**
+   * 사이즈/색상/가격대/할인/재고 조건 검색 + 패싯별 상품 수 (메모리 색인)
+   */
   @Transactional(readOnly = true)
-  @Cacheable("items")
-  public PageResponse<LatestItemResponse> getMainItems(int page, int size, Long userId) {
-    User user = validateUser(userId);
+  public ItemSearchResponse searchItems(int page, int size, Long userId, ItemSearchRequest request) {
+    UserAuthorization user = validateUser(userId);
     validateUserAccess(user);
 
-    PageRequest pageRequest = PageRequest.of(page - 1, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-    Page<Item> items = itemRepository.findTop4ByOrderByCreatedAtDescWithFetch(pageRequest);
+    return itemCatalogSearchService.search(request, page, size);
+  }
+
+  @Transactional(readOnly = true)
+  public PageResponse<LatestItemResponse> getMainItems(int page, int size, Long userId) {
+    UserAuthorization user = validateUser(userId);
+    validateUserAccess(user);
 
-    return PageResponse.fromPage(items.map(LatestItemResponse::from));
+    return itemCatalogService.getLatestItemPage(page, size);
   }
 
   @Transactional(readOnly = true)
@@ -200,20 +214,18 @@ public class ItemService {
   }
 
   // 공통 검증 메서드들로 중복 제거
-  private User validateUser(Long userId) {
-    return userRepository.findById(userId)
-        .orElseThrow(() -> new IllegalArgumentException("아이디를 찾을 수 없습니다."));
+  private UserAuthorization validateUser(Long userId) {
+    return userAuthorizationService.getAuthorization(userId);
   }
 
-  private void validateAdmin(User user) {
+  private void validateAdmin(UserAuthorization user) {
     if (!user.isAdmin()) {
       throw new IllegalArgumentException("관리자만 접근 가능합니다.");
     }
   }
 
-  private void validateUserAccess(User user) {
-    if (!user.isAdmin() && user.getBranchUsers().stream()
-        .noneMatch(bu -> bu.getUserRole() != UserRole.PENDING)) {
+  private void validateUserAccess(UserAuthorization user) {
+    if (!user.isApproved()) {
       throw new IllegalArgumentException("승인 대기 중인 사용자는 이용할 수 없습니다.");
     }
   }
@@ -0,0 +1,135 @@
+package bon.bon_jujitsu.service;
+
+import bon.bon_jujitsu.common.IndexRefreshBus;
+import bon.bon_jujitsu.common.MemberSearchIndex;
+import bon.bon_jujitsu.domain.Stripe;
+import bon.bon_jujitsu.domain.UserRole;
+import bon.bon_jujitsu.dto.MemberSearchRow;
+import bon.bon_jujitsu.repository.UserRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 회원 검색 (이름 부분 일치 / 초성 / 아이디 접두사 / 전화번호 끝자리) - LIKE 검색 대신 메모리 색인
+ * - 기동 시 DB 로 재구축하고, 회원 정보/소속 지부/역할이 바뀌면 커밋 후 해당 회원만 DB 에서 다시 읽어 반영한다.
+ * - 변경은 IndexRefreshBus 로 모든 노드에 전파되고, 전파가 유실된 경우는 관리자 재구축 요청으로 모든 노드를 다시 맞춘다.
+ */
+@Slf4j
+@Service
+public class MemberSearchService {
+
+  private static final String INDEX_NAME = "member-search";
+
+  private final UserRepository userRepository;
+  private final IndexRefreshBus indexRefreshBus;
+  private final int batchSize;
+  private final MemberSearchIndex index = new MemberSearchIndex();
+
+  public MemberSearchService(UserRepository userRepository, IndexRefreshBus indexRefreshBus,
+      @Value("${app.member-search.batch-size:500}") int batchSize) {
+    this.userRepository = userRepository;
+    this.indexRefreshBus = indexRefreshBus;
+    this.batchSize = batchSize;
+    indexRefreshBus.register(INDEX_NAME, this::apply, this::rebuild);
+  }
+
+  /**
+   * 기동 시 DB 로 색인 재구축
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  @Transactional(readOnly = true)
+  public synchronized void rebuild() {
+    MemberSearchIndex.Rebuild rebuild = index.startRebuild();
+    long lastId = 0L;
+    int count = 0;
+    while (true) {
+      List<Long> ids = userRepository.findIdsAfter(lastId, PageRequest.ofSize(batchSize));
+      if (!ids.isEmpty()) {
+        toMembers(userRepository.findMemberSearchRows(ids)).forEach(rebuild::put);
+      }
+      count += ids.size();
+      if (ids.size() < batchSize) {
+        break;
+      }
+      lastId = ids.get(ids.size() - 1);
+    }
+    rebuild.finish();
+    log.info("회원 검색 색인 재구축 완료 (members={})", count);
+  }
+
+  /**
+   * 모든 노드에서 색인 재구축 (관리자 요청, 변경 전파가 유실된 경우 보정용)
+   */
+  public void rebuildAllNodes() {
+    indexRefreshBus.rebuild(INDEX_NAME);
+  }
+
+  /**
+   * 회원 정보 변경 반영 (트랜잭션 안이면 커밋 후 모든 노드가 DB 에서 다시 읽음, 탈퇴 회원은 제거)
+   */
+  public void refresh(Long userId) {
+    refresh(List.of(userId));
+  }
+
+  public void refresh(Collection<Long> userIds) {
+    indexRefreshBus.refresh(INDEX_NAME, userIds);
+  }
+
+  /**
+   * 검색어와 일치하는 회원 ID (최근 가입 순)
+   * @param branchIds 조회할 지부 (null 이면 전체)
+   */
+  public List<Long> search(String query, List<Long> branchIds, UserRole role, Stripe stripe) {
+    return index.search(query, branchIds, role, stripe);
+  }
+
+  // === Private Helper Methods ===
+
+  /**
+   * 바뀐 회원만 DB 에서 다시 읽어 반영 (IndexRefreshBus 갱신 스레드에서 실행)
+   */
+  private void apply(List<Long> ids) {
+    Map<Long, MemberSearchIndex.Member> members = toMembers(userRepository.findMemberSearchRows(ids)).stream()
+        .collect(Collectors.toMap(MemberSearchIndex.Member::id, member -> member));
+    for (Long id : ids) {
+      MemberSearchIndex.Member member = members.get(id);
+      if (member != null) {
+        index.put(member);
+      } else {
+        index.remove(id);
+      }
+    }
+  }
+
+  /**
+   * 회원 + 지부별 행을 회원 단위로 묶기
+   */
+  private List<MemberSearchIndex.Member> toMembers(List<MemberSearchRow> rows) {
+    Map<Long, List<MemberSearchRow>> rowsByUser = rows.stream()
+        .collect(Collectors.groupingBy(MemberSearchRow::userId, LinkedHashMap::new, Collectors.toList()));
+
+    List<MemberSearchIndex.Member> members = new ArrayList<>(rowsByUser.size());
+    rowsByUser.forEach((userId, userRows) -> {
+      Map<Long, UserRole> branchRoles = new HashMap<>();
+      userRows.stream()
+          .filter(row -> row.branchId() != null)
+          .forEach(row -> branchRoles.put(row.branchId(), row.role()));
+      MemberSearchRow first = userRows.get(0);
+      members.add(new MemberSearchIndex.Member(userId, first.name(), first.memberId(), first.phoneNum(),
+          first.stripe(), Map.copyOf(branchRoles)));
+    });
+    return members;
+  }
+}
@@ -3,16 +3,17 @@ package bon.bon_jujitsu.service;
 import bon.bon_jujitsu.domain.News;
 import bon.bon_jujitsu.domain.PostMedia;
 import bon.bon_jujitsu.domain.PostType;
-import bon.bon_jujitsu.domain.User;
+import bon.bon_jujitsu.dto.PostSummary;
+import bon.bon_jujitsu.dto.UserAuthorization;
+import bon.bon_jujitsu.dto.common.CursorResponse;
+import bon.bon_jujitsu.dto.common.CursorToken;
 import bon.bon_jujitsu.dto.common.PageResponse;
 import bon.bon_jujitsu.dto.request.NewsRequest;
 import bon.bon_jujitsu.dto.response.NewsResponse;
 import bon.bon_jujitsu.dto.update.NewsUpdate;
 import bon.bon_jujitsu.repository.NewsRepository;
 import bon.bon_jujitsu.repository.PostMediaRepository;
-import bon.bon_jujitsu.repository.UserRepository;
 import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpSession;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -34,25 +35,26 @@ import org.springframework.web.multipart.MultipartFile;
 public class NewsService {
 
   private final NewsRepository newsRepository;
-  private final UserRepository userRepository;
+  private final UserAuthorizationService userAuthorizationService;
   private final PostMediaService postMediaService;
   private final PostMediaRepository postMediaRepository;
-
-  private static final String VIEWED_NEWS_PREFIX = "viewed_news_";
-  private static final int VIEW_SESSION_TIMEOUT = 60 * 60; // 1시간
+  private final ViewCountService viewCountService;
+  private final TrendingService trendingService;
+  private final PostSearchService postSearchService;
 
   @CacheEvict(value = "news", allEntries = true)
   public void createNews(Long userId, NewsRequest request, List<MultipartFile> files) {
-    User user = validateUser(userId);
+    UserAuthorization user = userAuthorizationService.getAuthorization(userId);
     validateNewsPermission(user);
 
     News news = News.builder()
         .title(request.title())
         .content(request.content())
-        .user(user)
+        .user(userAuthorizationService.getUserReference(user))
         .build();
 
     newsRepository.save(news);
+    postSearchService.refresh(PostType.NEWS, news.getId());
 
     if (files != null && !files.isEmpty()) {
       postMediaService.uploadMedia(news.getId(), PostType.NEWS, files);
@@ -64,32 +66,55 @@ public class NewsService {
   public PageResponse<NewsResponse> getAllNews(int page, int size, String name) {
     PageRequest pageRequest = PageRequest.of(page - 1, size, Sort.by(Sort.Direction.DESC, "createdAt"));
 
-    // N+1 문제 방지를 위한 fetch join 사용
-    Page<News> newsPage = (name != null && !name.isBlank())
-        ? newsRepository.findByUserNameContainingIgnoreCaseWithFetch(name, pageRequest)
-        : newsRepository.findAllWithFetch(pageRequest);
+    // 목록 컬럼과 본문 앞부분만 조회
+    Page<PostSummary> newsPage = newsRepository.findNewsSummaries(name, pageRequest);
 
     // 이미지만 별도로 배치 로딩 (OneToMany 관계는 별도 처리가 효율적)
     Set<Long> newsIds = newsPage.getContent().stream()
-        .map(News::getId)
+        .map(PostSummary::id)
         .collect(Collectors.toSet());
 
     Map<Long, List<PostMedia>> fileMap = loadMediaInBatch(newsIds);
 
     // NewsResponse 생성
     return PageResponse.fromPage(newsPage.map(news -> {
-      List<PostMedia> files = fileMap.getOrDefault(news.getId(), Collections.emptyList());
-      return NewsResponse.fromEntity(news, files);
+      List<PostMedia> files = fileMap.getOrDefault(news.id(), Collections.emptyList());
+      return NewsResponse.fromSummary(news, files);
     }));
   }
 
+  /**
+   * 뉴스 목록 커서 페이징 조회 (무한 스크롤, COUNT 쿼리 없음)
+   */
+  @Transactional(readOnly = true)
+  public CursorResponse<NewsResponse> getNewsByCursor(String cursor, int size, String name) {
+    CursorResponse.validateSize(size);
+    CursorToken position = CursorToken.decode(cursor);
+
+    List<PostSummary> newsList = newsRepository.findNewsSummariesAfterCursor(name,
+        position.createdAt(), position.id(), PageRequest.ofSize(size + 1));
+
+    return CursorResponse.of(newsList, size,
+        news -> new CursorToken(news.createdAt(), news.id()),
+        content -> {
+          // 이미지만 별도로 배치 로딩
+          Map<Long, List<PostMedia>> fileMap = loadMediaInBatch(content.stream()
+              .map(PostSummary::id)
+              .collect(Collectors.toSet()));
+
+          return content.stream()
+              .map(news -> NewsResponse.fromSummary(news, fileMap.getOrDefault(news.id(), Collections.emptyList())))
+              .toList();
+        });
+  }
+
   public NewsResponse getNews(Long newsId, HttpServletRequest request) {
     // N+1 문제 방지를 위한 fetch join 사용
     News news = newsRepository.findByIdWithFetch(newsId)
         .orElseThrow(() -> new IllegalArgumentException("뉴스를 찾을 수 없습니다."));
 
-    // 세션 기반 조회수 증가 처리
-    handleViewCountIncrease(news, newsId, request);
+    // 조회수 증가 처리 (세션 없이 중복 제거)
+    viewCountService.recordView(PostType.NEWS, newsId, request);
 
     // 이미지 조회
     List<PostMedia> postMedia = postMediaRepository.findByPostTypeAndPostId(PostType.NEWS, news.getId());
@@ -100,13 +125,14 @@ public class NewsService {
   @CacheEvict(value = "news", allEntries = true)
   public void updateNews(NewsUpdate update, Long userId, Long newsId,
       List<MultipartFile> files , List<Long> keepMediaIds) {
-    User user = validateUser(userId);
+    UserAuthorization user = userAuthorizationService.getAuthorization(userId);
     News news = validateNews(newsId);
 
     validateNewsPermission(user);
     validateNewsOwner(user, news);
 
     news.updateNews(update);
+    postSearchService.refresh(PostType.NEWS, news.getId());
 
     if (files  != null || keepMediaIds != null) {
       postMediaService.updateMedia(news.getId(), PostType.NEWS, files , keepMediaIds);
@@ -115,13 +141,15 @@ public class NewsService {
 
   @CacheEvict(value = "news", allEntries = true)
   public void deleteNews(Long userId, Long newsId) {
-    User user = validateUser(userId);
+    UserAuthorization user = userAuthorizationService.getAuthorization(userId);
     News news = validateNews(newsId);
 
     validateNewsPermission(user);
     validateNewsOwner(user, news);
 
     news.softDelete();
+    trendingService.remove(PostType.NEWS, newsId);
+    postSearchService.refresh(PostType.NEWS, newsId);
   }
 
   // === Private Helper Methods ===
@@ -136,36 +164,20 @@ public class NewsService {
         .collect(Collectors.groupingBy(PostMedia::getPostId));
   }
 
-  private void handleViewCountIncrease(News news, Long newsId, HttpServletRequest request) {
-    HttpSession session = request.getSession();
-    String sessionKey = VIEWED_NEWS_PREFIX + newsId;
-
-    if (session.getAttribute(sessionKey) == null) {
-      news.increaseViewCount();
-      session.setAttribute(sessionKey, true);
-      session.setMaxInactiveInterval(VIEW_SESSION_TIMEOUT);
-    }
-  }
-
   // 공통 검증 메서드들
-  private User validateUser(Long userId) {
-    return userRepository.findById(userId)
-        .orElseThrow(() -> new IllegalArgumentException("아이디를 찾을 수 없습니다."));
-  }
-
   private News validateNews(Long newsId) {
     return newsRepository.findById(newsId)
         .orElseThrow(() -> new IllegalArgumentException("뉴스를 찾을 수 없습니다."));
   }
 
-  private void validateNewsPermission(User user) {
+  private void validateNewsPermission(UserAuthorization user) {
     if (!user.isAdmin()) {
       throw new IllegalArgumentException("뉴스는 관리자만 작성할 수 있습니다.");
     }
   }
 
-  private void validateNewsOwner(User user, News news) {
-    if (!user.isAdmin() && !news.getUser().getId().equals(user.getId())) {
+  private void validateNewsOwner(UserAuthorization user, News news) {
+    if (!user.isAdmin() && !news.getUser().getId().equals(user.userId())) {
       throw new IllegalArgumentException("본인이 작성한 뉴스만 수정/삭제할 수 있습니다.");
     }
   }
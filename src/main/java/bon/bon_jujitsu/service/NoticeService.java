@@ -1,12 +1,14 @@
 package bon.bon_jujitsu.service;
 
 import bon.bon_jujitsu.domain.Branch;
-import bon.bon_jujitsu.domain.BranchUser;
 import bon.bon_jujitsu.domain.Notice;
 import bon.bon_jujitsu.domain.PostMedia;
 import bon.bon_jujitsu.domain.PostType;
-import bon.bon_jujitsu.domain.User;
 import bon.bon_jujitsu.domain.UserRole;
+import bon.bon_jujitsu.dto.PostSummary;
+import bon.bon_jujitsu.dto.UserAuthorization;
+import bon.bon_jujitsu.dto.common.CursorResponse;
+import bon.bon_jujitsu.dto.common.CursorToken;
 import bon.bon_jujitsu.dto.common.PageResponse;
 import bon.bon_jujitsu.dto.request.NoticeRequest;
 import bon.bon_jujitsu.dto.response.NoticeResponse;
@@ -14,9 +16,7 @@ import bon.bon_jujitsu.dto.update.NoticeUpdate;
 import bon.bon_jujitsu.repository.BranchRepository;
 import bon.bon_jujitsu.repository.NoticeRepository;
 import bon.bon_jujitsu.repository.PostMediaRepository;
-import bon.bon_jujitsu.repository.UserRepository;
 import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpSession;
 
 import java.util.Collections;
 import java.util.List;
@@ -25,6 +25,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
@@ -40,18 +41,18 @@ public class NoticeService {
 
   private final NoticeRepository noticeRepository;
   private final BranchRepository branchRepository;
-  private final UserRepository userRepository;
+  private final UserAuthorizationService userAuthorizationService;
   private final PostMediaService postMediaService;
   private final PostMediaRepository postMediaRepository;
-
-  private static final String VIEWED_NOTICE_PREFIX = "viewed_notice_";
-  private static final int VIEW_SESSION_TIMEOUT = 60 * 60; // 1시간
+  private final ViewCountService viewCountService;
+  private final PostSearchService postSearchService;
 
   /**
    * 공지사항 생성
    */
+  @CacheEvict(value = "notices", allEntries = true)
   public void createNotice(Long userId, NoticeRequest request, List<MultipartFile> files, Long branchId) {
-    User user = findUserById(userId);
+    UserAuthorization user = userAuthorizationService.getAuthorization(userId);
     Branch branch = findBranchById(branchId);
 
     validateNoticeWritePermission(user, branchId);
@@ -60,10 +61,11 @@ public class NoticeService {
         .title(request.title())
         .content(request.content())
         .branch(branch)
-        .user(user)
+        .user(userAuthorizationService.getUserReference(user))
         .build();
 
     noticeRepository.save(notice);
+    postSearchService.refresh(PostType.NOTICE, notice.getId());
 
     if (files != null && !files.isEmpty()) {
       postMediaService.uploadMedia(notice.getId(), PostType.NOTICE, files);
@@ -77,23 +79,48 @@ public class NoticeService {
   public PageResponse<NoticeResponse> getNotices(int page, int size, String name, Long branchId) {
     PageRequest pageRequest = PageRequest.of(page - 1, size, Sort.by(Sort.Direction.DESC, "createdAt"));
 
-    // N+1 문제 방지를 위한 fetch join 사용
-    Page<Notice> notices = noticeRepository.findNoticesWithFetchJoin(name, branchId, pageRequest);
+    // 목록 컬럼과 본문 앞부분만 조회
+    Page<PostSummary> notices = noticeRepository.findNoticeSummaries(name, branchId, pageRequest);
 
     // 이미지만 별도로 배치 로딩
     Set<Long> noticeIds = notices.getContent().stream()
-        .map(Notice::getId)
+        .map(PostSummary::id)
         .collect(Collectors.toSet());
 
     Map<Long, List<PostMedia>> fileMap = loadfilesInBatch(noticeIds);
 
     // NoticeResponse 생성
     return PageResponse.fromPage(notices.map(notice -> {
-      List<PostMedia> files = fileMap.getOrDefault(notice.getId(), Collections.emptyList());
-      return NoticeResponse.fromEntity(notice, files);
+      List<PostMedia> files = fileMap.getOrDefault(notice.id(), Collections.emptyList());
+      return NoticeResponse.fromSummary(notice, files);
     }));
   }
 
+  /**
+   * 공지사항 목록 커서 페이징 조회 (무한 스크롤, COUNT 쿼리 없음)
+   */
+  @Transactional(readOnly = true)
+  public CursorResponse<NoticeResponse> getNoticesByCursor(String cursor, int size, String name, Long branchId) {
+    CursorResponse.validateSize(size);
+    CursorToken position = CursorToken.decode(cursor);
+
+    List<PostSummary> notices = noticeRepository.findNoticeSummariesAfterCursor(name, branchId,
+        position.createdAt(), position.id(), PageRequest.ofSize(size + 1));
+
+    return CursorResponse.of(notices, size,
+        notice -> new CursorToken(notice.createdAt(), notice.id()),
+        content -> {
+          // 이미지만 별도로 배치 로딩
+          Map<Long, List<PostMedia>> fileMap = loadfilesInBatch(content.stream()
+              .map(PostSummary::id)
+              .collect(Collectors.toSet()));
+
+          return content.stream()
+              .map(notice -> NoticeResponse.fromSummary(notice, fileMap.getOrDefault(notice.id(), Collections.emptyList())))
+              .toList();
+        });
+  }
+
   /**
    * 공지사항 상세 조회 (N+1 문제 해결)
    */
@@ -102,8 +129,8 @@ public class NoticeService {
     Notice notice = noticeRepository.findByIdWithFetchJoin(noticeId)
         .orElseThrow(() -> new IllegalArgumentException("공지사항을 찾을 수 없습니다."));
 
-    // 세션 기반 조회수 증가 처리
-    handleViewCountIncrease(notice, noticeId, request);
+    // 조회수 증가 처리 (세션 없이 중복 제거)
+    viewCountService.recordView(PostType.NOTICE, noticeId, request);
 
     // 이미지 조회
     List<PostMedia> postMedia = postMediaRepository.findByPostTypeAndPostId(PostType.NOTICE, notice.getId());
@@ -114,14 +141,16 @@ public class NoticeService {
   /**
    * 공지사항 수정
    */
+  @CacheEvict(value = "notices", allEntries = true)
   public void updateNotice(NoticeUpdate update, Long userId, Long noticeId,
       List<MultipartFile> files, List<Long> keepfileIds) {
-    User user = findUserById(userId);
+    UserAuthorization user = userAuthorizationService.getAuthorization(userId);
     Notice notice = findNoticeById(noticeId);
 
     validateNoticeUpdatePermission(user, notice);
 
     notice.updateNotice(update);
+    postSearchService.refresh(PostType.NOTICE, notice.getId());
 
     if (files != null || keepfileIds != null) {
       postMediaService.updateMedia(notice.getId(), PostType.NOTICE, files, keepfileIds);
@@ -131,13 +160,15 @@ public class NoticeService {
   /**
    * 공지사항 삭제
    */
+  @CacheEvict(value = "notices", allEntries = true)
   public void deleteNotice(Long userId, Long noticeId) {
-    User user = findUserById(userId);
+    UserAuthorization user = userAuthorizationService.getAuthorization(userId);
     Notice notice = findNoticeById(noticeId);
 
     validateNoticeDeletePermission(user, notice);
 
     notice.softDelete();
+    postSearchService.refresh(PostType.NOTICE, noticeId);
   }
 
   /**
@@ -157,11 +188,6 @@ public class NoticeService {
 
   // === Private Helper Methods ===
 
-  private User findUserById(Long userId) {
-    return userRepository.findById(userId)
-        .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-  }
-
   private Branch findBranchById(Long branchId) {
     return branchRepository.findById(branchId)
         .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 체육관입니다."));
@@ -172,62 +198,50 @@ public class NoticeService {
         .orElseThrow(() -> new IllegalArgumentException("공지사항을 찾을 수 없습니다."));
   }
 
-  private void validateNoticeWritePermission(User user, Long branchId) {
+  private void validateNoticeWritePermission(UserAuthorization user, Long branchId) {
     // 관리자는 모든 지부에 작성 가능
     if (user.isAdmin()) {
       return;
     }
 
-    BranchUser branchUser = user.getBranchUsers().stream()
-        .filter(bu -> bu.getBranch().getId().equals(branchId))
-        .findFirst()
-        .orElseThrow(() -> new IllegalArgumentException("해당 체육관에 등록된 사용자가 아닙니다."));
+    validateOwnerOf(user, branchId, "작성");
+  }
 
-    if (branchUser.getUserRole() != UserRole.OWNER) {
-      throw new IllegalArgumentException("공지사항은 관장이나 관리자만 작성할 수 있습니다.");
+  private void validateOwnerOf(UserAuthorization user, Long branchId, String action) {
+    UserRole role = user.roleIn(branchId);
+    if (role == null) {
+      throw new IllegalArgumentException("해당 체육관에 등록된 사용자가 아닙니다.");
+    }
+
+    if (role != UserRole.OWNER) {
+      throw new IllegalArgumentException("공지사항은 관장이나 관리자만 " + action + "할 수 있습니다.");
     }
   }
 
-  private void validateNoticeUpdatePermission(User user, Notice notice) {
+  private void validateNoticeUpdatePermission(UserAuthorization user, Notice notice) {
     // 관리자는 모든 공지사항 수정 가능
     if (user.isAdmin()) {
       return;
     }
 
-    Branch noticeBranch = notice.getBranch();
-    BranchUser branchUser = user.getBranchUsers().stream()
-        .filter(bu -> bu.getBranch().getId().equals(noticeBranch.getId()))
-        .findFirst()
-        .orElseThrow(() -> new IllegalArgumentException("해당 체육관에 등록된 사용자가 아닙니다."));
-
-    if (branchUser.getUserRole() != UserRole.OWNER) {
-      throw new IllegalArgumentException("공지사항은 관장이나 관리자만 수정할 수 있습니다.");
-    }
+    validateOwnerOf(user, notice.getBranch().getId(), "수정");
 
     // 관장은 본인이 작성한 공지사항만 수정 가능
-    if (!notice.getUser().getId().equals(user.getId())) {
+    if (!notice.getUser().getId().equals(user.userId())) {
       throw new IllegalArgumentException("본인이 작성한 공지사항만 수정할 수 있습니다.");
     }
   }
 
-  private void validateNoticeDeletePermission(User user, Notice notice) {
+  private void validateNoticeDeletePermission(UserAuthorization user, Notice notice) {
     // 관리자는 모든 공지사항 삭제 가능
     if (user.isAdmin()) {
       return;
     }
 
-    Branch noticeBranch = notice.getBranch();
-    BranchUser branchUser = user.getBranchUsers().stream()
-        .filter(bu -> bu.getBranch().getId().equals(noticeBranch.getId()))
-        .findFirst()
-        .orElseThrow(() -> new IllegalArgumentException("해당 체육관에 등록된 사용자가 아닙니다."));
-
-    if (branchUser.getUserRole() != UserRole.OWNER) {
-      throw new IllegalArgumentException("공지사항은 관장이나 관리자만 삭제할 수 있습니다.");
-    }
+    validateOwnerOf(user, notice.getBranch().getId(), "삭제");
 
     // 관장은 본인이 작성한 공지사항만 삭제 가능
-    if (!notice.getUser().getId().equals(user.getId())) {
+    if (!notice.getUser().getId().equals(user.userId())) {
       throw new IllegalArgumentException("본인이 작성한 공지사항만 삭제할 수 있습니다.");
     }
   }
@@ -237,21 +251,4 @@ public class NoticeService {
     return allfiles.stream()
         .collect(Collectors.groupingBy(PostMedia::getPostId));
   }
-
-  private void handleViewCountIncrease(Notice notice, Long noticeId, HttpServletRequest request) {
-    HttpSession session = request.getSession();
-    String sessionKey = VIEWED_NOTICE_PREFIX + noticeId;
-
-    Long lastViewTime = (Long) session.getAttribute(sessionKey);
-    long currentTime = System.currentTimeMillis();
-
-    // 5초(5000ms) 이내 중복 호출 방지
-    if (lastViewTime == null || (currentTime - lastViewTime) > 5000) {
-      notice.increaseViewCount();
-      session.setAttribute(sessionKey, currentTime);
-      session.setMaxInactiveInterval(VIEW_SESSION_TIMEOUT);
-    } else {
-      long timeDiff = currentTime - lastViewTime;
-    }
-  }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package bon.bon_jujitsu.service;
 
+import bon.bon_jujitsu.cache.CacheInvalidator;
+import bon.bon_jujitsu.cache.CacheTags;
 import bon.bon_jujitsu.domain.Cart;
 import bon.bon_jujitsu.domain.CartItem;
 import bon.bon_jujitsu.domain.Item;
@@ -10,7 +12,9 @@ import bon.bon_jujitsu.domain.OrderActionType;
 import bon.bon_jujitsu.domain.OrderItem;
 import bon.bon_jujitsu.domain.OrderStatus;
 import bon.bon_jujitsu.domain.User;
-import bon.bon_jujitsu.domain.UserRole;
+import bon.bon_jujitsu.dto.UserAuthorization;
+import bon.bon_jujitsu.dto.common.CursorResponse;
+import bon.bon_jujitsu.dto.common.CursorToken;
 import bon.bon_jujitsu.dto.common.PageResponse;
 import bon.bon_jujitsu.dto.request.DirectOrderRequest;
 import bon.bon_jujitsu.dto.request.OrderCancelRequest;
@@ -24,9 +28,11 @@ import bon.bon_jujitsu.repository.ItemOptionRepository;
 import bon.bon_jujitsu.repository.ItemRepository;
 import bon.bon_jujitsu.repository.OrderActionRepository;
 import bon.bon_jujitsu.repository.OrderRepository;
-import bon.bon_jujitsu.repository.UserRepository;
 import jakarta.validation.Valid;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -44,7 +50,7 @@ import org.springframework.web.multipart.MultipartFile;
 @RequiredArgsConstructor
 public class OrderService {
 
-  private final UserRepository userRepository;
+  private final UserAuthorizationService userAuthorizationService;
   private final OrderRepository orderRepository;
   private final CartItemRepository cartItemRepository;
   private final CartRepository cartRepository;
@@ -52,11 +58,15 @@ public class OrderService {
   private final OrderImageService orderImageService;
   private final ItemRepository itemRepository;
   private final ItemOptionRepository itemOptionRepository;
+  private final CacheInvalidator cacheInvalidator;
+  private final ItemCatalogSearchService itemCatalogSearchService;
 
   @Transactional
+  @CacheEvict(value = "userCart", key = "#userId")
   public void createOrder(Long userId, OrderRequest request) {
-    User orderUser = getValidatedUser(userId);
-    validateUserCanOrder(orderUser);
+    UserAuthorization authorization = getValidatedUser(userId);
+    validateUserCanOrder(authorization);
+    User orderUser = userAuthorizationService.getUserReference(authorization);
 
     List<Long> cartItemIds = Optional.ofNullable(request.cartItemIds())
         .filter(list -> !list.isEmpty())
@@ -110,9 +120,11 @@ public class OrderService {
           .build();
 
       order.addOrderItem(orderItem);
-      itemOption.decreaseAmount(cartItem.getQuantity());
     }
 
+    // 위 확인은 빠른 실패용, 실제 차감은 조건부 UPDATE 한 번으로 (동시 주문 초과 판매 방지)
+    reserveItemStock(order.getOrderItems());
+
     orderRepository.save(order);
 
     Cart cart = cartRepository.findByUser(orderUser)
@@ -122,13 +134,16 @@ public class OrderService {
       cart.removeItem(cartItem.getItem().getId());
     }
 
+    evictOrderCaches(userId, order.getOrderItems(), OrderStatus.WAITING);
+
     log.info("주문 생성 완료: 사용자 ID {}, 주문 ID {}", userId, order.getId());
   }
 
   @Transactional
   public void createDirectOrder(Long userId, DirectOrderRequest request) {
-    User orderUser = getValidatedUser(userId);
-    validateUserCanOrder(orderUser);
+    UserAuthorization authorization = getValidatedUser(userId);
+    validateUserCanOrder(authorization);
+    User orderUser = userAuthorizationService.getUserReference(authorization);
 
     List<DirectOrderRequest.DirectOrderItem> orderItems = request.orderItems();
 
@@ -181,26 +196,28 @@ public class OrderService {
 
       order.addOrderItem(orderItem);
 
-      // 재고 차감
-      itemOption.decreaseAmount(orderItemRequest.quantity());
-
       // 총 수량 및 가격 계산
       totalCount += orderItemRequest.quantity();
       totalPrice += (long) itemPrice * orderItemRequest.quantity();
     }
 
+    // 재고 차감 (조건부 UPDATE 한 번, 부족하면 주문 전체 롤백)
+    reserveItemStock(order.getOrderItems());
+
     // 총액 설정
     order.updateTotalInfo(totalPrice, totalCount);
 
     orderRepository.save(order);
 
+    evictOrderCaches(userId, order.getOrderItems(), OrderStatus.WAITING);
+
     log.info("직접 주문 생성 완료: 사용자 ID {}, 주문 ID {}", userId, order.getId());
   }
 
   @Transactional(readOnly = true)
-  @Cacheable(value = "orders", key = "#userId + '_' + #status + '_' + #page + '_' + #size")
+  @Cacheable(value = "orders", key = "T(bon.bon_jujitsu.cache.CacheKeys).ordersByStatus(#userId, #status, #page, #size)")
   public PageResponse<OrderResponse> getOrdersByStatus(int page, int size, Long userId, OrderStatus status) {
-    User user = getValidatedUser(userId);
+    UserAuthorization user = getValidatedUser(userId);
 
     if (!user.isAdmin()) {
       throw new IllegalArgumentException("관리자 권한이 없습니다.");
@@ -215,34 +232,68 @@ public class OrderService {
   }
 
   @Transactional(readOnly = true)
-  @Cacheable(value = "myOrders", key = "#userId + '_' + #status + '_' + #page + '_' + #size")
+  @Cacheable(value = "myOrders", key = "T(bon.bon_jujitsu.cache.CacheKeys).myOrders(#userId, #status, #page, #size)")
   public PageResponse<OrderResponse> getMyOrders(int page, int size, Long userId, List<OrderStatus> status) {
-    User user = getValidatedUser(userId);
+    UserAuthorization user = getValidatedUser(userId);
     validateUserCanOrder(user);
 
-    List<OrderStatus> statusList = Optional.ofNullable(status)
-        .filter(list -> !list.isEmpty())
-        .orElse(List.of(
-            OrderStatus.WAITING,
-            OrderStatus.DELIVERING,
-            OrderStatus.COMPLETE,
-            OrderStatus.CANCELLED,
-            OrderStatus.RETURN_REQUESTED,
-            OrderStatus.RETURNING,
-            OrderStatus.RETURNED
-        ));
-
+    List<OrderStatus> statusList = resolveMyOrderStatuses(status);
     PageRequest pageRequest = createPageRequest(page, size);
 
-    Page<Order> orders = orderRepository.findAllByUserAndOrderStatusInWithItems(user, statusList, pageRequest);
+    Page<Order> orders = orderRepository.findAllByUserAndOrderStatusInWithItems(
+        userAuthorizationService.getUserReference(user), statusList, pageRequest);
 
     return PageResponse.fromPage(orders.map(OrderResponse::fromEntity));
   }
 
+  /**
+   * 상태별 주문 커서 페이징 조회 (관리자, COUNT 쿼리 없음)
+   */
+  @Transactional(readOnly = true)
+  public CursorResponse<OrderResponse> getOrdersByStatusCursor(String cursor, int size, Long userId,
+      OrderStatus status) {
+    UserAuthorization user = getValidatedUser(userId);
+
+    if (!user.isAdmin()) {
+      throw new IllegalArgumentException("관리자 권한이 없습니다.");
+    }
+
+    CursorResponse.validateSize(size);
+    CursorToken position = CursorToken.decode(cursor);
+    OrderStatus orderStatus = Optional.ofNullable(status).orElse(OrderStatus.WAITING);
+
+    List<Order> orders = orderRepository.findByOrderStatusAfterCursor(orderStatus,
+        position.createdAt(), position.id(), PageRequest.ofSize(size + 1));
+
+    return CursorResponse.of(orders, size,
+        order -> new CursorToken(order.getCreatedAt(), order.getId()),
+        content -> content.stream().map(OrderResponse::fromEntity).toList());
+  }
+
+  /**
+   * 내 주문 커서 페이징 조회 (COUNT 쿼리 없음)
+   */
+  @Transactional(readOnly = true)
+  public CursorResponse<OrderResponse> getMyOrdersCursor(String cursor, int size, Long userId,
+      List<OrderStatus> status) {
+    UserAuthorization user = getValidatedUser(userId);
+    validateUserCanOrder(user);
+
+    CursorResponse.validateSize(size);
+    CursorToken position = CursorToken.decode(cursor);
+
+    List<Order> orders = orderRepository.findByUserAndOrderStatusInAfterCursor(
+        userAuthorizationService.getUserReference(user), resolveMyOrderStatuses(status),
+        position.createdAt(), position.id(), PageRequest.ofSize(size + 1));
+
+    return CursorResponse.of(orders, size,
+        order -> new CursorToken(order.getCreatedAt(), order.getId()),
+        content -> content.stream().map(OrderResponse::fromEntity).toList());
+  }
+
   @Transactional
-  @CacheEvict(value = {"orders", "myOrders"}, allEntries = true)
   public void updateOrderByAdmin(OrderUpdate request, Long userId) {
-    User user = getValidatedUser(userId);
+    UserAuthorization user = getValidatedUser(userId);
 
     if (!user.isAdmin()) {
       throw new IllegalArgumentException("관리자 권한이 없습니다.");
@@ -298,13 +349,16 @@ public class OrderService {
         throw new IllegalArgumentException("잘못된 형태의 주문입니다.");
     }
 
+    // 취소된 경우에만 재고가 복구됨
+    List<OrderItem> restoredItems = requestedStatus == OrderStatus.CANCELLED ? order.getOrderItems() : List.of();
+    evictOrderCaches(order.getUser().getId(), restoredItems, currentStatus, requestedStatus);
+
     log.info("주문 상태 변경: 주문 ID {}, {} -> {}", order.getId(), currentStatus, requestedStatus);
   }
 
   @Transactional
-  @CacheEvict(value = {"orders", "myOrders"}, allEntries = true)
   public void cancelOrder(Long orderId, Long userId, OrderCancelRequest request) {
-    User user = getValidatedUser(userId);
+    UserAuthorization user = getValidatedUser(userId);
     Order order = getOrderById(orderId);
 
     if (!user.isAdmin() && !order.getUser().getId().equals(userId)) {
@@ -335,13 +389,14 @@ public class OrderService {
 
     orderActionRepository.save(cancelAction);
 
+    evictOrderCaches(order.getUser().getId(), order.getOrderItems(), OrderStatus.WAITING, OrderStatus.CANCELLED);
+
     log.info("주문 취소 완료: 주문 ID {}, 사용자 ID {}", orderId, userId);
   }
 
   @Transactional
-  @CacheEvict(value = {"orders", "myOrders"}, allEntries = true)
   public void returnOrder(Long orderId, Long userId, OrderReturnRequest request, List<MultipartFile> images) {
-    User user = getValidatedUser(userId);
+    UserAuthorization user = getValidatedUser(userId);
     Order order = getOrderById(orderId);
 
     if (!order.getUser().getId().equals(userId)) {
@@ -372,14 +427,15 @@ public class OrderService {
     orderActionRepository.save(returnAction);
     orderImageService.uploadImage(order, images);
 
+    evictOrderCaches(userId, List.of(), OrderStatus.COMPLETE, OrderStatus.RETURN_REQUESTED);
+
     log.info("반품 신청 완료: 주문 ID {}, 사용자 ID {}", orderId, userId);
   }
 
   // ==================== Private Helper Methods (2회 이상 사용) ====================
 
-  private User getValidatedUser(Long userId) {
-    return userRepository.findById(userId)
-        .orElseThrow(() -> new IllegalArgumentException("아이디를 찾을 수 없습니다."));
+  private UserAuthorization getValidatedUser(Long userId) {
+    return userAuthorizationService.getAuthorization(userId);
   }
 
   private Order getOrderById(Long orderId) {
@@ -387,24 +443,69 @@ public class OrderService {
         .orElseThrow(() -> new IllegalArgumentException("해당 주문을 찾을 수 없습니다."));
   }
 
-  private void validateUserCanOrder(User user) {
-    if (user.getBranchUsers().stream()
-        .noneMatch(bu -> bu.getUserRole() != UserRole.PENDING)) {
+  private void validateUserCanOrder(UserAuthorization user) {
+    if (!user.hasApprovedBranch()) {
       throw new IllegalArgumentException("승인 대기 중인 사용자는 주문을 할 수 없습니다.");
     }
   }
 
   private void restoreItemStock(List<OrderItem> orderItems) {
+    itemOptionRepository.increaseStock(quantitiesByOption(orderItems));
+  }
+
+  private void reserveItemStock(List<OrderItem> orderItems) {
+    itemOptionRepository.decreaseStock(quantitiesByOption(orderItems));
+  }
+
+  /**
+   * 옵션별 주문 수량 합계 (같은 옵션이 여러 줄이면 합산)
+   */
+  private Map<Long, Integer> quantitiesByOption(List<OrderItem> orderItems) {
+    Map<Long, Integer> quantities = new HashMap<>();
     for (OrderItem orderItem : orderItems) {
       ItemOption itemOption = orderItem.getItemOption();
       if (itemOption == null) {
         throw new IllegalStateException("해당 주문 아이템에 대한 옵션이 존재하지 않습니다.");
       }
-      itemOption.increaseAmount(orderItem.getQuantity());
+      quantities.merge(itemOption.getId(), orderItem.getQuantity(), Integer::sum);
     }
+    return quantities;
+  }
+
+  /**
+   * 주문자의 내 주문 목록, 변경 전/후 상태의 관리자 주문 목록, 재고가 바뀐 상품 캐시만 무효화
+   */
+  private void evictOrderCaches(Long ownerId, List<OrderItem> stockChangedItems, OrderStatus... statuses) {
+    cacheInvalidator.evictTags("myOrders", CacheTags.user(ownerId));
+    cacheInvalidator.evictTags("orders", Arrays.stream(statuses)
+        .map(CacheTags::orderStatus)
+        .toArray(String[]::new));
+    cacheInvalidator.evictTags("items", stockChangedItems.stream()
+        .map(orderItem -> CacheTags.item(orderItem.getItem().getId()))
+        .distinct()
+        .toArray(String[]::new));
+    // 재고가 바뀐 상품은 카탈로그 색인의 재고 패싯도 갱신
+    itemCatalogSearchService.refresh(stockChangedItems.stream()
+        .map(orderItem -> orderItem.getItem().getId())
+        .toList());
   }
 
   private PageRequest createPageRequest(int page, int size) {
     return PageRequest.of(page - 1, size, Sort.by(Sort.Direction.DESC, "createdAt"));
   }
+
+  // 내 주문 조회 상태 - 지정하지 않으면 전체
+  private List<OrderStatus> resolveMyOrderStatuses(List<OrderStatus> status) {
+    return Optional.ofNullable(status)
+        .filter(list -> !list.isEmpty())
+        .orElse(List.of(
+            OrderStatus.WAITING,
+            OrderStatus.DELIVERING,
+            OrderStatus.COMPLETE,
+            OrderStatus.CANCELLED,
+            OrderStatus.RETURN_REQUESTED,
+            OrderStatus.RETURNING,
+            OrderStatus.RETURNED
+        ));
+  }
 }
\ No newline at end of file
@@ -1,11 +1,10 @@
 package bon.bon_jujitsu.service;
 
 import bon.bon_jujitsu.domain.Popup;
-import bon.bon_jujitsu.domain.User;
+import bon.bon_jujitsu.dto.UserAuthorization;
 import bon.bon_jujitsu.dto.request.PopupRequest;
 import bon.bon_jujitsu.dto.update.PopupUpdate;
 import bon.bon_jujitsu.repository.PopupRepository;
-import bon.bon_jujitsu.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -35,14 +34,14 @@ public class PopupService {
     private String filepath;
 
     private final PopupRepository popupRepository;
-    private final UserRepository userRepository;
+    private final UserAuthorizationService userAuthorizationService;
 
     /**
      * 팝업 생성
      */
     @CacheEvict(value = {"popups", "activePopups"}, allEntries = true)
     public Popup createPopup(Long userId, PopupRequest request, MultipartFile imageFile) {
-        User user = findUserById(userId);
+        UserAuthorization user = userAuthorizationService.getAuthorization(userId);
         validateAdminPermission(user);
 
         Popup.PopupBuilder popupBuilder = Popup.builder()
@@ -83,7 +82,7 @@ public class PopupService {
      * 공개용 - 현재 활성화된 팝업만 조회
      */
     @Transactional(readOnly = true)
-    @Cacheable(value = "activePopups", key = "'current'")
+    @Cacheable(value = "activePopups", key = "'current'", sync = true)
     public List<Popup> getActivePopups() {
         return popupRepository.findActivePopupsInPeriod(LocalDateTime.now());
     }
@@ -103,7 +102,7 @@ public class PopupService {
      */
     @CacheEvict(value = {"popups", "activePopups", "popup"}, allEntries = true)
     public Popup updatePopup(Long userId, Long id, PopupUpdate popupUpdate, MultipartFile imageFile) {
-        User user = findUserById(userId);
+        UserAuthorization user = userAuthorizationService.getAuthorization(userId);
         validateAdminPermission(user);
 
         Popup popup = getPopupById(id);
@@ -146,7 +145,7 @@ public class PopupService {
      */
     @CacheEvict(value = {"popups", "activePopups", "popup"}, allEntries = true)
     public void deletePopup(Long userId, Long id) {
-        User user = findUserById(userId);
+        UserAuthorization user = userAuthorizationService.getAuthorization(userId);
         validateAdminPermission(user);
 
         Popup popup = getPopupById(id);
@@ -164,7 +163,7 @@ public class PopupService {
      */
     @CacheEvict(value = {"popups", "activePopups", "popup"}, allEntries = true)
     public void togglePopupStatus(Long userId, Long id) {
-        User user = findUserById(userId);
+        UserAuthorization user = userAuthorizationService.getAuthorization(userId);
         validateAdminPermission(user);
 
         Popup popup = getPopupById(id);
@@ -177,12 +176,7 @@ public class PopupService {
 
     // === Private Helper Methods ===
 
-    private User findUserById(Long userId) {
-        return userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-    }
-
-    private void validateAdminPermission(User user) {
+    private void validateAdminPermission(UserAuthorization user) {
         if (!user.isAdmin()) {
             throw new IllegalArgumentException("관리자만 해당 작업이 가능합니다.");
         }
@@ -0,0 +1,268 @@
+package bon.bon_jujitsu.service;
+
+import bon.bon_jujitsu.common.BigramIndex;
+import bon.bon_jujitsu.common.IndexRefreshBus;
+import bon.bon_jujitsu.common.SearchHighlighter;
+import bon.bon_jujitsu.domain.PostType;
+import bon.bon_jujitsu.dto.SearchDocument;
+import bon.bon_jujitsu.dto.UserAuthorization;
+import bon.bon_jujitsu.dto.common.PageResponse;
+import bon.bon_jujitsu.dto.response.SearchResultResponse;
+import bon.bon_jujitsu.repository.BoardRepository;
+import bon.bon_jujitsu.repository.NewsRepository;
+import bon.bon_jujitsu.repository.NoticeRepository;
+import bon.bon_jujitsu.repository.QnARepository;
+import bon.bon_jujitsu.repository.SkillRepository;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 게시판/공지사항/뉴스/기술/QnA 통합 검색 (제목 + 본문, LIKE 검색 대신 메모리 2-gram 역색인)
+ * - 기동 시 DB 로 재구축하고, 글 작성/수정/삭제는 트랜잭션 커밋 후 모든 노드가 해당 글만 DB 에서 다시 읽어 반영한다. (IndexRefreshBus)
+ * - 색인에는 토큰과 글 ID 만 있고, 강조용 원문은 결과 페이지의 글만 DB 에서 읽는다.
+ * - 전파가 유실된 경우는 관리자 재구축 요청으로 모든 노드를 다시 맞춘다.
+ */
+@Slf4j
+@Service
+public class PostSearchService {
+
+  private static final int MAX_SIZE = 50;
+  private static final int MAX_QUERY_LENGTH = 100;
+  private static final List<PostType> SEARCHABLE_TYPES =
+      List.of(PostType.BOARD, PostType.NOTICE, PostType.NEWS, PostType.SKILL, PostType.QNA);
+
+  private final BoardRepository boardRepository;
+  private final NoticeRepository noticeRepository;
+  private final NewsRepository newsRepository;
+  private final SkillRepository skillRepository;
+  private final QnARepository qnaRepository;
+  private final UserAuthorizationService userAuthorizationService;
+  private final IndexRefreshBus indexRefreshBus;
+  private final int batchSize;
+  private final int maxHits;
+  private final int snippetLength;
+  private final Map<PostType, BigramIndex> indexes = new EnumMap<>(PostType.class);
+  private final TransactionTemplate rebuildTransaction;
+
+  public PostSearchService(BoardRepository boardRepository, NoticeRepository noticeRepository,
+      NewsRepository newsRepository, SkillRepository skillRepository, QnARepository qnaRepository,
+      UserAuthorizationService userAuthorizationService, IndexRefreshBus indexRefreshBus,
+      PlatformTransactionManager transactionManager,
+      @Value("${app.search.batch-size:500}") int batchSize,
+      @Value("${app.search.max-hits:1000}") int maxHits,
+      @Value("${app.search.snippet-length:120}") int snippetLength) {
+    this.boardRepository = boardRepository;
+    this.noticeRepository = noticeRepository;
+    this.newsRepository = newsRepository;
+    this.skillRepository = skillRepository;
+    this.qnaRepository = qnaRepository;
+    this.userAuthorizationService = userAuthorizationService;
+    this.indexRefreshBus = indexRefreshBus;
+    this.batchSize = batchSize;
+    this.maxHits = maxHits;
+    this.snippetLength = snippetLength;
+    SEARCHABLE_TYPES.forEach(postType -> indexes.put(postType, new BigramIndex()));
+    this.rebuildTransaction = new TransactionTemplate(transactionManager);
+    this.rebuildTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.rebuildTransaction.setReadOnly(true);
+    SEARCHABLE_TYPES.forEach(postType -> indexRefreshBus.register(indexName(postType),
+        ids -> apply(postType, ids), () -> rebuild(postType)));
+  }
+
+  /**
+   * 기동 시 DB 로 색인 재구축
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void rebuild() {
+    SEARCHABLE_TYPES.forEach(this::rebuild);
+  }
+
+  /**
+   * 모든 노드에서 색인 재구축 (관리자 전용) - 이 노드의 글 종류별 색인된 글 수 반환
+   */
+  @Transactional(readOnly = true)
+  public Map<PostType, Integer> rebuild(Long userId) {
+    UserAuthorization user = userAuthorizationService.getAuthorization(userId);
+    if (!user.isAdmin()) {
+      throw new IllegalArgumentException("관리자만 해당 작업이 가능합니다.");
+    }
+
+    SEARCHABLE_TYPES.forEach(postType -> indexRefreshBus.rebuild(indexName(postType)));
+    Map<PostType, Integer> sizes = new EnumMap<>(PostType.class);
+    indexes.forEach((postType, index) -> sizes.put(postType, index.size()));
+    return sizes;
+  }
+
+  /**
+   * 글 작성/수정/삭제 반영 (트랜잭션 안이면 커밋 후 모든 노드가 DB 에서 다시 읽음, 삭제된 글은 제거)
+   */
+  public void refresh(PostType postType, Long postId) {
+    if (indexes.containsKey(postType)) {
+      indexRefreshBus.refresh(indexName(postType), List.of(postId));
+    }
+  }
+
+  /**
+   * 통합 검색 - 점수 높은 순, 제목/본문 미리보기에 검색어 강조
+   */
+  @Transactional(readOnly = true)
+  public PageResponse<SearchResultResponse> search(String query, List<PostType> postTypes, int page, int size) {
+    validateSearch(query, page, size);
+    List<PostType> targets = resolvePostTypes(postTypes);
+
+    List<TypedHit> hits = new ArrayList<>();
+    for (PostType postType : targets) {
+      indexes.get(postType).search(query, maxHits)
+          .forEach(hit -> hits.add(new TypedHit(postType, hit)));
+    }
+    hits.sort(Comparator.comparingDouble((TypedHit hit) -> hit.hit().score()).reversed());
+
+    PageRequest pageRequest = PageRequest.of(page - 1, size);
+    int from = (int) Math.min(pageRequest.getOffset(), hits.size());
+    List<TypedHit> pageHits = hits.subList(from, Math.min(from + size, hits.size()));
+
+    List<SearchResultResponse> results = toResults(pageHits, new LinkedHashSet<>(BigramIndex.tokenize(query)));
+    // 색인과 DB 사이에 삭제된 글은 결과에서만 빠진다.
+    return PageResponse.fromPage(new PageImpl<>(results, pageRequest, hits.size()));
+  }
+
+  // === Private Helper Methods ===
+
+  /**
+   * 검색 결과 한 건 (글 종류 + 색인 결과)
+   */
+  private record TypedHit(PostType postType, BigramIndex.Hit hit) {
+  }
+
+  private static String indexName(PostType postType) {
+    return "post-search:" + postType.name();
+  }
+
+  /**
+   * 바뀐 글만 DB 에서 다시 읽어 반영 (IndexRefreshBus 갱신 스레드에서 실행)
+   */
+  private void apply(PostType postType, List<Long> ids) {
+    BigramIndex index = indexes.get(postType);
+    Map<Long, SearchDocument> documents = rebuildTransaction.execute(status -> findDocuments(postType, ids)).stream()
+        .collect(Collectors.toMap(SearchDocument::id, Function.identity()));
+    for (Long id : ids) {
+      SearchDocument document = documents.get(id);
+      if (document != null) {
+        index.put(id, document.title(), document.content());
+      } else {
+        index.remove(id);
+      }
+    }
+  }
+
+  /**
+   * 글 종류 하나 재구축
+   * - 읽기 트랜잭션은 startRebuild() 이후에 새로 연다. (먼저 연 트랜잭션의 스냅샷에는 그 사이 커밋된 글이 없어
+   *   재구축 중 변경으로도 잡히지 않고 색인에서 빠진다)
+   */
+  private synchronized void rebuild(PostType postType) {
+    BigramIndex.Rebuild rebuild = indexes.get(postType).startRebuild();
+    int count = rebuildTransaction.execute(status -> {
+      long lastId = 0L;
+      int loaded = 0;
+      while (true) {
+        List<SearchDocument> documents = loadDocuments(postType, lastId, PageRequest.ofSize(batchSize));
+        documents.forEach(document -> rebuild.put(document.id(), document.title(), document.content()));
+        loaded += documents.size();
+        if (documents.size() < batchSize) {
+          return loaded;
+        }
+        lastId = documents.get(documents.size() - 1).id();
+      }
+    });
+    rebuild.finish();
+    log.info("검색 색인 재구축 완료 (type={}, documents={})", postType, count);
+  }
+
+  private List<SearchResultResponse> toResults(List<TypedHit> pageHits, Set<String> terms) {
+    Map<PostType, List<Long>> idsByType = pageHits.stream()
+        .collect(Collectors.groupingBy(TypedHit::postType,
+            () -> new EnumMap<>(PostType.class),
+            Collectors.mapping(hit -> hit.hit().id(), Collectors.toList())));
+
+    Map<PostType, Map<Long, SearchDocument>> documents = new EnumMap<>(PostType.class);
+    idsByType.forEach((postType, ids) -> documents.put(postType, findDocuments(postType, ids).stream()
+        .collect(Collectors.toMap(SearchDocument::id, Function.identity()))));
+
+    return pageHits.stream()
+        .filter(hit -> documents.get(hit.postType()).containsKey(hit.hit().id()))
+        .map(hit -> {
+          SearchDocument document = documents.get(hit.postType()).get(hit.hit().id());
+          return SearchResultResponse.of(hit.postType(),
+              SearchHighlighter.highlight(document.title(), terms),
+              SearchHighlighter.highlight(document.content(), terms, snippetLength),
+              hit.hit().score(), document);
+        })
+        .toList();
+  }
+
+  private List<SearchDocument> loadDocuments(PostType postType, Long lastId, PageRequest pageRequest) {
+    return switch (postType) {
+      case BOARD -> boardRepository.findSearchDocuments(lastId, pageRequest);
+      case NOTICE -> noticeRepository.findSearchDocuments(lastId, pageRequest);
+      case NEWS -> newsRepository.findSearchDocuments(lastId, pageRequest);
+      case SKILL -> skillRepository.findSearchDocuments(lastId, pageRequest);
+      case QNA -> qnaRepository.findSearchDocuments(lastId, pageRequest);
+      default -> List.of();
+    };
+  }
+
+  private List<SearchDocument> findDocuments(PostType postType, List<Long> ids) {
+    return switch (postType) {
+      case BOARD -> boardRepository.findSearchDocumentsByIdIn(ids);
+      case NOTICE -> noticeRepository.findSearchDocumentsByIdIn(ids);
+      case NEWS -> newsRepository.findSearchDocumentsByIdIn(ids);
+      case SKILL -> skillRepository.findSearchDocumentsByIdIn(ids);
+      case QNA -> qnaRepository.findSearchDocumentsByIdIn(ids);
+      default -> List.of();
+    };
+  }
+
+  private void validateSearch(String query, int page, int size) {
+    if (query == null || query.isBlank()) {
+      throw new IllegalArgumentException("검색어를 입력해주세요.");
+    }
+    if (query.length() > MAX_QUERY_LENGTH) {
+      throw new IllegalArgumentException("검색어는 " + MAX_QUERY_LENGTH + "자 이하로 입력해주세요.");
+    }
+    if (page < 1) {
+      throw new IllegalArgumentException("페이지 번호는 1 이상이어야 합니다.");
+    }
+    if (size < 1 || size > MAX_SIZE) {
+      throw new IllegalArgumentException("조회 개수는 1~" + MAX_SIZE + " 사이여야 합니다.");
+    }
+  }
+
+  private List<PostType> resolvePostTypes(List<PostType> postTypes) {
+    if (postTypes == null || postTypes.isEmpty()) {
+      return SEARCHABLE_TYPES;
+    }
+    if (!SEARCHABLE_TYPES.containsAll(postTypes)) {
+      throw new IllegalArgumentException("검색을 지원하지 않는 게시글 종류입니다.");
+    }
+    return postTypes.stream().distinct().toList();
+  }
+}
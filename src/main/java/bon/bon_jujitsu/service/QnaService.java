@@ -1,5 +1,6 @@
 package bon.bon_jujitsu.service;
 
+import bon.bon_jujitsu.common.ServiceBusyException;
 import bon.bon_jujitsu.config.PasswordEncoder;
 import bon.bon_jujitsu.domain.CommentType;
 import bon.bon_jujitsu.domain.PostMedia;
@@ -15,8 +16,6 @@ import bon.bon_jujitsu.repository.CommentRepository;
 import bon.bon_jujitsu.repository.PostMediaRepository;
 import bon.bon_jujitsu.repository.QnARepository;
 import bon.bon_jujitsu.repository.UserRepository;
-import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpSession;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -45,9 +44,7 @@ public class QnaService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final CommentRepository commentRepository;
-
-    private static final String VIEWED_QNA_PREFIX = "viewed_QnA_";
-    private static final int VIEW_SESSION_TIMEOUT = 60 * 60; // 1시간
+    private final PostSearchService postSearchService;
 
     /**
      * QnA 생성
@@ -71,6 +68,7 @@ public class QnaService {
 
         QnA qna = qnaBuilder.build();
         qnaRepository.save(qna);
+        postSearchService.refresh(PostType.QNA, qna.getId());
 
         if (files != null && !files.isEmpty()) {
             postMediaService.uploadMedia(qna.getId(), PostType.QNA, files);
@@ -109,17 +107,15 @@ public class QnaService {
 
     /**
      * QnA 상세 조회 (N+1 문제 해결)
+     * - 결과가 캐시되므로 조회수 기록은 호출하는 쪽(컨트롤러)에서 한다.
      */
     @Transactional(readOnly = true)
     @Cacheable(value = "qna", key = "#qnaId")
-    public QnAResponse getQnA(Long qnaId, HttpServletRequest request) {
+    public QnAResponse getQnA(Long qnaId) {
         // N+1 문제 방지를 위한 fetch join 사용
         QnA qna = qnaRepository.findByIdWithUser(qnaId)
             .orElseThrow(() -> new IllegalArgumentException("QNA를 찾을수 없습니다."));
 
-        // 세션 기반 조회수 증가 처리
-        handleViewCountIncrease(qna, qnaId, request);
-
         // 이미지 조회
         List<PostMedia> postMedia = postMediaRepository.findByPostTypeAndPostId(PostType.QNA, qna.getId());
         boolean hasAnswer = commentRepository.existsByCommentTypeAndTargetId(CommentType.QNA, qna.getId());
@@ -144,6 +140,7 @@ public class QnaService {
                 update.title().orElse(qna.getTitle()),
                 update.content().orElse(qna.getContent())
             );
+            postSearchService.refresh(PostType.QNA, qna.getId());
         }
 
         if (files != null || keepfileIds != null) {
@@ -163,6 +160,7 @@ public class QnaService {
 
         // 소프트 삭제 실행
         qna.softDelete();
+        postSearchService.refresh(PostType.QNA, qnaId);
     }
 
     /**
@@ -179,6 +177,9 @@ public class QnaService {
 
             return passwordEncoder.matches(request.guestPassword(), qna.getGuestPassword());
 
+        } catch (ServiceBusyException e) {
+            // 혼잡으로 검증하지 못한 경우는 "비밀번호 불일치" 가 아니라 503 으로 응답
+            throw e;
         } catch (Exception e) {
             log.error("비밀번호 확인 중 오류 발생: ", e);
             return false;
@@ -292,15 +293,4 @@ public class QnaService {
         return answeredIds.stream()
             .collect(Collectors.toSet());
     }
-
-    private void handleViewCountIncrease(QnA qna, Long qnaId, HttpServletRequest request) {
-        HttpSession session = request.getSession();
-        String sessionKey = VIEWED_QNA_PREFIX + qnaId;
-
-        if (session.getAttribute(sessionKey) == null) {
-            qna.increaseViewCount();
-            session.setAttribute(sessionKey, true);
-            session.setMaxInactiveInterval(VIEW_SESSION_TIMEOUT);
-        }
-    }
 }
\ No newline at end of file
@@ -5,6 +5,8 @@ import bon.bon_jujitsu.domain.Order;
 import bon.bon_jujitsu.domain.OrderStatus;
 import bon.bon_jujitsu.domain.Review;
 import bon.bon_jujitsu.domain.User;
+import bon.bon_jujitsu.dto.common.CursorResponse;
+import bon.bon_jujitsu.dto.common.CursorToken;
 import bon.bon_jujitsu.dto.common.PageResponse;
 import bon.bon_jujitsu.dto.request.ReviewRequest;
 import bon.bon_jujitsu.dto.response.ReviewResponse;
@@ -100,6 +102,35 @@ public class ReviewService {
     return PageResponse.fromPage(reviewPage);
   }
 
+  /**
+   * 상품 리뷰 커서 페이징 조회 (부모 리뷰 기준, 답글은 일괄 조회해 포함)
+   */
+  @Transactional(readOnly = true)
+  public CursorResponse<ReviewResponse> getReviewsByCursor(Long itemId, String cursor, int size) {
+    findItemById(itemId); // 상품 존재 확인
+    CursorResponse.validateSize(size);
+    CursorToken position = CursorToken.decode(cursor);
+
+    List<Review> parentReviews = reviewRepository.findParentReviewsAfterCursor(itemId,
+        position.createdAt(), position.id(), PageRequest.ofSize(size + 1));
+
+    return CursorResponse.of(parentReviews, size,
+        review -> new CursorToken(review.getCreatedAt(), review.getId()),
+        content -> {
+          // N+1 문제 해결: 자식 리뷰들을 한 번에 조회
+          Map<Long, List<Review>> childReviewMap = loadChildReviewsInBatch(content.stream()
+              .map(Review::getId)
+              .collect(Collectors.toList()));
+
+          return content.stream()
+              .map(parentReview -> new ReviewResponse(parentReview,
+                  childReviewMap.getOrDefault(parentReview.getId(), Collections.emptyList()).stream()
+                      .map(childReview -> new ReviewResponse(childReview, Collections.emptyList()))
+                      .collect(Collectors.toList())))
+              .collect(Collectors.toList());
+        });
+  }
+
   /**
    * 내 리뷰 목록 조회 (N+1 문제 해결)
    */
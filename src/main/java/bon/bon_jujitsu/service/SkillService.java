@@ -1,15 +1,17 @@
 package bon.bon_jujitsu.service;
 
 import bon.bon_jujitsu.domain.*;
+import bon.bon_jujitsu.dto.SkillSummary;
+import bon.bon_jujitsu.dto.UserAuthorization;
+import bon.bon_jujitsu.dto.common.CursorResponse;
+import bon.bon_jujitsu.dto.common.CursorToken;
 import bon.bon_jujitsu.dto.common.PageResponse;
 import bon.bon_jujitsu.dto.request.SkillRequest;
 import bon.bon_jujitsu.dto.response.SkillResponse;
 import bon.bon_jujitsu.dto.update.SkillUpdate;
 import bon.bon_jujitsu.repository.PostMediaRepository;
 import bon.bon_jujitsu.repository.SkillRepository;
-import bon.bon_jujitsu.repository.UserRepository;
 import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
@@ -34,19 +36,19 @@ import java.util.stream.Collectors;
 public class SkillService {
 
   private final SkillRepository skillRepository;
-  private final UserRepository userRepository;
+  private final UserAuthorizationService userAuthorizationService;
   private final PostMediaService postMediaService;
   private final PostMediaRepository postMediaRepository;
-
-  private static final String VIEWED_SKILL_PREFIX = "viewed_skill_";
-  private static final int VIEW_SESSION_TIMEOUT = 60 * 60; // 1시간
+  private final ViewCountService viewCountService;
+  private final TrendingService trendingService;
+  private final PostSearchService postSearchService;
 
   /**
    * 스킬 게시물 생성
    */
   @CacheEvict(value = "skills", allEntries = true)
   public void createSkill(Long userId, SkillRequest request, List<MultipartFile> files) {
-    User user = findUserById(userId);
+    UserAuthorization user = userAuthorizationService.getAuthorization(userId);
 
     // 권한 검증 (관장 또는 관리자만 작성 가능)
     validateSkillCreatePermission(user);
@@ -56,10 +58,11 @@ public class SkillService {
         .content(request.content())
         .position(request.position())
         .skillType(request.skillType())
-        .user(user)
+        .user(userAuthorizationService.getUserReference(user))
         .build();
 
     skillRepository.save(skill);
+    postSearchService.refresh(PostType.SKILL, skill.getId());
 
     if (files != null && !files.isEmpty()) {
       postMediaService.uploadMedia(skill.getId(), PostType.SKILL, files);
@@ -74,22 +77,9 @@ public class SkillService {
       SkillPosition position, SkillType skillType) {
 
     PageRequest pageRequest = PageRequest.of(page - 1, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-    Page<Skill> skills;
-
-    // 필터링 로직
-    if (position != null && skillType != null) {
-      // 포지션 + 기술타입 둘 다 필터링
-      skills = skillRepository.findByPositionAndSkillTypeWithUser(position, skillType, pageRequest);
-    } else if (position != null) {
-      // 포지션만 필터링
-      skills = skillRepository.findByPositionWithUser(position, pageRequest);
-    } else if (skillType != null) {
-      // 기술타입만 필터링
-      skills = skillRepository.findBySkillTypeWithUser(skillType, pageRequest);
-    } else {
-      // 전체 조회
-      skills = skillRepository.findAllWithUser(pageRequest);
-    }
+
+    // 목록 컬럼과 본문 앞부분만 조회 (포지션, 기술타입은 지정한 것만 필터링)
+    Page<SkillSummary> skills = skillRepository.findSkillSummaries(position, skillType, pageRequest);
 
     if (skills.isEmpty()) {
       return PageResponse.fromPage(skills.map(skill -> null));
@@ -97,18 +87,44 @@ public class SkillService {
 
     // 이미지만 별도로 배치 로딩
     Set<Long> skillIds = skills.getContent().stream()
-        .map(Skill::getId)
+        .map(SkillSummary::id)
         .collect(Collectors.toSet());
 
     Map<Long, List<PostMedia>> fileMap = loadFilesInBatch(skillIds);
 
     // SkillResponse 생성
     return PageResponse.fromPage(skills.map(skill -> {
-      List<PostMedia> files = fileMap.getOrDefault(skill.getId(), Collections.emptyList());
-      return SkillResponse.fromEntity(skill, files);
+      List<PostMedia> files = fileMap.getOrDefault(skill.id(), Collections.emptyList());
+      return SkillResponse.fromSummary(skill, files);
     }));
   }
 
+  /**
+   * 스킬 게시물 목록 커서 페이징 조회 (무한 스크롤, COUNT 쿼리 없음)
+   */
+  @Transactional(readOnly = true)
+  public CursorResponse<SkillResponse> getSkillsByCursor(String cursor, int size,
+      SkillPosition position, SkillType skillType) {
+    CursorResponse.validateSize(size);
+    CursorToken cursorPosition = CursorToken.decode(cursor);
+
+    List<SkillSummary> skills = skillRepository.findSkillSummariesAfterCursor(position, skillType,
+        cursorPosition.createdAt(), cursorPosition.id(), PageRequest.ofSize(size + 1));
+
+    return CursorResponse.of(skills, size,
+        skill -> new CursorToken(skill.createdAt(), skill.id()),
+        content -> {
+          // 이미지만 별도로 배치 로딩
+          Map<Long, List<PostMedia>> fileMap = loadFilesInBatch(content.stream()
+              .map(SkillSummary::id)
+              .collect(Collectors.toSet()));
+
+          return content.stream()
+              .map(skill -> SkillResponse.fromSummary(skill, fileMap.getOrDefault(skill.id(), Collections.emptyList())))
+              .toList();
+        });
+  }
+
   /**
    * 스킬 게시물 상세 조회 (N+1 문제 해결)
    */
@@ -117,8 +133,8 @@ public class SkillService {
     Skill skill = skillRepository.findByIdWithUser(skillId)
         .orElseThrow(() -> new IllegalArgumentException("스킬게시물을 찾을 수 없습니다."));
 
-    // 세션 기반 조회수 증가 처리
-    handleViewCountIncrease(skill, skillId, request);
+    // 조회수 증가 처리 (세션 없이 중복 제거)
+    viewCountService.recordView(PostType.SKILL, skillId, request);
 
     // 이미지 조회
     List<PostMedia> postMedia = postMediaRepository.findByPostTypeAndPostId(PostType.SKILL, skill.getId());
@@ -132,13 +148,14 @@ public class SkillService {
   @CacheEvict(value = {"skills", "skill"}, allEntries = true)
   public void updateSkill(SkillUpdate update, Long userId, Long skillId,
       List<MultipartFile> files, List<Long> keepfileIds) {
-    User user = findUserById(userId);
+    UserAuthorization user = userAuthorizationService.getAuthorization(userId);
     Skill skill = findSkillById(skillId);
 
     // 권한 검증
     validateSkillUpdatePermission(user, skill);
 
     skill.updateSkill(update);
+    postSearchService.refresh(PostType.SKILL, skill.getId());
 
     if (files != null || keepfileIds != null) {
       postMediaService.updateMedia(skill.getId(), PostType.SKILL, files, keepfileIds);
@@ -150,7 +167,7 @@ public class SkillService {
    */
   @CacheEvict(value = {"skills", "skill"}, allEntries = true)
   public void deleteSkill(Long userId, Long skillId) {
-    User user = findUserById(userId);
+    UserAuthorization user = userAuthorizationService.getAuthorization(userId);
     Skill skill = findSkillById(skillId);
 
     // 권한 검증
@@ -158,66 +175,55 @@ public class SkillService {
 
     // 소프트 삭제 실행
     skill.softDelete();
+    trendingService.remove(PostType.SKILL, skillId);
+    postSearchService.refresh(PostType.SKILL, skillId);
   }
 
   // === Private Helper Methods ===
 
-  private User findUserById(Long userId) {
-    return userRepository.findById(userId)
-        .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-  }
-
   private Skill findSkillById(Long skillId) {
     return skillRepository.findById(skillId)
         .orElseThrow(() -> new IllegalArgumentException("스킬게시물을 찾을 수 없습니다."));
   }
 
-  private boolean isOwnerOrAdmin(User user) {
-    return user.isAdmin() ||
-        user.getBranchUsers().stream()
-            .anyMatch(bu -> bu.getUserRole() == UserRole.OWNER);
-  }
-
-  private void validateSkillCreatePermission(User user) {
-    if (!isOwnerOrAdmin(user)) {
+  private void validateSkillCreatePermission(UserAuthorization user) {
+    if (!user.isOwnerOrAdmin()) {
       throw new IllegalArgumentException("스킬게시물은 관장이나 관리자만 작성할 수 있습니다.");
     }
   }
 
-  private void validateSkillUpdatePermission(User user, Skill skill) {
+  private void validateSkillUpdatePermission(UserAuthorization user, Skill skill) {
     if (user.isAdmin()) {
       // 관리자는 모든 글 수정 가능
       return;
     }
 
-    boolean isOwner = user.getBranchUsers().stream()
-        .anyMatch(bu -> bu.getUserRole() == UserRole.OWNER);
+    boolean isOwner = user.hasAnyRole(UserRole.OWNER);
 
     if (!isOwner) {
       throw new IllegalArgumentException("스킬게시물은 관장이나 관리자만 수정할 수 있습니다.");
     }
 
     // 관장이지만 본인 글이 아닌 경우
-    if (!skill.getUser().getId().equals(user.getId())) {
+    if (!skill.getUser().getId().equals(user.userId())) {
       throw new IllegalArgumentException("본인이 작성한 스킬게시물만 수정할 수 있습니다.");
     }
   }
 
-  private void validateSkillDeletePermission(User user, Skill skill) {
+  private void validateSkillDeletePermission(UserAuthorization user, Skill skill) {
     if (user.isAdmin()) {
       // 관리자는 모든 글 삭제 가능
       return;
     }
 
-    boolean isOwner = user.getBranchUsers().stream()
-        .anyMatch(bu -> bu.getUserRole() == UserRole.OWNER);
+    boolean isOwner = user.hasAnyRole(UserRole.OWNER);
 
     if (!isOwner) {
       throw new IllegalArgumentException("스킬게시물은 관장이나 관리자만 삭제할 수 있습니다.");
     }
 
     // 관장이지만 본인 글이 아닌 경우
-    if (!skill.getUser().getId().equals(user.getId())) {
+    if (!skill.getUser().getId().equals(user.userId())) {
       throw new IllegalArgumentException("본인이 작성한 스킬게시물만 삭제할 수 있습니다.");
     }
   }
@@ -227,21 +233,4 @@ public class SkillService {
     return allfiles.stream()
         .collect(Collectors.groupingBy(PostMedia::getPostId));
   }
-
-  private void handleViewCountIncrease(Skill skill, Long skillId, HttpServletRequest request) {
-    HttpSession session = request.getSession();
-    String sessionKey = VIEWED_SKILL_PREFIX + skillId;
-
-    Long lastViewTime = (Long) session.getAttribute(sessionKey);
-    long currentTime = System.currentTimeMillis();
-
-    // 5초(5000ms) 이내 중복 호출 방지
-    if (lastViewTime == null || (currentTime - lastViewTime) > 5000) {
-      skill.increaseViewCount();
-      session.setAttribute(sessionKey, currentTime);
-      session.setMaxInactiveInterval(VIEW_SESSION_TIMEOUT);
-    } else {
-      long timeDiff = currentTime - lastViewTime;
-    }
-  }
 }
\ No newline at end of file
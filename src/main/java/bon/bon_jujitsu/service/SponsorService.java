@@ -3,17 +3,16 @@ package bon.bon_jujitsu.service;
 import bon.bon_jujitsu.domain.PostMedia;
 import bon.bon_jujitsu.domain.PostType;
 import bon.bon_jujitsu.domain.Sponsor;
-import bon.bon_jujitsu.domain.User;
 import bon.bon_jujitsu.domain.UserRole;
+import bon.bon_jujitsu.dto.SponsorSummary;
+import bon.bon_jujitsu.dto.UserAuthorization;
 import bon.bon_jujitsu.dto.common.PageResponse;
 import bon.bon_jujitsu.dto.request.SponsorRequest;
 import bon.bon_jujitsu.dto.response.SponsorResponse;
 import bon.bon_jujitsu.dto.update.SponsorUpdate;
 import bon.bon_jujitsu.repository.PostMediaRepository;
 import bon.bon_jujitsu.repository.SponsorRepository;
-import bon.bon_jujitsu.repository.UserRepository;
 import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
@@ -37,19 +36,17 @@ import java.util.stream.Collectors;
 public class SponsorService {
 
   private final SponsorRepository sponsorRepository;
-  private final UserRepository userRepository;
+  private final UserAuthorizationService userAuthorizationService;
   private final PostMediaService postMediaService;
   private final PostMediaRepository postMediaRepository;
-
-  private static final String VIEWED_SPONSOR_PREFIX = "viewed_sponsor_";
-  private static final int VIEW_SESSION_TIMEOUT = 60 * 60; // 1시간
+  private final ViewCountService viewCountService;
 
   /**
    * 스폰서 게시물 생성
    */
   @CacheEvict(value = "sponsors", allEntries = true)
   public void createSponsor(Long userId, SponsorRequest request, List<MultipartFile> files) {
-    User user = findUserById(userId);
+    UserAuthorization user = userAuthorizationService.getAuthorization(userId);
 
     // 권한 검증 (관장 또는 관리자만 작성 가능)
     validateSponsorCreatePermission(user);
@@ -58,7 +55,7 @@ public class SponsorService {
         .title(request.title())
         .content(request.content())
         .url(request.url())
-        .user(user)
+        .user(userAuthorizationService.getUserReference(user))
         .build();
 
     sponsorRepository.save(sponsor);
@@ -76,10 +73,8 @@ public class SponsorService {
   public PageResponse<SponsorResponse> getSponsors(int page, int size, String name) {
     PageRequest pageRequest = PageRequest.of(page - 1, size);
 
-    // N+1 문제 방지를 위한 fetch join 사용
-    Page<Sponsor> sponsors = (name != null && !name.isBlank())
-        ? sponsorRepository.findByUser_NameContainingIgnoreCaseWithUser(name, pageRequest)
-        : sponsorRepository.findAllWithUser(pageRequest);
+    // 목록 컬럼과 본문 앞부분만 조회
+    Page<SponsorSummary> sponsors = sponsorRepository.findSponsorSummaries(name, pageRequest);
 
     if (sponsors.isEmpty()) {
       return PageResponse.fromPage(sponsors.map(sponsor -> null));
@@ -87,15 +82,15 @@ public class SponsorService {
 
     // 이미지만 별도로 배치 로딩
     Set<Long> sponsorIds = sponsors.getContent().stream()
-        .map(Sponsor::getId)
+        .map(SponsorSummary::id)
         .collect(Collectors.toSet());
 
     Map<Long, List<PostMedia>> fileMap = loadFilesInBatch(sponsorIds);
 
     // SponsorResponse 생성
     return PageResponse.fromPage(sponsors.map(sponsor -> {
-      List<PostMedia> files = fileMap.getOrDefault(sponsor.getId(), Collections.emptyList());
-      return SponsorResponse.fromEntity(sponsor, files);
+      List<PostMedia> files = fileMap.getOrDefault(sponsor.id(), Collections.emptyList());
+      return SponsorResponse.fromSummary(sponsor, files);
     }));
   }
 
@@ -107,8 +102,8 @@ public class SponsorService {
     Sponsor sponsor = sponsorRepository.findByIdWithUser(sponsorId)
         .orElseThrow(() -> new IllegalArgumentException("스폰서를 찾을 수 없습니다."));
 
-    // 세션 기반 조회수 증가 처리
-    handleViewCountIncrease(sponsor, sponsorId, request);
+    // 조회수 증가 처리 (세션 없이 중복 제거)
+    viewCountService.recordView(PostType.SPONSOR, sponsorId, request);
 
     // 이미지 조회
     List<PostMedia> postMedia = postMediaRepository.findByPostTypeAndPostId(PostType.SPONSOR, sponsor.getId());
@@ -122,7 +117,7 @@ public class SponsorService {
   @CacheEvict(value = {"sponsors", "sponsor"}, allEntries = true)
   public void updateSponsor(SponsorUpdate update, Long userId, Long sponsorId,
       List<MultipartFile> files, List<Long> keepfileIds) {
-    User user = findUserById(userId);
+    UserAuthorization user = userAuthorizationService.getAuthorization(userId);
     Sponsor sponsor = findSponsorById(sponsorId);
 
     // 권한 검증
@@ -140,7 +135,7 @@ public class SponsorService {
    */
   @CacheEvict(value = {"sponsors", "sponsor"}, allEntries = true)
   public void deleteSponsor(Long userId, Long sponsorId) {
-    User user = findUserById(userId);
+    UserAuthorization user = userAuthorizationService.getAuthorization(userId);
     Sponsor sponsor = findSponsorById(sponsorId);
 
     // 권한 검증
@@ -152,54 +147,42 @@ public class SponsorService {
 
   // === Private Helper Methods ===
 
-  private User findUserById(Long userId) {
-    return userRepository.findById(userId)
-        .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-  }
-
   private Sponsor findSponsorById(Long sponsorId) {
     return sponsorRepository.findById(sponsorId)
         .orElseThrow(() -> new IllegalArgumentException("스폰서를 찾을 수 없습니다."));
   }
 
-  private boolean isOwnerOrAdmin(User user) {
-    return user.isAdmin() ||
-        user.getBranchUsers().stream()
-            .anyMatch(bu -> bu.getUserRole() == UserRole.OWNER);
-  }
-
-  private void validateSponsorCreatePermission(User user) {
-    if (!isOwnerOrAdmin(user)) {
+  private void validateSponsorCreatePermission(UserAuthorization user) {
+    if (!user.isOwnerOrAdmin()) {
       throw new IllegalArgumentException("스폰서는 관장이나 관리자만 작성할 수 있습니다.");
     }
   }
 
-  private void validateSponsorUpdatePermission(User user, Sponsor sponsor) {
-    if (!isOwnerOrAdmin(user)) {
+  private void validateSponsorUpdatePermission(UserAuthorization user, Sponsor sponsor) {
+    if (!user.isOwnerOrAdmin()) {
       throw new IllegalArgumentException("스폰서는 관장이나 관리자만 수정할 수 있습니다.");
     }
 
     // 관리자가 아닌 경우 본인 글만 수정 가능
-    if (!user.isAdmin() && !sponsor.getUser().getId().equals(user.getId())) {
+    if (!user.isAdmin() && !sponsor.getUser().getId().equals(user.userId())) {
       throw new IllegalArgumentException("본인이 작성한 스폰서만 수정할 수 있습니다.");
     }
   }
 
-  private void validateSponsorDeletePermission(User user, Sponsor sponsor) {
+  private void validateSponsorDeletePermission(UserAuthorization user, Sponsor sponsor) {
     if (user.isAdmin()) {
       // 관리자는 모든 스폰서 삭제 가능
       return;
     }
 
-    boolean isOwner = user.getBranchUsers().stream()
-        .anyMatch(bu -> bu.getUserRole() == UserRole.OWNER);
+    boolean isOwner = user.hasAnyRole(UserRole.OWNER);
 
     if (!isOwner) {
       throw new IllegalArgumentException("스폰서는 관장이나 관리자만 삭제할 수 있습니다.");
     }
 
     // 관장이지만 본인 글이 아닌 경우
-    if (!sponsor.getUser().getId().equals(user.getId())) {
+    if (!sponsor.getUser().getId().equals(user.userId())) {
       throw new IllegalArgumentException("본인이 작성한 스폰서만 삭제할 수 있습니다.");
     }
   }
@@ -209,15 +192,4 @@ public class SponsorService {
     return allFiles.stream()
         .collect(Collectors.groupingBy(PostMedia::getPostId));
   }
-
-  private void handleViewCountIncrease(Sponsor sponsor, Long sponsorId, HttpServletRequest request) {
-    HttpSession session = request.getSession();
-    String sessionKey = VIEWED_SPONSOR_PREFIX + sponsorId;
-
-    if (session.getAttribute(sessionKey) == null) {
-      sponsor.increaseViewCount();
-      session.setAttribute(sessionKey, true);
-      session.setMaxInactiveInterval(VIEW_SESSION_TIMEOUT);
-    }
-  }
 }
\ No newline at end of file
@@ -0,0 +1,159 @@
+package bon.bon_jujitsu.service;
+
+import bon.bon_jujitsu.common.SlidingWindowRanking;
+import bon.bon_jujitsu.domain.Board;
+import bon.bon_jujitsu.domain.CommentType;
+import bon.bon_jujitsu.domain.News;
+import bon.bon_jujitsu.domain.PostType;
+import bon.bon_jujitsu.domain.Skill;
+import bon.bon_jujitsu.dto.TrendingSeed;
+import bon.bon_jujitsu.dto.response.TrendingPostResponse;
+import bon.bon_jujitsu.repository.BoardRepository;
+import bon.bon_jujitsu.repository.CommentRepository;
+import bon.bon_jujitsu.repository.NewsRepository;
+import bon.bon_jujitsu.repository.SkillRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 인기 게시글 (게시판/기술/뉴스) - 최근 window 동안의 조회수와 댓글 수로 순위
+ * - 조회/댓글이 발생할 때마다 메모리 순위표를 갱신하고, 조회는 순위표의 상위 K 개만 읽는다.
+ * - 기동 시 DB 로 재구축: window 안의 댓글, window 안에 작성된 게시글의 누적 조회수
+ *   (그 이전 게시글의 최근 조회수는 DB 에 시각 정보가 없어 기동 이후 조회분부터 반영)
+ * - 순위는 노드별로 집계된다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class TrendingService {
+
+  private static final int MAX_SIZE = 50;
+
+  private final BoardRepository boardRepository;
+  private final SkillRepository skillRepository;
+  private final NewsRepository newsRepository;
+  private final CommentRepository commentRepository;
+  private final Duration window;
+  private final Map<PostType, SlidingWindowRanking> rankings = new EnumMap<>(PostType.class);
+
+  public TrendingService(BoardRepository boardRepository, SkillRepository skillRepository,
+      NewsRepository newsRepository, CommentRepository commentRepository,
+      @Value("${app.trending.window:7d}") Duration window,
+      @Value("${app.trending.bucket-count:7}") int bucketCount,
+      @Value("${app.trending.view-weight:1}") long viewWeight,
+      @Value("${app.trending.comment-weight:5}") long commentWeight) {
+    this.boardRepository = boardRepository;
+    this.skillRepository = skillRepository;
+    this.newsRepository = newsRepository;
+    this.commentRepository = commentRepository;
+    this.window = window;
+    for (PostType postType : List.of(PostType.BOARD, PostType.SKILL, PostType.NEWS)) {
+      rankings.put(postType, new SlidingWindowRanking(window.toMillis(), bucketCount, viewWeight, commentWeight));
+    }
+  }
+
+  /**
+   * 기동 시 DB 로 순위표 재구축
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void rebuild() {
+    LocalDateTime since = LocalDateTime.now().minus(window);
+    rankings.values().forEach(SlidingWindowRanking::clear);
+
+    seedViews(PostType.BOARD, boardRepository.findViewSeedsCreatedSince(since));
+    seedViews(PostType.SKILL, skillRepository.findViewSeedsCreatedSince(since));
+    seedViews(PostType.NEWS, newsRepository.findViewSeedsCreatedSince(since));
+
+    List<TrendingSeed> comments = commentRepository.findCommentSeedsCreatedSince(CommentType.BOARD, since);
+    SlidingWindowRanking boardRanking = rankings.get(PostType.BOARD);
+    comments.forEach(seed -> boardRanking.recordComments(seed.postId(), toMillis(seed.occurredAt()), seed.count()));
+
+    log.info("인기 게시글 순위 재구축 완료 (since={}, comments={})", since, comments.size());
+  }
+
+  public void recordView(PostType postType, Long postId) {
+    SlidingWindowRanking ranking = rankings.get(postType);
+    if (ranking != null) {
+      ranking.recordViews(postId, System.currentTimeMillis(), 1);
+    }
+  }
+
+  /**
+   * 댓글 작성 반영 (댓글이 달리는 게시글 종류 중 순위 대상은 게시판뿐)
+   */
+  public void recordComment(CommentType commentType, Long targetId) {
+    if (commentType == CommentType.BOARD) {
+      rankings.get(PostType.BOARD).recordComments(targetId, System.currentTimeMillis(), 1);
+    }
+  }
+
+  public void remove(PostType postType, Long postId) {
+    SlidingWindowRanking ranking = rankings.get(postType);
+    if (ranking != null) {
+      ranking.remove(postId);
+    }
+  }
+
+  /**
+   * 인기 게시글 상위 size 개 조회
+   */
+  public List<TrendingPostResponse> getTrending(PostType postType, int size) {
+    SlidingWindowRanking ranking = rankings.get(postType);
+    if (ranking == null) {
+      throw new IllegalArgumentException("인기 게시글을 지원하지 않는 게시글 종류입니다.");
+    }
+    if (size < 1 || size > MAX_SIZE) {
+      throw new IllegalArgumentException("조회 개수는 1~" + MAX_SIZE + " 사이여야 합니다.");
+    }
+
+    List<SlidingWindowRanking.Ranked> top = ranking.top(size);
+    Map<Long, String> titles = findTitles(postType, top.stream().map(SlidingWindowRanking.Ranked::id).toList());
+
+    // 삭제된 게시글은 제외
+    return top.stream()
+        .filter(ranked -> titles.containsKey(ranked.id()))
+        .map(ranked -> TrendingPostResponse.of(ranked, titles.get(ranked.id())))
+        .toList();
+  }
+
+  // === Private Helper Methods ===
+
+  private void seedViews(PostType postType, List<TrendingSeed> seeds) {
+    SlidingWindowRanking ranking = rankings.get(postType);
+    // 조회 시각을 알 수 없으므로 가장 먼저 window 를 벗어나는 작성 시각 구간에 기록
+    seeds.stream()
+        .filter(seed -> seed.count() != null && seed.count() > 0)
+        .forEach(seed -> ranking.recordViews(seed.postId(), toMillis(seed.occurredAt()), seed.count()));
+  }
+
+  private Map<Long, String> findTitles(PostType postType, List<Long> ids) {
+    if (ids.isEmpty()) {
+      return Map.of();
+    }
+    return switch (postType) {
+      case BOARD -> boardRepository.findAllById(ids).stream()
+          .collect(Collectors.toMap(Board::getId, board -> Objects.toString(board.getTitle(), "")));
+      case SKILL -> skillRepository.findAllById(ids).stream()
+          .collect(Collectors.toMap(Skill::getId, skill -> Objects.toString(skill.getTitle(), "")));
+      case NEWS -> newsRepository.findAllById(ids).stream()
+          .collect(Collectors.toMap(News::getId, news -> Objects.toString(news.getTitle(), "")));
+      default -> Map.of();
+    };
+  }
+
+  private long toMillis(LocalDateTime dateTime) {
+    return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+  }
+}
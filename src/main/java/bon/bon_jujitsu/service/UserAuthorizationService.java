@@ -0,0 +1,55 @@
+package bon.bon_jujitsu.service;
+
+import bon.bon_jujitsu.cache.CacheInvalidator;
+import bon.bon_jujitsu.domain.User;
+import bon.bon_jujitsu.dto.UserAuthorization;
+import bon.bon_jujitsu.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 사용자 권한 스냅샷 조회/무효화
+ * - 서비스의 권한 검증은 User + BranchUser 를 매번 조회하지 않고 이 스냅샷을 사용한다.
+ * - 작성자 등 엔티티 연관관계가 필요하면 getUserReference 로 프록시만 얻는다. (추가 조회 없음)
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class UserAuthorizationService {
+
+  public static final String CACHE_NAME = "userAuthorization";
+
+  private final UserRepository userRepository;
+  private final CacheInvalidator cacheInvalidator;
+
+  @Cacheable(value = CACHE_NAME, key = "#userId", sync = true)
+  public UserAuthorization getAuthorization(Long userId) {
+    User user = userRepository.findByIdWithBranchUsersAndIsDeletedFalse(userId)
+        .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+
+    return UserAuthorization.fromEntity(user);
+  }
+
+  /**
+   * 권한 확인을 마친 사용자의 엔티티 참조 (연관관계 설정용)
+   */
+  public User getUserReference(UserAuthorization authorization) {
+    return userRepository.getReferenceById(authorization.userId());
+  }
+
+  /**
+   * 역할/소속 지부/탈퇴 등 권한이 바뀐 사용자 스냅샷 제거 (커밋 이후 반영)
+   */
+  public void evict(Long userId) {
+    cacheInvalidator.evict(CACHE_NAME, userId);
+  }
+
+  /**
+   * 지부 삭제처럼 여러 사용자의 역할이 한 번에 바뀌는 경우
+   */
+  public void evictAll() {
+    cacheInvalidator.clear(CACHE_NAME);
+  }
+}
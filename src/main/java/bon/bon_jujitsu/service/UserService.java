@@ -1,5 +1,6 @@
 package bon.bon_jujitsu.service;
 
+import bon.bon_jujitsu.cache.PageCountCache;
 import bon.bon_jujitsu.config.PasswordEncoder;
 import bon.bon_jujitsu.domain.Branch;
 import bon.bon_jujitsu.domain.BranchUser;
@@ -7,6 +8,7 @@ import bon.bon_jujitsu.domain.Stripe;
 import bon.bon_jujitsu.domain.User;
 import bon.bon_jujitsu.domain.UserRole;
 import bon.bon_jujitsu.dto.BranchRoleDto;
+import bon.bon_jujitsu.dto.UserAuthorization;
 import bon.bon_jujitsu.dto.common.PageResponse;
 import bon.bon_jujitsu.dto.request.GetAllUserRequest;
 import bon.bon_jujitsu.dto.request.LoginRequest;
@@ -16,6 +18,7 @@ import bon.bon_jujitsu.dto.request.UserRoleRequest;
 import bon.bon_jujitsu.dto.response.LoginResponse;
 import bon.bon_jujitsu.dto.response.LogoutResponse;
 import bon.bon_jujitsu.dto.response.MemberIdCheckResponse;
+import bon.bon_jujitsu.dto.response.PasswordHashingStatsResponse;
 import bon.bon_jujitsu.dto.response.UserResponse;
 import bon.bon_jujitsu.dto.update.ProfileUpdate;
 import bon.bon_jujitsu.dto.update.UserBranchUpdate;
@@ -23,6 +26,7 @@ import bon.bon_jujitsu.dto.update.UserInfoUpdate;
 import bon.bon_jujitsu.jwt.JwtUtil;
 import bon.bon_jujitsu.repository.BranchRepository;
 import bon.bon_jujitsu.repository.BranchUserRepository;
+import bon.bon_jujitsu.repository.TwoPhasePaging;
 import bon.bon_jujitsu.repository.UserRepository;
 import bon.bon_jujitsu.specification.UserSpecification;
 
@@ -31,7 +35,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
@@ -53,6 +59,9 @@ public class UserService {
   private final JwtUtil jwtUtil;
   private final UserImageService userImageService;
   private final BranchUserRepository branchUserRepository;
+  private final UserAuthorizationService userAuthorizationService;
+  private final PageCountCache pageCountCache;
+  private final MemberSearchService memberSearchService;
 
   private static final String PHONE_REGEX = "^(01[0|1|6|7|8|9])\\d{7,8}$";
   private static final String MEMBER_ID_PATTERN = "^[a-zA-Z0-9]{4,20}$";
@@ -61,7 +70,7 @@ public class UserService {
   /**
    * 회원가입
    */
-  @CacheEvict(value = "users", allEntries = true)
+  @CacheEvict(value = {"users", "userCounts"}, allEntries = true)
   public void signup(SignupRequest req, List<MultipartFile> images) {
     // 중복 검증
     validateUserDuplication(req.memberId(), req.email(), req.phoneNum());
@@ -78,6 +87,7 @@ public class UserService {
 
     // 지점 관계 설정
     createBranchUserRelations(user, branches);
+    memberSearchService.refresh(user.getId());
 
     // 이미지 업로드
     if (images != null && !images.isEmpty()) {
@@ -94,6 +104,11 @@ public class UserService {
     // 로그인 유효성 검증
     validateLogin(user, req.password());
 
+    // 낮은 cost 로 저장된 비밀번호는 현재 설정으로 재해시
+    if (passwordEncoder.needsRehash(user.getPassword())) {
+      user.changePassword(passwordEncoder.rehash(req.password()));
+    }
+
     // JWT 토큰 생성
     JwtUtil.TokenInfo tokenInfo = jwtUtil.createTokens(user.getId());
 
@@ -132,9 +147,9 @@ public class UserService {
   /**
    * 사용자 역할 할당
    */
-  @CacheEvict(value = "users", allEntries = true)
+  @CacheEvict(value = {"users", "userCounts"}, allEntries = true)
   public void assignRole(Long loggedInUserId, UserRoleRequest request) {
-    User loggedInUser = findUserById(loggedInUserId);
+    UserAuthorization loggedInUser = userAuthorizationService.getAuthorization(loggedInUserId);
     User targetUser = findActiveUserById(request.targetUserId());
     Branch branch = findBranchById(request.branchId());
 
@@ -143,15 +158,17 @@ public class UserService {
 
     // 역할 할당 또는 업데이트
     assignOrUpdateUserRole(targetUser, branch, request.role());
+    userAuthorizationService.evict(targetUser.getId());
+    memberSearchService.refresh(targetUser.getId());
   }
 
   /**
    * 사용자 목록 조회 (N+1 문제 해결)
    */
   @Transactional(readOnly = true)
-  @Cacheable(value = "users", key = "#page + '_' + #size + '_' + #userId + '_' + (#request != null ? #request.toString() : 'all')")
-  public PageResponse<UserResponse> getUsers(int page, int size, Long userId, GetAllUserRequest request) {
-    User user = findUserById(userId);
+  @Cacheable(value = "users", key = "#page + '_' + #size + '_' + #userId + '_' + (#request != null ? #request.toString() : 'all') + '_' + #count")
+  public PageResponse<UserResponse> getUsers(int page, int size, Long userId, GetAllUserRequest request, boolean count) {
+    UserAuthorization user = userAuthorizationService.getAuthorization(userId);
 
     // 권한 검증 및 조회 범위 결정
     UserQueryContext context = validateAndCreateQueryContext(user);
@@ -164,10 +181,21 @@ public class UserService {
     // 필터 조건 추출
     FilterConditions filters = extractFilterConditions(request, context);
 
-    // 검색 조건에 따른 조회
-    Page<User> userPage = executeUserQuery(filters, pageRequest, context);
+    // 이름 검색은 회원 검색 색인으로 (전체 개수도 색인 결과로 알 수 있어 COUNT 쿼리 없음)
+    if (filters.hasName()) {
+      return PageResponse.fromPage(searchUsers(filters, pageRequest, context).map(UserResponse::fromEntity));
+    }
+
+    // 검색 조건에 따른 조회 (size + 1 조회)
+    Slice<UserResponse> users = executeUserQuery(filters, pageRequest, context).map(UserResponse::fromEntity);
 
-    return PageResponse.fromPage(userPage.map(UserResponse::fromEntity));
+    if (!count) {
+      return PageResponse.fromSlice(users);
+    }
+
+    // 전체 개수는 조회 범위/검색 조건별로 캐시 (회원 정보 변경 시 무효화)
+    return PageResponse.fromPage(pageCountCache.toPage(users, "userCounts",
+        createCountKey(filters, context), () -> countUsers(filters, context)));
   }
 
   /**
@@ -189,7 +217,7 @@ public class UserService {
   /**
    * 프로필 수정
    */
-  @CacheEvict(value = {"users", "userProfile"}, allEntries = true)
+  @CacheEvict(value = {"users", "userCounts", "userProfile"}, allEntries = true)
   public void updateProfile(Long userId, ProfileUpdate request, List<MultipartFile> images, List<Long> keepImageIds) {
     User profile = findUserById(userId);
 
@@ -200,6 +228,8 @@ public class UserService {
 
     // 지점 변경
     updateUserBranches(profile, request);
+    userAuthorizationService.evict(userId);
+    memberSearchService.refresh(userId);
 
     // 이미지 업데이트
     if (images != null || keepImageIds != null) {
@@ -210,7 +240,7 @@ public class UserService {
   /**
    * 사용자 삭제
    */
-  @CacheEvict(value = {"users", "userProfile"}, allEntries = true)
+  @CacheEvict(value = {"users", "userCounts", "userProfile"}, allEntries = true)
   public void deleteUser(Long userId, ProfileDeleteRequest request) {
     User user = findUserById(userId);
 
@@ -219,6 +249,8 @@ public class UserService {
     }
 
     user.softDelete();
+    userAuthorizationService.evict(userId);
+    memberSearchService.refresh(userId);
   }
 
   /**
@@ -226,7 +258,7 @@ public class UserService {
    */
   @Transactional(readOnly = true)
   public PageResponse<UserResponse> getDeletedUsers(int page, int size, Long userId) {
-    User user = findUserById(userId);
+    UserAuthorization user = userAuthorizationService.getAuthorization(userId);
     validatePageRequest(page, size);
 
     PageRequest pageRequest = PageRequest.of(page - 1, size, Sort.by(Sort.Direction.DESC, "id"));
@@ -243,26 +275,47 @@ public class UserService {
     return jwtUtil.refreshAccessToken(refreshToken);
   }
 
+  /**
+   * 비밀번호 해시 전용 풀 통계 조회 (관리자 전용)
+   */
+  @Transactional(readOnly = true)
+  public PasswordHashingStatsResponse getPasswordHashingStats(Long userId) {
+    validateAdminUser(userId);
+    return passwordEncoder.stats();
+  }
+
+  /**
+   * 회원 검색 색인을 모든 노드에서 재구축 (관리자 전용)
+   */
+  @Transactional(readOnly = true)
+  public void rebuildMemberSearch(Long userId) {
+    validateAdminUser(userId);
+    memberSearchService.rebuildAllNodes();
+  }
+
   /**
    * 사용자 지점 정보 업데이트 (관리자 전용)
    */
-  @CacheEvict(value = "users", allEntries = true)
+  @CacheEvict(value = {"users", "userCounts"}, allEntries = true)
   public void updateBranch(Long adminUserId, UserBranchUpdate update) {
     validateAdminUser(adminUserId);
     User targetUser = findUserById(update.targetUserId());
 
     updateUserBranchRelations(targetUser, update);
+    userAuthorizationService.evict(targetUser.getId());
+    memberSearchService.refresh(targetUser.getId());
   }
 
   /**
    * 사용자 기본 정보 업데이트 (관리자 전용)
    */
-  @CacheEvict(value = {"users", "userProfile"}, allEntries = true)
+  @CacheEvict(value = {"users", "userCounts", "userProfile"}, allEntries = true)
   public void updateUserInfo(Long adminUserId, UserInfoUpdate update) {
     validateAdminUser(adminUserId);
     User targetUser = findUserById(update.targetUserId());
 
     updateUserBasicInfo(targetUser, update);
+    memberSearchService.refresh(targetUser.getId());
   }
 
   /**
@@ -397,8 +450,7 @@ public class UserService {
   }
 
   private void validateAdminUser(Long userId) {
-    User adminUser = findUserById(userId);
-    if (!adminUser.isAdminUser()) {
+    if (!userAuthorizationService.getAuthorization(userId).isAdmin()) {
       throw new IllegalArgumentException("관리자만 가능한 기능입니다.");
     }
   }
@@ -454,6 +506,10 @@ public class UserService {
       return name != null || role != null || stripe != null || (branchIds != null && !branchIds.isEmpty());
     }
 
+    public boolean hasName() {
+      return name != null && !name.isBlank();
+    }
+
     // getters
     public String getName() { return name; }
     public UserRole getRole() { return role; }
@@ -461,12 +517,9 @@ public class UserService {
     public Stripe getStripe() { return stripe; }
   }
 
-  private UserQueryContext validateAndCreateQueryContext(User user) {
+  private UserQueryContext validateAndCreateQueryContext(UserAuthorization user) {
     boolean isAdmin = user.isAdmin();
-    List<Long> ownerBranchIds = user.getBranchUsers().stream()
-        .filter(bu -> bu.getUserRole() == UserRole.OWNER)
-        .map(bu -> bu.getBranch().getId())
-        .collect(Collectors.toList());
+    List<Long> ownerBranchIds = user.branchIdsWithRole(UserRole.OWNER);
 
     boolean isOwner = !ownerBranchIds.isEmpty();
 
@@ -497,7 +550,7 @@ public class UserService {
     return new FilterConditions(name, role, branchIds, stripe);
   }
 
-  private Page<User> executeUserQuery(FilterConditions filters, PageRequest pageRequest, UserQueryContext context) {
+  private Slice<User> executeUserQuery(FilterConditions filters, PageRequest pageRequest, UserQueryContext context) {
     // 검색 조건 없는 경우 (전체 조회) - fetch join 사용
     if (!filters.hasFilters()) {
       return context.isAdmin()
@@ -506,27 +559,56 @@ public class UserService {
     }
 
     // 검색 조건이 있는 경우
-    List<Long> finalBranchIds;
+    return userRepository.findSlice(createUserSpecification(filters, context), pageRequest);
+  }
+
+  private Page<User> searchUsers(FilterConditions filters, PageRequest pageRequest, UserQueryContext context) {
+    List<Long> ids = memberSearchService.search(filters.getName(), resolveBranchIds(filters, context),
+        filters.getRole(), filters.getStripe());
+
+    int from = (int) Math.min(pageRequest.getOffset(), ids.size());
+    List<Long> pageIds = ids.subList(from, Math.min(from + pageRequest.getPageSize(), ids.size()));
+    return TwoPhasePaging.fetch(new PageImpl<>(pageIds, pageRequest, ids.size()),
+        userRepository::findAllWithBranchUsersByIdIn, User::getId);
+  }
+
+  private long countUsers(FilterConditions filters, UserQueryContext context) {
+    if (!filters.hasFilters()) {
+      return context.isAdmin()
+          ? userRepository.countByIsDeletedFalse()
+          : userRepository.countByBranchIdInAndIsDeletedFalse(context.getOwnerBranchIds());
+    }
+    return userRepository.count(createUserSpecification(filters, context));
+  }
+
+  private Specification<User> createUserSpecification(FilterConditions filters, UserQueryContext context) {
+    return UserSpecification.withFilters(
+        filters.getName(), filters.getRole(), resolveBranchIds(filters, context), filters.getStripe());
+  }
+
+  // OWNER 는 지정한 지부가 없으면 본인 지부 전체로 제한
+  private List<Long> resolveBranchIds(FilterConditions filters, UserQueryContext context) {
     if (!context.isAdmin() && context.isOwner()) {
-      finalBranchIds = (filters.getBranchIds() != null && !filters.getBranchIds().isEmpty())
+      return (filters.getBranchIds() != null && !filters.getBranchIds().isEmpty())
           ? filters.getBranchIds() : context.getOwnerBranchIds();
-    } else {
-      finalBranchIds = filters.getBranchIds();
     }
+    return filters.getBranchIds();
+  }
 
-    Specification<User> spec = UserSpecification.withFilters(
-        filters.getName(), filters.getRole(), finalBranchIds, filters.getStripe());
-    return userRepository.findAll(spec, pageRequest);
+  // 같은 조회 범위 + 검색 조건이면 같은 키 (요청자와 무관)
+  private String createCountKey(FilterConditions filters, UserQueryContext context) {
+    if (!filters.hasFilters()) {
+      return context.isAdmin() ? "all" : "branches_" + context.getOwnerBranchIds();
+    }
+    return "search_" + filters.getName() + "_" + filters.getRole() + "_"
+        + resolveBranchIds(filters, context) + "_" + filters.getStripe();
   }
 
-  private Page<User> executeDeletedUserQuery(User user, PageRequest pageRequest) {
+  private Page<User> executeDeletedUserQuery(UserAuthorization user, PageRequest pageRequest) {
     if (user.isAdmin()) {
       return userRepository.findAllByIsDeletedTrueNative(pageRequest);
     } else {
-      List<Long> ownerBranchIds = user.getBranchUsers().stream()
-          .filter(bu -> bu.getUserRole() == UserRole.OWNER)
-          .map(bu -> bu.getBranch().getId())
-          .collect(Collectors.toList());
+      List<Long> ownerBranchIds = user.branchIdsWithRole(UserRole.OWNER);
 
       if (ownerBranchIds.isEmpty()) {
         throw new IllegalArgumentException("탈퇴 회원을 조회할 권한이 없습니다.");
@@ -536,12 +618,14 @@ public class UserService {
     }
   }
 
-  private void validateRoleAssignmentPermission(User loggedInUser, Branch branch, UserRole requestedRole) {
+  private void validateRoleAssignmentPermission(UserAuthorization loggedInUser, Branch branch, UserRole requestedRole) {
     if (!loggedInUser.isAdmin()) {
-      BranchUser loginBranchUser = branchUserRepository.findByUserAndBranch(loggedInUser, branch)
-          .orElseThrow(() -> new IllegalArgumentException("해당 지부에 소속되지 않은 사용자입니다."));
+      UserRole loginRole = loggedInUser.roleIn(branch.getId());
+      if (loginRole == null) {
+        throw new IllegalArgumentException("해당 지부에 소속되지 않은 사용자입니다.");
+      }
 
-      if (loginBranchUser.getUserRole() != UserRole.OWNER) {
+      if (loginRole != UserRole.OWNER) {
         throw new IllegalArgumentException("권한이 없습니다.");
       }
 
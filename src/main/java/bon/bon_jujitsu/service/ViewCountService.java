@@ -0,0 +1,166 @@
+package bon.bon_jujitsu.service;
+
+import bon.bon_jujitsu.domain.PostType;
+import jakarta.servlet.http.HttpServletRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * 게시글 조회수 write-behind 버퍼
+ * - 조회 시에는 메모리의 LongAdder 만 증가시키고, flush-interval 마다 게시글 종류별로
+ *   UPDATE ... SET view_count = view_count + CASE id ... 한 번으로 모아서 반영한다.
+ * - 엔티티를 수정하지 않으므로 조회 트랜잭션에서 전체 컬럼 UPDATE 와 행 잠금이 발생하지 않는다.
+ * - 종료 시 남은 값을 반영하고, 반영에 실패한 값은 다음 주기에 다시 시도한다.
+ * - 화면의 조회수는 최대 flush-interval 만큼 늦게 반영된다.
+ */
+@Slf4j(topic = "ViewCountService")
+@Service
+public class ViewCountService implements AutoCloseable {
+
+  private static final Map<PostType, String> TABLES = Map.of(
+      PostType.BOARD, "board",
+      PostType.SKILL, "skill",
+      PostType.NEWS, "news",
+      PostType.NOTICE, "notice",
+      PostType.SPONSOR, "sponsor",
+      PostType.QNA, "qna"
+  );
+
+  private final JdbcTemplate jdbcTemplate;
+  private final ViewDeduplicator viewDeduplicator;
+  private final TrendingService trendingService;
+  private final int batchSize;
+  private final ScheduledExecutorService scheduler;
+  // 게시글 ID 별 누적 조회수 (한 번 생긴 카운터는 유지 - 제거 시 동시 증가분이 유실될 수 있으므로)
+  private final Map<PostType, Map<Long, LongAdder>> pending = new EnumMap<>(PostType.class);
+
+  public ViewCountService(JdbcTemplate jdbcTemplate, ViewDeduplicator viewDeduplicator,
+      TrendingService trendingService,
+      @Value("${app.view-count.flush-interval:5s}") Duration flushInterval,
+      @Value("${app.view-count.batch-size:500}") int batchSize) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.viewDeduplicator = viewDeduplicator;
+    this.trendingService = trendingService;
+    this.batchSize = batchSize;
+    for (PostType postType : PostType.values()) {
+      pending.put(postType, new ConcurrentHashMap<>());
+    }
+    this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "view-count-flush");
+      thread.setDaemon(true);
+      return thread;
+    });
+    scheduler.scheduleWithFixedDelay(this::flushQuietly, flushInterval.toMillis(), flushInterval.toMillis(),
+        TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * 상세 조회 기록 - 같은 클라이언트의 반복 조회는 중복 제거 window 동안 한 번만 센다.
+   */
+  public void recordView(PostType postType, Long postId, HttpServletRequest request) {
+    if (viewDeduplicator.firstView(postType, postId, request)) {
+      increment(postType, postId);
+      trendingService.recordView(postType, postId);
+    }
+  }
+
+  /**
+   * 조회수 1 증가 (DB 에는 다음 flush 때 반영)
+   */
+  public void increment(PostType postType, Long postId) {
+    pending.get(postType).computeIfAbsent(postId, id -> new LongAdder()).increment();
+  }
+
+  /**
+   * 쌓인 조회수를 DB 에 반영
+   */
+  public synchronized void flush() {
+    for (Map.Entry<PostType, Map<Long, LongAdder>> entry : pending.entrySet()) {
+      List<long[]> deltas = drain(entry.getValue());
+      for (int from = 0; from < deltas.size(); from += batchSize) {
+        List<long[]> batch = deltas.subList(from, Math.min(from + batchSize, deltas.size()));
+        try {
+          update(TABLES.get(entry.getKey()), batch);
+        } catch (RuntimeException e) {
+          log.warn("조회수 반영 실패 ({} {}건): {}", entry.getKey(), batch.size(), e.getMessage());
+          restore(entry.getValue(), batch);
+        }
+      }
+    }
+  }
+
+  @Override
+  public void close() {
+    scheduler.shutdown();
+    try {
+      scheduler.awaitTermination(10, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    flushQuietly();
+  }
+
+  // === Private Helper Methods ===
+
+  private void flushQuietly() {
+    try {
+      flush();
+    } catch (RuntimeException e) {
+      log.warn("조회수 반영 중 오류: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * 값이 있는 카운터만 읽고 0 으로 되돌림 (읽는 중 증가한 값은 다음 주기에 반영)
+   */
+  private List<long[]> drain(Map<Long, LongAdder> counters) {
+    List<long[]> deltas = new ArrayList<>();
+    counters.forEach((postId, adder) -> {
+      long delta = adder.sumThenReset();
+      if (delta != 0) {
+        deltas.add(new long[]{postId, delta});
+      }
+    });
+    return deltas;
+  }
+
+  private void restore(Map<Long, LongAdder> counters, List<long[]> batch) {
+    for (long[] delta : batch) {
+      counters.computeIfAbsent(delta[0], id -> new LongAdder()).add(delta[1]);
+    }
+  }
+
+  /**
+   * UPDATE {table} SET view_count = view_count + CASE id WHEN ? THEN ? ... END WHERE id IN (...)
+   */
+  private void update(String table, List<long[]> batch) {
+    StringBuilder sql = new StringBuilder("UPDATE ").append(table)
+        .append(" SET view_count = view_count + CASE id");
+    List<Object> params = new ArrayList<>(batch.size() * 3);
+    for (long[] delta : batch) {
+      sql.append(" WHEN ? THEN ?");
+      params.add(delta[0]);
+      params.add(delta[1]);
+    }
+    sql.append(" ELSE 0 END WHERE id IN (");
+    for (int i = 0; i < batch.size(); i++) {
+      sql.append(i == 0 ? "?" : ", ?");
+      params.add(batch.get(i)[0]);
+    }
+    sql.append(')');
+
+    jdbcTemplate.update(sql.toString(), params.toArray());
+  }
+}
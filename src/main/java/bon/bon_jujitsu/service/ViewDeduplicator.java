@@ -0,0 +1,170 @@
+package bon.bon_jujitsu.service;
+
+import bon.bon_jujitsu.common.BloomFilter;
+import bon.bon_jujitsu.domain.PostType;
+import bon.bon_jujitsu.filter.ClientIpResolver;
+import bon.bon_jujitsu.jwt.AuthenticationContext;
+import jakarta.servlet.http.HttpServletRequest;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+/**
+ * 세션 없이 조회수 중복 증가 방지
+ * - (게시글 종류, 게시글 ID, 클라이언트) 를 시간 구간별 Bloom 필터에 기록하고, window 안에 다시 본 경우는 세지 않는다.
+ * - 클라이언트는 로그인 사용자면 사용자 ID, 아니면 IP (X-Forwarded-For 는 forwarded-hops 만큼 신뢰) + User-Agent 로 구분한다.
+ * - window 를 bucket-count 개 구간으로 나눠 가장 오래된 구간부터 새 필터로 교체하므로 메모리는 고정된다.
+ * - shared 가 켜져 있으면 같은 구조를 Redis 비트맵에 두어 노드 간에 공유한다. (Redis 오류 시 로컬 필터 사용)
+ * - Bloom 필터 특성상 드물게 처음 본 조회를 중복으로 판단할 수 있다. (false-positive-rate)
+ */
+@Slf4j(topic = "ViewDeduplicator")
+@Component
+public class ViewDeduplicator {
+
+  private static final String KEY_PREFIX = "view:dedup:";
+
+  // KEYS: 현재 구간부터 과거 구간 순서, ARGV[1]: TTL(초), ARGV[2..]: 비트 위치
+  // 과거 구간에 모두 있으면 0, 현재 구간에 새로 기록되면 1
+  private static final DefaultRedisScript<Long> RECORD_SCRIPT = new DefaultRedisScript<>("""
+      for i = 2, #KEYS do
+        local seen = 1
+        for j = 2, #ARGV do
+          if redis.call('GETBIT', KEYS[i], ARGV[j]) == 0 then seen = 0 break end
+        end
+        if seen == 1 then return 0 end
+      end
+      local changed = 0
+      for j = 2, #ARGV do
+        if redis.call('SETBIT', KEYS[1], ARGV[j], 1) == 0 then changed = 1 end
+      end
+      redis.call('EXPIRE', KEYS[1], ARGV[1])
+      return changed
+      """, Long.class);
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final boolean shared;
+  private final long bucketMillis;
+  private final int bucketCount;
+  private final long expectedInsertions;
+  private final double falsePositiveRate;
+  private final int forwardedHops;
+  private final AtomicReferenceArray<Bucket> buckets;
+
+  private record Bucket(long id, BloomFilter filter) {
+  }
+
+  public ViewDeduplicator(RedisTemplate<String, String> redisTemplate,
+      @Value("${app.view-dedup.window:1h}") Duration window,
+      @Value("${app.view-dedup.bucket-count:4}") int bucketCount,
+      @Value("${app.view-dedup.expected-insertions:200000}") long expectedInsertions,
+      @Value("${app.view-dedup.false-positive-rate:0.01}") double falsePositiveRate,
+      @Value("${app.view-dedup.shared:false}") boolean shared,
+      @Value("${app.view-dedup.forwarded-hops:0}") int forwardedHops) {
+    if (bucketCount < 2 || window.toMillis() < bucketCount) {
+      throw new IllegalArgumentException("조회수 중복 제거 설정이 올바르지 않습니다.");
+    }
+    this.redisTemplate = redisTemplate;
+    this.shared = shared;
+    this.bucketCount = bucketCount;
+    this.bucketMillis = window.toMillis() / bucketCount;
+    this.expectedInsertions = expectedInsertions;
+    this.falsePositiveRate = falsePositiveRate;
+    this.forwardedHops = forwardedHops;
+    this.buckets = new AtomicReferenceArray<>(bucketCount);
+  }
+
+  /**
+   * window 안에서 처음 보는 조회인지 확인하고 기록
+   */
+  public boolean firstView(PostType postType, Long postId, HttpServletRequest request) {
+    ByteBuffer hash = ByteBuffer.wrap(hash(postType + ":" + postId + ":" + fingerprint(request)));
+    long hash1 = hash.getLong(0);
+    long hash2 = hash.getLong(8);
+    long currentId = System.currentTimeMillis() / bucketMillis;
+
+    if (shared) {
+      try {
+        return firstViewShared(currentId, hash1, hash2);
+      } catch (RuntimeException e) {
+        log.warn("Redis 조회수 중복 확인 실패, 로컬 필터 사용: {}", e.getMessage());
+      }
+    }
+    return firstViewLocal(currentId, hash1, hash2);
+  }
+
+  // === Private Helper Methods ===
+
+  private boolean firstViewLocal(long currentId, long hash1, long hash2) {
+    for (int i = 1; i < bucketCount; i++) {
+      Bucket previous = buckets.get(slot(currentId - i));
+      if (previous != null && previous.id() == currentId - i && previous.filter().mightContain(hash1, hash2)) {
+        return false;
+      }
+    }
+    // 비트를 새로 설정한 요청만 처음 조회로 본다. (동시에 들어온 같은 조회는 한 번만 셈)
+    return currentBucket(currentId).filter().put(hash1, hash2);
+  }
+
+  private boolean firstViewShared(long currentId, long hash1, long hash2) {
+    List<String> keys = new ArrayList<>(bucketCount);
+    for (int i = 0; i < bucketCount; i++) {
+      keys.add(KEY_PREFIX + (currentId - i));
+    }
+    long[] bitIndexes = currentBucket(currentId).filter().bitIndexes(hash1, hash2);
+    Object[] args = new Object[bitIndexes.length + 1];
+    args[0] = String.valueOf((bucketCount + 1) * bucketMillis / 1000 + 1);
+    for (int i = 0; i < bitIndexes.length; i++) {
+      args[i + 1] = String.valueOf(bitIndexes[i]);
+    }
+    Long result = redisTemplate.execute(RECORD_SCRIPT, keys, args);
+    return result != null && result == 1L;
+  }
+
+  /**
+   * 현재 구간의 필터 (구간이 바뀌었으면 같은 자리의 가장 오래된 필터를 교체)
+   */
+  private Bucket currentBucket(long currentId) {
+    int slot = slot(currentId);
+    while (true) {
+      Bucket bucket = buckets.get(slot);
+      if (bucket != null && bucket.id() >= currentId) {
+        return bucket;
+      }
+      Bucket fresh = new Bucket(currentId, BloomFilter.create(expectedInsertions, falsePositiveRate));
+      if (buckets.compareAndSet(slot, bucket, fresh)) {
+        return fresh;
+      }
+    }
+  }
+
+  private int slot(long bucketId) {
+    return (int) Math.floorMod(bucketId, (long) bucketCount);
+  }
+
+  private String fingerprint(HttpServletRequest request) {
+    if (request.getAttribute(AuthenticationContext.ATTRIBUTE) instanceof AuthenticationContext context) {
+      return "user:" + context.userId();
+    }
+    String userAgent = request.getHeader(HttpHeaders.USER_AGENT);
+    return "ip:" + ClientIpResolver.resolve(request, forwardedHops) + "|" + (userAgent == null ? "" : userAgent);
+  }
+
+  private byte[] hash(String value) {
+    try {
+      return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
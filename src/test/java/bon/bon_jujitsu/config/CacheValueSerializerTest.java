@@ -0,0 +1,135 @@
+package bon.bon_jujitsu.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import bon.bon_jujitsu.domain.CommentType;
+import bon.bon_jujitsu.domain.UserRole;
+import bon.bon_jujitsu.dto.UserAuthorization;
+import bon.bon_jujitsu.dto.common.PageResponse;
+import bon.bon_jujitsu.dto.response.BoardResponse;
+import bon.bon_jujitsu.dto.response.CommentResponse;
+import bon.bon_jujitsu.dto.response.ItemOptionResponse;
+import bon.bon_jujitsu.dto.response.LatestItemResponse;
+import bon.bon_jujitsu.dto.response.MediaResponse;
+import bon.bon_jujitsu.dto.response.QnAResponse;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+/**
+ * L2 캐시 값이 타입 그대로 복원되는지 확인 (@Cacheable 반환 DTO, record, List.of, 불변 Map)
+ */
+class CacheValueSerializerTest {
+
+  private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 3, 1, 9, 30, 15);
+
+  private final GenericJackson2JsonRedisSerializer serializer = CacheConfig.cacheValueSerializer();
+
+  @Test
+  void restoresUserAuthorization() {
+    UserAuthorization authorization = new UserAuthorization(7L, false, Map.of(1L, UserRole.OWNER, 2L, UserRole.PENDING));
+
+    assertEquals(authorization, roundTrip(authorization));
+  }
+
+  @Test
+  void restoresBoardPage() {
+    BoardResponse board = BoardResponse.builder()
+        .id(1L)
+        .title("제목")
+        .content("미리보기")
+        .region("서울")
+        .author("작성자")
+        .authorId(3L)
+        .images(new ArrayList<>(List.of(MediaResponse.builder().id(5L).url("/data/1.jpg").build())))
+        .viewCount(10L)
+        .createdAt(CREATED_AT)
+        .modifiedAt(CREATED_AT)
+        .build();
+    PageResponse<BoardResponse> page = PageResponse.fromPage(new PageImpl<>(List.of(board), PageRequest.of(0, 10), 11));
+
+    PageResponse<?> restored = roundTrip(page);
+
+    assertEquals(List.of(board), restored.getList());
+    assertEquals(1, restored.getPage());
+    assertEquals(10, restored.getSize());
+    assertEquals(2, restored.getTotalPage());
+    assertEquals(true, restored.isHasNext());
+  }
+
+  @Test
+  void restoresEmptySlice() {
+    PageResponse<BoardResponse> page = PageResponse.fromSlice(new SliceImpl<>(List.of(), PageRequest.of(2, 10), false));
+
+    PageResponse<?> restored = roundTrip(page);
+
+    assertNull(restored.getList());
+    assertEquals(-1, restored.getTotalPage());
+  }
+
+  @Test
+  void restoresNestedComments() {
+    CommentResponse child = new CommentResponse(2L, "답글", 1, 1L, "회원2", 4L, CommentType.BOARD, 9L,
+        CREATED_AT, CREATED_AT, List.of());
+    CommentResponse parent = new CommentResponse(1L, "댓글", 0, null, "회원1", 3L, CommentType.BOARD, 9L,
+        CREATED_AT, CREATED_AT, List.of(child));
+
+    assertEquals(List.of(parent), roundTrip(List.of(parent)));
+  }
+
+  @Test
+  void restoresListOfStrings() {
+    List<String> areas = List.of("서울", "경기", "부산");
+
+    assertEquals(areas, roundTrip(areas));
+  }
+
+  @Test
+  void restoresItemAndQnA() {
+    LatestItemResponse item = LatestItemResponse.builder()
+        .id(1L)
+        .name("도복")
+        .options(new ArrayList<>(List.of(new ItemOptionResponse(10L, "A2", "WHITE", 3))))
+        .price(150000)
+        .sale(120000)
+        .images(List.of("/data/item.jpg"))
+        .build();
+    QnAResponse qna = QnAResponse.builder()
+        .id(1L)
+        .title("문의")
+        .content("본문")
+        .authorName("비회원")
+        .isGuestPost(true)
+        .media(List.of())
+        .viewCount(0L)
+        .createdAt(CREATED_AT)
+        .build();
+
+    assertEquals(item, roundTrip(item));
+    assertEquals(qna, roundTrip(qna));
+  }
+
+  // === Private Helper Methods ===
+
+  /**
+   * 직렬화 후 복원 (List.of 같은 불변 목록은 ArrayList 로 복원되므로 목록은 List 인지만 확인)
+   */
+  @SuppressWarnings("unchecked")
+  private <T> T roundTrip(T value) {
+    Object restored = serializer.deserialize(serializer.serialize(value));
+    if (value instanceof List) {
+      assertInstanceOf(List.class, restored);
+    } else {
+      assertEquals(value.getClass(), restored.getClass());
+    }
+    return (T) restored;
+  }
+}
@@ -0,0 +1,19 @@
+package bon.bon_jujitsu.dto;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 목록 미리보기 변환 (본문 앞부분 → 태그를 뺀 짧은 텍스트)
+ */
+class PostSummaryTest {
+
+  @Test
+  void previewStripsTags() {
+    assertEquals("첫 문단 둘째 문단", PostSummary.preview("<p>첫&nbsp;문단</p>\n<p><b>둘째</b> 문단</p><img src=\"/data/up"));
+    assertEquals(PostSummary.PREVIEW_LENGTH, PostSummary.preview("가".repeat(500)).length());
+    assertNull(PostSummary.preview(null));
+  }
+}
@@ -0,0 +1,67 @@
+package bon.bon_jujitsu.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+/**
+ * 로드밸런서 뒤에서 X-Forwarded-For 로 클라이언트 IP 를 찾는지 확인
+ */
+class ClientIpResolverTest {
+
+  private static final String LOAD_BALANCER = "10.0.0.5";
+
+  @Test
+  void resolvesClientBehindOneProxy() {
+    MockHttpServletRequest request = request("203.0.113.7");
+
+    assertEquals("203.0.113.7", ClientIpResolver.resolve(request, 1));
+  }
+
+  @Test
+  void ignoresAddressesPrependedByClient() {
+    // 클라이언트가 임의로 넣은 값은 왼쪽에, 로드밸런서가 본 접속 IP 는 맨 오른쪽에 붙는다.
+    MockHttpServletRequest request = request("1.1.1.1, 203.0.113.7");
+
+    assertEquals("203.0.113.7", ClientIpResolver.resolve(request, 1));
+  }
+
+  @Test
+  void resolvesClientBehindTwoProxies() {
+    MockHttpServletRequest request = request("1.1.1.1, 203.0.113.7, 10.0.0.9");
+
+    assertEquals("203.0.113.7", ClientIpResolver.resolve(request, 2));
+  }
+
+  @Test
+  void usesRemoteAddressWithoutTrustedProxy() {
+    MockHttpServletRequest request = request("203.0.113.7");
+
+    assertEquals(LOAD_BALANCER, ClientIpResolver.resolve(request, 0));
+  }
+
+  @Test
+  void usesRemoteAddressWithoutHeader() {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.setRemoteAddr(LOAD_BALANCER);
+
+    assertEquals(LOAD_BALANCER, ClientIpResolver.resolve(request, 1));
+  }
+
+  @Test
+  void usesLeftmostAddressWhenChainIsShorterThanHops() {
+    MockHttpServletRequest request = request("203.0.113.7");
+
+    assertEquals("203.0.113.7", ClientIpResolver.resolve(request, 3));
+  }
+
+  // === Private Helper Methods ===
+
+  private MockHttpServletRequest request(String forwardedFor) {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.setRemoteAddr(LOAD_BALANCER);
+    request.addHeader("X-Forwarded-For", forwardedFor);
+    return request;
+  }
+}
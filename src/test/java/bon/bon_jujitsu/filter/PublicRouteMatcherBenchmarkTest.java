@@ -0,0 +1,144 @@
+package bon.bon_jujitsu.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.function.Predicate;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.io.ClassPathResource;
+
+/**
+ * 공개 경로 판별 비용 비교 (기존: startsWith/contains/정규식 if 문, 변경: 컴파일된 트라이)
+ * - application.yml 의 실제 규칙으로 컴파일해 기존 if 문과 결과가 같은지도 확인한다.
+ */
+@Tag("benchmark")
+class PublicRouteMatcherBenchmarkTest {
+
+  private static final Logger log = LoggerFactory.getLogger(PublicRouteMatcherBenchmarkTest.class);
+  private static final int WARMUP = 20_000;
+  private static final int ITERATIONS = 200_000;
+
+  private static final List<String[]> REQUESTS = List.of(
+      new String[]{"GET", "/"},
+      new String[]{"GET", "/static/js/main.js"},
+      new String[]{"GET", "/favicon.ico"},
+      new String[]{"GET", "/storeDetail/3"},
+      new String[]{"POST", "/api/users/login"},
+      new String[]{"GET", "/bon/api/users/refresh"},
+      new String[]{"GET", "/api/admin/15"},
+      new String[]{"GET", "/api/admin/15/users"},
+      new String[]{"GET", "/api/admin/"},
+      new String[]{"OPTIONS", "/api/order"},
+      new String[]{"GET", "/api/board"},
+      new String[]{"POST", "/api/board"},
+      new String[]{"GET", "/api/items"},
+      new String[]{"POST", "/api/order"},
+      new String[]{"GET", "/api/users/profile"},
+      new String[]{"DELETE", "/api/comment/3"},
+      new String[]{"GET", "/swagger-ui/index.html"},
+      new String[]{"GET", "/api/cart"}
+  );
+
+  @Test
+  void matchesLegacyRulesAndCompare() throws IOException {
+    PublicRouteProperties properties = loadProperties();
+
+    for (boolean isDevelopment : new boolean[]{true, false}) {
+      PublicRouteMatcher matcher = PublicRouteMatcher.compile(properties.getRules(),
+          profile -> isDevelopment && profile.equals("dev"));
+
+      for (String[] request : REQUESTS) {
+        assertEquals(legacyIsPublic(request[0], request[1], isDevelopment), matcher.matches(request[0], request[1]),
+            request[0] + " " + request[1] + " (dev=" + isDevelopment + ")");
+      }
+
+      long legacyNanos = measure(request -> legacyIsPublic(request[0], request[1], isDevelopment));
+      long trieNanos = measure(request -> matcher.matches(request[0], request[1]));
+
+      log.info("[dev={}] 기존 if 문: {} ns/요청, 트라이: {} ns/요청", isDevelopment, legacyNanos, trieNanos);
+    }
+  }
+
+  private PublicRouteProperties loadProperties() throws IOException {
+    Binder binder = new Binder(ConfigurationPropertySources.from(
+        new YamlPropertySourceLoader().load("application", new ClassPathResource("application.yml"))));
+    return binder.bind("app.public-routes", PublicRouteProperties.class).get();
+  }
+
+  private long measure(Predicate<String[]> isPublic) {
+    int matched = 0;
+    for (int i = 0; i < WARMUP; i++) {
+      matched += isPublic.test(REQUESTS.get(i % REQUESTS.size())) ? 1 : 0;
+    }
+    long start = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++) {
+      matched += isPublic.test(REQUESTS.get(i % REQUESTS.size())) ? 1 : 0;
+    }
+    long elapsed = System.nanoTime() - start;
+    // JIT 가 결과를 버리지 않도록 사용
+    if (matched < 0) {
+      throw new IllegalStateException();
+    }
+    return elapsed / ITERATIONS;
+  }
+
+  /**
+   * 변경 전 AuthenticationFilter 의 if 문 그대로
+   */
+  private static boolean legacyIsPublic(String httpMethod, String requestUri, boolean isDevelopment) {
+    return requestUri.startsWith("/static") ||
+        requestUri.startsWith("/images") ||
+        requestUri.startsWith("/data/uploads/") ||
+        requestUri.equals("/asset-manifest.json") ||
+        requestUri.equals("/favicon.ico") ||
+        requestUri.equals("/manifest.json") ||
+        requestUri.equals("/logo192.png") ||
+        requestUri.equals("/logo512.png") ||
+        requestUri.equals("/robots.txt") ||
+        requestUri.equals("/") ||
+        requestUri.startsWith("/academy") ||
+        requestUri.startsWith("/introGreeting") ||
+        requestUri.startsWith("/introJiujitsu") ||
+        requestUri.startsWith("/introLevel") ||
+        requestUri.startsWith("/branches") ||
+        requestUri.startsWith("/store") ||
+        requestUri.startsWith("/storeDetail") ||
+        requestUri.startsWith("/cart") ||
+        requestUri.startsWith("/order") ||
+        requestUri.startsWith("/skill") ||
+        requestUri.startsWith("/news") ||
+        requestUri.startsWith("/faq") ||
+        requestUri.startsWith("/sponsor") ||
+        requestUri.startsWith("/write") ||
+        requestUri.startsWith("/edit") ||
+        requestUri.startsWith("/join") ||
+        requestUri.startsWith("/mypage") ||
+        requestUri.startsWith("/admin") ||
+        requestUri.contains("/api/users/signup") ||
+        requestUri.contains("/api/users/login") ||
+        requestUri.contains("/api/users/refresh") ||
+        requestUri.contains("/api/users/check-member-id") ||
+        requestUri.startsWith("/api/comment") ||
+        requestUri.startsWith("/api/qna") ||
+        requestUri.contains("/v3/api-docs") ||
+        requestUri.contains("/swagger-ui") ||
+        requestUri.contains("/swagger-resources") ||
+        requestUri.matches("/api/admin/\\d+") ||
+        (isDevelopment && "OPTIONS".equalsIgnoreCase(httpMethod)) ||
+        (isDevelopment && "GET".equalsIgnoreCase(httpMethod) && (
+            requestUri.startsWith("/api/board") ||
+                requestUri.startsWith("/api/branch") ||
+                requestUri.startsWith("/api/notice") ||
+                requestUri.startsWith("/api/news") ||
+                requestUri.startsWith("/api/skill") ||
+                requestUri.startsWith("/api/sponsor")
+        ));
+  }
+}
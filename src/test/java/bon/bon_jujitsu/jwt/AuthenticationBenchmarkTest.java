@@ -0,0 +1,99 @@
+package bon.bon_jujitsu.jwt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import java.util.Date;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import javax.crypto.SecretKey;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+
+/**
+ * 요청당 인증 비용 비교 (기존: 필터 파싱 + 리졸버 재파싱/블랙리스트 2회, 변경: 1회 검증)
+ * - Redis 는 호출 횟수만 세는 스텁으로 대체 (실제 환경에서는 호출 1회당 네트워크 왕복 1회)
+ */
+@Tag("benchmark")
+class AuthenticationBenchmarkTest {
+
+  private static final Logger log = LoggerFactory.getLogger(AuthenticationBenchmarkTest.class);
+  private static final int WARMUP = 5_000;
+  private static final int ITERATIONS = 50_000;
+
+  private final LongAdder redisCalls = new LongAdder();
+  private final RedisTemplate<String, String> redisTemplate = new RedisTemplate<>() {
+    @Override
+    public Boolean hasKey(String key) {
+      redisCalls.increment();
+      return false;
+    }
+  };
+  private final SecretKey secretKey = Keys.secretKeyFor(SignatureAlgorithm.HS256);
+  // Bloom 필터 없이 파싱 통합 효과만 비교
+  private final JwtUtil jwtUtil = new JwtUtil(redisTemplate, secretKey, null);
+
+  @Test
+  void perRequestAuthenticationOverhead() {
+    String token = jwtUtil.createToken(1L);
+
+    long legacyNanos = measure(() -> legacyAuthenticate(token));
+    long legacyRedisCalls = redisCallsPerRequest(() -> legacyAuthenticate(token));
+
+    long singleParseNanos = measure(() -> jwtUtil.authenticate(token).userId());
+    long singleParseRedisCalls = redisCallsPerRequest(() -> jwtUtil.authenticate(token).userId());
+
+    log.info("기존 인증: {} ns/요청, Redis {}회", legacyNanos, legacyRedisCalls);
+    log.info("단일 검증: {} ns/요청, Redis {}회", singleParseNanos, singleParseRedisCalls);
+
+    assertEquals(2, legacyRedisCalls);
+    assertEquals(1, singleParseRedisCalls);
+  }
+
+  /**
+   * 변경 전 흐름 재현
+   * - AuthenticationFilter: isTokenExpired → parseToken
+   * - CurrentUserArgumentResolver: getPayload(블랙리스트) → getClaims(블랙리스트 + parserBuilder 새로 생성)
+   */
+  private Long legacyAuthenticate(String token) {
+    Jwts.parser()
+        .setSigningKey(secretKey.getEncoded())
+        .parseClaimsJws(token)
+        .getBody()
+        .getExpiration()
+        .before(new Date());
+
+    redisTemplate.hasKey("blacklist:access:" + token);
+    redisTemplate.hasKey("blacklist:access:" + token);
+
+    String subject = Jwts.parserBuilder()
+        .setSigningKey(secretKey.getEncoded())
+        .build()
+        .parseClaimsJws(token)
+        .getBody()
+        .getSubject();
+    return Long.parseLong(subject);
+  }
+
+  private long measure(Supplier<Long> authentication) {
+    for (int i = 0; i < WARMUP; i++) {
+      authentication.get();
+    }
+    long start = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++) {
+      authentication.get();
+    }
+    return (System.nanoTime() - start) / ITERATIONS;
+  }
+
+  private long redisCallsPerRequest(Supplier<Long> authentication) {
+    redisCalls.reset();
+    authentication.get();
+    return redisCalls.sum();
+  }
+}
@@ -0,0 +1,107 @@
+package bon.bon_jujitsu.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.Query;
+
+/**
+ * 컬렉션 fetch join 에 Pageable 을 넘기는 쿼리가 없는지 확인
+ * - 이런 쿼리는 Hibernate 가 전체 결과를 메모리에 올린 뒤 페이징하므로 TwoPhasePaging 으로 바꿔야 한다.
+ */
+class CollectionFetchPagingTest {
+
+  private static final String DOMAIN_PACKAGE = "bon.bon_jujitsu.domain.";
+  private static final Pattern JOIN_FETCH = Pattern.compile(
+      "\\bJOIN\\s+FETCH\\s+(\\w+)\\.(\\w+)(?:\\s+(?:AS\\s+)?(\\w+))?", Pattern.CASE_INSENSITIVE);
+
+  @Test
+  void pagedQueriesDoNotFetchCollections() throws ClassNotFoundException {
+    List<String> violations = new ArrayList<>();
+
+    for (Class<?> repository : RepositoryQueries.findRepositories()) {
+      for (Method method : repository.getDeclaredMethods()) {
+        Query query = method.getAnnotation(Query.class);
+        boolean paged = Page.class.isAssignableFrom(method.getReturnType())
+            || Slice.class.isAssignableFrom(method.getReturnType());
+        if (query == null || query.nativeQuery() || !paged) {
+          continue;
+        }
+        String collection = fetchedCollection(query.value());
+        if (collection != null) {
+          violations.add(repository.getSimpleName() + "." + method.getName() + " (" + collection + ")");
+        }
+      }
+    }
+
+    assertTrue(violations.isEmpty(), "컬렉션 fetch join 을 메모리에서 페이징하는 쿼리: " + violations);
+  }
+
+  @Test
+  void twoPhasePagingKeepsIdOrderAndTotal() {
+    Page<Long> idPage = new PageImpl<>(List.of(30L, 10L, 20L), PageRequest.of(1, 3), 9);
+
+    // IN 절 조회 결과는 순서가 보장되지 않는다.
+    Page<String> page = TwoPhasePaging.fetch(idPage, ids -> List.of("20", "30", "10"), Long::valueOf);
+
+    assertEquals(List.of("30", "10", "20"), page.getContent());
+    assertEquals(9, page.getTotalElements());
+    assertEquals(1, page.getNumber());
+  }
+
+  // === Private Helper Methods ===
+
+  /**
+   * JPQL 에서 fetch join 하는 첫 번째 컬렉션 (없으면 null)
+   */
+  private String fetchedCollection(String jpql) throws ClassNotFoundException {
+    Map<String, Class<?>> aliases = new HashMap<>();
+    Matcher from = RepositoryQueries.FROM.matcher(jpql);
+    if (!from.find()) {
+      return null;
+    }
+    aliases.put(from.group(2).toLowerCase(Locale.ROOT), Class.forName(DOMAIN_PACKAGE + from.group(1)));
+
+    Matcher join = JOIN_FETCH.matcher(jpql);
+    while (join.find()) {
+      Class<?> owner = aliases.get(join.group(1).toLowerCase(Locale.ROOT));
+      Field field = owner == null ? null : findField(owner, join.group(2));
+      if (field == null) {
+        continue;
+      }
+      if (Collection.class.isAssignableFrom(field.getType())) {
+        return join.group(1) + "." + join.group(2);
+      }
+      if (join.group(3) != null) {
+        aliases.put(join.group(3).toLowerCase(Locale.ROOT), field.getType());
+      }
+    }
+    return null;
+  }
+
+  private Field findField(Class<?> type, String name) {
+    for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+      try {
+        return current.getDeclaredField(name);
+      } catch (NoSuchFieldException e) {
+        // 상위 클래스에서 계속 찾기
+      }
+    }
+    return null;
+  }
+}
@@ -0,0 +1,166 @@
+package bon.bon_jujitsu.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 동시 주문 재고 차감 스트레스 테스트 (초과 판매 없음 확인)
+ * - 실제 MySQL 이 필요하다. 빈 스키마를 지정해 실행:
+ *   -Dstress.jdbc-url=jdbc:mysql://localhost:3306/stock_test -Dstress.jdbc-user=... -Dstress.jdbc-password=...
+ * - 주문마다 조건부 UPDATE 로 모든 옵션을 한 번에 차감하고, 하나라도 부족하면 주문 전체를 롤백한다.
+ */
+@Tag("stress")
+class ItemOptionStockConcurrencyTest {
+
+  private static final Logger log = LoggerFactory.getLogger(ItemOptionStockConcurrencyTest.class);
+  private static final int THREADS = 64;
+  private static final int ORDERS = 2_000;
+  private static final int STOCK_A = 10;
+  private static final int STOCK_B = 5;
+
+  private JdbcTemplate jdbcTemplate;
+  private TransactionTemplate transactionTemplate;
+  private ItemOptionStockRepository repository;
+  private long optionA;
+  private long optionB;
+
+  @BeforeEach
+  void setUp() {
+    String url = System.getProperty("stress.jdbc-url");
+    assumeTrue(url != null && !url.isBlank(), "stress.jdbc-url 이 없어 건너뜀");
+
+    DriverManagerDataSource dataSource = new DriverManagerDataSource(url,
+        System.getProperty("stress.jdbc-user", "root"), System.getProperty("stress.jdbc-password", ""));
+    jdbcTemplate = new JdbcTemplate(dataSource);
+    transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    repository = new ItemOptionStockRepositoryImpl(jdbcTemplate);
+
+    jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS item_options ("
+        + "id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY, size VARCHAR(255) NOT NULL, "
+        + "color VARCHAR(255) NOT NULL, amount INT NOT NULL, item_id BIGINT NOT NULL)");
+    optionA = insertOption("A2", STOCK_A);
+    optionB = insertOption("A3", STOCK_B);
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (jdbcTemplate != null) {
+      jdbcTemplate.update("DELETE FROM item_options WHERE id IN (?, ?)", optionA, optionB);
+    }
+  }
+
+  @Test
+  void concurrentOrdersNeverOversell() throws InterruptedException {
+    LongAdder soldA = new LongAdder();
+    LongAdder soldB = new LongAdder();
+    LongAdder errors = new LongAdder();
+    long startNanos = System.nanoTime();
+    run(order -> {
+      try {
+        transactionTemplate.executeWithoutResult(status -> repository.decreaseStock(order));
+        soldA.add(order.getOrDefault(optionA, 0));
+        soldB.add(order.getOrDefault(optionB, 0));
+      } catch (IllegalArgumentException e) {
+        // 재고 부족 - 주문 거절
+      }
+    }, errors);
+    long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+
+    int remainingA = amount(optionA);
+    int remainingB = amount(optionB);
+    log.info("조건부 UPDATE: A {}/{}, B {}/{} 판매, DB 오류 {}건, {} 주문 {} ms",
+        soldA.sum(), STOCK_A, soldB.sum(), STOCK_B, errors.sum(), ORDERS, elapsedMillis);
+
+    // 데드락/락 대기 시간 초과 등 DB 오류로 거절된 주문이 있으면 재고 부족 판정을 검증한 것이 아니다.
+    assertEquals(0, errors.sum(), "DB 오류로 실패한 주문이 없어야 한다.");
+    assertTrue(remainingA >= 0 && remainingB >= 0, "재고가 음수가 되면 안 된다.");
+    // 성공한 주문 수량만큼만 정확히 차감 (부분 차감된 주문 없음)
+    assertEquals(STOCK_A - remainingA, soldA.sum());
+    assertEquals(STOCK_B - remainingB, soldB.sum());
+    // 수요가 재고보다 훨씬 많으므로 모두 팔린다.
+    assertEquals(0, remainingA);
+    assertEquals(0, remainingB);
+  }
+
+  // === Private Helper Methods ===
+
+  /**
+   * THREADS 개 스레드가 동시에 ORDERS 건의 무작위 주문 실행 (A 1개 / B 1개 / A+B / A 2개)
+   */
+  private void run(Consumer<Map<Long, Integer>> placeOrder, LongAdder errors) throws InterruptedException {
+    List<Map<Long, Integer>> orders = new ArrayList<>(ORDERS);
+    for (int i = 0; i < ORDERS; i++) {
+      orders.add(switch (ThreadLocalRandom.current().nextInt(4)) {
+        case 0 -> Map.of(optionA, 1);
+        case 1 -> Map.of(optionB, 1);
+        case 2 -> Map.of(optionA, 1, optionB, 1);
+        default -> Map.of(optionA, 2);
+      });
+    }
+
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    CountDownLatch start = new CountDownLatch(1);
+    CountDownLatch done = new CountDownLatch(ORDERS);
+    for (Map<Long, Integer> order : orders) {
+      executor.execute(() -> {
+        try {
+          start.await();
+          placeOrder.accept(order);
+        } catch (DataAccessException e) {
+          errors.increment();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        } finally {
+          done.countDown();
+        }
+      });
+    }
+    start.countDown();
+    assertTrue(done.await(2, TimeUnit.MINUTES), "주문 처리가 제한 시간 안에 끝나지 않았습니다.");
+    executor.shutdown();
+  }
+
+  private long insertOption(String size, int amount) {
+    KeyHolder keyHolder = new GeneratedKeyHolder();
+    jdbcTemplate.update(connection -> {
+      PreparedStatement statement = connection.prepareStatement(
+          "INSERT INTO item_options (size, color, amount, item_id) VALUES (?, 'WHITE', ?, 0)",
+          Statement.RETURN_GENERATED_KEYS);
+      statement.setString(1, size);
+      statement.setInt(2, amount);
+      return statement;
+    }, keyHolder);
+    return keyHolder.getKey().longValue();
+  }
+
+  private int amount(long optionId) {
+    return jdbcTemplate.queryForObject("SELECT amount FROM item_options WHERE id = ?", Integer.class, optionId);
+  }
+}
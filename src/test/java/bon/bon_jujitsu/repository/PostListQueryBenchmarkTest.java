@@ -0,0 +1,207 @@
+package bon.bon_jujitsu.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import bon.bon_jujitsu.domain.Board;
+import bon.bon_jujitsu.domain.Branch;
+import bon.bon_jujitsu.domain.User;
+import bon.bon_jujitsu.dto.PostSummary;
+import bon.bon_jujitsu.dto.response.BoardResponse;
+import java.lang.management.ManagementFactory;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+/**
+ * 게시판 목록 한 페이지를 실제 DB 에서 읽는 비용 비교 (기존: 엔티티 fetch join, 변경: PostSummary 프로젝션)
+ * - 실제 MySQL 이 필요하다. 빈 스키마를 지정해 실행:
+ *   -Dbenchmark.jdbc-url=jdbc:mysql://localhost:3306/list_bench -Dbenchmark.jdbc-user=... -Dbenchmark.jdbc-password=...
+ * - 두 쿼리는 BoardRepository 의 이전 findBoardsWithFetchJoin / 현재 findBoardSummaries 가 만드는 SQL 과 같은 모양이다.
+ * - 읽는 바이트: 서버가 이 연결로 보낸 바이트 (SHOW SESSION STATUS 'Bytes_sent' 증가량)
+ * - 할당량: 쿼리 실행 + 행 읽기 + 응답 변환 동안 스레드가 할당한 바이트 (ThreadMXBean)
+ */
+@Tag("benchmark")
+class PostListQueryBenchmarkTest {
+
+  private static final Logger log = LoggerFactory.getLogger(PostListQueryBenchmarkTest.class);
+  private static final int POSTS = 200;
+  private static final int PAGE_SIZE = 20;
+  // 에디터 HTML 본문 (이미지/서식 태그 포함) 약 64KB
+  private static final int CONTENT_PARAGRAPHS = 400;
+  private static final int WARMUP = 20;
+  private static final int ITERATIONS = 100;
+
+  private static final String ENTITY_PAGE = "SELECT b.id, b.title, b.content, b.is_deleted, b.view_count, "
+      + "b.created_at, b.modified_at, b.branch_id, b.user_id, "
+      + "u.id, u.name, u.member_id, u.phone_num, u.email, u.created_at, "
+      + "br.id, br.region, br.address, br.area, br.content "
+      + "FROM bench_board b "
+      + "LEFT JOIN bench_users u ON u.id = b.user_id "
+      + "LEFT JOIN bench_branches br ON br.id = b.branch_id "
+      + "WHERE b.is_deleted = false "
+      + "ORDER BY b.created_at DESC LIMIT ?";
+  private static final String SUMMARY_PAGE = "SELECT b.id, b.title, "
+      + "SUBSTRING(b.content, 1, " + PostSummary.CONTENT_HEAD_LENGTH + "), br.region, u.id, u.name, "
+      + "b.view_count, b.created_at, b.modified_at "
+      + "FROM bench_board b "
+      + "LEFT JOIN bench_users u ON u.id = b.user_id "
+      + "LEFT JOIN bench_branches br ON br.id = b.branch_id "
+      + "WHERE b.is_deleted = false "
+      + "ORDER BY b.created_at DESC, b.id DESC LIMIT ?";
+
+  private final com.sun.management.ThreadMXBean threadBean =
+      (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+  private SingleConnectionDataSource dataSource;
+  private JdbcTemplate jdbcTemplate;
+
+  @BeforeEach
+  void setUp() {
+    String url = System.getProperty("benchmark.jdbc-url");
+    assumeTrue(url != null && !url.isBlank(), "benchmark.jdbc-url 이 없어 건너뜀");
+
+    // Bytes_sent 는 세션 단위이므로 연결 하나로만 실행
+    dataSource = new SingleConnectionDataSource(url,
+        System.getProperty("benchmark.jdbc-user", "root"), System.getProperty("benchmark.jdbc-password", ""), true);
+    jdbcTemplate = new JdbcTemplate(dataSource);
+
+    dropTables();
+    jdbcTemplate.execute("CREATE TABLE bench_users (id BIGINT NOT NULL PRIMARY KEY, name VARCHAR(255) NOT NULL, "
+        + "member_id VARCHAR(255) NOT NULL, phone_num VARCHAR(255) NOT NULL, email VARCHAR(255) NOT NULL, "
+        + "created_at DATETIME(6) NOT NULL)");
+    jdbcTemplate.execute("CREATE TABLE bench_branches (id BIGINT NOT NULL PRIMARY KEY, region VARCHAR(255) NOT NULL, "
+        + "address VARCHAR(255) NOT NULL, area VARCHAR(255) NOT NULL, content LONGTEXT NOT NULL)");
+    jdbcTemplate.execute("CREATE TABLE bench_board (id BIGINT NOT NULL PRIMARY KEY, title VARCHAR(255) NOT NULL, "
+        + "content LONGTEXT NOT NULL, is_deleted BIT NOT NULL, view_count BIGINT NOT NULL, "
+        + "created_at DATETIME(6) NOT NULL, modified_at DATETIME(6) NOT NULL, "
+        + "branch_id BIGINT NOT NULL, user_id BIGINT NOT NULL, INDEX idx_bench_board_created_at_id (created_at, id))");
+
+    LocalDateTime now = LocalDateTime.now();
+    jdbcTemplate.update("INSERT INTO bench_users VALUES (1, '작성자', 'writer01', '010-0000-0000', 'writer@example.com', ?)",
+        Timestamp.valueOf(now));
+    jdbcTemplate.update("INSERT INTO bench_branches VALUES (1, '서울', '서울시 어딘가 1', '수도권', ?)", html(40));
+    String content = html(CONTENT_PARAGRAPHS);
+    jdbcTemplate.batchUpdate("INSERT INTO bench_board VALUES (?, ?, ?, false, 0, ?, ?, 1, 1)",
+        LongStream.rangeClosed(1, POSTS)
+            .mapToObj(id -> new Object[] {id, "제목 " + id, content, Timestamp.valueOf(now.minusMinutes(id)),
+                Timestamp.valueOf(now.minusMinutes(id))})
+            .toList());
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (jdbcTemplate != null) {
+      dropTables();
+      dataSource.destroy();
+    }
+  }
+
+  @Test
+  void summaryPageReadsAndAllocatesLess() {
+    // 두 쿼리는 같은 게시글을 같은 순서로 돌려줘야 한다.
+    assertEquals(entityPage().stream().map(BoardResponse::id).toList(),
+        summaryPage().stream().map(BoardResponse::id).toList());
+
+    long entityBytes = measureBytesSent(this::entityPage);
+    long summaryBytes = measureBytesSent(this::summaryPage);
+    long entityAllocated = measureAllocation(this::entityPage);
+    long summaryAllocated = measureAllocation(this::summaryPage);
+
+    log.info("엔티티 목록: 전송 {} bytes/페이지, 할당 {} bytes/페이지", entityBytes, entityAllocated);
+    log.info("프로젝션 목록: 전송 {} bytes/페이지, 할당 {} bytes/페이지", summaryBytes, summaryAllocated);
+
+    assertTrue(summaryBytes * 10 < entityBytes, "프로젝션 목록이 받는 바이트가 충분히 작아야 합니다.");
+    assertTrue(summaryAllocated * 2 < entityAllocated, "프로젝션 목록의 할당량이 충분히 작아야 합니다.");
+  }
+
+  // === Private Helper Methods ===
+
+  /**
+   * 변경 전: 게시글 + 작성자 + 지부 전체 컬럼을 읽어 엔티티를 만들고 응답으로 변환
+   */
+  private List<BoardResponse> entityPage() {
+    return jdbcTemplate.query(ENTITY_PAGE, (rs, rowNum) -> {
+      User user = User.builder().id(rs.getLong(10)).name(rs.getString(11)).memberId(rs.getString(12))
+          .phoneNum(rs.getString(13)).email(rs.getString(14)).build();
+      rs.getTimestamp(15);
+      Branch branch = Branch.builder().id(rs.getLong(16)).region(rs.getString(17)).address(rs.getString(18))
+          .area(rs.getString(19)).content(rs.getString(20)).build();
+      Board board = Board.builder()
+          .id(rs.getLong(1))
+          .title(rs.getString(2))
+          .content(rs.getString(3))
+          .isDeleted(rs.getBoolean(4))
+          .viewCount(rs.getLong(5))
+          .user(user)
+          .branch(branch)
+          .build();
+      rs.getTimestamp(6);
+      rs.getTimestamp(7);
+      return BoardResponse.fromEntity(board, List.of());
+    }, PAGE_SIZE);
+  }
+
+  /**
+   * 변경 후: 목록 컬럼과 본문 앞부분만 읽어 미리보기로 변환
+   */
+  private List<BoardResponse> summaryPage() {
+    return jdbcTemplate.query(SUMMARY_PAGE, (rs, rowNum) -> BoardResponse.fromSummary(new PostSummary(
+        rs.getLong(1),
+        rs.getString(2),
+        rs.getString(3),
+        rs.getString(4),
+        rs.getLong(5),
+        rs.getString(6),
+        rs.getLong(7),
+        rs.getTimestamp(8).toLocalDateTime(),
+        rs.getTimestamp(9).toLocalDateTime()), List.of()), PAGE_SIZE);
+  }
+
+  private long measureBytesSent(Supplier<List<BoardResponse>> page) {
+    long before = bytesSent();
+    page.get();
+    return bytesSent() - before;
+  }
+
+  private long measureAllocation(Supplier<List<BoardResponse>> page) {
+    for (int i = 0; i < WARMUP; i++) {
+      page.get();
+    }
+    long threadId = Thread.currentThread().getId();
+    long before = threadBean.getThreadAllocatedBytes(threadId);
+    for (int i = 0; i < ITERATIONS; i++) {
+      page.get();
+    }
+    return (threadBean.getThreadAllocatedBytes(threadId) - before) / ITERATIONS;
+  }
+
+  private long bytesSent() {
+    return jdbcTemplate.query("SHOW SESSION STATUS LIKE 'Bytes_sent'", (rs, rowNum) -> rs.getLong(2)).get(0);
+  }
+
+  private String html(int paragraphs) {
+    List<String> parts = new ArrayList<>(paragraphs);
+    for (int i = 0; i < paragraphs; i++) {
+      parts.add("<p style=\"margin:0 0 8px\"><b>" + i + "단계</b> 기술 설명 문단입니다. 손목 그립과 골반 각도를 유지하세요."
+          + "<img src=\"/data/uploads/board/" + i + ".jpg\" alt=\"\"></p>");
+    }
+    return String.join("\n", parts);
+  }
+
+  private void dropTables() {
+    jdbcTemplate.execute("DROP TABLE IF EXISTS bench_board, bench_users, bench_branches");
+  }
+}
@@ -0,0 +1,109 @@
+package bon.bon_jujitsu.repository;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import bon.bon_jujitsu.dto.PostSummary;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.repository.Query;
+
+/**
+ * 목록 쿼리가 요약 프로젝션(PostSummary, SkillSummary, SponsorSummary)으로 본문 앞부분만 읽는지 확인
+ * - 본문(LONGTEXT)은 SUBSTRING(본문, 1, CONTENT_HEAD_LENGTH) 로만 선택해야 하고, 엔티티나 본문 전체를 읽으면 안 된다.
+ */
+class PostSummaryQueryTest {
+
+  private static final String DTO_PACKAGE = PostSummary.class.getPackageName();
+  private static final Pattern CONSTRUCTOR = Pattern.compile("\\bnew\\s+(" + Pattern.quote(DTO_PACKAGE) + "\\.\\w*Summary)\\(");
+  private static final Pattern JOIN_FETCH = Pattern.compile("\\bJOIN\\s+FETCH\\b", Pattern.CASE_INSENSITIVE);
+  private static final Pattern CONTENT = Pattern.compile("\\b\\w+\\.content\\b");
+  private static final Pattern SUMMARY_TYPE = Pattern.compile(Pattern.quote(DTO_PACKAGE) + "\\.\\w*Summary\\b");
+
+  @Test
+  void summaryQueriesSelectOnlyContentHead() throws ClassNotFoundException {
+    List<String> violations = new ArrayList<>();
+    int checked = 0;
+
+    for (Class<?> repository : RepositoryQueries.findRepositories()) {
+      for (Method method : repository.getDeclaredMethods()) {
+        if (!SUMMARY_TYPE.matcher(method.getGenericReturnType().getTypeName()).find()) {
+          continue;
+        }
+        checked++;
+        String name = repository.getSimpleName() + "." + method.getName();
+        Query query = method.getAnnotation(Query.class);
+        if (query == null || query.nativeQuery()) {
+          violations.add(name + " (JPQL @Query 없음)");
+          continue;
+        }
+        String problem = checkSummaryQuery(query.value());
+        if (problem != null) {
+          violations.add(name + " (" + problem + ")");
+        }
+      }
+    }
+
+    assertTrue(checked > 0, "PostSummary 를 반환하는 쿼리를 찾지 못했습니다.");
+    assertTrue(violations.isEmpty(), "본문 전체를 읽는 목록 쿼리: " + violations);
+  }
+
+  // === Private Helper Methods ===
+
+  /**
+   * 문제가 있으면 설명, 없으면 null
+   */
+  private String checkSummaryQuery(String jpql) throws ClassNotFoundException {
+    Matcher constructor = CONSTRUCTOR.matcher(jpql);
+    Matcher from = RepositoryQueries.FROM.matcher(jpql);
+    if (!constructor.find() || !from.find()) {
+      return "요약 프로젝션 생성자 식이 아님";
+    }
+    if (JOIN_FETCH.matcher(jpql).find()) {
+      return "fetch join";
+    }
+
+    List<String> arguments = selectArguments(jpql, constructor.end());
+    int components = Class.forName(constructor.group(1)).getRecordComponents().length;
+    if (arguments.size() != components) {
+      return "생성자 인자 수 " + arguments.size() + " (필드 " + components + ")";
+    }
+    String contentHead = "SUBSTRING(" + from.group(2) + ".content, 1, " + PostSummary.CONTENT_HEAD_LENGTH + ")";
+    boolean hasContentHead = false;
+    for (String argument : arguments) {
+      if (argument.replaceAll("\\s+", " ").equalsIgnoreCase(contentHead)) {
+        hasContentHead = true;
+      } else if (CONTENT.matcher(argument).find()) {
+        return "본문 전체 선택 " + argument;
+      }
+    }
+    return hasContentHead ? null : "본문 앞부분 없음";
+  }
+
+  /**
+   * SELECT new ...Summary(...) 의 최상위 인자 목록 (start: 여는 괄호 다음 위치)
+   */
+  private List<String> selectArguments(String jpql, int start) {
+    List<String> arguments = new ArrayList<>();
+    int depth = 0;
+    int argumentStart = start;
+    for (int i = start; i < jpql.length(); i++) {
+      char c = jpql.charAt(i);
+      if (c == '(') {
+        depth++;
+      } else if (c == ')' && depth > 0) {
+        depth--;
+      } else if (c == ')' || (c == ',' && depth == 0)) {
+        arguments.add(jpql.substring(argumentStart, i).trim());
+        argumentStart = i + 1;
+        if (c == ')') {
+          break;
+        }
+      }
+    }
+    return arguments;
+  }
+}
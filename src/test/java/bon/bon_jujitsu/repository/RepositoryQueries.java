@@ -0,0 +1,46 @@
+package bon.bon_jujitsu.repository;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.data.repository.Repository;
+
+/**
+ * 리포지토리 @Query 검사 테스트 공용 (리포지토리 찾기, JPQL FROM 절)
+ */
+final class RepositoryQueries {
+
+  /**
+   * 첫 번째 FROM 절 (group 1: 엔티티, group 2: 별칭)
+   */
+  static final Pattern FROM = Pattern.compile("\\bFROM\\s+(\\w+)\\s+(?:AS\\s+)?(\\w+)", Pattern.CASE_INSENSITIVE);
+
+  private RepositoryQueries() {
+  }
+
+  /**
+   * 이 패키지의 리포지토리 인터페이스 전체
+   */
+  static List<Class<?>> findRepositories() throws ClassNotFoundException {
+    ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+      @Override
+      protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+        return beanDefinition.getMetadata().isInterface();
+      }
+    };
+    scanner.addIncludeFilter(new AssignableTypeFilter(Repository.class));
+
+    List<Class<?>> repositories = new ArrayList<>();
+    for (BeanDefinition definition : scanner.findCandidateComponents(RepositoryQueries.class.getPackageName())) {
+      repositories.add(Class.forName(definition.getBeanClassName()));
+    }
+    assertTrue(!repositories.isEmpty(), "리포지토리를 찾지 못했습니다.");
+    return repositories;
+  }
+}